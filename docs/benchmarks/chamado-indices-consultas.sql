@@ -0,0 +1,135 @@
+-- Consultas quentes de ChamadoRepository na forma em que a aplicação as envia: instruções
+-- preparadas com parâmetros ligados ($1, $2...) e o limite da fatia também como parâmetro
+-- (fetch first), como o pgjdbc faz depois de reutilizar a mesma instrução algumas vezes.
+--
+-- Incluído por chamado-indices.sql, uma vez sem e outra com os índices da V2 (:fase).
+-- Cada instrução é executada 6 vezes antes do EXPLAIN: a partir da sexta execução o Postgres
+-- pode trocar o plano específico pelos valores por um plano genérico, reaproveitado em todas as
+-- execuções seguintes. O EXPLAIN mede o plano que as requisições seguintes de fato usam.
+
+-- findPrimeiraFatia (sem filtros)
+PREPARE fatia(int) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+ORDER BY c1_0.data_abertura, c1_0.id
+FETCH FIRST $1 ROWS ONLY;
+
+-- findPrimeiraFatiaByStatus
+PREPARE fatia_status(varchar, int) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE c1_0.status = $1
+ORDER BY c1_0.data_abertura, c1_0.id
+FETCH FIRST $2 ROWS ONLY;
+
+-- findPrimeiraFatiaByStatusAndPrioridade
+PREPARE fatia_status_prioridade(varchar, varchar, int) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE c1_0.status = $1 AND c1_0.prioridade = $2
+ORDER BY c1_0.data_abertura, c1_0.id
+FETCH FIRST $3 ROWS ONLY;
+
+-- findPrimeiraFatiaByPrioridade
+PREPARE fatia_prioridade(varchar, int) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE c1_0.prioridade = $1
+ORDER BY c1_0.data_abertura, c1_0.id
+FETCH FIRST $2 ROWS ONLY;
+
+-- findFatiaApos (cursor profundo)
+PREPARE fatia_apos(timestamp, uuid, int) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE (c1_0.data_abertura, c1_0.id) > ($1, $2)
+ORDER BY c1_0.data_abertura, c1_0.id
+FETCH FIRST $3 ROWS ONLY;
+
+-- findFatiaAposByStatus (cursor profundo com filtro)
+PREPARE fatia_apos_status(varchar, timestamp, uuid, int) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE c1_0.status = $1 AND (c1_0.data_abertura, c1_0.id) > ($2, $3)
+ORDER BY c1_0.data_abertura, c1_0.id
+FETCH FIRST $4 ROWS ONLY;
+
+-- findResponseByClienteId
+PREPARE por_cliente(uuid) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE c1_0.cliente_id = $1
+ORDER BY c1_0.data_abertura, c1_0.id;
+
+-- findResponseByTecnicoId
+PREPARE por_tecnico(uuid) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE c1_0.tecnico_id = $1
+ORDER BY c1_0.data_abertura, c1_0.id;
+
+-- === Aquecimento: 6 execuções de cada instrução, sem exibir o resultado ====
+\o /dev/null
+EXECUTE fatia(51); EXECUTE fatia(51); EXECUTE fatia(51);
+EXECUTE fatia(51); EXECUTE fatia(51); EXECUTE fatia(51);
+EXECUTE fatia_status('ABERTO', 51); EXECUTE fatia_status('PAUSADO', 51); EXECUTE fatia_status('ABERTO', 51);
+EXECUTE fatia_status('EM_ANDAMENTO', 51); EXECUTE fatia_status('ABERTO', 51); EXECUTE fatia_status('ENCERRADO', 51);
+EXECUTE fatia_status_prioridade('EM_ANDAMENTO', 'ALTA', 51); EXECUTE fatia_status_prioridade('ABERTO', 'BAIXA', 51);
+EXECUTE fatia_status_prioridade('PAUSADO', 'MEDIA', 51); EXECUTE fatia_status_prioridade('EM_ANDAMENTO', 'ALTA', 51);
+EXECUTE fatia_status_prioridade('ABERTO', 'ALTA', 51); EXECUTE fatia_status_prioridade('EM_ANDAMENTO', 'MEDIA', 51);
+EXECUTE fatia_prioridade('ALTA', 51); EXECUTE fatia_prioridade('MEDIA', 51); EXECUTE fatia_prioridade('BAIXA', 51);
+EXECUTE fatia_prioridade('ALTA', 51); EXECUTE fatia_prioridade('MEDIA', 51); EXECUTE fatia_prioridade('BAIXA', 51);
+EXECUTE fatia_apos(timestamp '2021-03-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos(timestamp '2022-07-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos(timestamp '2023-01-15', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos(timestamp '2023-09-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos(timestamp '2024-02-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos(timestamp '2024-04-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos_status('ABERTO', timestamp '2021-03-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos_status('PAUSADO', timestamp '2022-07-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos_status('ABERTO', timestamp '2023-01-15', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos_status('EM_ANDAMENTO', timestamp '2023-09-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos_status('ABERTO', timestamp '2024-02-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE fatia_apos_status('PAUSADO', timestamp '2024-04-01', '00000000-0000-0000-0000-000000000000', 51);
+EXECUTE por_cliente(md5('cliente2')::uuid); EXECUTE por_cliente(md5('cliente3')::uuid);
+EXECUTE por_cliente(md5('cliente4')::uuid); EXECUTE por_cliente(md5('cliente5')::uuid);
+EXECUTE por_cliente(md5('cliente6')::uuid); EXECUTE por_cliente(md5('cliente7')::uuid);
+EXECUTE por_tecnico(md5('tecnico2')::uuid); EXECUTE por_tecnico(md5('tecnico3')::uuid);
+EXECUTE por_tecnico(md5('tecnico4')::uuid); EXECUTE por_tecnico(md5('tecnico5')::uuid);
+EXECUTE por_tecnico(md5('tecnico6')::uuid); EXECUTE por_tecnico(md5('tecnico7')::uuid);
+\o
+
+-- === Medição (7ª execução) ==================================================
+\echo '===' :fase ': primeira fatia, sem filtros (50 itens) ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE fatia(51);
+
+\echo '===' :fase ': primeira fatia por status (50 itens) ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE fatia_status('ABERTO', 51);
+
+\echo '===' :fase ': primeira fatia por status + prioridade (50 itens) ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE fatia_status_prioridade('EM_ANDAMENTO', 'ALTA', 51);
+
+\echo '===' :fase ': primeira fatia por prioridade (50 itens) ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE fatia_prioridade('ALTA', 51);
+
+\echo '===' :fase ': fatia após cursor profundo (50 itens) ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE fatia_apos(timestamp '2024-06-01', '00000000-0000-0000-0000-000000000000', 51);
+
+\echo '===' :fase ': fatia por status após cursor profundo (50 itens) ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE fatia_apos_status('ABERTO', timestamp '2024-06-01', '00000000-0000-0000-0000-000000000000', 51);
+
+\echo '===' :fase ': chamados de um cliente ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE por_cliente(md5('cliente1')::uuid);
+
+\echo '===' :fase ': chamados de um técnico ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE por_tecnico(md5('tecnico1')::uuid);
+
+DEALLOCATE ALL;
@@ -0,0 +1,75 @@
+-- Benchmark dos índices de chamado (migração V2__indices_chamado.sql) no PostgreSQL.
+--
+-- Uso (banco vazio, já migrado pelo Flyway com o perfil postgres), a partir da raiz do projeto:
+--   psql -d helpdesk -f docs/benchmarks/chamado-indices.sql > chamado-indices.txt
+--
+-- 1. Popula 1.000 clientes, 50 técnicos e 1.000.000 de chamados (distribuição fixa via setseed).
+-- 2. Executa as consultas quentes SEM os índices da V2 (removidos dentro de uma transação que é
+--    desfeita ao final), como instruções preparadas (chamado-indices-consultas.sql).
+-- 3. Repete as mesmas consultas COM os índices.
+-- 4. Mostra o plano genérico da forma anterior da paginação, com filtros opcionais.
+-- Compare o plano (Seq Scan + Sort vs. Index Scan) e o "Execution Time" de cada par.
+
+-- === 1. Dados ===============================================================
+SELECT setseed(0.42);
+
+INSERT INTO pessoa (id, tipo, nome, cpf, email, senha, perfis, data_criacao)
+SELECT md5('cliente' || i)::uuid, 'CLIENTE', 'Cliente ' || i, lpad(i::text, 11, '0'),
+       'cliente' || i || '@bench.local', 'senha', 2, now()
+FROM generate_series(1, 1000) AS i;
+
+INSERT INTO pessoa (id, tipo, nome, cpf, email, senha, perfis, data_criacao)
+SELECT md5('tecnico' || i)::uuid, 'TECNICO', 'Técnico ' || i, lpad((90000000000 + i)::text, 11, '0'),
+       'tecnico' || i || '@bench.local', 'senha', 4, now()
+FROM generate_series(1, 50) AS i;
+
+INSERT INTO chamado (id, data_abertura, prioridade, status, titulo, observacoes, cliente_id, tecnico_id)
+SELECT md5('chamado' || i)::uuid,
+       timestamp '2020-01-01' + (random() * interval '5 years'),
+       (ARRAY['BAIXA', 'MEDIA', 'ALTA'])[1 + floor(random() * 3)::int],
+       (ARRAY['ABERTO', 'EM_ANDAMENTO', 'PAUSADO', 'ENCERRADO', 'ENCERRADO', 'ENCERRADO'])[1 + floor(random() * 6)::int],
+       'Chamado ' || i, 'Observações do chamado ' || i,
+       md5('cliente' || (1 + floor(random() * 1000)::int))::uuid,
+       CASE WHEN random() < 0.8 THEN md5('tecnico' || (1 + floor(random() * 50)::int))::uuid END
+FROM generate_series(1, 1000000) AS i;
+
+VACUUM ANALYZE pessoa;
+VACUUM ANALYZE chamado;
+
+-- === 2. Antes (sem os índices da V2) ========================================
+BEGIN;
+DROP INDEX idx_chamado_abertura;
+DROP INDEX idx_chamado_status_prioridade_abertura;
+DROP INDEX idx_chamado_status_abertura;
+DROP INDEX idx_chamado_prioridade_abertura;
+DROP INDEX idx_chamado_cliente_abertura;
+DROP INDEX idx_chamado_tecnico_abertura;
+
+\set fase ANTES
+\ir chamado-indices-consultas.sql
+
+ROLLBACK;
+
+-- === 3. Depois (com os índices da V2) =======================================
+\set fase DEPOIS
+\ir chamado-indices-consultas.sql
+
+-- === 4. Forma anterior: filtros opcionais em uma única consulta ===============
+-- Com "(:status IS NULL OR c.status = :status)", o plano genérico não sabe qual filtro foi
+-- informado e não pode usar idx_chamado_status_abertura: percorre (data_abertura, id) e
+-- descarta as linhas de outros status. Por isso há uma consulta por combinação de filtros.
+SET plan_cache_mode = force_generic_plan;
+
+PREPARE fatia_filtros_opcionais(varchar, varchar, int) AS
+SELECT c1_0.id, c1_0.data_abertura, c1_0.data_fechamento, c1_0.prioridade, c1_0.status, c1_0.titulo,
+       c1_0.observacoes, c2_0.nome, t1_0.nome, c1_0.versao
+FROM chamado c1_0 JOIN pessoa c2_0 ON c2_0.id = c1_0.cliente_id LEFT JOIN pessoa t1_0 ON t1_0.id = c1_0.tecnico_id
+WHERE ($1 IS NULL OR c1_0.status = $1) AND ($2 IS NULL OR c1_0.prioridade = $2)
+ORDER BY c1_0.data_abertura, c1_0.id
+FETCH FIRST $3 ROWS ONLY;
+
+\echo '=== FILTROS OPCIONAIS (plano genérico): primeira fatia por status PAUSADO (50 itens) ==='
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE fatia_filtros_opcionais('PAUSADO', NULL, 51);
+
+DEALLOCATE ALL;
+RESET plan_cache_mode;
@@ -0,0 +1,73 @@
+-- Tamanho e localidade do índice da chave primária de chamado (pk_chamado) com UUIDv4 e UUIDv7,
+-- no PostgreSQL.
+--
+-- Uso (banco de benchmark já migrado pelo Flyway com o perfil postgres; não use o de produção:
+-- o TRUNCATE bloqueia a tabela durante cada carga), a partir da raiz do projeto:
+--   psql -d helpdesk -f docs/benchmarks/uuid-chaves.sql > uuid-chaves.txt
+--
+-- Cada carga insere 1.000.000 de chamados em uma tabela chamado esvaziada dentro de uma
+-- transação, mede pk_chamado e é desfeita ao final, restaurando o conteúdo original.
+-- Os UUIDv7 seguem o layout de UuidV7: 48 bits de milissegundos, versão, 12 bits de contador
+-- (aqui, 4 chamados por milissegundo) e bits aleatórios.
+-- Compare pk_bytes (e, com a extensão pgstattuple, avg_leaf_density / leaf_fragmentation):
+-- os UUIDv4 caem em páginas aleatórias da árvore e dividem folhas pela metade; os UUIDv7 são
+-- acrescentados à folha mais à direita, que se mantém cheia.
+
+\timing on
+
+CREATE FUNCTION pg_temp.uuid_v7(ms bigint, contador int) RETURNS uuid AS $$
+    SELECT encode(
+        overlay(
+            overlay(uuid_send(gen_random_uuid()) PLACING substring(int8send(ms) FROM 3) FROM 1 FOR 6)
+            PLACING int2send((x'7000'::int | contador)::smallint) FROM 7 FOR 2),
+        'hex')::uuid
+$$ LANGUAGE sql VOLATILE;
+
+SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pgstattuple') AS tem_pgstattuple \gset
+
+-- === UUIDv4 =================================================================
+BEGIN;
+TRUNCATE chamado CASCADE;
+
+INSERT INTO pessoa (id, tipo, nome, cpf, email, senha, perfis, data_criacao)
+VALUES (md5('bench-uuid-cliente')::uuid, 'CLIENTE', 'Cliente benchmark', '99999999999',
+        'bench-uuid@bench.local', 'senha', 2, now());
+
+\echo '=== UUIDv4: INSERT de 1.000.000 de chamados ==='
+INSERT INTO chamado (id, data_abertura, prioridade, status, titulo, cliente_id)
+SELECT gen_random_uuid(), timestamp '2025-01-01' + i * interval '250 microseconds', 'MEDIA', 'ABERTO',
+       'Chamado ' || i, md5('bench-uuid-cliente')::uuid
+FROM generate_series(1, 1000000) AS i;
+
+SELECT 'v4' AS chave, pg_relation_size('pk_chamado') AS pk_bytes,
+       pg_size_pretty(pg_relation_size('pk_chamado')) AS pk_chamado,
+       pg_size_pretty(pg_table_size('chamado')) AS tabela;
+\if :tem_pgstattuple
+SELECT 'v4' AS chave, avg_leaf_density, leaf_fragmentation, leaf_pages FROM pgstatindex('pk_chamado');
+\endif
+
+ROLLBACK;
+
+-- === UUIDv7 =================================================================
+BEGIN;
+TRUNCATE chamado CASCADE;
+
+INSERT INTO pessoa (id, tipo, nome, cpf, email, senha, perfis, data_criacao)
+VALUES (md5('bench-uuid-cliente')::uuid, 'CLIENTE', 'Cliente benchmark', '99999999999',
+        'bench-uuid@bench.local', 'senha', 2, now());
+
+\echo '=== UUIDv7: INSERT de 1.000.000 de chamados ==='
+INSERT INTO chamado (id, data_abertura, prioridade, status, titulo, cliente_id)
+SELECT pg_temp.uuid_v7(1735689600000 + i / 4, (i % 4)::int),
+       timestamp '2025-01-01' + i * interval '250 microseconds', 'MEDIA', 'ABERTO',
+       'Chamado ' || i, md5('bench-uuid-cliente')::uuid
+FROM generate_series(1::bigint, 1000000) AS i;
+
+SELECT 'v7' AS chave, pg_relation_size('pk_chamado') AS pk_bytes,
+       pg_size_pretty(pg_relation_size('pk_chamado')) AS pk_chamado,
+       pg_size_pretty(pg_table_size('chamado')) AS tabela;
+\if :tem_pgstattuple
+SELECT 'v7' AS chave, avg_leaf_density, leaf_fragmentation, leaf_pages FROM pgstatindex('pk_chamado');
+\endif
+
+ROLLBACK;
@@ -0,0 +1,73 @@
+package com.aethernet.helpdesk.domain.dto;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.id.UuidV7;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a serialização em JSON das listas de {@code ChamadoResponseDTO}, nos tamanhos da busca
+ * por ID, da fatia padrão da listagem e da fatia máxima.
+ *
+ * O {@code ObjectMapper} é montado pelo mesmo builder que o Spring Boot usa (módulo de datas
+ * do Java 8 registrado e datas como texto ISO).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int tamanho;
+
+    private ObjectMapper objectMapper;
+    private List<ChamadoResponseDTO> chamados;
+
+    @Setup
+    public void preparar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        chamados = new ArrayList<>(tamanho);
+        LocalDateTime abertura = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (int i = 0; i < tamanho; i++) {
+            boolean encerrado = i % 4 == 0;
+            chamados.add(new ChamadoResponseDTO(
+                    UuidV7.gerar(),
+                    abertura.plusMinutes(i),
+                    encerrado ? abertura.plusHours(i) : null,
+                    Prioridade.values()[i % 3],
+                    encerrado ? Status.ENCERRADO : Status.EM_ANDAMENTO,
+                    "Problema de conexão VPN " + i,
+                    "Cliente não consegue conectar à VPN corporativa.",
+                    "Cliente " + i,
+                    i % 2 == 0 ? "Técnico " + i : null,
+                    (long) i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(chamados);
+    }
+}
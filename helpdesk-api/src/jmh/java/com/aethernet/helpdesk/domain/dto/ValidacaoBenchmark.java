@@ -0,0 +1,66 @@
+package com.aethernet.helpdesk.domain.dto;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.id.UuidV7;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a validação (Bean Validation) do {@code ChamadoRequestDTO} recebido na abertura e na
+ * atualização de Chamados: um DTO válido e um com todas as restrições violadas, cujo custo
+ * inclui a interpolação das mensagens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoBenchmark {
+
+    private ValidatorFactory fabrica;
+    private Validator validator;
+    private ChamadoRequestDTO valido;
+    private ChamadoRequestDTO invalido;
+
+    @Setup
+    public void preparar() {
+        fabrica = Validation.buildDefaultValidatorFactory();
+        validator = fabrica.getValidator();
+        valido = new ChamadoRequestDTO(Prioridade.ALTA, "Problema de conexão VPN",
+                "Cliente não consegue conectar à VPN corporativa.", UuidV7.gerar(), null);
+        invalido = new ChamadoRequestDTO(null, "VPN", "x".repeat(501), null, null);
+    }
+
+    @TearDown
+    public void encerrar() {
+        fabrica.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ChamadoRequestDTO>> validarValido() {
+        return validator.validate(valido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ChamadoRequestDTO>> validarInvalido() {
+        return validator.validate(invalido);
+    }
+}
@@ -0,0 +1,89 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.Cliente;
+import com.aethernet.helpdesk.domain.Tecnico;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.dto.response.ClienteResponseDTO;
+import com.aethernet.helpdesk.domain.dto.response.TecnicoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.id.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a conversão das entidades nos DTOs de resposta: {@code ChamadoService.toResponseDTO}
+ * (usada na exportação e em toda alteração) e os conversores de Cliente e Técnico.
+ *
+ * Os serviços são criados sem repositórios, pois a conversão não acessa o banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+    private final ChamadoService chamadoService = new ChamadoService(null, null, null, null, null, null, null);
+    private final ClienteService clienteService = new ClienteService(null);
+    private final TecnicoService tecnicoService = new TecnicoService(null);
+
+    private Chamado chamado;
+    private Cliente cliente;
+    private Tecnico tecnico;
+
+    @Setup
+    public void preparar() {
+        cliente = new Cliente();
+        cliente.setId(UuidV7.gerar());
+        cliente.setNome("Maria Souza");
+        cliente.setCpf("12345678901");
+        cliente.setEmail("maria@aethernet.com");
+        cliente.setDataCriacao(LocalDateTime.now());
+
+        tecnico = new Tecnico();
+        tecnico.setId(UuidV7.gerar());
+        tecnico.setNome("João Lima");
+        tecnico.setCpf("10987654321");
+        tecnico.setEmail("joao@aethernet.com");
+        tecnico.setDataCriacao(LocalDateTime.now());
+
+        chamado = new Chamado();
+        chamado.setId(UuidV7.gerar());
+        chamado.setDataAbertura(LocalDateTime.now());
+        chamado.setPrioridade(Prioridade.ALTA);
+        chamado.setStatus(Status.EM_ANDAMENTO);
+        chamado.setTitulo("Problema de conexão VPN");
+        chamado.setObservacoes("Cliente não consegue conectar à VPN corporativa.");
+        chamado.setCliente(cliente);
+        chamado.setTecnico(tecnico);
+    }
+
+    @Benchmark
+    public ChamadoResponseDTO chamadoToResponseDTO() {
+        return chamadoService.toResponseDTO(chamado);
+    }
+
+    @Benchmark
+    public ClienteResponseDTO clienteToResponseDTO() {
+        return clienteService.toResponseDTO(cliente);
+    }
+
+    @Benchmark
+    public TecnicoResponseDTO tecnicoToResponseDTO() {
+        return tecnicoService.toResponseDTO(tecnico);
+    }
+}
@@ -0,0 +1,74 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.enums.Perfil;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede as regras de domínio chamadas a cada alteração de Chamado: a validação da transição de
+ * status (aceita e recusada, já que a recusa cria uma exceção) e a conversão dos códigos
+ * numéricos nos enums.
+ *
+ * Os códigos convertidos são os do último valor de cada enum, o pior caso da busca linear.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegrasDominioBenchmark {
+
+    private final ChamadoService chamadoService = new ChamadoService(null, null, null, null, null, null, null);
+
+    // Campos não finais, para que o JIT não trate os argumentos como constantes
+    private Status atual = Status.ABERTO;
+    private Status novo = Status.EM_ANDAMENTO;
+    private Status pausado = Status.PAUSADO;
+    private Status encerrado = Status.ENCERRADO;
+    private Integer codigoStatus = Status.ENCERRADO.getCodigo();
+    private Integer codigoPrioridade = Prioridade.ALTA.getCodigo();
+    private Integer codigoPerfil = Perfil.TECNICO.getCodigo();
+
+    @Benchmark
+    public void validarTransicaoAceita() {
+        chamadoService.validarTransicaoStatus(atual, novo);
+    }
+
+    @Benchmark
+    public DomainRuleException validarTransicaoRecusada() {
+        try {
+            chamadoService.validarTransicaoStatus(pausado, encerrado);
+            throw new IllegalStateException("A transição deveria ser recusada");
+        } catch (DomainRuleException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Status statusToEnum() {
+        return Status.toEnum(codigoStatus);
+    }
+
+    @Benchmark
+    public Prioridade prioridadeToEnum() {
+        return Prioridade.toEnum(codigoPrioridade);
+    }
+
+    @Benchmark
+    public Perfil perfilToEnum() {
+        return Perfil.toEnum(codigoPerfil);
+    }
+}
@@ -0,0 +1,189 @@
+package com.aethernet.helpdesk.assignment;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import com.aethernet.helpdesk.services.RetentativaOtimista;
+import com.aethernet.helpdesk.stats.ChamadoStatsCounters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Motor de atribuição automática de Chamados ABERTOS ao Técnico com menor carga.
+ *
+ * A carga de cada Técnico (Chamados EM_ANDAMENTO ou PAUSADO) vem dos contadores em memória
+ * do painel, e é mantida em um heap durante o ciclo: cada decisão é um {@code poll}/{@code offer}
+ * em O(log n), sem nenhuma contagem no banco. Os Chamados são drenados em lotes, da
+ * prioridade ALTA para a BAIXA e, dentro de cada prioridade, do mais antigo para o mais novo.
+ *
+ * Cada atribuição passa pelo {@link ChamadoService#atribuirAutomaticamente}, que aplica a
+ * mesma transição para EM_ANDAMENTO da atribuição manual. Um conflito de versão com uma
+ * alteração concorrente é repetido pela {@link RetentativaOtimista}, que relê o Chamado.
+ */
+@Component
+public class ChamadoAssignmentEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoAssignmentEngine.class);
+
+    /** Status que contam como carga de trabalho de um Técnico. */
+    static final Set<Status> STATUS_EM_CARGA = EnumSet.of(Status.EM_ANDAMENTO, Status.PAUSADO);
+
+    /** Ordem em que as prioridades são drenadas. */
+    private static final Prioridade[] ORDEM_PRIORIDADE = {Prioridade.ALTA, Prioridade.MEDIA, Prioridade.BAIXA};
+
+    /**
+     * Carga de um Técnico no heap. O ID desempata Técnicos com a mesma carga.
+     */
+    record Carga(UUID tecnicoId, long chamados) {}
+
+    private static final Comparator<Carga> MENOR_CARGA =
+            Comparator.comparingLong(Carga::chamados).thenComparing(Carga::tecnicoId);
+
+    private final ChamadoRepository chamadoRepository;
+    private final TecnicoRepository tecnicoRepository;
+    private final ChamadoService chamadoService;
+    private final ChamadoStatsCounters chamadoStatsCounters;
+    private final RetentativaOtimista retentativaOtimista;
+    private final boolean habilitada;
+    private final int tamanhoLote;
+
+    private final Counter atribuidos;
+    private final Counter recusados;
+    private final Timer decisao;
+
+    /** Impede que o ciclo agendado e um disparo manual distribuam os mesmos Chamados ao mesmo tempo. */
+    private final ReentrantLock execucao = new ReentrantLock();
+
+    public ChamadoAssignmentEngine(ChamadoRepository chamadoRepository,
+                                   TecnicoRepository tecnicoRepository,
+                                   ChamadoService chamadoService,
+                                   ChamadoStatsCounters chamadoStatsCounters,
+                                   RetentativaOtimista retentativaOtimista,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${helpdesk.atribuicao.habilitada:true}") boolean habilitada,
+                                   @Value("${helpdesk.atribuicao.lote:100}") int tamanhoLote) {
+        this.chamadoRepository = chamadoRepository;
+        this.tecnicoRepository = tecnicoRepository;
+        this.chamadoService = chamadoService;
+        this.chamadoStatsCounters = chamadoStatsCounters;
+        this.retentativaOtimista = retentativaOtimista;
+        this.habilitada = habilitada;
+        this.tamanhoLote = tamanhoLote;
+
+        Gauge.builder("helpdesk.atribuicao.fila", chamadoStatsCounters, c -> c.contar(Status.ABERTO))
+                .description("Chamados ABERTOS aguardando atribuição")
+                .register(meterRegistry);
+        this.atribuidos = Counter.builder("helpdesk.atribuicao.atribuidos")
+                .description("Chamados atribuídos automaticamente")
+                .register(meterRegistry);
+        this.recusados = Counter.builder("helpdesk.atribuicao.recusados")
+                .description("Atribuições recusadas (chamado alterado ou removido depois de selecionado)")
+                .register(meterRegistry);
+        this.decisao = Timer.builder("helpdesk.atribuicao.decisao")
+                .description("Tempo para escolher o técnico de um chamado")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa um ciclo de atribuição no intervalo configurado em {@code helpdesk.atribuicao.intervalo-ms},
+     * se a atribuição automática estiver habilitada.
+     */
+    @Scheduled(initialDelayString = "${helpdesk.atribuicao.intervalo-ms:10000}",
+            fixedDelayString = "${helpdesk.atribuicao.intervalo-ms:10000}")
+    public void executarAgendado() {
+        if (habilitada) {
+            distribuir();
+        }
+    }
+
+    /**
+     * Atribui todos os Chamados ABERTOS aos Técnicos com menor carga.
+     *
+     * Se outro ciclo já estiver em execução, retorna imediatamente sem atribuir nada.
+     *
+     * @return A quantidade de Chamados atribuídos neste ciclo.
+     */
+    public int distribuir() {
+        if (!execucao.tryLock()) {
+            return 0;
+        }
+        try {
+            PriorityQueue<Carga> cargas = montarCargas();
+            if (cargas.isEmpty()) {
+                return 0;
+            }
+
+            int total = 0;
+            for (Prioridade prioridade : ORDEM_PRIORIDADE) {
+                List<UUID> lote;
+                int atribuidosNoLote;
+                do {
+                    lote = chamadoRepository.findIdsByStatusAndPrioridade(
+                            Status.ABERTO, prioridade, PageRequest.of(0, tamanhoLote));
+                    atribuidosNoLote = 0;
+                    for (UUID chamadoId : lote) {
+                        if (atribuir(cargas, chamadoId)) {
+                            atribuidosNoLote++;
+                        }
+                    }
+                    total += atribuidosNoLote;
+                    // Chamados recusados continuam ABERTOS: sem progresso, o próximo lote seria o mesmo
+                } while (lote.size() == tamanhoLote && atribuidosNoLote > 0);
+            }
+
+            if (total > 0) {
+                log.info("Atribuição automática: {} chamado(s) atribuído(s)", total);
+            }
+            return total;
+        } finally {
+            execucao.unlock();
+        }
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private PriorityQueue<Carga> montarCargas() {
+        Map<UUID, Long> porTecnico = chamadoStatsCounters.contarPorTecnico(STATUS_EM_CARGA);
+        List<UUID> tecnicos = tecnicoRepository.findAllIds();
+
+        PriorityQueue<Carga> cargas = new PriorityQueue<>(Math.max(1, tecnicos.size()), MENOR_CARGA);
+        for (UUID tecnicoId : tecnicos) {
+            cargas.offer(new Carga(tecnicoId, porTecnico.getOrDefault(tecnicoId, 0L)));
+        }
+        return cargas;
+    }
+
+    private boolean atribuir(PriorityQueue<Carga> cargas, UUID chamadoId) {
+        Carga menor = decisao.record(cargas::poll);
+        try {
+            retentativaOtimista.executar(() -> chamadoService.atribuirAutomaticamente(chamadoId, menor.tecnicoId()));
+            cargas.offer(new Carga(menor.tecnicoId(), menor.chamados() + 1));
+            atribuidos.increment();
+            return true;
+        } catch (RuntimeException e) {
+            cargas.offer(menor);
+            recusados.increment();
+            log.debug("Chamado {} não atribuído: {}", chamadoId, e.getMessage());
+            return false;
+        }
+    }
+}
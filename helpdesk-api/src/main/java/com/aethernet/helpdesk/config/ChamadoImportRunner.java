@@ -0,0 +1,55 @@
+package com.aethernet.helpdesk.config;
+
+import com.aethernet.helpdesk.domain.dto.response.ImportacaoRelatorioDTO;
+import com.aethernet.helpdesk.importacao.ChamadoImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Importa um CSV de Chamados na inicialização da aplicação.
+ *
+ * Executado somente quando {@code helpdesk.importacao.arquivo} é informado
+ * (ex: {@code --helpdesk.importacao.arquivo=/dados/chamados.csv}), depois da carga
+ * de dados iniciais do {@code DataLoader}.
+ */
+@Component
+@ConditionalOnProperty(name = "helpdesk.importacao.arquivo")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ChamadoImportRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoImportRunner.class);
+
+    private final ChamadoImportService chamadoImportService;
+    private final Path arquivo;
+
+    public ChamadoImportRunner(ChamadoImportService chamadoImportService,
+                               @Value("${helpdesk.importacao.arquivo}") Path arquivo) {
+        this.chamadoImportService = chamadoImportService;
+        this.arquivo = arquivo;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("Importando chamados de {}", arquivo);
+        ImportacaoRelatorioDTO relatorio;
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            relatorio = chamadoImportService.importar(entrada);
+        }
+        for (ImportacaoRelatorioDTO.Rejeicao rejeicao : relatorio.rejeicoes()) {
+            log.warn("Linha {} rejeitada: {}", rejeicao.linha(), rejeicao.motivo());
+        }
+        if (relatorio.rejeitados() > relatorio.rejeicoes().size()) {
+            log.warn("... e mais {} linha(s) rejeitada(s)", relatorio.rejeitados() - relatorio.rejeicoes().size());
+        }
+    }
+}
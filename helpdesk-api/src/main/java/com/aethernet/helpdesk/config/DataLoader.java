@@ -9,11 +9,15 @@ import com.aethernet.helpdesk.domain.enums.Status;
 import com.aethernet.helpdesk.repositories.ChamadoRepository;
 import com.aethernet.helpdesk.repositories.ClienteRepository;
 import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import com.aethernet.helpdesk.sync.ChamadoSequenciador;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,24 +25,31 @@ import java.util.UUID;
  * (seed data) assim que a aplicação Spring Boot é iniciada.
  *
  * Implementa a interface {@code CommandLineRunner} para execução no startup.
+ * Não é executado no perfil {@code postgres}, cujo banco é persistente e versionado pelo Flyway.
  */
 @Component
+@Profile("!postgres")
+@Order(0)
 public class DataLoader implements CommandLineRunner {
 
     private final ClienteRepository clienteRepository;
     private final TecnicoRepository tecnicoRepository;
     private final ChamadoRepository chamadoRepository;
+    private final ChamadoSequenciador sequenciador;
 
     /**
      * Construtor para injeção de dependência dos repositórios necessários.
      *
      * @param clienteRepository Repositório para persistência de Clientes.
      * @param tecnicoRepository Repositório para persistência de Técnicos.
+     * @param sequenciador Coloca os Chamados de exemplo na sequência da sincronização incremental.
      */
-    public DataLoader(ClienteRepository clienteRepository, TecnicoRepository tecnicoRepository, ChamadoRepository chamadoRepository) {
+    public DataLoader(ClienteRepository clienteRepository, TecnicoRepository tecnicoRepository, ChamadoRepository chamadoRepository,
+                      ChamadoSequenciador sequenciador) {
         this.clienteRepository = clienteRepository;
         this.tecnicoRepository = tecnicoRepository;
         this.chamadoRepository = chamadoRepository;
+        this.sequenciador = sequenciador;
     }
 
     /**
@@ -83,10 +94,12 @@ public class DataLoader implements CommandLineRunner {
 
 
         // NOVOS: Chamados de teste
-        criarChamadoAberto(cliente1); // UUID fixo para testes
-        criarChamadoEmAndamento(cliente2, tecnico1);
-        criarChamadoPausado(cliente1, tecnico2);
-        criarChamadoEncerrado(cliente2, tecnico1);
+        List<Chamado> chamados = List.of(
+                criarChamadoAberto(cliente1), // UUID fixo para testes
+                criarChamadoEmAndamento(cliente2, tecnico1),
+                criarChamadoPausado(cliente1, tecnico2),
+                criarChamadoEncerrado(cliente2, tecnico1));
+        sequenciador.registrar(chamados.stream().map(Chamado::getId).toList());
 
     }
 
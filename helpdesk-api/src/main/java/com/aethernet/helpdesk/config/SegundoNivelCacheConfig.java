@@ -0,0 +1,122 @@
+package com.aethernet.helpdesk.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache de segundo nível do Hibernate (JCache com Caffeine) para as Pessoas.
+ *
+ * Clientes e Técnicos são carregados a cada abertura, atualização ou atribuição de Chamado;
+ * com o cache, {@code findById} deixa de consultar a tabela 'pessoa'. As regiões são
+ * limitadas em tamanho e expiram após a escrita, e a estratégia READ_WRITE das entidades
+ * mantém o cache coerente com as alterações e exclusões feitas pelo Hibernate (incluindo as
+ * de {@code ClienteService} e {@code TecnicoService}).
+ *
+ * Métricas: {@code cache.gets} (result=hit|miss), {@code cache.puts}, {@code cache.evictions}
+ * e {@code helpdesk.cache.taxa} (tipo=acerto|falha, em %) por região.
+ */
+@Configuration
+public class SegundoNivelCacheConfig {
+
+    /** Região das entidades Pessoa, Cliente e Técnico (a hierarquia compartilha a região da raiz). */
+    public static final String REGIAO_PESSOA = "pessoa";
+
+    private static final List<String> REGIOES = List.of(REGIAO_PESSOA);
+
+    /**
+     * Cria o gerenciador de caches com as regiões já configuradas.
+     *
+     * Cada contexto usa uma URI própria, pois o gerenciador padrão do provedor é compartilhado
+     * por todo o classloader (ex: contextos de teste com bancos diferentes).
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager segundoNivelCacheManager(
+            @Value("${helpdesk.cache.pessoa.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${helpdesk.cache.pessoa.ttl-min:30}") long ttlMin) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("helpdesk-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String regiao : REGIOES) {
+            CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+            configuracao.setMaximumSize(OptionalLong.of(tamanhoMaximo));
+            configuracao.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMin)));
+            configuracao.setStatisticsEnabled(true);
+            cacheManager.createCache(regiao, configuracao);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Entrega o gerenciador ao Hibernate. Uma região referenciada pelo mapeamento e não
+     * criada acima é um erro de configuração, e não uma região criada sem limites.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer segundoNivelCacheHibernate(CacheManager segundoNivelCacheManager) {
+        return propriedades -> {
+            propriedades.put(ConfigSettings.CACHE_MANAGER, segundoNivelCacheManager);
+            propriedades.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder segundoNivelCacheMetricas(CacheManager segundoNivelCacheManager) {
+        return registry -> {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            for (String regiao : REGIOES) {
+                JCacheMetrics.monitor(registry, segundoNivelCacheManager.getCache(regiao), Tags.empty());
+                ObjectName estatisticas = nomeEstatisticas(segundoNivelCacheManager, regiao);
+                Gauge.builder("helpdesk.cache.taxa", mBeanServer, s -> atributo(s, estatisticas, "CacheHitPercentage"))
+                        .description("Percentual de acertos do cache de segundo nível")
+                        .baseUnit("percent")
+                        .tags("cache", regiao, "tipo", "acerto")
+                        .register(registry);
+                Gauge.builder("helpdesk.cache.taxa", mBeanServer, s -> atributo(s, estatisticas, "CacheMissPercentage"))
+                        .description("Percentual de falhas do cache de segundo nível")
+                        .baseUnit("percent")
+                        .tags("cache", regiao, "tipo", "falha")
+                        .register(registry);
+            }
+        };
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    /** Nome JMX das estatísticas de um cache, no formato registrado pelo provedor JCache. */
+    private static ObjectName nomeEstatisticas(CacheManager cacheManager, String regiao) {
+        try {
+            return new ObjectName("javax.cache:type=CacheStatistics"
+                    + ",CacheManager=" + cacheManager.getURI().toString().replaceAll("[,:=\n]", ".")
+                    + ",Cache=" + regiao.replaceAll("[,:=\n]", "."));
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double atributo(MBeanServer mBeanServer, ObjectName nome, String atributo) {
+        try {
+            return ((Number) mBeanServer.getAttribute(nome, atributo)).doubleValue();
+        } catch (JMException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,672 @@
+package com.aethernet.helpdesk.controllers;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.request.ChamadoStatusLoteRequestDTO;
+import com.aethernet.helpdesk.domain.dto.request.TecnicoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoAlteracoesDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoHistoricoSliceDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoSliceDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoStatsDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoStatusLoteDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoTempoStatusDTO;
+import com.aethernet.helpdesk.domain.dto.response.ImportacaoRelatorioDTO;
+import com.aethernet.helpdesk.domain.dto.response.SlaResumoDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
+import com.aethernet.helpdesk.exceptions.StaleVersionException;
+import com.aethernet.helpdesk.feed.ChamadoFeed;
+import com.aethernet.helpdesk.feed.FiltroFeed;
+import com.aethernet.helpdesk.historico.ChamadoHistoricoService;
+import com.aethernet.helpdesk.importacao.ChamadoImportService;
+import com.aethernet.helpdesk.services.ChamadoExportService;
+import com.aethernet.helpdesk.services.ChamadoService;
+import com.aethernet.helpdesk.services.LeituraVersionada;
+import com.aethernet.helpdesk.services.RetentativaOtimista;
+import com.aethernet.helpdesk.services.VersaoRecurso;
+import com.aethernet.helpdesk.sla.ChamadoSlaTracker;
+import com.aethernet.helpdesk.stats.ChamadoStatsCounters;
+import com.aethernet.helpdesk.sync.ChamadoSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Controlador REST para gerenciar operações relacionadas a Chamados no sistema Helpdesk.
+ *
+ * Expõe endpoints para criação, leitura, listagem, atribuição e atualização de chamados.
+ * A URL base para todos os endpoints deste controlador é "/api/chamados".
+ *
+ * As respostas de um único Chamado trazem a sua versão no cabeçalho {@code ETag} (na busca por ID,
+ * seguida das versões do Cliente e do Técnico, cujos nomes estão no corpo). As alterações aceitam
+ * qualquer desses ETags em {@code If-Match}, comparando a versão do Chamado: se ele mudou desde a leitura, a resposta é
+ * 412 em vez de sobrescrever a outra alteração. Sem {@code If-Match}, as transições de status e
+ * a atribuição são repetidas sobre o estado atual em caso de conflito ({@link RetentativaOtimista}).
+ */
+@RestController
+@RequestMapping("/api/chamados")
+@Tag(name = "Chamados", description = "Gerenciamento de chamados de suporte técnico")
+public class ChamadoController {
+
+    /** Cabeçalho HTTP que carrega o cursor da próxima fatia na listagem paginada. */
+    public static final String HEADER_PROXIMO_CURSOR = "X-Next-Cursor";
+
+    private static final int LIMITE_PADRAO_FATIA = 50;
+
+    private final ChamadoService chamadoService;
+    private final ChamadoExportService chamadoExportService;
+    private final ChamadoImportService chamadoImportService;
+    private final ChamadoStatsCounters chamadoStatsCounters;
+    private final ChamadoSlaTracker chamadoSlaTracker;
+    private final RetentativaOtimista retentativaOtimista;
+    private final ChamadoHistoricoService chamadoHistoricoService;
+    private final ChamadoFeed chamadoFeed;
+    private final ChamadoSyncService chamadoSyncService;
+
+    /**
+     * Construtor para injeção de dependência dos serviços de Chamado.
+     * @param chamadoService Serviço de domínio responsável pela lógica de negócios dos Chamados.
+     * @param chamadoExportService Serviço responsável pela exportação em massa dos Chamados.
+     * @param chamadoImportService Serviço responsável pela importação em massa dos Chamados.
+     * @param chamadoStatsCounters Contadores em memória usados pelo painel de acompanhamento.
+     * @param chamadoSlaTracker Acompanhamento em memória dos prazos de SLA.
+     * @param retentativaOtimista Política de repetição das transições em conflito de versão.
+     * @param chamadoHistoricoService Consultas ao histórico de Status e de Técnico dos Chamados.
+     * @param chamadoFeed Feed ao vivo (SSE) das alterações de Chamados.
+     * @param chamadoSyncService Sincronização incremental dos Chamados por cursor de sequência.
+     */
+    public ChamadoController(ChamadoService chamadoService,
+                             ChamadoExportService chamadoExportService,
+                             ChamadoImportService chamadoImportService,
+                             ChamadoStatsCounters chamadoStatsCounters,
+                             ChamadoSlaTracker chamadoSlaTracker,
+                             RetentativaOtimista retentativaOtimista,
+                             ChamadoHistoricoService chamadoHistoricoService,
+                             ChamadoFeed chamadoFeed,
+                             ChamadoSyncService chamadoSyncService) {
+        this.chamadoService = chamadoService;
+        this.chamadoExportService = chamadoExportService;
+        this.chamadoImportService = chamadoImportService;
+        this.chamadoStatsCounters = chamadoStatsCounters;
+        this.chamadoSlaTracker = chamadoSlaTracker;
+        this.retentativaOtimista = retentativaOtimista;
+        this.chamadoHistoricoService = chamadoHistoricoService;
+        this.chamadoFeed = chamadoFeed;
+        this.chamadoSyncService = chamadoSyncService;
+    }
+
+     // === ENDPOINTS PÚBLICOS ===
+
+    /**
+     * Busca um Chamado específico pelo seu identificador único.
+     *
+     * A leitura é condicional: numa requisição com {@code If-None-Match} ou {@code If-Modified-Since},
+     * as versões do Chamado, do Cliente e do Técnico são consultadas primeiro e, se o cliente já tem
+     * essas versões ou não houve gravação desde a data informada, a resposta é 304 sem carregar o
+     * Chamado. A resposta 200 lê o corpo e os validadores na mesma consulta.
+     *
+     * @param id O UUID do Chamado a ser buscado.
+     * @param cabecalhos Os cabeçalhos da requisição, com as condições opcionais.
+     * @return {@code ResponseEntity} contendo o DTO de resposta do chamado encontrado e o status HTTP 200 (OK),
+     *         ou 304 (Not Modified) sem corpo.
+     * @throws EntityNotFoundException Se o Chamado com o ID fornecido não for encontrado.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar chamado por ID")
+    @ApiResponses(value =  {
+            @ApiResponse(responseCode = "200", description = "Chamado encontrado"),
+            @ApiResponse(responseCode = "304", description = "Chamado não modificado desde a versão do If-None-Match"),
+            @ApiResponse(responseCode = "404", description = "Chamado não encontrado")
+    })
+    public ResponseEntity<ChamadoResponseDTO> buscarPorId(@PathVariable @Parameter(description = "ID do Chamado") UUID id,
+                                                          @RequestHeader HttpHeaders cabecalhos) {
+        if (LeituraCondicional.condicional(cabecalhos)) {
+            VersaoRecurso atual = chamadoService.versao(id);
+            if (LeituraCondicional.naoModificado(cabecalhos, atual)) {
+                return LeituraCondicional.naoModificada(atual);
+            }
+        }
+        return LeituraCondicional.ok(chamadoService.buscarComVersao(id));
+    }
+
+    /**
+     * Lista os Chamados registrados no sistema, com filtros opcionais.
+     *
+     * Quando {@code after} ou {@code limit} são informados, a listagem é paginada por cursor
+     * (keyset), ordenada por {@code (dataAbertura, id)}. O cursor da próxima fatia é devolvido no
+     * cabeçalho {@value #HEADER_PROXIMO_CURSOR}, ausente na última fatia. Sem esses parâmetros,
+     * todos os chamados que atendem aos filtros são retornados.
+     *
+     * @param status Filtro opcional por {@code Status}.
+     * @param prioridade Filtro opcional por {@code Prioridade}.
+     * @param after Cursor opaco recebido na fatia anterior (opcional).
+     * @param limit Quantidade máxima de chamados na fatia (opcional).
+     * @return Uma lista de {@code ChamadoResponseDTO} representando os chamados.
+     */
+    @GetMapping
+    @Operation(
+            summary = "Listar chamados com filtros opcionais",
+            description = "Retorna lista de chamados. Pode filtrar por status e/ou prioridade. " +
+                    "Com 'after' e/ou 'limit', pagina por cursor e retorna o próximo cursor no cabeçalho " + HEADER_PROXIMO_CURSOR
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de chamados retornada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<List<ChamadoResponseDTO>> listarChamados(
+            @RequestParam(required = false) @Parameter(description = "Filtrar por status (ABERTO, EM_ANDAMENTO, PAUSADO, ENCERRADO)") Status status,
+            @RequestParam(required = false) @Parameter(description = "Filtrar por prioridade(BAIXA, MEDIA ALTA)") Prioridade prioridade,
+            @RequestParam(required = false) @Parameter(description = "Cursor opaco da fatia anterior") String after,
+            @RequestParam(required = false) @Parameter(description = "Tamanho da fatia (1 a " + ChamadoService.LIMITE_MAXIMO_FATIA + ")") Integer limit
+    ) {
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(chamadoService.listarTodos(status, prioridade));
+        }
+
+        int limite = limit != null ? limit : LIMITE_PADRAO_FATIA;
+        ChamadoSliceDTO fatia = chamadoService.listarFatia(status, prioridade, after, limite);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (fatia.proximoCursor() != null) {
+            response.header(HEADER_PROXIMO_CURSOR, fatia.proximoCursor());
+        }
+        return response.body(fatia.itens());
+    }
+
+    /**
+     * Busca Chamados por texto livre no título e nas observações.
+     *
+     * A busca ignora acentos e maiúsculas, e os resultados são ordenados por relevância (BM25).
+     *
+     * @param q O texto da busca.
+     * @param limit A quantidade máxima de resultados.
+     * @return {@code ResponseEntity} contendo os chamados encontrados e o status HTTP 200 (OK).
+     */
+    @GetMapping("/search")
+    @Operation(
+            summary = "Buscar chamados por texto",
+            description = "Busca no título e nas observações, ignorando acentos; resultados ordenados por relevância."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultados da busca"),
+            @ApiResponse(responseCode = "400", description = "Consulta vazia ou limite inválido")
+    })
+    public ResponseEntity<List<ChamadoResponseDTO>> pesquisar(
+            @RequestParam @Parameter(description = "Texto da busca", example = "vpn") String q,
+            @RequestParam(defaultValue = "20") @Parameter(description = "Quantidade máxima de resultados (1 a " + ChamadoService.LIMITE_MAXIMO_BUSCA + ")") int limit) {
+        return ResponseEntity.ok(chamadoService.pesquisar(q, limit));
+    }
+
+    /**
+     * Abre o feed ao vivo (Server-Sent Events) das alterações de Chamados, com filtros opcionais.
+     *
+     * Cada alteração confirmada chega como um evento {@value ChamadoFeed#EVENTO_CHAMADO}, com a
+     * classificação atual do Chamado, no lugar da consulta periódica à listagem. Ao reconectar, o
+     * navegador envia o {@code Last-Event-ID} e recebe as alterações perdidas; se não for possível
+     * (cliente lento demais ou desconectado por muito tempo), recebe um evento
+     * {@value ChamadoFeed#EVENTO_REINICIO} e deve recarregar a lista.
+     *
+     * @param status Filtro opcional por {@code Status}.
+     * @param prioridade Filtro opcional por {@code Prioridade}.
+     * @param tecnicoId Filtro opcional pelo Técnico atribuído.
+     * @param ultimoEventoId O último evento recebido antes da reconexão (opcional).
+     * @return O emissor SSE da conexão.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Feed ao vivo das alterações de chamados (SSE)",
+            description = "Notifica as alterações de chamados após o commit. Filtros por status, prioridade e técnico " +
+                    "(vale a situação anterior ou a atual). Retoma a partir do cabeçalho Last-Event-ID."
+    )
+    @ApiResponse(responseCode = "200", description = "Feed aberto")
+    public SseEmitter stream(
+            @RequestParam(required = false) @Parameter(description = "Filtrar por status") Status status,
+            @RequestParam(required = false) @Parameter(description = "Filtrar por prioridade") Prioridade prioridade,
+            @RequestParam(required = false) @Parameter(description = "Filtrar por técnico") UUID tecnicoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) @Parameter(description = "Último evento recebido") String ultimoEventoId
+    ) {
+        Long ultimoId = null;
+        if (ultimoEventoId != null && !ultimoEventoId.isBlank()) {
+            try {
+                ultimoId = Long.parseLong(ultimoEventoId.trim());
+            } catch (NumberFormatException e) {
+                // Posição desconhecida: o feed responde com um aviso de reinício
+                ultimoId = -1L;
+            }
+        }
+        return chamadoFeed.assinar(new FiltroFeed(status, prioridade, tecnicoId), ultimoId);
+    }
+
+    /**
+     * Retorna os Chamados alterados ou excluídos depois do cursor, para a sincronização incremental
+     * de um cache local: o cliente guarda o {@code cursor} da resposta e o envia na chamada seguinte,
+     * repetindo enquanto {@code temMais} for verdadeiro.
+     *
+     * @param since O cursor da última sincronização (0 para a primeira).
+     * @param limit A quantidade máxima de alterações.
+     * @return {@code ResponseEntity} contendo as alterações e o status HTTP 200 (OK).
+     */
+    @GetMapping("/changes")
+    @Operation(
+            summary = "Chamados alterados desde um cursor (sincronização incremental)",
+            description = "Chamados alterados ou excluídos depois da sequência informada, no estado atual e em ordem " +
+                    "de sequência. Exclusões chegam como marcas (removido = true)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<ChamadoAlteracoesDTO> alteracoes(
+            @RequestParam(defaultValue = "0") @Parameter(description = "Cursor da última sincronização") long since,
+            @RequestParam(defaultValue = "100") @Parameter(description = "Quantidade máxima de alterações (1 a " + ChamadoSyncService.LIMITE_MAXIMO + ")") int limit) {
+        return ResponseEntity.ok(chamadoSyncService.alteracoesDesde(since, limit));
+    }
+
+    /**
+     * Retorna os totais de Chamados por Status, Prioridade e Técnico.
+     *
+     * Os totais vêm de contadores em memória, atualizados a cada alteração e reconciliados
+     * periodicamente com o banco; a consulta não acessa a tabela de Chamados.
+     *
+     * @return {@code ResponseEntity} contendo os totais e o status HTTP 200 (OK).
+     */
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Totais de chamados para o painel",
+            description = "Contagens por status, prioridade e técnico, servidas da memória e reconciliadas periodicamente com o banco."
+    )
+    @ApiResponse(responseCode = "200", description = "Totais retornados")
+    public ResponseEntity<ChamadoStatsDTO> estatisticas() {
+        return ResponseEntity.ok(chamadoStatsCounters.totais());
+    }
+
+    /**
+     * Retorna as violações de SLA e os prazos vencidos ou em risco dos Chamados em aberto.
+     *
+     * Os prazos são acompanhados em memória e atualizados a cada alteração de Chamado;
+     * a consulta não acessa a tabela de Chamados.
+     *
+     * @return {@code ResponseEntity} contendo o resumo dos prazos e o status HTTP 200 (OK).
+     */
+    @GetMapping("/sla")
+    @Operation(
+            summary = "Situação dos prazos de SLA",
+            description = "Violações por tipo de prazo e prioridade, e os prazos vencidos ou prestes a vencer dos chamados em aberto."
+    )
+    @ApiResponse(responseCode = "200", description = "Resumo dos prazos retornado")
+    public ResponseEntity<SlaResumoDTO> sla() {
+        return ResponseEntity.ok(chamadoSlaTracker.resumo());
+    }
+
+    /**
+     * Lista os Chamados abertos por um Cliente específico.
+     *
+     * @param clienteId O UUID do Cliente.
+     * @return {@code ResponseEntity} contendo a lista de chamados do cliente e o status HTTP 200 (OK).
+     * @throws EntityNotFoundException Se o Cliente não for encontrado.
+     */
+    @GetMapping("/cliente/{clienteId}")
+    @Operation(summary = "Listar chamados de um cliente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de chamados retornada"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+    })
+    public ResponseEntity<List<ChamadoResponseDTO>> listarPorCliente(@PathVariable @Parameter(description = "ID do Cliente") UUID clienteId) {
+        return ResponseEntity.ok(chamadoService.listarPorCliente(clienteId));
+    }
+
+    /**
+     * Lista os Chamados atribuídos a um Técnico específico.
+     *
+     * @param tecnicoId O UUID do Técnico.
+     * @return {@code ResponseEntity} contendo a lista de chamados do técnico e o status HTTP 200 (OK).
+     * @throws EntityNotFoundException Se o Técnico não for encontrado.
+     */
+    @GetMapping("/tecnico/{tecnicoId}")
+    @Operation(summary = "Listar chamados de um técnico")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de chamados retornada"),
+            @ApiResponse(responseCode = "404", description = "Técnico não encontrado")
+    })
+    public ResponseEntity<List<ChamadoResponseDTO>> listarPorTecnico(@PathVariable @Parameter(description = "ID do Técnico") UUID tecnicoId) {
+        return ResponseEntity.ok(chamadoService.listarPorTecnico(tecnicoId));
+    }
+
+    /**
+     * Lista o histórico de Status e de Técnico de um Chamado, do mais antigo para o mais novo.
+     *
+     * A listagem é paginada por cursor; o cursor da próxima fatia é devolvido no corpo e no
+     * cabeçalho {@value #HEADER_PROXIMO_CURSOR}, ausente na última fatia. O histórico é gravado
+     * em segundo plano: uma mudança recém-confirmada pode levar alguns instantes para aparecer.
+     *
+     * @param id O UUID do Chamado.
+     * @param after Cursor recebido na fatia anterior (opcional).
+     * @param limit Quantidade máxima de registros na fatia.
+     * @return {@code ResponseEntity} contendo a fatia do histórico e o status HTTP 200 (OK).
+     * @throws EntityNotFoundException Se o Chamado não for encontrado.
+     */
+    @GetMapping("/{id}/historico")
+    @Operation(
+            summary = "Histórico de status e técnico de um chamado",
+            description = "Mudanças de status e de técnico na ordem das versões do chamado, paginadas por cursor " +
+                    "(próximo cursor no cabeçalho " + HEADER_PROXIMO_CURSOR + ")."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fatia do histórico retornada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido"),
+            @ApiResponse(responseCode = "404", description = "Chamado não encontrado")
+    })
+    public ResponseEntity<ChamadoHistoricoSliceDTO> historico(
+            @PathVariable @Parameter(description = "ID do Chamado") UUID id,
+            @RequestParam(required = false) @Parameter(description = "Cursor da fatia anterior") String after,
+            @RequestParam(defaultValue = "" + LIMITE_PADRAO_FATIA) @Parameter(description = "Tamanho da fatia (1 a " + ChamadoHistoricoService.LIMITE_MAXIMO_FATIA + ")") int limit) {
+        ChamadoHistoricoSliceDTO fatia = chamadoHistoricoService.listar(id, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (fatia.proximoCursor() != null) {
+            response.header(HEADER_PROXIMO_CURSOR, fatia.proximoCursor());
+        }
+        return response.body(fatia);
+    }
+
+    /**
+     * Retorna o tempo que um Chamado passou em cada Status, incluindo o Status atual até agora.
+     *
+     * @param id O UUID do Chamado.
+     * @return {@code ResponseEntity} contendo o tempo por Status e o status HTTP 200 (OK).
+     * @throws EntityNotFoundException Se o Chamado não for encontrado.
+     */
+    @GetMapping("/{id}/historico/tempo-status")
+    @Operation(
+            summary = "Tempo em cada status de um chamado",
+            description = "Soma, a partir do histórico, o tempo em milissegundos que o chamado passou em cada status."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tempo por status retornado"),
+            @ApiResponse(responseCode = "404", description = "Chamado não encontrado")
+    })
+    public ResponseEntity<ChamadoTempoStatusDTO> tempoPorStatus(@PathVariable @Parameter(description = "ID do Chamado") UUID id) {
+        return ResponseEntity.ok(chamadoHistoricoService.tempoPorStatus(id));
+    }
+
+    /**
+     * Exporta os Chamados em NDJSON (um objeto JSON por linha) ou CSV.
+     *
+     * A resposta é transmitida à medida que as linhas são lidas do banco, sem carregar
+     * o resultado completo em memória.
+     *
+     * @param formato O formato de saída ({@code NDJSON} ou {@code CSV}).
+     * @param status Filtro opcional por {@code Status}.
+     * @param prioridade Filtro opcional por {@code Prioridade}.
+     * @return {@code ResponseEntity} com o corpo transmitido e o status HTTP 200 (OK).
+     */
+    @GetMapping("/export")
+    @Operation(
+            summary = "Exportar chamados",
+            description = "Transmite todos os chamados (com filtros opcionais) em NDJSON ou CSV, sem paginação."
+    )
+    @ApiResponse(responseCode = "200", description = "Exportação transmitida")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(defaultValue = "NDJSON") @Parameter(description = "Formato de saída (NDJSON, CSV)") ChamadoExportService.Formato formato,
+            @RequestParam(required = false) @Parameter(description = "Filtrar por status") Status status,
+            @RequestParam(required = false) @Parameter(description = "Filtrar por prioridade") Prioridade prioridade
+    ) {
+        StreamingResponseBody corpo = saida -> chamadoExportService.exportar(formato, status, prioridade, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"chamados." + formato.name().toLowerCase() + "\"")
+                .body(corpo);
+    }
+
+    /**
+     * Importa Chamados em massa a partir de um CSV com cabeçalho (ex: migração de outro helpdesk).
+     *
+     * O corpo é lido à medida que chega e gravado em blocos, sem carregar o arquivo em memória.
+     * Clientes e Técnicos são identificados por CPF; linhas inválidas são rejeitadas e listadas
+     * no relatório sem interromper a importação.
+     *
+     * @param corpo O conteúdo CSV da requisição.
+     * @return {@code ResponseEntity} contendo o relatório da importação e o status HTTP 200 (OK).
+     * @throws IOException Se a leitura do corpo falhar.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(
+            summary = "Importar chamados de CSV",
+            description = "Colunas: titulo, prioridade, cpfCliente (obrigatórias), observacoes, status, dataAbertura, dataFechamento, cpfTecnico. " +
+                    "Retorna a vazão e as linhas rejeitadas."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída (ver as rejeições no relatório)"),
+            @ApiResponse(responseCode = "400", description = "Arquivo vazio ou sem coluna obrigatória")
+    })
+    public ResponseEntity<ImportacaoRelatorioDTO> importar(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(chamadoImportService.importar(corpo));
+    }
+
+    /**
+     * Cria e armazena um novo Chamado no sistema.
+     *
+     * @param requestDTO O DTO {@code ChamadoRequestDTO} contendo os dados para abertura do chamado.
+     * O objeto é validado automaticamente pelo {@code @Valid}.
+     * @return {@code ResponseEntity} contendo o DTO de resposta do chamado criado e o status HTTP 201 (Created).
+     */
+    @PostMapping
+    @Operation(
+            summary = "Abrir novo chamado",
+            description = "Cria um novo chamado de suporte. Se técnico for atribuído, status será EM_ANDAMENTO automaticamente. Caso contrário status será ABERTO."
+    )
+    @ApiResponses(value =  {
+            @ApiResponse(responseCode = "201", description = "Chamado criado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cliente ou técnico não encontrado")
+    })
+    public ResponseEntity<ChamadoResponseDTO> abrir(@RequestBody @Valid @Parameter(description = "Dados do novo chamado") ChamadoRequestDTO requestDTO) {
+        ChamadoResponseDTO response = chamadoService.abrir(requestDTO);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(response.id())
+                .toUri();
+        return ResponseEntity.created(location).body(response);
+    }
+
+    /**
+     * Atualiza os dados de um Chamado existente.
+     *
+     * @param id O UUID do Chamado a ser atualizado.
+     * @param requestDTO O DTO {@code AtualizarChamadoRequestDTO} contendo os dados atualizados do chamado.
+     * O objeto é validado automaticamente pelo {@code @Valid}.
+     * @return {@code ResponseEntity} contendo o DTO de resposta do chamado atualizado e o status HTTP 200 (OK).
+     * @throws EntityNotFoundException Se o Chamado com o ID fornecido não for encontrado.
+     */
+    @PutMapping("/{id}")
+    @Operation(
+            summary = "Atualizar chamado completo",
+            description = "Atualiza todos os dados de um chamado. Não permite chamados ENCERRADOS."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chamado atualizado"),
+            @ApiResponse(responseCode = "400", description = "Violação de regra de negócio (ex: Chamado encerrado)"),
+            @ApiResponse(responseCode = "404", description = "Chanado, cliente ou técnico não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Chamado alterado por outra requisição durante a gravação"),
+            @ApiResponse(responseCode = "412", description = "Nenhum ETag forte do If-Match é o ETag atual do chamado")
+    })
+    public ResponseEntity<ChamadoResponseDTO> atualizar(@PathVariable @Parameter(description = "ID do Chamado: ") UUID id,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag (ou lista de ETags) lido do chamado") String ifMatch,
+                                                        @Valid @RequestBody @Parameter(description = "Dados do chamado atualizado: ") ChamadoRequestDTO requestDTO) {
+        return comVersao(chamadoService.atualizar(id, requestDTO, versaoEsperada(id, ifMatch)));
+    }
+
+    /**
+     * Altera o Status (ex: ABERTO para EM_ANDAMENTO) de um Chamado.
+     *
+     * @param id O UUID do Chamado cujo status será alterado.
+     * @param novoStatus O novo {@code Status} a ser aplicado ao chamado.
+     * @return {@code ResponseEntity} contendo o Chamado com o status atualizado e o status HTTP 200 (OK).
+     */
+    @PatchMapping("/{id}/status")
+    @Operation(
+            summary = "Alterar status do chamado",
+            description = "Valida transições: PAUSADO só pode ir para EM_ANDAMENTO, ENCERRADO não pode ser alterado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status alterado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Transição de status inválida"),
+            @ApiResponse(responseCode = "409", description = "Conflito de versão persistente após as tentativas"),
+            @ApiResponse(responseCode = "412", description = "Nenhum ETag forte do If-Match é o ETag atual do chamado")
+    })
+    public ResponseEntity<ChamadoResponseDTO> atualizarStatus(
+            @PathVariable @Parameter(description = "ID do chamado: ") UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag (ou lista de ETags) lido do chamado") String ifMatch,
+            @RequestBody @Parameter(description = "Novo status: ") Status novoStatus) {
+
+        Long versao = versaoEsperada(id, ifMatch);
+        ChamadoResponseDTO response = versao != null
+                ? chamadoService.alterarStatus(id, novoStatus, versao)
+                : retentativaOtimista.executar(() -> chamadoService.alterarStatus(id, novoStatus));
+        return comVersao(response);
+    }
+
+    /**
+     * Altera o Status de vários Chamados de uma vez (ex: encerrar os chamados de uma indisponibilidade resolvida).
+     *
+     * Cada Chamado passa pela mesma validação de transição da alteração individual; as falhas
+     * (inclusive um Chamado que continuou sendo alterado por outra requisição durante o lote)
+     * são reportadas por ID, sem impedir a alteração dos demais.
+     *
+     * @param requestDTO Os IDs dos Chamados e o novo Status.
+     * @return {@code ResponseEntity} contendo o resultado por Chamado e o status HTTP 200 (OK).
+     */
+    @PatchMapping("/status")
+    @Operation(
+            summary = "Alterar status de chamados em lote",
+            description = "Aplica o mesmo status a até " + ChamadoService.LIMITE_MAXIMO_LOTE + " chamados, em blocos com uma transação e um lote JDBC cada. Retorna sucesso ou falha por ID, inclusive para chamados alterados concorrentemente."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado (ver o resultado por chamado)"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, muito grande ou status ausente")
+    })
+    public ResponseEntity<ChamadoStatusLoteDTO> atualizarStatusEmLote(
+            @RequestBody @Valid @Parameter(description = "IDs e novo status") ChamadoStatusLoteRequestDTO requestDTO) {
+        return ResponseEntity.ok(chamadoService.alterarStatusEmLote(requestDTO.ids(), requestDTO.status()));
+    }
+
+
+    /**
+     * Atribui um técnico a um Chamado específico.
+     * @param id O UUID do Chamado ao qual o técnico será atribuído.
+     * @param requestDTO O DTO {@code ChamadoRequestDTO} contendo o ID do técnico a ser atribuído.
+     * @return {@code ResponseEntity} contendo o Chamado com o técnico atribuído e o status HTTP 200 (OK).
+     */
+    @PatchMapping("/{id}/atribuir")
+    @Operation(
+            summary = "Atribuir técnico ao chamado",
+            description = "Atribui técnico e auto-transiciona status ABERTO para EM_ANDAMENTO."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Técnico atribuído"),
+            @ApiResponse(responseCode = "409", description = "Conflito de versão persistente após as tentativas"),
+            @ApiResponse(responseCode = "412", description = "Nenhum ETag forte do If-Match é o ETag atual do chamado")
+    })
+    public ResponseEntity<ChamadoResponseDTO> atribuirTecnico(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag (ou lista de ETags) lido do chamado") String ifMatch,
+            @RequestBody @Parameter(description = "ID do técnico") ChamadoRequestDTO requestDTO) {
+        Long versao = versaoEsperada(id, ifMatch);
+        ChamadoResponseDTO response = versao != null
+                ? chamadoService.atribuirTecnico(id, requestDTO.tecnicoId(), versao)
+                : retentativaOtimista.executar(() -> chamadoService.atribuirTecnico(id, requestDTO.tecnicoId()));
+        return comVersao(response);
+    }
+
+
+    /**
+     * Altera o Status de um Chamado para FECHADO.
+     * @param id O UUID do Chamado a ser fechado.
+     * @return {@code ResponseEntity} contendo o Chamado com o status atualizado e o status HTTP 200 (OK).
+     */
+    @PatchMapping("/{id}/fechar")
+    @Operation(
+            summary = "Fechar chamado",
+            description = "Fedine status como ENCERRADO e registra data de fechamento. Não permite fechar chamados ABERTOS diretamente."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chamado fechado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Violação de regra de negócio (ex: Chamado ABERTO não pode ser fechado diretamente)"),
+            @ApiResponse(responseCode = "404", description = "Chamado não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Conflito de versão persistente após as tentativas"),
+            @ApiResponse(responseCode = "412", description = "Nenhum ETag forte do If-Match é o ETag atual do chamado")
+    })
+    public ResponseEntity<ChamadoResponseDTO> fechar(@PathVariable @Parameter(description = "ID do Chamado: ") UUID id,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag (ou lista de ETags) lido do chamado") String ifMatch) {
+        Long versao = versaoEsperada(id, ifMatch);
+        ChamadoResponseDTO response = versao != null
+                ? chamadoService.fechar(id, versao)
+                : retentativaOtimista.executar(() -> chamadoService.fechar(id));
+        return comVersao(response);
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    /**
+     * Responde 200 ao Chamado gravado com os mesmos validadores da busca por ID
+     * ({@code ETag} composto e {@code Last-Modified}).
+     *
+     * O corpo é relido junto com os validadores, depois da gravação. Se outra requisição gravou
+     * o Chamado nesse intervalo, a resposta leva o corpo da gravação sem validadores, em vez de
+     * associá-lo ao {@code ETag} de outro estado.
+     */
+    private ResponseEntity<ChamadoResponseDTO> comVersao(ChamadoResponseDTO chamado) {
+        LeituraVersionada<ChamadoResponseDTO> leitura = chamadoService.buscarComVersao(chamado.id());
+        if (!Objects.equals(leitura.corpo().versao(), chamado.versao())) {
+            return ResponseEntity.ok(chamado);
+        }
+        return LeituraCondicional.ok(leitura);
+    }
+
+    /**
+     * Lê a versão esperada do Chamado a partir do {@code If-Match}.
+     *
+     * O {@code If-Match} usa a comparação forte (RFC 9110): um dos ETags da lista precisa ser
+     * igual ao ETag atual do Chamado (o mesmo da busca por ID, {@code "3.1.2"}), e um ETag fraco
+     * ({@code W/"3.1.2"}) nunca é igual. A versão do Chamado do ETag aceito é verificada de novo
+     * na gravação, que falha se o Chamado mudar depois desta comparação.
+     *
+     * @param id O UUID do Chamado.
+     * @param ifMatch O valor do cabeçalho: um ETag, uma lista separada por vírgulas ou {@code *}.
+     * @return A versão do Chamado, ou {@code null} se o cabeçalho estiver ausente ou for {@code *}.
+     * @throws StaleVersionException Se nenhum ETag forte da lista for o atual (412).
+     */
+    private Long versaoEsperada(UUID id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        VersaoRecurso atual = chamadoService.versao(id);
+        String etagAtual = "\"" + atual.etag() + "\"";
+        for (String candidato : ifMatch.split(",")) {
+            if (candidato.trim().equals(etagAtual)) {
+                int fimVersao = atual.etag().indexOf('.');
+                return Long.valueOf(fimVersao < 0 ? atual.etag() : atual.etag().substring(0, fimVersao));
+            }
+        }
+        throw new StaleVersionException("Chamado", id, ifMatch.trim(), atual.etag());
+    }
+
+}
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.aethernet.helpdesk.controllers;
 
+import com.aethernet.helpdesk.domain.dto.request.ClienteLoteRequestDTO;
 import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ClienteLoteDTO;
 import com.aethernet.helpdesk.domain.dto.response.ClienteResponseDTO;
+import com.aethernet.helpdesk.services.ClienteLoteService;
 import com.aethernet.helpdesk.services.ClienteService;
+import com.aethernet.helpdesk.services.VersaoRecurso;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -31,13 +36,16 @@ import java.util.UUID;
 public class ClienteController {
 
     private final ClienteService clienteService;
+    private final ClienteLoteService clienteLoteService;
 
     /**
-     * Construtor para injeção de dependência do serviço de Cliente.
+     * Construtor para injeção de dependência dos serviços de Cliente.
      * @param clienteService O serviço de domínio responsável pela lógica de negócios dos Clientes.
+     * @param clienteLoteService O serviço de cadastro de Clientes em lote.
      */
-    public ClienteController(ClienteService clienteService) {
+    public ClienteController(ClienteService clienteService, ClienteLoteService clienteLoteService) {
         this.clienteService = clienteService;
+        this.clienteLoteService = clienteLoteService;
     }
 
     /**
@@ -71,11 +79,40 @@ public class ClienteController {
         return ResponseEntity.created(location).body(cliente);
     }
 
+    /**
+     * Cadastra vários Clientes de uma vez (ex: integração de um novo cliente corporativo).
+     *
+     * Cada Cliente é validado e verificado individualmente; os rejeitados são reportados por
+     * posição no lote, sem impedir o cadastro dos demais.
+     *
+     * @param requestDTO Os Clientes a cadastrar.
+     * @return {@code ResponseEntity} contendo o resultado por Cliente e o status HTTP 200 (OK).
+     */
+    @PostMapping("/lote")
+    @Operation(
+            summary = "Criar clientes em lote",
+            description = "Cadastra até 5000 clientes, com a unicidade de CPF e email verificada em memória e os INSERTs em lotes JDBC. Retorna sucesso ou falha por cliente."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado (ver o resultado por cliente)"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou muito grande")
+    })
+    public ResponseEntity<ClienteLoteDTO> criarEmLote(
+            @Valid @RequestBody @Parameter(description = "Clientes a cadastrar") ClienteLoteRequestDTO requestDTO) {
+        return ResponseEntity.ok(clienteLoteService.criarEmLote(requestDTO.clientes()));
+    }
+
     /**
      * Busca um Cliente específico pelo seu identificador único.
      *
+     * A leitura é condicional ({@code If-None-Match}/{@code If-Modified-Since}): se o cliente da API
+     * já tem a versão atual, a resposta é 304 sem carregar o Cliente. A resposta 200 leva a versão
+     * do Cliente carregado.
+     *
      * @param id O UUID do Cliente a ser buscado.
-     * @return {@code ResponseEntity} contendo o DTO de resposta do cliente encontrado e o status HTTP 200 (OK).
+     * @param cabecalhos Os cabeçalhos da requisição, com as condições opcionais.
+     * @return {@code ResponseEntity} contendo o DTO de resposta do cliente encontrado e o status HTTP 200 (OK),
+     *         ou 304 (Not Modified) sem corpo.
      * @throws com.aethernet.helpdesk.exceptions.EntityNotFoundException Se o Cliente com o ID fornecido não for encontrado.
      */
     @GetMapping("/{id}")
@@ -83,11 +120,18 @@ public class ClienteController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cliente encontrado",
                 content = @Content(schema = @Schema(implementation = ClienteResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Cliente não modificado"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
     })
-    public ResponseEntity<ClienteResponseDTO> buscarPorId(@PathVariable @Parameter(description = "ID do cliente (UUID)") UUID id) {
-        ClienteResponseDTO response = clienteService.buscarPorId(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ClienteResponseDTO> buscarPorId(@PathVariable @Parameter(description = "ID do cliente (UUID)") UUID id,
+                                                          @RequestHeader HttpHeaders cabecalhos) {
+        if (LeituraCondicional.condicional(cabecalhos)) {
+            VersaoRecurso atual = clienteService.versao(id);
+            if (LeituraCondicional.naoModificado(cabecalhos, atual)) {
+                return LeituraCondicional.naoModificada(atual);
+            }
+        }
+        return LeituraCondicional.ok(clienteService.buscarComVersao(id));
     }
 
     /**
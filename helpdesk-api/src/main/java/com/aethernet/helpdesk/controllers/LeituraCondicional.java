@@ -0,0 +1,104 @@
+package com.aethernet.helpdesk.controllers;
+
+import com.aethernet.helpdesk.services.LeituraVersionada;
+import com.aethernet.helpdesk.services.VersaoRecurso;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Leituras condicionais dos controladores: compara o {@code If-None-Match} (ou, na ausência dele,
+ * o {@code If-Modified-Since}) com os validadores atuais do recurso e monta as respostas 304 e 200.
+ *
+ * Numa requisição condicional, os validadores vêm primeiro de uma consulta à versão do recurso
+ * ({@link VersaoRecurso}): um cliente que já tem o estado atual recebe 304 sem que a entidade seja
+ * carregada ou o corpo serializado. A resposta 200 leva os validadores lidos junto com o corpo
+ * ({@link LeituraVersionada}), e não os da consulta anterior, que podem já não descrevê-lo.
+ */
+final class LeituraCondicional {
+
+    private LeituraCondicional() {
+    }
+
+    /**
+     * Indica se a requisição traz alguma condição ({@code If-None-Match} ou {@code If-Modified-Since}).
+     *
+     * Sem condição, não há 304 possível e a consulta à versão é dispensada: o recurso é lido
+     * direto, com os seus validadores.
+     *
+     * @param requisicao Os cabeçalhos da requisição.
+     * @return {@code true} se vale consultar a versão antes de carregar o recurso.
+     */
+    static boolean condicional(HttpHeaders requisicao) {
+        return requisicao.containsKey(HttpHeaders.IF_NONE_MATCH) || requisicao.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    /**
+     * Indica se o cliente já tem o estado atual do recurso.
+     *
+     * O {@code If-None-Match} usa a comparação fraca (RFC 9110), que ignora o prefixo {@code W/}.
+     * O {@code If-Modified-Since} só é considerado quando não há {@code If-None-Match}.
+     *
+     * @param requisicao Os cabeçalhos da requisição.
+     * @param atual Os validadores atuais do recurso.
+     * @return {@code true} se a resposta deve ser 304.
+     */
+    static boolean naoModificado(HttpHeaders requisicao, VersaoRecurso atual) {
+        if (requisicao.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            String etag = entreAspas(atual.etag());
+            for (String candidato : requisicao.getIfNoneMatch()) {
+                String valor = candidato.startsWith("W/") ? candidato.substring(2) : candidato;
+                if (valor.equals("*") || valor.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long desde = requisicao.getIfModifiedSince();
+        return desde >= 0 && atual.ultimaModificacao() != null && emSegundos(atual).toInstant().toEpochMilli() <= desde;
+    }
+
+    /**
+     * @return A resposta 304, com os validadores atuais e sem corpo.
+     */
+    static <T> ResponseEntity<T> naoModificada(VersaoRecurso atual) {
+        return validadores(ResponseEntity.status(HttpStatus.NOT_MODIFIED), atual).build();
+    }
+
+    /**
+     * @return A resposta 200 com o corpo e os validadores do recurso.
+     */
+    static <T> ResponseEntity<T> ok(T corpo, VersaoRecurso atual) {
+        return validadores(ResponseEntity.ok(), atual).body(corpo);
+    }
+
+    /**
+     * @return A resposta 200 com o corpo e os validadores lidos na mesma consulta.
+     */
+    static <T> ResponseEntity<T> ok(LeituraVersionada<T> leitura) {
+        return ok(leitura.corpo(), leitura.versao());
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private static ResponseEntity.BodyBuilder validadores(ResponseEntity.BodyBuilder resposta, VersaoRecurso atual) {
+        resposta.eTag(atual.etag());
+        if (atual.ultimaModificacao() != null) {
+            resposta.lastModified(emSegundos(atual));
+        }
+        return resposta;
+    }
+
+    /** O Last-Modified tem precisão de segundos; a comparação usa o mesmo valor enviado. */
+    private static ZonedDateTime emSegundos(VersaoRecurso atual) {
+        return atual.ultimaModificacao().atZone(ZoneId.systemDefault()).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static String entreAspas(String etag) {
+        return "\"" + etag + "\"";
+    }
+}
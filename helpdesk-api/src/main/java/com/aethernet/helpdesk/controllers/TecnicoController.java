@@ -3,6 +3,7 @@ package com.aethernet.helpdesk.controllers;
 import com.aethernet.helpdesk.domain.dto.request.TecnicoRequestDTO;
 import com.aethernet.helpdesk.domain.dto.response.TecnicoResponseDTO;
 import com.aethernet.helpdesk.services.TecnicoService;
+import com.aethernet.helpdesk.services.VersaoRecurso;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -71,8 +73,14 @@ public class TecnicoController {
     /**
      * Busca um Técnico específico pelo seu identificador único.
      *
+     * A leitura é condicional ({@code If-None-Match}/{@code If-Modified-Since}): se o cliente já tem
+     * a versão atual, a resposta é 304 sem carregar o Técnico. A resposta 200 leva a versão do
+     * Técnico carregado.
+     *
      * @param id O UUID do Técnico a ser buscado.
-     * @return {@code ResponseEntity} contendo o DTO de resposta do Técnico encontrado e o status HTTP 200 (OK).
+     * @param cabecalhos Os cabeçalhos da requisição, com as condições opcionais.
+     * @return {@code ResponseEntity} contendo o DTO de resposta do Técnico encontrado e o status HTTP 200 (OK),
+     *         ou 304 (Not Modified) sem corpo.
      * @throws com.aethernet.helpdesk.exceptions.EntityNotFoundException Se o Técnico não for encontrado.
      */
     @GetMapping("/{id}")// Buscar técnico por ID
@@ -80,24 +88,43 @@ public class TecnicoController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Técnico encontrado",
                 content = @Content(schema = @Schema(implementation = TecnicoResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Técnico não modificado"),
             @ApiResponse(responseCode = "404", description = "Técnico não encontrado")
     })
-    public ResponseEntity<TecnicoResponseDTO> buscarPorId(@PathVariable @Parameter(description = "ID do Técnico (UUID)") UUID id) {
-        TecnicoResponseDTO tecnico = tecnicoService.buscarPorId(id);
-        return ResponseEntity.ok(tecnico);
+    public ResponseEntity<TecnicoResponseDTO> buscarPorId(@PathVariable @Parameter(description = "ID do Técnico (UUID)") UUID id,
+                                                          @RequestHeader HttpHeaders cabecalhos) {
+        if (LeituraCondicional.condicional(cabecalhos)) {
+            VersaoRecurso atual = tecnicoService.versao(id);
+            if (LeituraCondicional.naoModificado(cabecalhos, atual)) {
+                return LeituraCondicional.naoModificada(atual);
+            }
+        }
+        return LeituraCondicional.ok(tecnicoService.buscarComVersao(id));
     }
 
     /**
      * Lista todos os Técnicos registrados no sistema.
      *
-     * @return {@code ResponseEntity} contendo uma lista de {@code TecnicoResponseDTO} e o status HTTP 200 (OK).
+     * A leitura é condicional ({@code If-None-Match}): se nenhum Técnico foi incluído, alterado ou
+     * excluído desde a lista do cliente, a resposta é 304 sem carregar os Técnicos.
+     *
+     * @param cabecalhos Os cabeçalhos da requisição, com as condições opcionais.
+     * @return {@code ResponseEntity} contendo uma lista de {@code TecnicoResponseDTO} e o status HTTP 200 (OK),
+     *         ou 304 (Not Modified) sem corpo.
      */
     @GetMapping // Listar todos os técnicos
     @Operation(summary = "Listar todos os técnicos", description = "Retorna a lista completa de técnicos cadastrados")
-    @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso")
-    public ResponseEntity<List<TecnicoResponseDTO>> listarTodos() {
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada")
+    })
+    public ResponseEntity<List<TecnicoResponseDTO>> listarTodos(@RequestHeader HttpHeaders cabecalhos) {
+        VersaoRecurso atual = tecnicoService.versaoLista();
+        if (LeituraCondicional.naoModificado(cabecalhos, atual)) {
+            return LeituraCondicional.naoModificada(atual);
+        }
         List<TecnicoResponseDTO> tecnicos = tecnicoService.listarTodos();
-        return ResponseEntity.ok(tecnicos);
+        return LeituraCondicional.ok(tecnicos, atual);
     }
 
     /**
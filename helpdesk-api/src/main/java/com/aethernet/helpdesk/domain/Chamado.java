@@ -0,0 +1,240 @@
+package com.aethernet.helpdesk.domain;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.id.UuidV7Id;
+import com.aethernet.helpdesk.sync.ChamadoRemocaoListener;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Representa a entidade de domínio "Chamado" (Ticket de Suporte).
+ *
+ * Mapeia para uma tabela no banco de dados e contém todos os atributos
+ * e relacionamentos necessários para gerenciar um ticket.
+ *
+ * Os índices e as chaves estrangeiras declarados espelham as migrações {@code V1__schema_inicial.sql}
+ * e {@code V2__indices_chamado.sql} (e {@code V8__chamado_sequencia_alteracao.sql}), para que o schema gerado pelo Hibernate no perfil de desenvolvimento (H2) seja equivalente.
+ *
+ * As chaves estrangeiras de Cliente e Técnico referenciam o par (id, tipo) de {@code pessoa},
+ * como em {@code V10__chamado_tipo_pessoa.sql}, para que o banco recuse uma Pessoa do tipo errado.
+ *
+ * A exclusão de um Chamado é anotada pelo {@link ChamadoRemocaoListener}, que grava a sua marca
+ * para a sincronização incremental.
+ */
+@Entity
+@EntityListeners(ChamadoRemocaoListener.class)
+@Table(indexes = {
+        @Index(name = "idx_chamado_abertura", columnList = "data_abertura, id"),
+        @Index(name = "idx_chamado_status_prioridade_abertura", columnList = "status, prioridade, data_abertura, id"),
+        @Index(name = "idx_chamado_status_abertura", columnList = "status, data_abertura, id"),
+        @Index(name = "idx_chamado_prioridade_abertura", columnList = "prioridade, data_abertura, id"),
+        @Index(name = "idx_chamado_cliente_abertura", columnList = "cliente_id, data_abertura, id"),
+        @Index(name = "idx_chamado_tecnico_abertura", columnList = "tecnico_id, data_abertura, id"),
+        @Index(name = "idx_chamado_sequencia_alteracao", columnList = "sequencia_alteracao", unique = true)
+})
+public class Chamado {
+
+    /**
+     * Identificador único (Primary Key) do Chamado.
+     * Gerado automaticamente como UUIDv7, ordenado pelo instante de criação.
+     */
+    @Id
+    @UuidV7Id
+    private UUID id;
+
+    /**
+     * Data e hora exata em que o Chamado foi aberto.
+     * É inicializada automaticamente no momento da criação da entidade.
+     */
+    private LocalDateTime dataAbertura = LocalDateTime.now();
+
+    /**
+     * Data e hora em que o Chamado foi encerrado.
+     * Este campo é preenchido quando o status é alterado para {@code ENCERRADO}.
+     */
+    private LocalDateTime dataFechamento;
+
+    /**
+     * Nível de Prioridade do Chamado (ex: BAIXA, MEDIA, ALTA).
+     * O mapeamento é feito por nome (String) para maior legibilidade no banco de dados.
+     */
+    @Enumerated(EnumType.STRING)
+    private Prioridade prioridade;
+
+    /**
+     * Status atual do Chamado (ex: ABERTO, EM_ANDAMENTO, ENCERRADO).
+     * O mapeamento é feito por nome (String).
+     */
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    /**
+     * Título breve do Chamado.
+     */
+    private String titulo;
+
+    /**
+     * Descrição detalhada do problema ou solicitação.
+     * O comprimento máximo é estendido para 2000 caracteres para acomodar descrições longas.
+     */
+    @Column(length = 2000)
+    private String observacoes;
+
+    /**
+     * O Cliente que abriu o Chamado.
+     * Relacionamento Many-to-One: Muitos Chamados para um Cliente.
+     * A coluna {@code cliente_id} não pode ser nula ({@code nullable = false}).
+     */
+    @ManyToOne
+    @JoinColumn(name = "cliente_id", nullable = false, foreignKey = @ForeignKey(name = "fk_chamado_cliente",
+            foreignKeyDefinition = "foreign key (cliente_id, cliente_tipo) references pessoa (id, tipo)"))
+    private Cliente cliente;
+
+    /**
+     * Tipo fixo da Pessoa referenciada por {@code cliente_id}, parte da chave estrangeira {@code fk_chamado_cliente}.
+     */
+    @Column(length = 20, nullable = false, updatable = false)
+    @Check(name = "ck_chamado_cliente_tipo", constraints = "cliente_tipo = 'CLIENTE'")
+    private String clienteTipo = "CLIENTE";
+
+    /**
+     * O Técnico responsável por resolver o Chamado.
+     * Relacionamento Many-to-One: Muitos Chamados para um Técnico.
+     * A coluna {@code tecnico_id} pode ser nula, pois a atribuição pode ser posterior à abertura.
+     */
+    @ManyToOne
+    @JoinColumn(name = "tecnico_id", foreignKey = @ForeignKey(name = "fk_chamado_tecnico",
+            foreignKeyDefinition = "foreign key (tecnico_id, tecnico_tipo) references pessoa (id, tipo)"))
+    private Tecnico tecnico;
+
+    /**
+     * Tipo fixo da Pessoa referenciada por {@code tecnico_id}, parte da chave estrangeira {@code fk_chamado_tecnico}.
+     * Com {@code tecnico_id} nulo a chave não é verificada.
+     */
+    @Column(length = 20, nullable = false, updatable = false)
+    @Check(name = "ck_chamado_tecnico_tipo", constraints = "tecnico_tipo = 'TECNICO'")
+    private String tecnicoTipo = "TECNICO";
+
+    /**
+     * Versão do Chamado para o controle de concorrência otimista.
+     * Incrementada pelo Hibernate a cada UPDATE; uma gravação a partir de uma versão
+     * desatualizada falha em vez de sobrescrever a alteração concorrente.
+     */
+    @Version
+    private Long versao;
+
+    /**
+     * Posição da última alteração do Chamado na sequência usada pela sincronização incremental.
+     * Atribuída no commit pelo {@code ChamadoSequenciador}; o Hibernate nunca grava esta coluna.
+     */
+    @Column(insertable = false, updatable = false)
+    private Long sequenciaAlteracao;
+
+    /**
+     * Data e hora da última gravação do Chamado, preenchida pelo Hibernate no INSERT e em cada UPDATE.
+     * Exposta, com a versão, nos cabeçalhos {@code Last-Modified} e {@code ETag} das leituras.
+     */
+    @UpdateTimestamp
+    private LocalDateTime dataAtualizacao;
+
+    /**
+     * Método utilitário para fechar o Chamado.
+     *
+     * Define o status como {@code ENCERRADO} e registra a data e hora atual
+     * como a data de fechamento.
+     */
+    public void fechar() {
+        this.status = Status.ENCERRADO;
+        this.dataFechamento = LocalDateTime.now();
+    }
+
+    // Getters e Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public Long getSequenciaAlteracao() {
+        return sequenciaAlteracao;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public LocalDateTime getDataAbertura() {
+        return dataAbertura;
+    }
+
+    public void setDataAbertura(LocalDateTime dataAbertura) {
+        this.dataAbertura = dataAbertura;
+    }
+
+    public LocalDateTime getDataFechamento() {
+        return dataFechamento;
+    }
+
+    public void setDataFechamento(LocalDateTime dataFechamento) {
+        this.dataFechamento = dataFechamento;
+    }
+
+    public Prioridade getPrioridade() {
+        return prioridade;
+    }
+
+    public void setPrioridade(Prioridade prioridade) {
+        this.prioridade = prioridade;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public void setTitulo(String titulo) {
+        this.titulo = titulo;
+    }
+
+    public String getObservacoes() {
+        return observacoes;
+    }
+
+    public void setObservacoes(String observacoes) {
+        this.observacoes = observacoes;
+    }
+
+    public Cliente getCliente() {
+        return cliente;
+    }
+
+    public void setCliente(Cliente cliente) {
+        this.cliente = cliente;
+    }
+
+    public Tecnico getTecnico() {
+        return tecnico;
+    }
+
+    public void setTecnico(Tecnico tecnico) {
+        this.tecnico = tecnico;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.aethernet.helpdesk.domain;
+
+import com.aethernet.helpdesk.domain.enums.Status;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Registro imutável de uma mudança de Status ou de Técnico de um Chamado.
+ *
+ * A tabela é apenas acrescida: cada registro é gravado uma vez, em lote, pelo
+ * {@code ChamadoHistoricoWriter}. Os registros de um Chamado são ordenados pela versão do Chamado
+ * gravada pela mudança, que segue a ordem dos commits mesmo quando os eventos chegam fora de
+ * ordem, e serve de cursor na listagem. Só a duração de um registro pode ser corrigida depois,
+ * quando um registro anterior a ele chega atrasado.
+ *
+ * Os índices espelham as migrações {@code V6__chamado_historico.sql} e
+ * {@code V11__chamado_historico_versao.sql}.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_chamado_historico_chamado", columnList = "chamado_id, versao_chamado"),
+        @Index(name = "idx_chamado_historico_status", columnList = "status_anterior")
+})
+@Immutable
+public class ChamadoHistorico {
+
+    /** Identificador (UUIDv7) do registro. */
+    @Id
+    private UUID id;
+
+    /** O Chamado alterado. */
+    @Column(name = "chamado_id", nullable = false)
+    private UUID chamadoId;
+
+    /**
+     * A versão do Chamado gravada pela mudança. Negativa nos registros anteriores à coluna.
+     */
+    @Column(name = "versao_chamado", nullable = false)
+    private Long versaoChamado;
+
+    /** Data e hora da mudança, gravada na transação da alteração. */
+    @Column(nullable = false)
+    private LocalDateTime dataRegistro;
+
+    /** Status antes da mudança ({@code null} na abertura). */
+    @Enumerated(EnumType.STRING)
+    private Status statusAnterior;
+
+    /** Status após a mudança. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status statusNovo;
+
+    /** Técnico antes da mudança ({@code null} se não houver). */
+    private UUID tecnicoAnteriorId;
+
+    /** Técnico após a mudança ({@code null} se não houver). */
+    private UUID tecnicoNovoId;
+
+    /**
+     * Tempo, em milissegundos, que o Chamado passou em {@code statusAnterior}: a distância até o
+     * registro anterior do mesmo Chamado. Somado por {@code statusAnterior}, dá o tempo em cada
+     * Status sem reconstituir a linha do tempo. É {@code null} na abertura e quando o registro
+     * anterior não existe (Chamados importados ou anteriores ao histórico).
+     */
+    private Long duracaoAnteriorMs;
+
+    protected ChamadoHistorico() {
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getChamadoId() {
+        return chamadoId;
+    }
+
+    public Long getVersaoChamado() {
+        return versaoChamado;
+    }
+
+    public LocalDateTime getDataRegistro() {
+        return dataRegistro;
+    }
+
+    public Status getStatusAnterior() {
+        return statusAnterior;
+    }
+
+    public Status getStatusNovo() {
+        return statusNovo;
+    }
+
+    public UUID getTecnicoAnteriorId() {
+        return tecnicoAnteriorId;
+    }
+
+    public UUID getTecnicoNovoId() {
+        return tecnicoNovoId;
+    }
+
+    public Long getDuracaoAnteriorMs() {
+        return duracaoAnteriorMs;
+    }
+}
@@ -0,0 +1,50 @@
+package com.aethernet.helpdesk.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Marca ("tombstone") de um Chamado excluído, para que a sincronização incremental avise os
+ * clientes que ainda o têm em cache.
+ *
+ * Recebe uma posição na mesma sequência das alterações de Chamado. Gravada pelo
+ * {@code ChamadoSequenciador} no commit da exclusão. Espelha a migração
+ * {@code V8__chamado_sequencia_alteracao.sql}.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_chamado_remocao_sequencia", columnList = "sequencia_alteracao", unique = true)
+})
+@Immutable
+public class ChamadoRemocao {
+
+    /** O Chamado excluído. */
+    @Id
+    private UUID chamadoId;
+
+    /** A posição da exclusão na sequência de alterações. */
+    @Column(nullable = false)
+    private Long sequenciaAlteracao;
+
+    /** Data e hora da exclusão. */
+    @Column(nullable = false)
+    private LocalDateTime dataRemocao;
+
+    protected ChamadoRemocao() {
+    }
+
+    public UUID getChamadoId() {
+        return chamadoId;
+    }
+
+    public Long getSequenciaAlteracao() {
+        return sequenciaAlteracao;
+    }
+
+    public LocalDateTime getDataRemocao() {
+        return dataRemocao;
+    }
+}
@@ -0,0 +1,40 @@
+package com.aethernet.helpdesk.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Contador da sequência de alterações de Chamados, usada na sincronização incremental.
+ *
+ * A tabela tem uma única linha ({@link #ID}). O {@code ChamadoSequenciador} incrementa o valor
+ * no fim de cada transação que altera Chamados; o bloqueio da linha até o commit faz com que as
+ * sequências sejam confirmadas na ordem em que são atribuídas. Espelha a migração
+ * {@code V8__chamado_sequencia_alteracao.sql}.
+ */
+@Entity
+@Table(name = "chamado_sequencia")
+public class ChamadoSequencia {
+
+    /** O ID da única linha da tabela. */
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    /** A última sequência atribuída. */
+    @Column(nullable = false)
+    private Long valor;
+
+    protected ChamadoSequencia() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Long getValor() {
+        return valor;
+    }
+}
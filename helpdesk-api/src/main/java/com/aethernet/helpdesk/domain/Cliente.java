@@ -1,9 +1,11 @@
 package com.aethernet.helpdesk.domain;
 
 import com.aethernet.helpdesk.domain.enums.Perfil;
+import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 
 @Entity
+@DiscriminatorValue("CLIENTE")
 public class Cliente extends Pessoa {
     public Cliente() {
         super();
@@ -0,0 +1,87 @@
+package com.aethernet.helpdesk.domain;
+
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de domínio de Chamado aguardando entrega aos sistemas externos (padrão "outbox").
+ *
+ * É gravado na mesma transação da alteração do Chamado, pelo {@code ChamadoOutboxWriter}: o evento
+ * existe se, e somente se, a alteração foi confirmada. O {@code ChamadoOutboxRelay} entrega os
+ * eventos pendentes em ordem de ID e preenche {@code dataPublicacao}.
+ *
+ * O writer insere os eventos em lote JDBC; a entidade serve às leituras. O ID vem de uma
+ * sequência do banco, atribuída no INSERT. Como as alterações de um mesmo Chamado
+ * são serializadas pelo bloqueio da sua linha, a ordem dos IDs é a ordem das alterações de cada
+ * Chamado. Os índices espelham a migração {@code V7__outbox_evento.sql} (no Postgres, o índice
+ * dos pendentes é parcial).
+ */
+@Entity
+@Table(name = "outbox_evento", indexes = {
+        @Index(name = "idx_outbox_evento_pendente", columnList = "data_publicacao, id")
+})
+public class OutboxEvento {
+
+    /** Sequência do evento, crescente na ordem de gravação. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** O Chamado alterado. */
+    @Column(name = "chamado_id", nullable = false)
+    private UUID chamadoId;
+
+    /** A operação que alterou o Chamado. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ChamadoAlteradoEvent.Tipo tipo;
+
+    /** O {@link ChamadoAlteradoEvent} serializado em JSON. */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    /** Data e hora da gravação (o commit da alteração ocorre logo em seguida). */
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao;
+
+    /** Data e hora da entrega ({@code null} enquanto pendente). */
+    private LocalDateTime dataPublicacao;
+
+    protected OutboxEvento() {
+    }
+
+    public OutboxEvento(UUID chamadoId, ChamadoAlteradoEvent.Tipo tipo, String payload, LocalDateTime dataCriacao) {
+        this.chamadoId = chamadoId;
+        this.tipo = tipo;
+        this.payload = payload;
+        this.dataCriacao = dataCriacao;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getChamadoId() {
+        return chamadoId;
+    }
+
+    public ChamadoAlteradoEvent.Tipo getTipo() {
+        return tipo;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public LocalDateTime getDataPublicacao() {
+        return dataPublicacao;
+    }
+}
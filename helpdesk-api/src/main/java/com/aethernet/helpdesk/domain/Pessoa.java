@@ -0,0 +1,194 @@
+package com.aethernet.helpdesk.domain;
+
+import com.aethernet.helpdesk.domain.converters.PerfisConverter;
+import com.aethernet.helpdesk.domain.enums.Perfil;
+import com.aethernet.helpdesk.domain.id.UuidV7Id;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Classe base abstrata para todas as entidades de usuário (Cliente e Técnico) do sistema.
+ *
+ * Implementa atributos e métodos comuns, além de configurar a estratégia de herança
+ * usando SINGLE_TABLE: Clientes e Técnicos ficam na tabela 'pessoa', distinguidos pela
+ * coluna 'tipo'. Como as subclasses não têm colunas próprias, ler uma Pessoa (ou os nomes
+ * de Cliente e Técnico de um Chamado) não exige junção com outra tabela.
+ *
+ * As restrições de unicidade têm os nomes da migração {@code V1__schema_inicial.sql}, pelos
+ * quais os serviços identificam um CPF ou Email duplicado ao gravar. O par (id, tipo) também é
+ * único, como em {@code V10__chamado_tipo_pessoa.sql}, por ser o alvo das chaves estrangeiras
+ * de Chamado que verificam o tipo da Pessoa.
+ *
+ * A hierarquia fica no cache de segundo nível (ver {@code SegundoNivelCacheConfig});
+ * o {@code @Cache} da raiz vale para Cliente e Técnico.
+ *
+ * A versão e a data da última alteração identificam o estado da Pessoa nos cabeçalhos
+ * {@code ETag} e {@code Last-Modified} das leituras, e ficam na migração
+ * {@code V9__versao_leituras_condicionais.sql}.
+ */
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pessoa_cpf", columnNames = "cpf"),
+        @UniqueConstraint(name = "uk_pessoa_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_pessoa_id_tipo", columnNames = {"id", "tipo"})
+})
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@DiscriminatorColumn(name = "tipo", length = 20)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pessoa")
+public abstract class Pessoa {
+
+    /**
+     * Identificador único (Primary Key) da Pessoa.
+     * Gerado automaticamente como UUIDv7, ordenado pelo instante de criação.
+     */
+    @Id
+    @UuidV7Id
+    private UUID id;
+
+    /**
+     * Nome completo da Pessoa.
+     */
+    private String nome;
+
+    /**
+     * Cadastro de Pessoa Física (CPF).
+     * Deve ser único e não pode ser nulo. O tamanho é restrito a 11 caracteres.
+     */
+    @Column(nullable = false, length = 11)
+    private String cpf;
+
+    /**
+     * Endereço de e-mail da Pessoa.
+     * Deve ser único, não pode ser nulo e é validado como um formato de e-mail.
+     */
+    @Column(nullable = false)
+    @Email
+    private String email;
+
+    /**
+     * Senha de acesso da Pessoa.
+     */
+    private String senha;
+
+    /**
+     * Conjunto de Perfis (Roles) associados à Pessoa (ex: CLIENTE, TECNICO, ADMIN).
+     * Gravado como máscara de bits na coluna 'perfis' (ver {@link PerfisConverter}),
+     * carregada na mesma linha da Pessoa. O conjunto é substituído, e não alterado,
+     * a cada mudança, para que o Hibernate detecte a alteração.
+     */
+    @Convert(converter = PerfisConverter.class)
+    @Column(nullable = false)
+    private Set<Perfil> perfis = EnumSet.noneOf(Perfil.class);
+
+    /**
+     * Data e hora em que o registro da Pessoa foi criado.
+     * Inicializada automaticamente.
+     */
+    private LocalDateTime dataCriacao = LocalDateTime.now();
+
+    /**
+     * Versão da Pessoa para o controle de concorrência otimista.
+     * Incrementada pelo Hibernate a cada UPDATE; exposta como {@code ETag} nas leituras.
+     */
+    @Version
+    private Long versao;
+
+    /**
+     * Data e hora da última gravação da Pessoa, preenchida pelo Hibernate no INSERT e em cada UPDATE.
+     * Exposta como {@code Last-Modified} nas leituras.
+     */
+    @UpdateTimestamp
+    private LocalDateTime dataAtualizacao;
+
+    /**
+     * Construtor padrão protegido.
+     * Garante que toda Pessoa criada, por padrão, tenha o perfil de {@code CLIENTE}.
+     */
+    protected Pessoa() {
+        this.perfis = EnumSet.noneOf(Perfil.class);
+        this.dataCriacao = LocalDateTime.now();
+    }
+
+    /**
+     * Adiciona um novo Perfil (Role) ao conjunto de perfis da Pessoa.
+     *
+     * @param perfil O {@code Perfil} a ser adicionado.
+     */
+    public void addPerfil(Perfil perfil) {
+        EnumSet<Perfil> novos = EnumSet.of(perfil);
+        novos.addAll(this.perfis);
+        this.perfis = novos;
+    }
+
+    // --- Getters e Setters ---
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getCpf() {
+        return cpf;
+    }
+
+    public void setCpf(String cpf) {
+        this.cpf = cpf;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getSenha() {
+        return senha;
+    }
+
+    public void setSenha(String senha) {
+        this.senha = senha;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public Set<Perfil> getPerfis() {
+        return Collections.unmodifiableSet(perfis);
+    }
+
+    public void setPerfis(Set<Perfil> perfis) {
+        this.perfis = perfis == null || perfis.isEmpty() ? EnumSet.noneOf(Perfil.class) : EnumSet.copyOf(perfis);
+    }
+}
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.aethernet.helpdesk.domain;
 
 import com.aethernet.helpdesk.domain.enums.Perfil;
+import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 
 @Entity
+@DiscriminatorValue("TECNICO")
 public class Tecnico extends Pessoa {
     public Tecnico() {
         super();
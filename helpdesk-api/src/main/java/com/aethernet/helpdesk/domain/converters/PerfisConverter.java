@@ -0,0 +1,46 @@
+package com.aethernet.helpdesk.domain.converters;
+
+import com.aethernet.helpdesk.domain.enums.Perfil;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Persiste o conjunto de Perfis de uma Pessoa como uma máscara de bits em uma única coluna inteira.
+ *
+ * Cada Perfil ocupa o bit de posição {@link Perfil#getCodigo()} (ADMIN = 1, CLIENTE = 2, TECNICO = 4),
+ * de modo que os perfis são lidos com a própria linha de {@code pessoa}, sem tabela auxiliar.
+ */
+@Converter
+public class PerfisConverter implements AttributeConverter<Set<Perfil>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<Perfil> perfis) {
+        int mascara = 0;
+        if (perfis != null) {
+            for (Perfil perfil : perfis) {
+                mascara |= bit(perfil);
+            }
+        }
+        return mascara;
+    }
+
+    @Override
+    public Set<Perfil> convertToEntityAttribute(Integer mascara) {
+        EnumSet<Perfil> perfis = EnumSet.noneOf(Perfil.class);
+        if (mascara != null) {
+            for (Perfil perfil : Perfil.values()) {
+                if ((mascara & bit(perfil)) != 0) {
+                    perfis.add(perfil);
+                }
+            }
+        }
+        return perfis;
+    }
+
+    private static int bit(Perfil perfil) {
+        return 1 << perfil.getCodigo();
+    }
+}
@@ -0,0 +1,29 @@
+package com.aethernet.helpdesk.domain.dto.request;
+
+import com.aethernet.helpdesk.domain.enums.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de requisição para alterar o Status de vários Chamados de uma vez.
+ *
+ * @param ids Os UUIDs dos Chamados a alterar. É obrigatório e limitado a 1000 IDs.
+ * @param status O novo Status a aplicar a todos os Chamados. É obrigatório.
+ */
+@Schema(description = "Alteração de status em lote")
+public record ChamadoStatusLoteRequestDTO(
+
+        @NotEmpty(message = "Informe ao menos um chamado")
+        @Size(max = 1000, message = "O lote deve ter no máximo 1000 chamados")
+        @Schema(description = "IDs dos chamados", example = "[\"d290f1ee-6c54-4b01-90e6-d701748f0851\"]")
+        List<@NotNull UUID> ids,
+
+        @NotNull(message = "Status é obrigatório")
+        @Schema(description = "Novo status dos chamados", example = "ENCERRADO")
+        Status status
+) {}
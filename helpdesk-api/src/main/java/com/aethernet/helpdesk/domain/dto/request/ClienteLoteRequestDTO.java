@@ -0,0 +1,25 @@
+package com.aethernet.helpdesk.domain.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO de requisição para cadastrar vários Clientes de uma vez.
+ *
+ * <p>Os Clientes não são validados em conjunto: cada um é validado individualmente no
+ * processamento do lote, e os inválidos são reportados sem impedir o cadastro dos demais.</p>
+ *
+ * @param clientes Os Clientes a cadastrar. É obrigatório e limitado a 5000 Clientes.
+ */
+@Schema(description = "Cadastro de clientes em lote")
+public record ClienteLoteRequestDTO(
+
+        @NotEmpty(message = "Informe ao menos um cliente")
+        @Size(max = 5000, message = "O lote deve ter no máximo 5000 clientes")
+        @Schema(description = "Clientes a cadastrar")
+        List<@NotNull ClienteRequestDTO> clientes
+) {}
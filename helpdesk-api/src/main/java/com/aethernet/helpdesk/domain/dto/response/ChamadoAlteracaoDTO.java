@@ -0,0 +1,18 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import java.util.UUID;
+
+/**
+ * DTO de resposta com uma alteração da sincronização incremental de Chamados.
+ *
+ * @param sequencia A posição da alteração na sequência.
+ * @param id O ID do Chamado.
+ * @param removido Indica que o Chamado foi excluído ("tombstone"): o cliente deve descartá-lo.
+ * @param chamado O estado atual do Chamado, ou {@code null} se ele foi excluído.
+ */
+public record ChamadoAlteracaoDTO(
+        long sequencia,
+        UUID id,
+        boolean removido,
+        ChamadoResponseDTO chamado
+) {}
@@ -0,0 +1,19 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da sincronização incremental: os Chamados alterados depois de um cursor.
+ *
+ * @param alteracoes As alterações, em ordem de sequência; cada Chamado aparece uma única vez,
+ *                   no estado atual.
+ * @param cursor O cursor da próxima chamada ({@code since}): a sequência da última alteração
+ *               devolvida ou, se não houver mais, a última sequência confirmada.
+ * @param temMais Indica que há mais alterações além do limite: o cliente deve chamar de novo
+ *                a partir de {@code cursor}.
+ */
+public record ChamadoAlteracoesDTO(
+        List<ChamadoAlteracaoDTO> alteracoes,
+        long cursor,
+        boolean temMais
+) {}
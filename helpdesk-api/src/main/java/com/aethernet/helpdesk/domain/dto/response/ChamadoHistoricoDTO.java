@@ -0,0 +1,29 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO com uma mudança de Status ou de Técnico de um Chamado.
+ *
+ * @param id O identificador do registro.
+ * @param versaoChamado A versão do Chamado gravada pela mudança, que ordena o histórico (também usada como cursor).
+ * @param dataRegistro A data e hora da mudança.
+ * @param statusAnterior O Status antes da mudança ({@code null} na abertura).
+ * @param statusNovo O Status após a mudança.
+ * @param tecnicoAnteriorId O Técnico antes da mudança (pode ser nulo).
+ * @param tecnicoNovoId O Técnico após a mudança (pode ser nulo).
+ * @param duracaoAnteriorMs O tempo passado no Status anterior, em milissegundos (pode ser nulo).
+ */
+public record ChamadoHistoricoDTO(
+        UUID id,
+        Long versaoChamado,
+        LocalDateTime dataRegistro,
+        Status statusAnterior,
+        Status statusNovo,
+        UUID tecnicoAnteriorId,
+        UUID tecnicoNovoId,
+        Long duracaoAnteriorMs
+) {}
@@ -0,0 +1,14 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO de resposta com uma fatia do histórico de um Chamado, paginada por cursor.
+ *
+ * @param itens Os registros da fatia, do mais antigo para o mais novo.
+ * @param proximoCursor O cursor opaco da próxima fatia, ou {@code null} se esta for a última.
+ */
+public record ChamadoHistoricoSliceDTO(
+        List<ChamadoHistoricoDTO> itens,
+        String proximoCursor
+) {}
@@ -0,0 +1,29 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+
+import java.util.UUID;
+
+/**
+ * DTO com a notificação de uma alteração de Chamado, enviada pelo feed ao vivo (SSE).
+ *
+ * Traz apenas a classificação atual do Chamado; os demais dados devem ser lidos em
+ * {@code GET /api/chamados/{id}} quando necessário.
+ *
+ * @param chamadoId O identificador do Chamado alterado.
+ * @param tipo A operação que alterou o Chamado.
+ * @param titulo O título atual do Chamado.
+ * @param status O Status atual.
+ * @param prioridade A Prioridade atual.
+ * @param tecnicoId O Técnico atual (pode ser nulo).
+ */
+public record ChamadoNotificacaoDTO(
+        UUID chamadoId,
+        ChamadoAlteradoEvent.Tipo tipo,
+        String titulo,
+        Status status,
+        Prioridade prioridade,
+        UUID tecnicoId
+) {}
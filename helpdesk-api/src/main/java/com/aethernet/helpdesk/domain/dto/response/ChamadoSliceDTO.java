@@ -0,0 +1,18 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) de resposta que representa uma fatia de Chamados
+ * obtida por paginação baseada em cursor (keyset).
+ *
+ * <p>Não carrega a contagem total de registros: o cliente da API avança
+ * usando apenas o cursor opaco da próxima fatia.</p>
+ *
+ * @param itens Os Chamados da fatia atual, ordenados por data de abertura e ID.
+ * @param proximoCursor O cursor opaco para buscar a próxima fatia, ou {@code null} se esta for a última.
+ */
+public record ChamadoSliceDTO(
+        List<ChamadoResponseDTO> itens,
+        String proximoCursor
+) {}
@@ -0,0 +1,29 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO com os totais de Chamados para o painel de acompanhamento.
+ *
+ * @param total A quantidade total de Chamados.
+ * @param porStatus Os totais por {@code Status}.
+ * @param porPrioridade Os totais por {@code Prioridade}.
+ * @param porStatusEPrioridade Os totais por {@code Status} e, dentro de cada um, por {@code Prioridade}.
+ * @param porTecnico Os totais por ID de Técnico (somente Chamados com técnico atribuído).
+ * @param semTecnico A quantidade de Chamados sem técnico atribuído.
+ * @param ultimaReconciliacao O momento da última reconciliação dos contadores com o banco.
+ */
+public record ChamadoStatsDTO(
+        long total,
+        Map<Status, Long> porStatus,
+        Map<Prioridade, Long> porPrioridade,
+        Map<Status, Map<Prioridade, Long>> porStatusEPrioridade,
+        Map<UUID, Long> porTecnico,
+        long semTecnico,
+        LocalDateTime ultimaReconciliacao
+) {}
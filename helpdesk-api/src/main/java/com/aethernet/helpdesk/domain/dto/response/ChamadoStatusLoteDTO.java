@@ -0,0 +1,40 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resposta da alteração de status em lote, com o resultado de cada Chamado.
+ *
+ * @param status O Status aplicado.
+ * @param sucessos A quantidade de Chamados alterados.
+ * @param falhas A quantidade de Chamados não alterados.
+ * @param resultados O resultado por Chamado, na ordem dos IDs recebidos (IDs repetidos aparecem uma vez).
+ */
+public record ChamadoStatusLoteDTO(
+        Status status,
+        int sucessos,
+        int falhas,
+        List<Resultado> resultados
+) {
+
+    /**
+     * O resultado da alteração de um Chamado.
+     *
+     * @param id O UUID do Chamado.
+     * @param sucesso {@code true} se o Status foi alterado.
+     * @param erro O motivo da falha ({@code null} em caso de sucesso).
+     */
+    public record Resultado(UUID id, boolean sucesso, String erro) {
+
+        public static Resultado ok(UUID id) {
+            return new Resultado(id, true, null);
+        }
+
+        public static Resultado falha(UUID id, String erro) {
+            return new Resultado(id, false, erro);
+        }
+    }
+}
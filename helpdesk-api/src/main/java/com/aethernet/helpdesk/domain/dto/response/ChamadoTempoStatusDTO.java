@@ -0,0 +1,19 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO com o tempo que um Chamado passou em cada Status, calculado a partir do histórico.
+ *
+ * @param chamadoId O identificador do Chamado.
+ * @param statusAtual O Status do último registro do histórico.
+ * @param tempoMs O tempo em cada Status, em milissegundos, incluindo o Status atual até agora.
+ */
+public record ChamadoTempoStatusDTO(
+        UUID chamadoId,
+        Status statusAtual,
+        Map<Status, Long> tempoMs
+) {}
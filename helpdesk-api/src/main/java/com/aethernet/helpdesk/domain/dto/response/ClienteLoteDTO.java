@@ -0,0 +1,37 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resposta do cadastro de Clientes em lote, com o resultado de cada Cliente.
+ *
+ * @param criados A quantidade de Clientes cadastrados.
+ * @param rejeitados A quantidade de Clientes não cadastrados.
+ * @param resultados O resultado por Cliente, na ordem recebida.
+ */
+public record ClienteLoteDTO(
+        int criados,
+        int rejeitados,
+        List<Resultado> resultados
+) {
+
+    /**
+     * O resultado do cadastro de um Cliente.
+     *
+     * @param indice A posição do Cliente no lote (a partir de 0).
+     * @param id O UUID do Cliente criado ({@code null} em caso de falha).
+     * @param sucesso {@code true} se o Cliente foi cadastrado.
+     * @param erro O motivo da falha ({@code null} em caso de sucesso).
+     */
+    public record Resultado(int indice, UUID id, boolean sucesso, String erro) {
+
+        public static Resultado ok(int indice, UUID id) {
+            return new Resultado(indice, id, true, null);
+        }
+
+        public static Resultado falha(int indice, String erro) {
+            return new Resultado(indice, null, false, erro);
+        }
+    }
+}
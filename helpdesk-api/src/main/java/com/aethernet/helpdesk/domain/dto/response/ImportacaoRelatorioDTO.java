@@ -0,0 +1,33 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO com o resultado de uma importação em massa de Chamados.
+ *
+ * @param modo O mecanismo de gravação usado ({@code JDBC_BATCH} ou {@code COPY}).
+ * @param registrosLidos A quantidade de registros lidos (sem o cabeçalho).
+ * @param importados A quantidade de Chamados inseridos.
+ * @param rejeitados A quantidade de registros rejeitados.
+ * @param rejeicoes As primeiras rejeições, com a linha e o motivo (limitado).
+ * @param duracaoMs A duração da importação, em milissegundos.
+ * @param chamadosPorSegundo A vazão de inserção.
+ */
+public record ImportacaoRelatorioDTO(
+        String modo,
+        long registrosLidos,
+        long importados,
+        long rejeitados,
+        List<Rejeicao> rejeicoes,
+        long duracaoMs,
+        double chamadosPorSegundo
+) {
+
+    /**
+     * Um registro rejeitado.
+     *
+     * @param linha A linha do registro no arquivo.
+     * @param motivo O motivo da rejeição.
+     */
+    public record Rejeicao(long linha, String motivo) {}
+}
@@ -0,0 +1,25 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.enums.TipoPrazoSla;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO com um prazo de SLA de um Chamado em aberto.
+ *
+ * @param chamadoId O identificador do Chamado.
+ * @param status O status atual do Chamado.
+ * @param prioridade A prioridade do Chamado.
+ * @param tipo O prazo acompanhado (resposta ou resolução).
+ * @param prazo O instante do prazo.
+ */
+public record SlaPrazoDTO(
+        UUID chamadoId,
+        Status status,
+        Prioridade prioridade,
+        TipoPrazoSla tipo,
+        LocalDateTime prazo
+) {}
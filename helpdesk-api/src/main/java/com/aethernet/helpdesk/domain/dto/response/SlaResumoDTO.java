@@ -0,0 +1,27 @@
+package com.aethernet.helpdesk.domain.dto.response;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.TipoPrazoSla;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO com a situação dos prazos de SLA dos Chamados em aberto.
+ *
+ * @param violacoes As violações de prazo desde a inicialização, por tipo de prazo e prioridade.
+ * @param totalViolados A quantidade de prazos vencidos de Chamados ainda em aberto.
+ * @param violados Os prazos vencidos de Chamados em aberto, do mais antigo ao mais recente (limitado).
+ * @param totalEmRisco A quantidade de prazos que vencem dentro da janela de risco.
+ * @param emRisco Os prazos que vencem dentro da janela de risco, do mais próximo ao mais distante (limitado).
+ * @param geradoEm O momento em que o resumo foi calculado.
+ */
+public record SlaResumoDTO(
+        Map<TipoPrazoSla, Map<Prioridade, Long>> violacoes,
+        int totalViolados,
+        List<SlaPrazoDTO> violados,
+        int totalEmRisco,
+        List<SlaPrazoDTO> emRisco,
+        LocalDateTime geradoEm
+) {}
@@ -72,13 +72,11 @@ public enum Perfil {
     @SuppressWarnings("unused")
     public static Perfil toEnum(Integer codigo) {
         if (codigo == null) {
-            if (codigo == null) {
-                return null;
-            }
-            for (Perfil p : Perfil.values()) {
-                if (codigo.equals(p.getCodigo())) {
-                    return p;
-                }
+            return null;
+        }
+        for (Perfil p : Perfil.values()) {
+            if (codigo.equals(p.getCodigo())) {
+                return p;
             }
         }
         throw new IllegalArgumentException("Perfil inválido");
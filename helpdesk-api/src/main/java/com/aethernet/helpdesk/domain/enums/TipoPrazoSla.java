@@ -0,0 +1,17 @@
+package com.aethernet.helpdesk.domain.enums;
+
+/**
+ * Enumeração dos prazos de SLA acompanhados para cada Chamado.
+ */
+public enum TipoPrazoSla {
+
+    /**
+     * Prazo para o chamado sair de ABERTO (primeiro atendimento), contado da abertura.
+     */
+    RESPOSTA,
+
+    /**
+     * Prazo para o chamado ser encerrado, contado da abertura e descontado o tempo PAUSADO.
+     */
+    RESOLUCAO
+}
@@ -0,0 +1,77 @@
+package com.aethernet.helpdesk.domain.events;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado pelo {@code ChamadoService} sempre que um Chamado é criado
+ * ou tem seus dados alterados.
+ *
+ * <p>É um retrato imutável do Chamado no momento da alteração, para que os ouvintes
+ * não dependam da sessão JPA que o originou.</p>
+ *
+ * @param chamadoId O identificador do Chamado alterado.
+ * @param tipo A operação que alterou o Chamado.
+ * @param titulo O título atual do Chamado.
+ * @param observacoes As observações atuais do Chamado.
+ * @param anterior A situação do Chamado antes da alteração ({@code null} na abertura).
+ * @param atual A situação do Chamado após a alteração.
+ * @param versao A versão ({@code @Version}) gravada pela alteração: ordena as alterações de um
+ *               mesmo Chamado na ordem dos commits, mesmo que os ouvintes as recebam fora de ordem.
+ * @param dataAlteracao A data da gravação ({@code dataAtualizacao}), tomada dentro da transação.
+ */
+public record ChamadoAlteradoEvent(
+        UUID chamadoId,
+        Tipo tipo,
+        String titulo,
+        String observacoes,
+        Situacao anterior,
+        Situacao atual,
+        Long versao,
+        LocalDateTime dataAlteracao
+) {
+
+    /**
+     * A operação do {@code ChamadoService} que originou o evento.
+     */
+    public enum Tipo {
+        /** Abertura do Chamado. */
+        ABERTO,
+        /** Alteração dos dados do Chamado (título, observações, prioridade, Cliente ou Técnico). */
+        ATUALIZADO,
+        /** Transição de Status, exceto o encerramento. */
+        STATUS_ALTERADO,
+        /** Atribuição de um Técnico, manual ou automática. */
+        TECNICO_ATRIBUIDO,
+        /** Encerramento do Chamado. */
+        FECHADO
+    }
+
+    /**
+     * Os atributos de classificação de um Chamado (status, prioridade e técnico responsável).
+     *
+     * @param status O status do Chamado.
+     * @param prioridade A prioridade do Chamado.
+     * @param tecnicoId O ID do Técnico atribuído ({@code null} se não houver).
+     */
+    public record Situacao(Status status, Prioridade prioridade, UUID tecnicoId) {
+
+        /**
+         * Captura a situação atual de um Chamado.
+         *
+         * @param chamado O Chamado.
+         * @return A situação correspondente.
+         */
+        public static Situacao de(Chamado chamado) {
+            return new Situacao(
+                    chamado.getStatus(),
+                    chamado.getPrioridade(),
+                    chamado.getTecnico() != null ? chamado.getTecnico().getId() : null
+            );
+        }
+    }
+}
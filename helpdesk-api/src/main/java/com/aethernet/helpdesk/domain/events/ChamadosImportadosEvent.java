@@ -0,0 +1,11 @@
+package com.aethernet.helpdesk.domain.events;
+
+/**
+ * Evento publicado ao fim de uma importação em massa de Chamados.
+ *
+ * <p>A importação grava diretamente no banco, sem um {@link ChamadoAlteradoEvent} por
+ * Chamado; os componentes mantidos em memória devem se reconstruir a partir do banco.</p>
+ *
+ * @param importados A quantidade de Chamados inseridos.
+ */
+public record ChamadosImportadosEvent(long importados) {}
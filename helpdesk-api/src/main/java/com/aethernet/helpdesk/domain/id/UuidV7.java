@@ -0,0 +1,63 @@
+package com.aethernet.helpdesk.domain.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de UUIDs versão 7 (RFC 9562): 48 bits de timestamp Unix em milissegundos,
+ * 12 bits de contador e 62 bits aleatórios.
+ *
+ * Os valores crescem com o tempo, de modo que os INSERTs caem sempre no fim do índice da
+ * chave primária, em vez de espalhados pela árvore como os UUIDs v4. A monotonicidade vale
+ * entre threads: o par (timestamp, contador) é avançado com compare-and-set em um único
+ * {@code AtomicLong}, sem locks. Se o contador se esgota dentro do mesmo milissegundo, o
+ * timestamp é adiantado em 1 ms (método 3 da seção 6.2 da RFC), e o relógio real o alcança.
+ */
+public final class UuidV7 {
+
+    private static final UuidV7 PADRAO = new UuidV7(System::currentTimeMillis);
+
+    private static final int BITS_CONTADOR = 12;
+    private static final long MASCARA_CONTADOR = (1L << BITS_CONTADOR) - 1;
+    private static final long VERSAO = 0x7000L;
+    private static final long VARIANTE = 0x8000_0000_0000_0000L;
+    private static final long MASCARA_ALEATORIO = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier relogio;
+
+    /** Último (timestamp << 12 | contador) emitido. */
+    private final AtomicLong ultimo = new AtomicLong();
+
+    UuidV7(LongSupplier relogio) {
+        this.relogio = relogio;
+    }
+
+    /**
+     * Gera o próximo UUIDv7 da instância compartilhada pela aplicação.
+     *
+     * @return Um UUID maior que todos os gerados antes por esta JVM.
+     */
+    public static UUID gerar() {
+        return PADRAO.proximo();
+    }
+
+    /**
+     * Extrai o timestamp (epoch em milissegundos) de um UUIDv7.
+     *
+     * @param uuid Um UUID versão 7.
+     * @return O instante de geração do UUID.
+     */
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    UUID proximo() {
+        long inicial = relogio.getAsLong() << BITS_CONTADOR;
+        long estado = ultimo.accumulateAndGet(inicial, (anterior, agora) -> Math.max(anterior + 1, agora));
+        long msb = ((estado >>> BITS_CONTADOR) << 16) | VERSAO | (estado & MASCARA_CONTADOR);
+        long lsb = VARIANTE | (ThreadLocalRandom.current().nextLong() & MASCARA_ALEATORIO);
+        return new UUID(msb, lsb);
+    }
+}
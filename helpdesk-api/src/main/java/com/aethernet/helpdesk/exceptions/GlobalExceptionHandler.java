@@ -2,7 +2,11 @@ package com.aethernet.helpdesk.exceptions;
 
 import com.aethernet.helpdesk.domain.dto.response.ErrorResponseDTO;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -96,6 +100,83 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Trata exceções do tipo {@code StaleVersionException} (versão do {@code If-Match} desatualizada).
+     *
+     * Retorna o status HTTP 412 (Precondition Failed).
+     *
+     * @param ex A exceção {@code StaleVersionException} capturada.
+     * @param request A requisição HTTP atual.
+     * @return {@code ResponseEntity} contendo o {@code ErrorResponseDTO} e o status 412.
+     */
+    @ExceptionHandler(StaleVersionException.class)
+    public ResponseEntity<ErrorResponseDTO> handleStaleVersion(
+            StaleVersionException ex,
+            HttpServletRequest request) {
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    /**
+     * Trata conflitos de concorrência otimista detectados ao gravar ({@code @Version}):
+     * outra transação alterou o registro entre a leitura e a gravação.
+     *
+     * Retorna o status HTTP 409 (Conflict).
+     *
+     * @param ex A exceção {@code OptimisticLockingFailureException} capturada.
+     * @param request A requisição HTTP atual.
+     * @return {@code ResponseEntity} contendo o {@code ErrorResponseDTO} e o status 409.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDTO> handleOptimisticLocking(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "O registro foi alterado por outra requisição; recarregue e tente novamente",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Trata o esgotamento do pool de conexões: nenhuma conexão ficou livre dentro do
+     * {@code spring.datasource.hikari.connection-timeout}. Com as virtual threads, o pool é o
+     * limitador de concorrência da aplicação, e o excesso de carga chega aqui.
+     *
+     * Retorna o status HTTP 503 (Service Unavailable), com {@code Retry-After}.
+     *
+     * @param ex A exceção de obtenção de conexão capturada.
+     * @param request A requisição HTTP atual.
+     * @return {@code ResponseEntity} contendo o {@code ErrorResponseDTO} e o status 503.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<ErrorResponseDTO> handleConexaoIndisponivel(
+            Exception ex,
+            HttpServletRequest request) {
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Servidor sobrecarregado; tente novamente em instantes",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     /**
      * Trata exceções de validação de argumentos de método (DTOs com {@code @Valid} falhando).
      *
@@ -0,0 +1,30 @@
+package com.aethernet.helpdesk.exceptions;
+
+/**
+ * Lançada quando uma alteração parte de uma versão do recurso diferente da gravada, informada
+ * pelo cabeçalho {@code If-Match}. Tratada como 412 (Precondition Failed).
+ */
+public class StaleVersionException extends RuntimeException {
+
+    /**
+     * @param entityName O nome da entidade (ex: "Chamado").
+     * @param id O identificador do recurso.
+     * @param expected A versão lida pelo chamador.
+     * @param current A versão gravada; {@code null} se o recurso ainda não tiver versão.
+     */
+    public StaleVersionException(String entityName, Object id, Long expected, Long current) {
+        super(String.format("%s %s foi alterado(a) por outra requisição: versão esperada %s, atual %s",
+                entityName, id, expected, current));
+    }
+
+    /**
+     * @param entityName O nome da entidade (ex: "Chamado").
+     * @param id O identificador do recurso.
+     * @param ifMatch O valor do {@code If-Match} enviado pelo chamador.
+     * @param current O {@code ETag} atual do recurso, sem aspas.
+     */
+    public StaleVersionException(String entityName, Object id, String ifMatch, String current) {
+        super(String.format("%s %s foi alterado(a) por outra requisição: If-Match %s, ETag atual \"%s\"",
+                entityName, id, ifMatch, current));
+    }
+}
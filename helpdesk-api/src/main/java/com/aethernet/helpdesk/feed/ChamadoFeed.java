@@ -0,0 +1,325 @@
+package com.aethernet.helpdesk.feed;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoNotificacaoDTO;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feed ao vivo das alterações de Chamados, entregue por Server-Sent Events.
+ *
+ * Cada alteração confirmada recebe uma sequência crescente (o {@code id} do evento SSE) e é
+ * oferecida à fila de cada assinante cujo filtro a aceita ({@link FilaAssinante}: limitada,
+ * combinando as notificações do mesmo Chamado). O envio ocorre em uma virtual thread por assinante
+ * com algo a enviar; um assinante ocioso não ocupa thread nenhuma, pois a conexão fica em modo
+ * assíncrono no servlet. Um cliente lento só atrasa a si mesmo.
+ *
+ * As últimas {@code helpdesk.feed.historico} alterações ficam em memória para a retomada por
+ * {@code Last-Event-ID}: ao reconectar, o cliente recebe as alterações posteriores à última vista.
+ * Se elas já saíram do histórico (ou a aplicação reiniciou), recebe um aviso de reinício. As
+ * sequências partem do relógio na inicialização, para que não se repitam entre reinícios.
+ *
+ * No encerramento, as conexões são concluídas antes do encerramento gracioso do servidor web,
+ * que de outro modo esperaria por elas até o fim do seu prazo.
+ */
+@Component
+public class ChamadoFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoFeed.class);
+
+    /** Nome do evento SSE de uma alteração de Chamado. */
+    public static final String EVENTO_CHAMADO = "chamado";
+
+    /** Nome do evento SSE que pede ao cliente para recarregar a lista (notificações descartadas). */
+    public static final String EVENTO_REINICIO = "reset";
+
+    /**
+     * Uma conexão SSE aberta.
+     */
+    private static final class Assinante {
+
+        final SseEmitter emitter;
+        final FiltroFeed filtro;
+        final FilaAssinante fila;
+
+        /** Indica que há uma virtual thread enviando para este assinante. */
+        final AtomicBoolean enviando = new AtomicBoolean();
+
+        /** Indica que um comentário de keep-alive deve ser enviado. */
+        final AtomicBoolean ping = new AtomicBoolean();
+
+        Assinante(SseEmitter emitter, FiltroFeed filtro, int capacidade) {
+            this.emitter = emitter;
+            this.filtro = filtro;
+            this.fila = new FilaAssinante(capacidade);
+        }
+    }
+
+    private final int capacidadeFila;
+    private final int capacidadeHistorico;
+    private final long timeoutMs;
+
+    /** Protege a sequência, o histórico e a lista de assinantes. */
+    private final ReentrantLock registro = new ReentrantLock();
+    private final Deque<Notificacao> historico = new ArrayDeque<>();
+    private final List<Assinante> assinantes = new ArrayList<>();
+    private long sequencia = System.currentTimeMillis() * 1000;
+
+    private final ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter combinadas;
+    private final Counter transbordos;
+
+    private volatile boolean rodando;
+
+    public ChamadoFeed(MeterRegistry meterRegistry,
+                       @Value("${helpdesk.feed.buffer:256}") int capacidadeFila,
+                       @Value("${helpdesk.feed.historico:1024}") int capacidadeHistorico,
+                       @Value("${helpdesk.feed.timeout-ms:3600000}") long timeoutMs) {
+        this.capacidadeFila = capacidadeFila;
+        this.capacidadeHistorico = capacidadeHistorico;
+        this.timeoutMs = timeoutMs;
+
+        Gauge.builder("helpdesk.feed.assinantes", this, ChamadoFeed::totalAssinantes)
+                .description("Conexões abertas no feed de chamados")
+                .register(meterRegistry);
+        this.combinadas = Counter.builder("helpdesk.feed.combinadas")
+                .description("Notificações substituídas por uma mais recente do mesmo chamado antes do envio")
+                .register(meterRegistry);
+        this.transbordos = Counter.builder("helpdesk.feed.transbordos")
+                .description("Filas de assinantes descartadas por excederem a capacidade (cliente lento)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre uma assinatura do feed.
+     *
+     * @param filtro O filtro do assinante.
+     * @param ultimoId A última sequência recebida pelo cliente ({@code Last-Event-ID}), ou {@code null}
+     *                 para receber apenas as alterações a partir de agora.
+     * @return O emissor SSE da conexão.
+     */
+    public SseEmitter assinar(FiltroFeed filtro, Long ultimoId) {
+        Assinante assinante = new Assinante(new SseEmitter(timeoutMs), filtro, capacidadeFila);
+        assinante.emitter.onCompletion(() -> remover(assinante));
+        assinante.emitter.onTimeout(() -> remover(assinante));
+        assinante.emitter.onError(e -> remover(assinante));
+
+        registro.lock();
+        try {
+            if (!rodando) {
+                // Aplicação encerrando: a conexão é concluída sem entrar na lista
+                assinante.emitter.complete();
+                return assinante.emitter;
+            }
+            if (ultimoId != null) {
+                retomar(assinante, ultimoId);
+            }
+            assinantes.add(assinante);
+        } finally {
+            registro.unlock();
+        }
+        agendar(assinante);
+        return assinante.emitter;
+    }
+
+    /**
+     * Numera a alteração confirmada e a oferece aos assinantes interessados.
+     *
+     * @param event O evento publicado pelo {@code ChamadoService}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarChamado(ChamadoAlteradoEvent event) {
+        ChamadoAlteradoEvent.Situacao atual = event.atual();
+        ChamadoNotificacaoDTO dados = new ChamadoNotificacaoDTO(event.chamadoId(), event.tipo(), event.titulo(),
+                atual.status(), atual.prioridade(), atual.tecnicoId());
+
+        List<Assinante> interessados = new ArrayList<>();
+        registro.lock();
+        try {
+            Notificacao notificacao = new Notificacao(++sequencia, event.anterior(), atual, dados);
+            if (historico.size() == capacidadeHistorico) {
+                historico.removeFirst();
+            }
+            historico.addLast(notificacao);
+            for (Assinante assinante : assinantes) {
+                if (assinante.filtro.aceita(notificacao.anterior(), notificacao.atual())) {
+                    oferecer(assinante, notificacao);
+                    interessados.add(assinante);
+                }
+            }
+        } finally {
+            registro.unlock();
+        }
+        interessados.forEach(this::agendar);
+    }
+
+    /**
+     * Envia um comentário de keep-alive a todos os assinantes, no intervalo configurado em
+     * {@code helpdesk.feed.heartbeat-ms}, para manter as conexões abertas em proxies e detectar
+     * os clientes que já se desconectaram.
+     */
+    @Scheduled(fixedRateString = "${helpdesk.feed.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (Assinante assinante : copiarAssinantes()) {
+            assinante.ping.set(true);
+            agendar(assinante);
+        }
+    }
+
+    /**
+     * @return A quantidade de conexões abertas.
+     */
+    public int totalAssinantes() {
+        registro.lock();
+        try {
+            return assinantes.size();
+        } finally {
+            registro.unlock();
+        }
+    }
+
+    // === CICLO DE VIDA ===
+
+    @Override
+    public void start() {
+        rodando = true;
+    }
+
+    /**
+     * Para de aceitar assinaturas e conclui as conexões abertas, liberando as requisições
+     * assíncronas que o encerramento gracioso do servidor web aguardaria.
+     */
+    @Override
+    public void stop() {
+        List<Assinante> abertos;
+        registro.lock();
+        try {
+            rodando = false;
+            abertos = new ArrayList<>(assinantes);
+            assinantes.clear();
+        } finally {
+            registro.unlock();
+        }
+        abertos.forEach(assinante -> assinante.emitter.complete());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return rodando;
+    }
+
+    /** Para antes do encerramento gracioso do servidor web (fases maiores param primeiro). */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE + 1;
+    }
+
+    @PreDestroy
+    void encerrar() {
+        envios.shutdownNow();
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    /** Reenvia o histórico posterior a {@code ultimoId} ou, se houver lacuna, um aviso de reinício. */
+    private void retomar(Assinante assinante, long ultimoId) {
+        long primeiraDisponivel = historico.isEmpty() ? sequencia + 1 : historico.peekFirst().sequencia();
+        if (ultimoId + 1 < primeiraDisponivel || ultimoId > sequencia) {
+            assinante.fila.reiniciar(sequencia);
+            return;
+        }
+        for (Notificacao notificacao : historico) {
+            if (notificacao.sequencia() > ultimoId
+                    && assinante.filtro.aceita(notificacao.anterior(), notificacao.atual())) {
+                oferecer(assinante, notificacao);
+            }
+        }
+    }
+
+    private void oferecer(Assinante assinante, Notificacao notificacao) {
+        switch (assinante.fila.oferecer(notificacao)) {
+            case COMBINADA -> combinadas.increment();
+            case TRANSBORDOU -> transbordos.increment();
+            case ENFILEIRADA -> { }
+        }
+    }
+
+    /** Garante uma (e só uma) virtual thread enviando as pendências do assinante. */
+    private void agendar(Assinante assinante) {
+        if (assinante.enviando.compareAndSet(false, true)) {
+            envios.execute(() -> enviar(assinante));
+        }
+    }
+
+    private void enviar(Assinante assinante) {
+        while (true) {
+            try {
+                List<FilaAssinante.Envio> lote = assinante.fila.retirar();
+                for (FilaAssinante.Envio envio : lote) {
+                    assinante.emitter.send(evento(envio));
+                }
+                if (assinante.ping.getAndSet(false) && lote.isEmpty()) {
+                    assinante.emitter.send(SseEmitter.event().comment("ping"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou conexão já encerrada
+                log.debug("Feed: assinante removido: {}", e.getMessage());
+                remover(assinante);
+                return;
+            }
+            assinante.enviando.set(false);
+            // Algo chegou depois do último retirar(): retoma, se nenhuma outra thread o fez
+            if ((assinante.fila.vazia() && !assinante.ping.get()) || !assinante.enviando.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder evento(FilaAssinante.Envio envio) {
+        SseEmitter.SseEventBuilder evento = SseEmitter.event().id(Long.toString(envio.sequencia()));
+        return envio.reinicio()
+                ? evento.name(EVENTO_REINICIO).data("")
+                : evento.name(EVENTO_CHAMADO).data(envio.dados(), MediaType.APPLICATION_JSON);
+    }
+
+    private void remover(Assinante assinante) {
+        registro.lock();
+        try {
+            assinantes.remove(assinante);
+        } finally {
+            registro.unlock();
+        }
+    }
+
+    private List<Assinante> copiarAssinantes() {
+        registro.lock();
+        try {
+            return new ArrayList<>(assinantes);
+        } finally {
+            registro.unlock();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.aethernet.helpdesk.feed;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoNotificacaoDTO;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fila limitada das notificações ainda não enviadas a um assinante do feed.
+ *
+ * Duas notificações do mesmo Chamado são combinadas: fica só a mais recente, na posição dela,
+ * de modo que a ordem das sequências se mantém. Se, ainda assim, a fila passar da capacidade
+ * (um cliente lento diante de muitos Chamados distintos), as notificações pendentes são
+ * descartadas e substituídas por um único aviso de reinício: o cliente deve recarregar a lista
+ * e seguir a partir da sequência informada.
+ */
+final class FilaAssinante {
+
+    /**
+     * Um evento a enviar: uma notificação ou, com {@code dados} nulo, um aviso de reinício.
+     *
+     * @param sequencia O {@code id} do evento SSE.
+     * @param dados A notificação, ou {@code null} no aviso de reinício.
+     */
+    record Envio(long sequencia, ChamadoNotificacaoDTO dados) {
+
+        boolean reinicio() {
+            return dados == null;
+        }
+    }
+
+    /** O resultado de {@link #oferecer(Notificacao)}. */
+    enum Resultado { ENFILEIRADA, COMBINADA, TRANSBORDOU }
+
+    private final int capacidade;
+    private final LinkedHashMap<UUID, Notificacao> pendentes = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Maior sequência descartada desde o último envio, ou -1 se nada foi descartado. */
+    private long descartadaAte = -1;
+
+    FilaAssinante(int capacidade) {
+        this.capacidade = Math.max(1, capacidade);
+    }
+
+    /**
+     * Acrescenta uma notificação, combinando-a com a pendente do mesmo Chamado, se houver.
+     *
+     * @param notificacao A notificação.
+     * @return Se a notificação entrou na fila, substituiu outra ou provocou o descarte da fila.
+     */
+    Resultado oferecer(Notificacao notificacao) {
+        lock.lock();
+        try {
+            // remove + put: a notificação combinada vai para o fim, mantendo as sequências em ordem
+            boolean combinada = pendentes.remove(notificacao.dados().chamadoId()) != null;
+            pendentes.put(notificacao.dados().chamadoId(), notificacao);
+            if (pendentes.size() > capacidade) {
+                pendentes.clear();
+                descartadaAte = notificacao.sequencia();
+                return Resultado.TRANSBORDOU;
+            }
+            return combinada ? Resultado.COMBINADA : Resultado.ENFILEIRADA;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Descarta as pendentes e agenda um aviso de reinício na sequência informada.
+     *
+     * @param sequencia A última sequência que o cliente deixará de receber.
+     */
+    void reiniciar(long sequencia) {
+        lock.lock();
+        try {
+            pendentes.clear();
+            descartadaAte = Math.max(descartadaAte, sequencia);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retira tudo o que há para enviar, na ordem: o aviso de reinício (se houver) e as notificações.
+     *
+     * @return Os eventos a enviar (vazio se não houver nenhum).
+     */
+    List<Envio> retirar() {
+        lock.lock();
+        try {
+            List<Envio> envios = new ArrayList<>(pendentes.size() + 1);
+            if (descartadaAte >= 0) {
+                envios.add(new Envio(descartadaAte, null));
+                descartadaAte = -1;
+            }
+            for (Notificacao notificacao : pendentes.values()) {
+                envios.add(new Envio(notificacao.sequencia(), notificacao.dados()));
+            }
+            pendentes.clear();
+            return envios;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean vazia() {
+        lock.lock();
+        try {
+            return pendentes.isEmpty() && descartadaAte < 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
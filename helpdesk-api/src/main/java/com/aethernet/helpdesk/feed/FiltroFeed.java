@@ -0,0 +1,38 @@
+package com.aethernet.helpdesk.feed;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Situacao;
+
+import java.util.UUID;
+
+/**
+ * Filtro de um assinante do feed de Chamados. Os critérios nulos aceitam qualquer valor.
+ *
+ * Uma alteração é entregue se a situação anterior ou a atual do Chamado atender ao filtro:
+ * quem acompanha o Status ABERTO, por exemplo, também fica sabendo quando um Chamado deixa
+ * de estar ABERTO, e pode retirá-lo da tela.
+ *
+ * @param status O Status acompanhado.
+ * @param prioridade A Prioridade acompanhada.
+ * @param tecnicoId O Técnico acompanhado.
+ */
+public record FiltroFeed(Status status, Prioridade prioridade, UUID tecnicoId) {
+
+    /**
+     * Indica se a alteração de {@code anterior} para {@code atual} interessa ao assinante.
+     *
+     * @param anterior A situação antes da alteração ({@code null} na abertura).
+     * @param atual A situação após a alteração.
+     * @return {@code true} se alguma das situações atender ao filtro.
+     */
+    public boolean aceita(Situacao anterior, Situacao atual) {
+        return atende(atual) || (anterior != null && atende(anterior));
+    }
+
+    private boolean atende(Situacao situacao) {
+        return (status == null || status == situacao.status())
+                && (prioridade == null || prioridade == situacao.prioridade())
+                && (tecnicoId == null || tecnicoId.equals(situacao.tecnicoId()));
+    }
+}
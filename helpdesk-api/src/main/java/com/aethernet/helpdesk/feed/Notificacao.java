@@ -0,0 +1,14 @@
+package com.aethernet.helpdesk.feed;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoNotificacaoDTO;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Situacao;
+
+/**
+ * Uma alteração de Chamado numerada pelo feed.
+ *
+ * @param sequencia A posição da alteração no feed (o {@code id} do evento SSE).
+ * @param anterior A situação anterior do Chamado, usada apenas na filtragem.
+ * @param atual A situação atual do Chamado, usada apenas na filtragem.
+ * @param dados O conteúdo enviado ao assinante.
+ */
+record Notificacao(long sequencia, Situacao anterior, Situacao atual, ChamadoNotificacaoDTO dados) {}
@@ -0,0 +1,130 @@
+package com.aethernet.helpdesk.historico;
+
+import com.aethernet.helpdesk.domain.ChamadoHistorico;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoHistoricoDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoHistoricoSliceDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoTempoStatusDTO;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
+import com.aethernet.helpdesk.repositories.ChamadoHistoricoRepository;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Consultas ao histórico de Status e de Técnico dos Chamados.
+ *
+ * O histórico é gravado de forma assíncrona pelo {@link ChamadoHistoricoWriter}; uma mudança
+ * recém-confirmada pode levar até um ciclo do escritor ({@code helpdesk.historico.intervalo-ms})
+ * para aparecer aqui.
+ */
+@Service
+public class ChamadoHistoricoService {
+
+    /** Maior fatia do histórico que a API aceita devolver de uma vez. */
+    public static final int LIMITE_MAXIMO_FATIA = 500;
+
+    private final ChamadoHistoricoRepository historicoRepository;
+    private final ChamadoRepository chamadoRepository;
+
+    public ChamadoHistoricoService(ChamadoHistoricoRepository historicoRepository,
+                                   ChamadoRepository chamadoRepository) {
+        this.historicoRepository = historicoRepository;
+        this.chamadoRepository = chamadoRepository;
+    }
+
+    /**
+     * Lista o histórico de um Chamado, do registro mais antigo para o mais novo, por cursor.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @param cursor O cursor devolvido na fatia anterior ({@code null} para a primeira).
+     * @param limite O tamanho máximo da fatia.
+     * @return A fatia e o cursor da próxima, se houver.
+     * @throws EntityNotFoundException Se o Chamado não existir.
+     * @throws DomainRuleException Se o limite estiver fora da faixa ou o cursor for inválido.
+     */
+    @Transactional(readOnly = true)
+    public ChamadoHistoricoSliceDTO listar(UUID chamadoId, String cursor, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_FATIA) {
+            throw new DomainRuleException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_FATIA);
+        }
+        PageRequest fatia = PageRequest.of(0, limite);
+
+        Slice<ChamadoHistorico> registros;
+        if (cursor == null || cursor.isBlank()) {
+            registros = historicoRepository.findPrimeiraFatia(chamadoId, fatia);
+        } else {
+            registros = historicoRepository.findFatiaApos(chamadoId, decodificar(cursor), fatia);
+        }
+        // A existência só precisa ser confirmada quando a fatia vem vazia
+        if (registros.isEmpty() && !chamadoRepository.existsById(chamadoId)) {
+            throw new EntityNotFoundException("Chamado", chamadoId);
+        }
+
+        List<ChamadoHistoricoDTO> itens = registros.map(ChamadoHistoricoService::toDTO).getContent();
+        String proximoCursor = registros.hasNext()
+                ? itens.get(itens.size() - 1).versaoChamado().toString()
+                : null;
+        return new ChamadoHistoricoSliceDTO(itens, proximoCursor);
+    }
+
+    /**
+     * Calcula o tempo que o Chamado passou em cada Status: a soma das durações já registradas
+     * mais o tempo decorrido no Status atual, desde o último registro até agora.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @return O tempo por Status, em milissegundos.
+     * @throws EntityNotFoundException Se o Chamado não existir.
+     */
+    @Transactional(readOnly = true)
+    public ChamadoTempoStatusDTO tempoPorStatus(UUID chamadoId) {
+        Optional<ChamadoHistorico> ultimo = historicoRepository.findFirstByChamadoIdOrderByVersaoChamadoDesc(chamadoId);
+        if (ultimo.isEmpty() && !chamadoRepository.existsById(chamadoId)) {
+            throw new EntityNotFoundException("Chamado", chamadoId);
+        }
+
+        Map<Status, Long> tempo = new EnumMap<>(Status.class);
+        for (TempoStatus parcial : historicoRepository.somarTempoPorStatus(chamadoId)) {
+            tempo.merge(parcial.status(), parcial.totalMs(), Long::sum);
+        }
+        Status atual = ultimo.map(ChamadoHistorico::getStatusNovo).orElse(null);
+        ultimo.ifPresent(registro -> tempo.merge(registro.getStatusNovo(),
+                Math.max(0, Duration.between(registro.getDataRegistro(), LocalDateTime.now()).toMillis()),
+                Long::sum));
+        return new ChamadoTempoStatusDTO(chamadoId, atual, tempo);
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private static Long decodificar(String cursor) {
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new DomainRuleException("Cursor inválido");
+        }
+    }
+
+    private static ChamadoHistoricoDTO toDTO(ChamadoHistorico registro) {
+        return new ChamadoHistoricoDTO(
+                registro.getId(),
+                registro.getVersaoChamado(),
+                registro.getDataRegistro(),
+                registro.getStatusAnterior(),
+                registro.getStatusNovo(),
+                registro.getTecnicoAnteriorId(),
+                registro.getTecnicoNovoId(),
+                registro.getDuracaoAnteriorMs()
+        );
+    }
+}
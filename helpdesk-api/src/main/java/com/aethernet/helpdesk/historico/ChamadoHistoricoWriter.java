@@ -0,0 +1,370 @@
+package com.aethernet.helpdesk.historico;
+
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.id.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grava o histórico de Status e de Técnico dos Chamados em segundo plano ("write-behind").
+ *
+ * Cada {@link ChamadoAlteradoEvent} que muda o Status ou o Técnico vira um registro em uma
+ * fila limitada, após o commit da alteração; a requisição não faz nenhuma ida extra ao banco.
+ * Uma thread dedicada drena a fila em lotes de até {@code helpdesk.historico.lote} registros,
+ * gravados com um único INSERT em lote JDBC por transação. A duração do Status anterior é
+ * calculada no lote, a partir do último registro de cada Chamado (uma consulta por lote).
+ *
+ * Os eventos de um mesmo Chamado podem chegar fora da ordem dos commits, por isso cada registro
+ * leva a versão e a data de atualização gravadas pela alteração, e não o instante da captura.
+ * O histórico é ordenado pela versão: um registro que chega depois de outro de versão maior é
+ * encaixado entre o anterior e o seguinte, corrigindo a duração do seguinte.
+ *
+ * Com a fila cheia, o registro é gravado diretamente na thread da requisição, em vez de
+ * descartado. No encerramento gracioso, a fila é drenada antes de o pool de conexões fechar
+ * (fase anterior à do servidor web), o que garante a entrega pelo menos uma vez dos registros
+ * aceitos. Um lote que falha é repetido algumas vezes antes de ser descartado com erro no log.
+ */
+@Component
+public class ChamadoHistoricoWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoHistoricoWriter.class);
+
+    /** Tentativas de gravação de um lote antes de descartá-lo. */
+    static final int TENTATIVAS_LOTE = 5;
+
+    private static final String INSERT = """
+            INSERT INTO chamado_historico (id, chamado_id, versao_chamado, data_registro, status_anterior,
+                                           status_novo, tecnico_anterior_id, tecnico_novo_id, duracao_anterior_ms)
+            VALUES (:id, :chamadoId, :versao, :dataRegistro, :statusAnterior,
+                    :statusNovo, :tecnicoAnteriorId, :tecnicoNovoId, :duracaoAnteriorMs)
+            """;
+
+    private static final String ULTIMOS_REGISTROS = """
+            SELECT h.chamado_id, h.versao_chamado, h.data_registro
+            FROM chamado_historico h
+            WHERE h.chamado_id IN (:ids)
+              AND h.versao_chamado = (SELECT MAX(u.versao_chamado) FROM chamado_historico u
+                                      WHERE u.chamado_id = h.chamado_id)
+            """;
+
+    private static final String REGISTRO_ANTERIOR = """
+            SELECT data_registro
+            FROM chamado_historico
+            WHERE chamado_id = :chamadoId AND versao_chamado < :versao
+            ORDER BY versao_chamado DESC
+            FETCH FIRST 1 ROWS ONLY
+            """;
+
+    private static final String REGISTRO_SEGUINTE = """
+            SELECT id, data_registro, status_anterior
+            FROM chamado_historico
+            WHERE chamado_id = :chamadoId AND versao_chamado > :versao
+            ORDER BY versao_chamado
+            FETCH FIRST 1 ROWS ONLY
+            """;
+
+    private static final String ATUALIZAR_DURACAO = """
+            UPDATE chamado_historico SET duracao_anterior_ms = :duracaoAnteriorMs WHERE id = :id
+            """;
+
+    private static final Comparator<Registro> POR_VERSAO =
+            Comparator.comparing(Registro::chamadoId).thenComparingLong(Registro::versao);
+
+    /**
+     * Uma mudança capturada e ainda não gravada, com a versão e a data gravadas pela alteração.
+     */
+    record Registro(UUID id, UUID chamadoId, long versao, LocalDateTime dataRegistro,
+                    Status statusAnterior, Status statusNovo,
+                    UUID tecnicoAnteriorId, UUID tecnicoNovoId) {}
+
+    /** O registro de maior versão de um Chamado, já gravado ou do próprio lote. */
+    private record Ultimo(long versao, LocalDateTime dataRegistro) {}
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Registro> fila;
+    private final int tamanhoLote;
+    private final long intervaloMs;
+
+    /** Serializa as gravações da thread de fundo, das gravações diretas e de {@link #descarregar()}. */
+    private final ReentrantLock gravacao = new ReentrantLock();
+
+    /** Registros capturados e ainda não gravados (na fila, em um lote da thread de fundo ou diretos). */
+    private final AtomicInteger pendentes = new AtomicInteger();
+
+    private final Counter diretos;
+    private final Counter descartados;
+
+    private volatile boolean rodando;
+    private Thread escritor;
+
+    public ChamadoHistoricoWriter(NamedParameterJdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${helpdesk.historico.capacidade:10000}") int capacidade,
+                                  @Value("${helpdesk.historico.lote:200}") int tamanhoLote,
+                                  @Value("${helpdesk.historico.intervalo-ms:200}") long intervaloMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        // REQUIRES_NEW: a gravação direta ocorre após o commit, com a transação original ainda vinculada
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.tamanhoLote = tamanhoLote;
+        this.intervaloMs = intervaloMs;
+
+        Gauge.builder("helpdesk.historico.fila", fila, BlockingQueue::size)
+                .description("Registros de histórico aguardando gravação")
+                .register(meterRegistry);
+        this.diretos = Counter.builder("helpdesk.historico.diretos")
+                .description("Registros gravados na thread da requisição (fila cheia ou parada)")
+                .register(meterRegistry);
+        this.descartados = Counter.builder("helpdesk.historico.descartados")
+                .description("Registros descartados após falhas repetidas de gravação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Captura a mudança de Status ou de Técnico após o commit da alteração.
+     *
+     * @param event O evento com a situação anterior e a atual do Chamado.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarChamado(ChamadoAlteradoEvent event) {
+        ChamadoAlteradoEvent.Situacao anterior = event.anterior();
+        ChamadoAlteradoEvent.Situacao atual = event.atual();
+        if (anterior != null && anterior.status() == atual.status()
+                && Objects.equals(anterior.tecnicoId(), atual.tecnicoId())) {
+            return;
+        }
+        Registro registro = new Registro(UuidV7.gerar(), event.chamadoId(), event.versao(), event.dataAlteracao(),
+                anterior != null ? anterior.status() : null, atual.status(),
+                anterior != null ? anterior.tecnicoId() : null, atual.tecnicoId());
+
+        pendentes.incrementAndGet();
+        if (!rodando || !fila.offer(registro)) {
+            diretos.increment();
+            gravarComTentativas(List.of(registro));
+        }
+    }
+
+    /**
+     * Grava imediatamente tudo o que está na fila, na thread chamadora, e aguarda o lote que a
+     * thread de fundo estiver gravando. Ao retornar, todas as mudanças capturadas antes da
+     * chamada estão no banco (ou foram descartadas após as tentativas).
+     */
+    public void descarregar() {
+        List<Registro> lote = new ArrayList<>(tamanhoLote);
+        while (fila.drainTo(lote, tamanhoLote) > 0) {
+            gravarComTentativas(lote);
+            lote.clear();
+        }
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (pendentes.get() > 0 && System.nanoTime() < limite) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // === CICLO DE VIDA ===
+
+    @Override
+    public void start() {
+        rodando = true;
+        escritor = Thread.ofPlatform().name("historico-writer").daemon(false).start(this::executar);
+    }
+
+    /**
+     * Para de aceitar registros na fila e aguarda a thread de fundo gravar os pendentes.
+     */
+    @Override
+    public void stop() {
+        rodando = false;
+        if (escritor != null) {
+            try {
+                escritor.join(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        descarregar();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return rodando;
+    }
+
+    /** Inicia antes e para depois do servidor web, para drenar a fila enquanto o banco está disponível. */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private void executar() {
+        List<Registro> lote = new ArrayList<>(tamanhoLote);
+        while (rodando || !fila.isEmpty()) {
+            try {
+                Registro primeiro = fila.poll(intervaloMs, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, tamanhoLote - 1);
+                gravarComTentativas(lote);
+                lote.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** Grava o lote e, ao final (com ou sem sucesso), retira-o dos pendentes. */
+    private void gravarComTentativas(List<Registro> lote) {
+        for (int tentativa = 1; ; tentativa++) {
+            gravacao.lock();
+            try {
+                transactionTemplate.executeWithoutResult(status -> gravar(lote));
+                pendentes.addAndGet(-lote.size());
+                return;
+            } catch (RuntimeException e) {
+                if (tentativa >= TENTATIVAS_LOTE) {
+                    pendentes.addAndGet(-lote.size());
+                    descartados.increment(lote.size());
+                    log.error("Histórico: {} registros descartados após {} tentativas", lote.size(), tentativa, e);
+                    return;
+                }
+                log.warn("Histórico: falha ao gravar {} registros (tentativa {}): {}",
+                        lote.size(), tentativa, e.getMessage());
+            } finally {
+                gravacao.unlock();
+            }
+            try {
+                Thread.sleep(100L << tentativa);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Insere o lote com um único lote JDBC, calculando a duração do Status anterior de cada
+     * registro a partir do registro de versão anterior do mesmo Chamado (no próprio lote ou no
+     * banco). Os registros atrasados, de versão menor que a última já gravada, são encaixados
+     * depois da inserção.
+     */
+    private void gravar(List<Registro> lote) {
+        List<Registro> ordenados = new ArrayList<>(lote);
+        ordenados.sort(POR_VERSAO);
+        Set<UUID> chamados = new LinkedHashSet<>();
+        ordenados.forEach(r -> chamados.add(r.chamadoId()));
+        Map<UUID, Ultimo> ultimos = new HashMap<>();
+        jdbcTemplate.query(ULTIMOS_REGISTROS, new MapSqlParameterSource("ids", chamados),
+                rs -> {
+                    ultimos.put(rs.getObject("chamado_id", UUID.class), new Ultimo(
+                            rs.getLong("versao_chamado"), rs.getTimestamp("data_registro").toLocalDateTime()));
+                });
+
+        List<Registro> atrasados = new ArrayList<>();
+        MapSqlParameterSource[] parametros = new MapSqlParameterSource[ordenados.size()];
+        for (int i = 0; i < ordenados.size(); i++) {
+            Registro r = ordenados.get(i);
+            Ultimo ultimo = ultimos.get(r.chamadoId());
+            if (ultimo != null && r.versao() < ultimo.versao()) {
+                atrasados.add(r);
+                parametros[i] = parametros(r, null);
+                continue;
+            }
+            ultimos.put(r.chamadoId(), new Ultimo(r.versao(), r.dataRegistro()));
+            parametros[i] = parametros(r, duracao(r, ultimo != null ? ultimo.dataRegistro() : null));
+        }
+        jdbcTemplate.batchUpdate(INSERT, parametros);
+        atrasados.forEach(this::encaixar);
+    }
+
+    /**
+     * Completa um registro atrasado, já inserido: calcula a sua duração a partir do registro de
+     * versão anterior e recalcula a do registro seguinte, que até então media desde o anterior.
+     */
+    private void encaixar(Registro r) {
+        MapSqlParameterSource vizinhos = new MapSqlParameterSource()
+                .addValue("chamadoId", r.chamadoId())
+                .addValue("versao", r.versao());
+        LocalDateTime anterior = jdbcTemplate.query(REGISTRO_ANTERIOR, vizinhos,
+                        (rs, linha) -> rs.getTimestamp("data_registro").toLocalDateTime())
+                .stream().findFirst().orElse(null);
+        Long duracao = duracao(r, anterior);
+        if (duracao != null) {
+            jdbcTemplate.update(ATUALIZAR_DURACAO, new MapSqlParameterSource()
+                    .addValue("id", r.id())
+                    .addValue("duracaoAnteriorMs", duracao));
+        }
+
+        jdbcTemplate.query(REGISTRO_SEGUINTE, vizinhos, (rs, linha) -> rs.getString("status_anterior") == null
+                        ? null
+                        : new MapSqlParameterSource()
+                                .addValue("id", rs.getObject("id", UUID.class))
+                                .addValue("duracaoAnteriorMs", Math.max(0, Duration.between(
+                                        r.dataRegistro(), rs.getTimestamp("data_registro").toLocalDateTime()).toMillis())))
+                .stream().filter(Objects::nonNull).findFirst()
+                .ifPresent(seguinte -> jdbcTemplate.update(ATUALIZAR_DURACAO, seguinte));
+        log.debug("Histórico: registro atrasado do chamado {} encaixado na versão {}", r.chamadoId(), r.versao());
+    }
+
+    /** O tempo no Status anterior, desde o registro anterior; {@code null} na abertura ou sem anterior. */
+    private static Long duracao(Registro r, LocalDateTime anterior) {
+        return r.statusAnterior() != null && anterior != null
+                ? Math.max(0, Duration.between(anterior, r.dataRegistro()).toMillis())
+                : null;
+    }
+
+    private static MapSqlParameterSource parametros(Registro r, Long duracao) {
+        return new MapSqlParameterSource()
+                .addValue("id", r.id())
+                .addValue("chamadoId", r.chamadoId())
+                .addValue("versao", r.versao())
+                .addValue("dataRegistro", Timestamp.valueOf(r.dataRegistro()))
+                .addValue("statusAnterior", r.statusAnterior() != null ? r.statusAnterior().name() : null)
+                .addValue("statusNovo", r.statusNovo().name())
+                .addValue("tecnicoAnteriorId", r.tecnicoAnteriorId())
+                .addValue("tecnicoNovoId", r.tecnicoNovoId())
+                .addValue("duracaoAnteriorMs", duracao);
+    }
+}
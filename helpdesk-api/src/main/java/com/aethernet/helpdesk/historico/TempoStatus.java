@@ -0,0 +1,11 @@
+package com.aethernet.helpdesk.historico;
+
+import com.aethernet.helpdesk.domain.enums.Status;
+
+/**
+ * Tempo total que um Chamado passou em um Status, somado a partir do histórico.
+ *
+ * @param status O Status.
+ * @param totalMs O tempo no Status, em milissegundos.
+ */
+public record TempoStatus(Status status, Long totalMs) {}
@@ -0,0 +1,26 @@
+package com.aethernet.helpdesk.importacao;
+
+import java.util.List;
+
+/**
+ * Grava um bloco de linhas importadas em uma única transação.
+ *
+ * A implementação ativa depende do perfil: lotes JDBC do Hibernate por padrão e
+ * {@code COPY} no perfil {@code postgres}.
+ */
+public interface ChamadoBlocoWriter {
+
+    /**
+     * Insere as linhas do bloco. Se a gravação falhar, nenhuma linha do bloco é inserida.
+     *
+     * @param bloco As linhas validadas.
+     */
+    void gravar(List<LinhaImportacao> bloco);
+
+    /**
+     * Retorna o nome do mecanismo de gravação, exibido no relatório da importação.
+     *
+     * @return O nome do mecanismo.
+     */
+    String modo();
+}
@@ -0,0 +1,283 @@
+package com.aethernet.helpdesk.importacao;
+
+import com.aethernet.helpdesk.domain.dto.response.ImportacaoRelatorioDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadosImportadosEvent;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serviço de importação em massa de Chamados a partir de CSV.
+ *
+ * O arquivo é lido registro a registro e gravado em blocos de {@code helpdesk.importacao.bloco}
+ * linhas, cada um em sua própria transação, pelo {@link ChamadoBlocoWriter} do perfil ativo.
+ * Clientes e Técnicos são resolvidos por CPF em mapas carregados uma única vez no início.
+ * Apenas o bloco corrente e as primeiras {@value #LIMITE_REJEICOES} rejeições ficam em memória,
+ * qualquer que seja o tamanho do arquivo.
+ *
+ * Colunas reconhecidas no cabeçalho (em qualquer ordem): {@code titulo}, {@code prioridade} e
+ * {@code cpfCliente} (obrigatórias), {@code observacoes}, {@code status} (padrão ABERTO),
+ * {@code dataAbertura} (ISO-8601, padrão agora), {@code dataFechamento} e {@code cpfTecnico}.
+ */
+@Service
+public class ChamadoImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoImportService.class);
+
+    /** Quantidade máxima de rejeições detalhadas no relatório (as demais são apenas contadas). */
+    static final int LIMITE_REJEICOES = 100;
+
+    private static final List<String> COLUNAS_OBRIGATORIAS = List.of("titulo", "prioridade", "cpfCliente");
+
+    private static final int TAMANHO_MAXIMO_TITULO = 255;
+    private static final int TAMANHO_MAXIMO_OBSERVACOES = 2000;
+
+    /**
+     * Contagens de uma importação em andamento.
+     */
+    private static final class Progresso {
+        long lidos;
+        long importados;
+        long rejeitados;
+        final List<ImportacaoRelatorioDTO.Rejeicao> rejeicoes = new ArrayList<>();
+
+        void rejeitar(long linha, String motivo) {
+            rejeitados++;
+            if (rejeicoes.size() < LIMITE_REJEICOES) {
+                rejeicoes.add(new ImportacaoRelatorioDTO.Rejeicao(linha, motivo));
+            }
+        }
+    }
+
+    private final ClienteRepository clienteRepository;
+    private final TecnicoRepository tecnicoRepository;
+    private final ChamadoBlocoWriter chamadoBlocoWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanhoBloco;
+
+    public ChamadoImportService(ClienteRepository clienteRepository,
+                                TecnicoRepository tecnicoRepository,
+                                ChamadoBlocoWriter chamadoBlocoWriter,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${helpdesk.importacao.bloco:1000}") int tamanhoBloco) {
+        this.clienteRepository = clienteRepository;
+        this.tecnicoRepository = tecnicoRepository;
+        this.chamadoBlocoWriter = chamadoBlocoWriter;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Importa os Chamados de um CSV (UTF-8, com cabeçalho).
+     *
+     * Registros inválidos são rejeitados individualmente; se a gravação de um bloco falhar,
+     * todas as linhas do bloco são rejeitadas e os blocos já gravados permanecem.
+     *
+     * @param entrada O conteúdo do CSV.
+     * @return O relatório da importação.
+     * @throws IOException Se a leitura da entrada falhar.
+     * @throws DomainRuleException Se o arquivo estiver vazio ou faltar uma coluna obrigatória.
+     */
+    public ImportacaoRelatorioDTO importar(InputStream entrada) throws IOException {
+        long inicio = System.nanoTime();
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8)));
+        Map<String, Integer> colunas = lerCabecalho(csv.proximoRegistro());
+
+        Map<String, UUID> clientes = mapaPorCpf(clienteRepository.findAllCpfs());
+        Map<String, UUID> tecnicos = mapaPorCpf(tecnicoRepository.findAllCpfs());
+
+        Progresso progresso = new Progresso();
+        List<LinhaImportacao> bloco = new ArrayList<>(tamanhoBloco);
+        while (true) {
+            List<String> registro;
+            try {
+                registro = csv.proximoRegistro();
+            } catch (IllegalArgumentException e) {
+                // Sem como localizar o próximo registro com segurança: interrompe a leitura
+                progresso.rejeitar(csv.linha(), "Leitura interrompida: " + e.getMessage());
+                break;
+            }
+            if (registro == null) {
+                break;
+            }
+            if (registro.size() == 1 && registro.get(0).isBlank()) {
+                continue;
+            }
+
+            progresso.lidos++;
+            try {
+                bloco.add(converter(csv.linha(), registro, colunas, clientes, tecnicos));
+            } catch (IllegalArgumentException e) {
+                progresso.rejeitar(csv.linha(), e.getMessage());
+            }
+            if (bloco.size() == tamanhoBloco) {
+                gravar(bloco, progresso);
+            }
+        }
+        gravar(bloco, progresso);
+
+        if (progresso.importados > 0) {
+            eventPublisher.publishEvent(new ChamadosImportadosEvent(progresso.importados));
+        }
+
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        double porSegundo = duracaoMs > 0 ? progresso.importados * 1000.0 / duracaoMs : progresso.importados;
+        log.info("Importação ({}): {} chamado(s) importado(s), {} rejeitado(s) em {} ms ({} chamados/s)",
+                chamadoBlocoWriter.modo(), progresso.importados, progresso.rejeitados, duracaoMs,
+                String.format(Locale.ROOT, "%.1f", porSegundo));
+        return new ImportacaoRelatorioDTO(chamadoBlocoWriter.modo(), progresso.lidos, progresso.importados,
+                progresso.rejeitados, progresso.rejeicoes, duracaoMs, porSegundo);
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private void gravar(List<LinhaImportacao> bloco, Progresso progresso) {
+        if (bloco.isEmpty()) {
+            return;
+        }
+        try {
+            chamadoBlocoWriter.gravar(bloco);
+            progresso.importados += bloco.size();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar bloco a partir da linha {}: {}", bloco.get(0).numero(), e.getMessage());
+            for (LinhaImportacao linha : bloco) {
+                progresso.rejeitar(linha.numero(), "Falha ao gravar o bloco: " + e.getMessage());
+            }
+        }
+        bloco.clear();
+    }
+
+    private static Map<String, Integer> lerCabecalho(List<String> cabecalho) {
+        if (cabecalho == null) {
+            throw new DomainRuleException("O arquivo de importação está vazio");
+        }
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            // Remove o BOM que alguns editores gravam no início de arquivos UTF-8
+            colunas.put(cabecalho.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        for (String obrigatoria : COLUNAS_OBRIGATORIAS) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw new DomainRuleException("Coluna obrigatória ausente no cabeçalho: " + obrigatoria);
+            }
+        }
+        return colunas;
+    }
+
+    private static LinhaImportacao converter(long numero, List<String> registro, Map<String, Integer> colunas,
+                                             Map<String, UUID> clientes, Map<String, UUID> tecnicos) {
+        String titulo = campo(registro, colunas, "titulo");
+        if (titulo == null) {
+            throw new IllegalArgumentException("Título é obrigatório");
+        }
+        if (titulo.length() > TAMANHO_MAXIMO_TITULO) {
+            throw new IllegalArgumentException("Título deve ter no máximo " + TAMANHO_MAXIMO_TITULO + " caracteres");
+        }
+        String observacoes = campo(registro, colunas, "observacoes");
+        if (observacoes != null && observacoes.length() > TAMANHO_MAXIMO_OBSERVACOES) {
+            throw new IllegalArgumentException("Observações devem ter no máximo " + TAMANHO_MAXIMO_OBSERVACOES + " caracteres");
+        }
+
+        Prioridade prioridade = enumeracao(Prioridade.class, campo(registro, colunas, "prioridade"), "Prioridade");
+        if (prioridade == null) {
+            throw new IllegalArgumentException("Prioridade é obrigatória");
+        }
+        Status status = enumeracao(Status.class, campo(registro, colunas, "status"), "Status");
+
+        String cpfCliente = cpf(campo(registro, colunas, "cpfCliente"));
+        UUID clienteId = cpfCliente != null ? clientes.get(cpfCliente) : null;
+        if (clienteId == null) {
+            throw new IllegalArgumentException("Cliente não encontrado com CPF: " + cpfCliente);
+        }
+        String cpfTecnico = cpf(campo(registro, colunas, "cpfTecnico"));
+        UUID tecnicoId = null;
+        if (cpfTecnico != null) {
+            tecnicoId = tecnicos.get(cpfTecnico);
+            if (tecnicoId == null) {
+                throw new IllegalArgumentException("Técnico não encontrado com CPF: " + cpfTecnico);
+            }
+        }
+
+        LocalDateTime dataAbertura = data(campo(registro, colunas, "dataAbertura"), "dataAbertura");
+        return new LinhaImportacao(
+                numero,
+                titulo,
+                observacoes,
+                prioridade,
+                status != null ? status : Status.ABERTO,
+                dataAbertura != null ? dataAbertura : LocalDateTime.now(),
+                data(campo(registro, colunas, "dataFechamento"), "dataFechamento"),
+                clienteId,
+                tecnicoId
+        );
+    }
+
+    /** Valor da coluna sem espaços nas extremidades; {@code null} se a coluna não existir ou estiver vazia. */
+    private static String campo(List<String> registro, Map<String, Integer> colunas, String nome) {
+        Integer indice = colunas.get(nome);
+        if (indice == null || indice >= registro.size()) {
+            return null;
+        }
+        String valor = registro.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static <E extends Enum<E>> E enumeracao(Class<E> tipo, String valor, String nome) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(tipo, valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(nome + " inválido(a): " + valor);
+        }
+    }
+
+    private static LocalDateTime data(String valor, String nome) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data inválida em " + nome + ": " + valor);
+        }
+    }
+
+    private static String cpf(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        String digitos = valor.replaceAll("\\D", "");
+        return digitos.isEmpty() ? null : digitos;
+    }
+
+    private static Map<String, UUID> mapaPorCpf(List<PessoaCpf> pessoas) {
+        Map<String, UUID> porCpf = new HashMap<>(pessoas.size() * 2);
+        for (PessoaCpf pessoa : pessoas) {
+            porCpf.put(pessoa.cpf(), pessoa.id());
+        }
+        return porCpf;
+    }
+}
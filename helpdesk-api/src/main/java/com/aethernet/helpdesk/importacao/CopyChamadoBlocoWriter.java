@@ -0,0 +1,81 @@
+package com.aethernet.helpdesk.importacao;
+
+import com.aethernet.helpdesk.domain.id.UuidV7;
+import com.aethernet.helpdesk.services.ChamadoExportService;
+import com.aethernet.helpdesk.sync.ChamadoSequenciador;
+import org.postgresql.PGConnection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Grava os blocos da importação com {@code COPY ... FROM STDIN} do PostgreSQL.
+ *
+ * Cada bloco é enviado como CSV em uma única instrução, na conexão da transação corrente.
+ */
+@Component
+@Profile("postgres")
+public class CopyChamadoBlocoWriter implements ChamadoBlocoWriter {
+
+    private static final String COPY_CHAMADO = """
+            COPY chamado (id, data_abertura, data_fechamento, prioridade, status, titulo, observacoes, cliente_id, tecnico_id)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    private final DataSource dataSource;
+    private final ChamadoSequenciador sequenciador;
+
+    public CopyChamadoBlocoWriter(DataSource dataSource, ChamadoSequenciador sequenciador) {
+        this.dataSource = dataSource;
+        this.sequenciador = sequenciador;
+    }
+
+    @Override
+    @Transactional
+    public void gravar(List<LinhaImportacao> bloco) {
+        StringBuilder csv = new StringBuilder(bloco.size() * 128);
+        List<UUID> ids = new ArrayList<>(bloco.size());
+        for (LinhaImportacao linha : bloco) {
+            UUID id = UuidV7.gerar();
+            ids.add(id);
+            csv.append(String.join(",",
+                    id.toString(),
+                    ChamadoExportService.campoCsv(linha.dataAbertura()),
+                    ChamadoExportService.campoCsv(linha.dataFechamento()),
+                    linha.prioridade().name(),
+                    linha.status().name(),
+                    ChamadoExportService.campoCsv(linha.titulo()),
+                    ChamadoExportService.campoCsv(linha.observacoes()),
+                    linha.clienteId().toString(),
+                    ChamadoExportService.campoCsv(linha.tecnicoId())
+            )).append('\n');
+        }
+
+        Connection conexao = DataSourceUtils.getConnection(dataSource);
+        try {
+            conexao.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_CHAMADO, new StringReader(csv.toString()));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha no COPY do bloco: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(conexao, dataSource);
+        }
+        sequenciador.registrar(ids);
+    }
+
+    @Override
+    public String modo() {
+        return "COPY";
+    }
+}
@@ -0,0 +1,111 @@
+package com.aethernet.helpdesk.importacao;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de registros CSV (RFC 4180) sobre um {@code Reader}, um registro por vez.
+ *
+ * Aceita campos entre aspas com vírgulas, aspas duplicadas e quebras de linha, e
+ * finais de linha {@code \n} ou {@code \r\n}. Somente o registro corrente fica em memória.
+ */
+public class CsvReader {
+
+    /** Tamanho máximo de um campo, para que uma aspa não fechada não consuma o arquivo inteiro. */
+    static final int TAMANHO_MAXIMO_CAMPO = 64 * 1024;
+
+    private final Reader reader;
+    private long linha;
+    private long inicioRegistro;
+    private int proximo = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return Os campos do registro, ou {@code null} no fim do arquivo.
+     * @throws IOException Se a leitura falhar.
+     * @throws IllegalArgumentException Se um campo exceder {@value #TAMANHO_MAXIMO_CAMPO} caracteres.
+     */
+    public List<String> proximoRegistro() throws IOException {
+        int c = ler();
+        if (c == -1) {
+            return null;
+        }
+        linha++;
+        inicioRegistro = linha;
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        while (true) {
+            if (entreAspas) {
+                if (c == -1) {
+                    break;
+                }
+                if (c == '"') {
+                    int seguinte = ler();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        c = seguinte;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        linha++;
+                    }
+                    acrescentar(campo, c);
+                }
+            } else if (c == '"' && campo.isEmpty()) {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int seguinte = ler();
+                    if (seguinte != '\n') {
+                        proximo = seguinte;
+                    }
+                }
+                break;
+            } else {
+                acrescentar(campo, c);
+            }
+            c = ler();
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    /**
+     * Retorna a linha do arquivo em que começa o último registro lido.
+     *
+     * @return O número da linha (a partir de 1).
+     */
+    public long linha() {
+        return inicioRegistro;
+    }
+
+    private int ler() throws IOException {
+        if (proximo != -2) {
+            int c = proximo;
+            proximo = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private static void acrescentar(StringBuilder campo, int c) {
+        if (campo.length() >= TAMANHO_MAXIMO_CAMPO) {
+            throw new IllegalArgumentException("Campo excede " + TAMANHO_MAXIMO_CAMPO + " caracteres");
+        }
+        campo.append((char) c);
+    }
+}
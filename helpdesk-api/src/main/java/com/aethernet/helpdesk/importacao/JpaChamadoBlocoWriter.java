@@ -0,0 +1,67 @@
+package com.aethernet.helpdesk.importacao;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.Cliente;
+import com.aethernet.helpdesk.domain.Tecnico;
+import com.aethernet.helpdesk.sync.ChamadoSequenciador;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Grava os blocos da importação com {@code persist} e lotes JDBC do Hibernate.
+ *
+ * Cliente e Técnico entram como referências (sem consulta), e o contexto de persistência
+ * é esvaziado ao fim de cada bloco, mantendo o consumo de memória constante.
+ */
+@Component
+@Profile("!postgres")
+public class JpaChamadoBlocoWriter implements ChamadoBlocoWriter {
+
+    /** Tamanho do lote JDBC usado nesta gravação, independentemente do padrão da aplicação. */
+    static final int TAMANHO_LOTE_JDBC = 500;
+
+    private final EntityManager entityManager;
+    private final ChamadoSequenciador sequenciador;
+
+    public JpaChamadoBlocoWriter(EntityManager entityManager, ChamadoSequenciador sequenciador) {
+        this.entityManager = entityManager;
+        this.sequenciador = sequenciador;
+    }
+
+    @Override
+    @Transactional
+    public void gravar(List<LinhaImportacao> bloco) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(TAMANHO_LOTE_JDBC);
+        List<UUID> ids = new ArrayList<>(bloco.size());
+        for (LinhaImportacao linha : bloco) {
+            Chamado chamado = new Chamado();
+            chamado.setTitulo(linha.titulo());
+            chamado.setObservacoes(linha.observacoes());
+            chamado.setPrioridade(linha.prioridade());
+            chamado.setStatus(linha.status());
+            chamado.setDataAbertura(linha.dataAbertura());
+            chamado.setDataFechamento(linha.dataFechamento());
+            chamado.setCliente(entityManager.getReference(Cliente.class, linha.clienteId()));
+            if (linha.tecnicoId() != null) {
+                chamado.setTecnico(entityManager.getReference(Tecnico.class, linha.tecnicoId()));
+            }
+            entityManager.persist(chamado);
+            ids.add(chamado.getId());
+        }
+        sequenciador.registrar(ids);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public String modo() {
+        return "JDBC_BATCH";
+    }
+}
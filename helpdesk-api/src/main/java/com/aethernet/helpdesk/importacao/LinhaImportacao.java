@@ -0,0 +1,32 @@
+package com.aethernet.helpdesk.importacao;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Uma linha do CSV de importação já validada, com Cliente e Técnico resolvidos por CPF.
+ *
+ * @param numero O número da linha no arquivo (para o relatório de rejeições).
+ * @param titulo O título do Chamado.
+ * @param observacoes As observações do Chamado (opcional).
+ * @param prioridade A prioridade do Chamado.
+ * @param status O status do Chamado.
+ * @param dataAbertura A data de abertura.
+ * @param dataFechamento A data de fechamento (opcional).
+ * @param clienteId O ID do Cliente.
+ * @param tecnicoId O ID do Técnico (opcional).
+ */
+public record LinhaImportacao(
+        long numero,
+        String titulo,
+        String observacoes,
+        Prioridade prioridade,
+        Status status,
+        LocalDateTime dataAbertura,
+        LocalDateTime dataFechamento,
+        UUID clienteId,
+        UUID tecnicoId
+) {}
@@ -0,0 +1,11 @@
+package com.aethernet.helpdesk.importacao;
+
+import java.util.UUID;
+
+/**
+ * CPF e ID de uma Pessoa, usados para montar o mapa de resolução da importação.
+ *
+ * @param cpf O CPF da Pessoa.
+ * @param id O ID da Pessoa.
+ */
+public record PessoaCpf(String cpf, UUID id) {}
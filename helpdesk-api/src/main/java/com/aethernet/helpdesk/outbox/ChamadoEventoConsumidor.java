@@ -0,0 +1,21 @@
+package com.aethernet.helpdesk.outbox;
+
+/**
+ * Destino dos eventos de Chamado entregues pelo {@link ChamadoOutboxRelay}
+ * (ex: um tópico de mensageria, um webhook de faturamento).
+ *
+ * Cada bean que implementa esta interface recebe todos os eventos. A entrega é "pelo menos uma
+ * vez": um evento pode chegar de novo após uma falha ou reinício, e deve ser deduplicado pela
+ * {@link ChamadoEventoMensagem#sequencia()}. Os eventos de um mesmo Chamado chegam em ordem,
+ * um de cada vez; eventos de Chamados diferentes podem chegar em paralelo.
+ */
+public interface ChamadoEventoConsumidor {
+
+    /**
+     * Recebe um evento. Uma exceção indica que o evento não foi aceito: ele e os eventos seguintes
+     * do mesmo Chamado serão entregues de novo no próximo ciclo do relay.
+     *
+     * @param mensagem O evento.
+     */
+    void receber(ChamadoEventoMensagem mensagem);
+}
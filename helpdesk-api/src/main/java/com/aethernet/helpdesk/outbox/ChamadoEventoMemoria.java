@@ -0,0 +1,64 @@
+package com.aethernet.helpdesk.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Consumidor em memória dos eventos de Chamado: guarda os últimos eventos recebidos.
+ *
+ * Substitui a integração com a mensageria em desenvolvimento e nos testes, e serve de
+ * inspeção rápida do que o relay está entregando. Guarda no máximo {@value #CAPACIDADE} eventos.
+ */
+@Component
+public class ChamadoEventoMemoria implements ChamadoEventoConsumidor {
+
+    /** Quantidade máxima de eventos guardados; os mais antigos são descartados. */
+    static final int CAPACIDADE = 10_000;
+
+    private final Deque<ChamadoEventoMensagem> recebidos = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    public void receber(ChamadoEventoMensagem mensagem) {
+        lock.lock();
+        try {
+            if (recebidos.size() == CAPACIDADE) {
+                recebidos.removeFirst();
+            }
+            recebidos.addLast(mensagem);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna uma cópia dos eventos guardados, na ordem de recebimento.
+     *
+     * @return Os eventos recebidos.
+     */
+    public List<ChamadoEventoMensagem> recebidos() {
+        lock.lock();
+        try {
+            return new ArrayList<>(recebidos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Descarta os eventos guardados.
+     */
+    public void limpar() {
+        lock.lock();
+        try {
+            recebidos.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
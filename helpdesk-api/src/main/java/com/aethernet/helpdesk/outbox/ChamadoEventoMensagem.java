@@ -0,0 +1,24 @@
+package com.aethernet.helpdesk.outbox;
+
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de Chamado entregue pelo {@link ChamadoOutboxRelay} a um {@link ChamadoEventoConsumidor}.
+ *
+ * @param sequencia A sequência do evento na outbox, crescente na ordem das alterações de cada Chamado.
+ *                  Permite ao consumidor descartar entregas repetidas.
+ * @param chamadoId O Chamado alterado.
+ * @param tipo A operação que alterou o Chamado.
+ * @param dataCriacao Data e hora em que a alteração foi gravada.
+ * @param payload O {@link ChamadoAlteradoEvent} serializado em JSON.
+ */
+public record ChamadoEventoMensagem(
+        long sequencia,
+        UUID chamadoId,
+        ChamadoAlteradoEvent.Tipo tipo,
+        LocalDateTime dataCriacao,
+        String payload
+) {}
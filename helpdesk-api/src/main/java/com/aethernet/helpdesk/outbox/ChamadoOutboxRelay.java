@@ -0,0 +1,262 @@
+package com.aethernet.helpdesk.outbox;
+
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Entrega os eventos pendentes da outbox aos {@link ChamadoEventoConsumidor}es.
+ *
+ * A cada ciclo, lê os pendentes em lotes de {@code helpdesk.outbox.lote}, em ordem de sequência,
+ * e os distribui em {@code helpdesk.outbox.paralelismo} faixas pelo ID do Chamado: todos os eventos
+ * de um Chamado caem na mesma faixa e são entregues em ordem, enquanto as faixas rodam em paralelo.
+ * Se uma entrega falha, o Chamado é retido até o fim do ciclo: o evento e os seguintes do mesmo
+ * Chamado ficam pendentes para o próximo ciclo, enquanto os demais Chamados seguem. Dentro de um
+ * ciclo, os lotes avançam por cursor de sequência, para que os eventos retidos não ocupem os lotes
+ * seguintes. Ao fim de cada lote, os eventos entregues são marcados com um único UPDATE.
+ *
+ * A entrega é "pelo menos uma vez": uma queda entre a entrega e a marcação repete o evento.
+ * Com várias instâncias da aplicação, habilite o relay ({@code helpdesk.outbox.habilitado}) em
+ * apenas uma delas.
+ */
+@Component
+public class ChamadoOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoOutboxRelay.class);
+
+    private static final String PENDENTES = """
+            SELECT id, chamado_id, tipo, data_criacao, payload
+            FROM outbox_evento
+            WHERE data_publicacao IS NULL AND id > :cursor
+            ORDER BY id
+            LIMIT :lote
+            """;
+
+    private static final String MARCAR_PUBLICADOS =
+            "UPDATE outbox_evento SET data_publicacao = :agora WHERE id IN (:ids)";
+
+    private static final String REMOVER_PUBLICADOS =
+            "DELETE FROM outbox_evento WHERE data_publicacao < :limite";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final List<ChamadoEventoConsumidor> consumidores;
+    private final boolean habilitado;
+    private final int tamanhoLote;
+    private final int paralelismo;
+    private final Duration retencao;
+    private final ExecutorService faixas;
+
+    private final Counter publicados;
+    private final Counter falhas;
+    private final Timer latencia;
+
+    /** Idade, em ms, do evento pendente mais antigo visto no último ciclo (0 se a outbox esvaziou). */
+    private final AtomicLong atrasoMs = new AtomicLong();
+
+    /** Impede que o ciclo agendado e um disparo manual entreguem os mesmos eventos ao mesmo tempo. */
+    private final ReentrantLock execucao = new ReentrantLock();
+
+    public ChamadoOutboxRelay(NamedParameterJdbcTemplate jdbcTemplate,
+                              List<ChamadoEventoConsumidor> consumidores,
+                              MeterRegistry meterRegistry,
+                              @Value("${helpdesk.outbox.habilitado:true}") boolean habilitado,
+                              @Value("${helpdesk.outbox.lote:500}") int tamanhoLote,
+                              @Value("${helpdesk.outbox.paralelismo:4}") int paralelismo,
+                              @Value("${helpdesk.outbox.retencao-horas:24}") long retencaoHoras) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.consumidores = consumidores;
+        this.habilitado = habilitado;
+        this.tamanhoLote = tamanhoLote;
+        this.paralelismo = Math.max(1, paralelismo);
+        this.retencao = Duration.ofHours(retencaoHoras);
+
+        AtomicInteger numero = new AtomicInteger();
+        // Virtual threads: a entrega espera pelo consumidor (rede), e as faixas só limitam o paralelismo
+        this.faixas = Executors.newFixedThreadPool(this.paralelismo,
+                r -> Thread.ofVirtual().name("outbox-relay-" + numero.incrementAndGet()).unstarted(r));
+
+        Gauge.builder("helpdesk.outbox.atraso", atrasoMs, AtomicLong::get)
+                .description("Idade do evento pendente mais antigo no último ciclo do relay")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.publicados = Counter.builder("helpdesk.outbox.publicados")
+                .description("Eventos de chamado entregues aos consumidores")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("helpdesk.outbox.falhas")
+                .description("Entregas recusadas por um consumidor (repetidas no próximo ciclo)")
+                .register(meterRegistry);
+        this.latencia = Timer.builder("helpdesk.outbox.latencia")
+                .description("Tempo entre a gravação do evento e a sua entrega")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa um ciclo no intervalo configurado em {@code helpdesk.outbox.intervalo-ms}, se o relay
+     * estiver habilitado, e remove os eventos entregues há mais de {@code helpdesk.outbox.retencao-horas}.
+     */
+    @Scheduled(initialDelayString = "${helpdesk.outbox.intervalo-ms:1000}",
+            fixedDelayString = "${helpdesk.outbox.intervalo-ms:1000}")
+    public void executarAgendado() {
+        if (habilitado) {
+            drenar();
+            jdbcTemplate.update(REMOVER_PUBLICADOS,
+                    new MapSqlParameterSource("limite", Timestamp.valueOf(LocalDateTime.now().minus(retencao))));
+        }
+    }
+
+    /**
+     * Entrega os eventos pendentes, lote a lote, até o fim da outbox.
+     *
+     * Se outro ciclo já estiver em execução, retorna imediatamente sem entregar nada.
+     *
+     * @return A quantidade de eventos entregues neste ciclo.
+     */
+    public int drenar() {
+        if (!execucao.tryLock()) {
+            return 0;
+        }
+        try {
+            int total = 0;
+            long cursor = 0;
+            Set<UUID> retidos = ConcurrentHashMap.newKeySet();
+            while (true) {
+                List<ChamadoEventoMensagem> lote = buscarPendentes(cursor);
+                if (cursor == 0) {
+                    // O primeiro lote começa pelo evento pendente mais antigo
+                    atrasoMs.set(lote.isEmpty() ? 0 : idadeMs(lote.get(0)));
+                }
+                if (lote.isEmpty()) {
+                    return total;
+                }
+                cursor = lote.get(lote.size() - 1).sequencia();
+
+                List<Long> entregues = entregar(lote, retidos);
+                if (!entregues.isEmpty()) {
+                    jdbcTemplate.update(MARCAR_PUBLICADOS, new MapSqlParameterSource()
+                            .addValue("agora", Timestamp.valueOf(LocalDateTime.now()))
+                            .addValue("ids", entregues));
+                }
+                total += entregues.size();
+                if (lote.size() < tamanhoLote) {
+                    return total;
+                }
+            }
+        } finally {
+            execucao.unlock();
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        faixas.shutdownNow();
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private List<ChamadoEventoMensagem> buscarPendentes(long cursor) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("cursor", cursor)
+                .addValue("lote", tamanhoLote);
+        return jdbcTemplate.query(PENDENTES, parametros,
+                (rs, i) -> new ChamadoEventoMensagem(
+                        rs.getLong("id"),
+                        rs.getObject("chamado_id", UUID.class),
+                        ChamadoAlteradoEvent.Tipo.valueOf(rs.getString("tipo")),
+                        rs.getTimestamp("data_criacao").toLocalDateTime(),
+                        rs.getString("payload")));
+    }
+
+    /**
+     * Distribui o lote nas faixas, preservando a ordem de cada Chamado, e aguarda todas.
+     *
+     * @param retidos Os Chamados com entrega recusada neste ciclo (compartilhado entre os lotes).
+     * @return As sequências dos eventos entregues a todos os consumidores.
+     */
+    private List<Long> entregar(List<ChamadoEventoMensagem> lote, Set<UUID> retidos) {
+        List<List<ChamadoEventoMensagem>> porFaixa = new ArrayList<>(paralelismo);
+        for (int i = 0; i < paralelismo; i++) {
+            porFaixa.add(new ArrayList<>());
+        }
+        for (ChamadoEventoMensagem mensagem : lote) {
+            porFaixa.get(Math.floorMod(mensagem.chamadoId().hashCode(), paralelismo)).add(mensagem);
+        }
+
+        List<Future<List<Long>>> futuros = new ArrayList<>(paralelismo);
+        for (List<ChamadoEventoMensagem> faixa : porFaixa) {
+            if (!faixa.isEmpty()) {
+                futuros.add(faixas.submit(() -> entregarFaixa(faixa, retidos)));
+            }
+        }
+
+        List<Long> entregues = new ArrayList<>(lote.size());
+        for (Future<List<Long>> futuro : futuros) {
+            try {
+                entregues.addAll(futuro.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.error("Outbox: falha inesperada em uma faixa do relay", e.getCause());
+            }
+        }
+        return entregues;
+    }
+
+    /**
+     * Entrega os eventos de uma faixa em ordem. Após uma falha, os eventos seguintes do mesmo
+     * Chamado são retidos, para não chegarem antes do evento que falhou.
+     */
+    private List<Long> entregarFaixa(List<ChamadoEventoMensagem> faixa, Set<UUID> retidos) {
+        List<Long> entregues = new ArrayList<>(faixa.size());
+        for (ChamadoEventoMensagem mensagem : faixa) {
+            if (retidos.contains(mensagem.chamadoId())) {
+                continue;
+            }
+            try {
+                for (ChamadoEventoConsumidor consumidor : consumidores) {
+                    consumidor.receber(mensagem);
+                }
+            } catch (RuntimeException e) {
+                falhas.increment();
+                retidos.add(mensagem.chamadoId());
+                log.warn("Outbox: evento {} do chamado {} recusado: {}",
+                        mensagem.sequencia(), mensagem.chamadoId(), e.getMessage());
+                continue;
+            }
+            entregues.add(mensagem.sequencia());
+            publicados.increment();
+            latencia.record(Duration.ofMillis(idadeMs(mensagem)));
+        }
+        return entregues;
+    }
+
+    private static long idadeMs(ChamadoEventoMensagem mensagem) {
+        return Math.max(0, Duration.between(mensagem.dataCriacao(), LocalDateTime.now()).toMillis());
+    }
+}
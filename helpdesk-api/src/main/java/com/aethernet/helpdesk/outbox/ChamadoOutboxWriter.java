@@ -0,0 +1,99 @@
+package com.aethernet.helpdesk.outbox;
+
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava cada {@link ChamadoAlteradoEvent} na outbox, na mesma transação da alteração.
+ *
+ * Os eventos da transação são acumulados e inseridos imediatamente antes do commit, com um único
+ * lote JDBC: se a gravação falhar, a alteração do Chamado é desfeita junto, e uma alteração
+ * desfeita não deixa evento. O ID de cada evento continua vindo da coluna identidade, atribuído
+ * no INSERT com a linha do Chamado já bloqueada, o que mantém a ordem das alterações de cada
+ * Chamado mesmo com várias instâncias da aplicação. Alterações feitas fora de uma transação não
+ * publicam evento na outbox.
+ */
+@Component
+public class ChamadoOutboxWriter {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_evento (chamado_id, tipo, payload, data_criacao)
+            VALUES (:chamadoId, :tipo, :payload, :dataCriacao)
+            """;
+
+    /**
+     * Os eventos da transação corrente, gravados antes do commit.
+     */
+    private final class Pendentes implements TransactionSynchronization {
+
+        final List<SqlParameterSource> eventos = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!eventos.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, eventos.toArray(SqlParameterSource[]::new));
+            }
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ChamadoOutboxWriter(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Acrescenta o evento aos pendentes da transação.
+     *
+     * @param event O evento publicado pelo {@code ChamadoService}, ainda dentro da transação.
+     */
+    @EventListener
+    public void aoAlterarChamado(ChamadoAlteradoEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o evento do Chamado " + event.chamadoId(), e);
+        }
+        pendentes().eventos.add(new MapSqlParameterSource()
+                .addValue("chamadoId", event.chamadoId())
+                .addValue("tipo", event.tipo().name())
+                .addValue("payload", payload)
+                .addValue("dataCriacao", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    /**
+     * Devolve os pendentes da transação corrente, registrando-os no primeiro evento.
+     *
+     * A busca é feita entre as sincronizações da transação corrente (e não em um recurso
+     * associado à thread) para que uma transação {@code REQUIRES_NEW} tenha os seus próprios.
+     */
+    private Pendentes pendentes() {
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sincronizacao instanceof Pendentes pendentes) {
+                return pendentes;
+            }
+        }
+        Pendentes pendentes = new Pendentes();
+        TransactionSynchronizationManager.registerSynchronization(pendentes);
+        return pendentes;
+    }
+}
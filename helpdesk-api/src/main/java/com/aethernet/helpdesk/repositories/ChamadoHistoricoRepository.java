@@ -0,0 +1,73 @@
+package com.aethernet.helpdesk.repositories;
+
+import com.aethernet.helpdesk.domain.ChamadoHistorico;
+import com.aethernet.helpdesk.historico.TempoStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface de repositório para o histórico de Chamados ({@code ChamadoHistorico}).
+ *
+ * Apenas leituras: os registros são inseridos em lote pelo {@code ChamadoHistoricoWriter}.
+ */
+@Repository
+public interface ChamadoHistoricoRepository extends JpaRepository<ChamadoHistorico, UUID> {
+
+    /**
+     * Busca a primeira fatia do histórico de um Chamado, do registro mais antigo para o mais novo.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de registros.
+     */
+    @Query("SELECT h FROM ChamadoHistorico h WHERE h.chamadoId = :chamadoId ORDER BY h.versaoChamado ASC")
+    Slice<ChamadoHistorico> findPrimeiraFatia(@Param("chamadoId") UUID chamadoId, Pageable pageable);
+
+    /**
+     * Busca a fatia seguinte ao cursor: os registros com versão do Chamado maior que a do último
+     * registro entregue.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @param versao A versão do Chamado no último registro da fatia anterior.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de registros posteriores ao cursor.
+     */
+    @Query("""
+            SELECT h FROM ChamadoHistorico h
+            WHERE h.chamadoId = :chamadoId AND h.versaoChamado > :versao
+            ORDER BY h.versaoChamado ASC
+            """)
+    Slice<ChamadoHistorico> findFatiaApos(@Param("chamadoId") UUID chamadoId,
+                                          @Param("versao") Long versao,
+                                          Pageable pageable);
+
+    /**
+     * Soma o tempo já concluído em cada Status de um Chamado.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @return Uma linha por Status que o Chamado já deixou.
+     */
+    @Query("""
+            SELECT new com.aethernet.helpdesk.historico.TempoStatus(h.statusAnterior, SUM(h.duracaoAnteriorMs))
+            FROM ChamadoHistorico h
+            WHERE h.chamadoId = :chamadoId AND h.statusAnterior IS NOT NULL AND h.duracaoAnteriorMs IS NOT NULL
+            GROUP BY h.statusAnterior
+            """)
+    List<TempoStatus> somarTempoPorStatus(@Param("chamadoId") UUID chamadoId);
+
+    /**
+     * Busca o registro mais recente de um Chamado: o início do seu Status atual.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @return O último registro, se houver.
+     */
+    Optional<ChamadoHistorico> findFirstByChamadoIdOrderByVersaoChamadoDesc(UUID chamadoId);
+}
@@ -0,0 +1,37 @@
+package com.aethernet.helpdesk.repositories;
+
+import com.aethernet.helpdesk.domain.ChamadoRemocao;
+import com.aethernet.helpdesk.sync.PosicaoAlteracao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface de repositório para as marcas de exclusão de Chamados ({@code ChamadoRemocao}).
+ *
+ * Apenas leituras: as marcas são inseridas pelo {@code ChamadoSequenciador}.
+ */
+@Repository
+public interface ChamadoRemocaoRepository extends JpaRepository<ChamadoRemocao, UUID> {
+
+    /**
+     * Busca as exclusões com sequência no intervalo {@code (desde, ate]}, em ordem de sequência.
+     *
+     * @param desde A sequência já sincronizada pelo cliente (exclusiva).
+     * @param ate A maior sequência confirmada no início da consulta (inclusiva).
+     * @param pageable Define a quantidade máxima de exclusões.
+     * @return As posições das exclusões.
+     */
+    @Query("""
+            SELECT new com.aethernet.helpdesk.sync.PosicaoAlteracao(r.chamadoId, r.sequenciaAlteracao)
+            FROM ChamadoRemocao r
+            WHERE r.sequenciaAlteracao > :desde AND r.sequenciaAlteracao <= :ate
+            ORDER BY r.sequenciaAlteracao
+            """)
+    List<PosicaoAlteracao> findRemovidosEntre(@Param("desde") long desde, @Param("ate") long ate, Pageable pageable);
+}
@@ -0,0 +1,486 @@
+package com.aethernet.helpdesk.repositories;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.search.ChamadoDocumento;
+import com.aethernet.helpdesk.services.ChamadoVersionado;
+import com.aethernet.helpdesk.services.VersaoRecurso;
+import com.aethernet.helpdesk.sla.ChamadoPrazo;
+import com.aethernet.helpdesk.stats.ChamadoContagem;
+import com.aethernet.helpdesk.sync.PosicaoAlteracao;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Interface de repositório para a entidade {@code Chamado}.
+ *
+ * Estende {@code JpaRepository}, fornecendo automaticamente as operações CRUD
+ * básicas (Criar, Ler, Atualizar, Deletar) para Chamados,
+ * utilizando {@code Chamado} como tipo de entidade e {@code UUID} como tipo da chave primária.
+ */
+@Repository
+public interface ChamadoRepository extends JpaRepository<Chamado, UUID> {
+
+    /** Quantidade de linhas trazidas do banco a cada ida ao cursor JDBC durante a exportação. */
+    int TAMANHO_FETCH_EXPORTACAO = 500;
+
+    /**
+     * Projeção JPQL que monta o {@code ChamadoResponseDTO} diretamente na consulta.
+     *
+     * Cliente e Técnico são unidos na mesma instrução apenas para ler o nome, sem hidratar
+     * as entidades {@code Pessoa}.
+     */
+    String SELECT_RESPONSE_DTO = """
+            SELECT new com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO(
+                c.id, c.dataAbertura, c.dataFechamento, c.prioridade, c.status,
+                c.titulo, c.observacoes, cl.nome, t.nome, c.versao)
+            FROM Chamado c
+            JOIN c.cliente cl
+            LEFT JOIN c.tecnico t
+            """;
+
+    /** Ordenação padrão das listagens: data de abertura, com o ID como desempate. */
+    String ORDEM_PADRAO = " ORDER BY c.dataAbertura ASC, c.id ASC";
+
+    /**
+     * Posiciona a paginação por chave imediatamente após o cursor {@code (dataAbertura, id)}.
+     * A comparação de tupla permite que o banco posicione a busca no índice que termina em
+     * {@code (data_abertura, id)}.
+     */
+    String APOS_CURSOR = " (c.dataAbertura, c.id) > (:dataAbertura, :id)";
+
+    /**
+     * Busca e retorna uma lista de todos os Chamados que possuem o {@code Status} especificado.
+     *
+     * Este método é gerado automaticamente pelo Spring Data JPA baseado no nome.
+     *
+     * @param status O {@code Status} pelo qual os chamados serão filtrados.
+     * @return Uma lista de {@code Chamado}s que correspondem ao status fornecido.
+     */
+    List<Chamado> findByStatus(Status status);
+
+    /**
+     * Busca e retorna uma lista de todos os Chamados que possuem a {@code Prioridade} especificada.
+     *
+     * @param prioridade A {@code Prioridade} pela qual os chamados serão filtrados.
+     * @return Uma lista de {@code Chamado}s que correspondem à prioridade fornecida.
+     */
+    List<Chamado> findByPrioridade(Prioridade  prioridade);
+
+    /**
+     * Busca e retorna uma lista de todos os Chamados que possuem o {@code Status} e a {@code Prioridade} especificados.
+     *
+     * @param status O {@code Status} pelo qual os chamados serão filtrados.
+     * @param prioridade A {@code Prioridade} pela qual os chamados serão filtrados.
+     * @return Uma lista de {@code Chamado}s que correspondem ao status e prioridade fornecidos.
+     */
+    List<Chamado> findByStatusAndPrioridade(Status status, Prioridade prioridade);
+
+    /**
+     * Busca e retorna uma lista de todos os Chamados abertos por um Cliente específico.
+     *
+     * @param clienteId O UUID do Cliente.
+     * @return Uma lista de {@code Chamado}s associados ao Cliente com o ID fornecido.
+     */
+    List<Chamado> findByClienteId(UUID clienteId);
+
+    /**
+     * Busca e retorna uma lista de todos os Chamados atribuídos a um Técnico específico.
+     *
+     * @param tecnicoId O UUID do Técnico.
+     * @return Uma lista de {@code Chamado}s associados ao Técnico com o ID fornecido.
+     */
+    List<Chamado> findByTecnicoId(UUID tecnicoId);
+
+    /**
+     * Busca um Chamado pelo ID já projetado em {@code ChamadoResponseDTO}, em uma única instrução SQL.
+     *
+     * @param id O UUID do Chamado.
+     * @return Um {@code Optional} contendo o DTO, se o Chamado existir.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.id = :id")
+    Optional<ChamadoResponseDTO> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Busca um Chamado pelo ID projetado em {@code ChamadoResponseDTO} junto com os validadores
+     * HTTP do mesmo estado (versões e datas de gravação do Chamado, do Cliente e do Técnico), em
+     * uma única instrução SQL.
+     *
+     * @param id O UUID do Chamado.
+     * @return Um {@code Optional} contendo o DTO e os validadores, se o Chamado existir.
+     */
+    @Query("""
+            SELECT new com.aethernet.helpdesk.services.ChamadoVersionado(
+                c.id, c.dataAbertura, c.dataFechamento, c.prioridade, c.status,
+                c.titulo, c.observacoes, cl.nome, t.nome, c.versao,
+                cl.versao, t.versao, c.dataAtualizacao, cl.dataAtualizacao, t.dataAtualizacao)
+            FROM Chamado c
+            JOIN c.cliente cl
+            LEFT JOIN c.tecnico t
+            WHERE c.id = :id
+            """)
+    Optional<ChamadoVersionado> findVersionadoById(@Param("id") UUID id);
+
+    /**
+     * Busca apenas as versões e as datas da última gravação de um Chamado, do seu Cliente e do
+     * seu Técnico, cujos nomes fazem parte da resposta, para responder às leituras condicionais
+     * sem carregar o Chamado (304 sem ler o corpo).
+     *
+     * @param id O UUID do Chamado.
+     * @return Um {@code Optional} contendo os validadores, se o Chamado existir.
+     */
+    @Query("""
+            SELECT new com.aethernet.helpdesk.services.VersaoRecurso(
+                c.versao, cl.versao, t.versao, c.dataAtualizacao, cl.dataAtualizacao, t.dataAtualizacao)
+            FROM Chamado c
+            JOIN c.cliente cl
+            LEFT JOIN c.tecnico t
+            WHERE c.id = :id
+            """)
+    Optional<VersaoRecurso> findVersaoById(@Param("id") UUID id);
+
+    /**
+     * Lista todos os Chamados projetados em {@code ChamadoResponseDTO}.
+     *
+     * @return Uma lista de DTOs ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + ORDEM_PADRAO)
+    List<ChamadoResponseDTO> findAllResponse();
+
+    /**
+     * Lista os Chamados com o {@code Status} especificado, projetados em {@code ChamadoResponseDTO}.
+     *
+     * @param status O {@code Status} pelo qual os chamados serão filtrados.
+     * @return Uma lista de DTOs ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.status = :status" + ORDEM_PADRAO)
+    List<ChamadoResponseDTO> findResponseByStatus(@Param("status") Status status);
+
+    /**
+     * Lista os Chamados com a {@code Prioridade} especificada, projetados em {@code ChamadoResponseDTO}.
+     *
+     * @param prioridade A {@code Prioridade} pela qual os chamados serão filtrados.
+     * @return Uma lista de DTOs ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.prioridade = :prioridade" + ORDEM_PADRAO)
+    List<ChamadoResponseDTO> findResponseByPrioridade(@Param("prioridade") Prioridade prioridade);
+
+    /**
+     * Lista os Chamados com o {@code Status} e a {@code Prioridade} especificados, projetados em {@code ChamadoResponseDTO}.
+     *
+     * @param status O {@code Status} pelo qual os chamados serão filtrados.
+     * @param prioridade A {@code Prioridade} pela qual os chamados serão filtrados.
+     * @return Uma lista de DTOs ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.status = :status AND c.prioridade = :prioridade" + ORDEM_PADRAO)
+    List<ChamadoResponseDTO> findResponseByStatusAndPrioridade(@Param("status") Status status,
+                                                               @Param("prioridade") Prioridade prioridade);
+
+    /**
+     * Lista os Chamados abertos por um Cliente, projetados em {@code ChamadoResponseDTO}.
+     *
+     * @param clienteId O UUID do Cliente.
+     * @return Uma lista de DTOs ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE cl.id = :clienteId" + ORDEM_PADRAO)
+    List<ChamadoResponseDTO> findResponseByClienteId(@Param("clienteId") UUID clienteId);
+
+    /**
+     * Lista os Chamados atribuídos a um Técnico, projetados em {@code ChamadoResponseDTO}.
+     *
+     * @param tecnicoId O UUID do Técnico.
+     * @return Uma lista de DTOs ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE t.id = :tecnicoId" + ORDEM_PADRAO)
+    List<ChamadoResponseDTO> findResponseByTecnicoId(@Param("tecnicoId") UUID tecnicoId);
+
+    /**
+     * Retorna a primeira fatia de Chamados ordenada por {@code (dataAbertura, id)}.
+     *
+     * Há uma consulta por combinação de filtros, assim como na listagem completa: com um predicado
+     * como {@code (:status IS NULL OR c.status = :status)}, o plano genérico que o Postgres adota
+     * para a instrução preparada não usa o índice do filtro informado. O tamanho da fatia é
+     * definido pelo {@code Pageable} (sempre na página 0); o Spring Data busca um registro a mais
+     * para informar se existe uma próxima fatia.
+     *
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s.
+     */
+    @Query(SELECT_RESPONSE_DTO + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findPrimeiraFatia(Pageable pageable);
+
+    /**
+     * Retorna a primeira fatia de Chamados com o {@code Status} especificado.
+     *
+     * @param status O {@code Status} pelo qual filtrar.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.status = :status" + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findPrimeiraFatiaByStatus(@Param("status") Status status, Pageable pageable);
+
+    /**
+     * Retorna a primeira fatia de Chamados com a {@code Prioridade} especificada.
+     *
+     * @param prioridade A {@code Prioridade} pela qual filtrar.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.prioridade = :prioridade" + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findPrimeiraFatiaByPrioridade(@Param("prioridade") Prioridade prioridade,
+                                                            Pageable pageable);
+
+    /**
+     * Retorna a primeira fatia de Chamados com o {@code Status} e a {@code Prioridade} especificados.
+     *
+     * @param status O {@code Status} pelo qual filtrar.
+     * @param prioridade A {@code Prioridade} pela qual filtrar.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s ordenada por {@code (dataAbertura, id)}.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.status = :status AND c.prioridade = :prioridade" + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findPrimeiraFatiaByStatusAndPrioridade(@Param("status") Status status,
+                                                                     @Param("prioridade") Prioridade prioridade,
+                                                                     Pageable pageable);
+
+    /**
+     * Retorna a fatia de Chamados posicionada imediatamente após o cursor {@code (dataAbertura, id)}.
+     *
+     * Paginação por chave (keyset): o custo da consulta não depende da profundidade da página,
+     * pois o banco parte diretamente da posição do cursor em vez de descartar {@code OFFSET} linhas.
+     *
+     * @param dataAbertura A data de abertura do último Chamado da fatia anterior.
+     * @param id O ID do último Chamado da fatia anterior (desempate para datas iguais).
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s posteriores ao cursor.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE" + APOS_CURSOR + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findFatiaApos(@Param("dataAbertura") LocalDateTime dataAbertura,
+                                            @Param("id") UUID id,
+                                            Pageable pageable);
+
+    /**
+     * Retorna a fatia de Chamados com o {@code Status} especificado posicionada após o cursor.
+     *
+     * @param dataAbertura A data de abertura do último Chamado da fatia anterior.
+     * @param id O ID do último Chamado da fatia anterior.
+     * @param status O {@code Status} pelo qual filtrar.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s posteriores ao cursor.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.status = :status AND" + APOS_CURSOR + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findFatiaAposByStatus(@Param("dataAbertura") LocalDateTime dataAbertura,
+                                                    @Param("id") UUID id,
+                                                    @Param("status") Status status,
+                                                    Pageable pageable);
+
+    /**
+     * Retorna a fatia de Chamados com a {@code Prioridade} especificada posicionada após o cursor.
+     *
+     * @param dataAbertura A data de abertura do último Chamado da fatia anterior.
+     * @param id O ID do último Chamado da fatia anterior.
+     * @param prioridade A {@code Prioridade} pela qual filtrar.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s posteriores ao cursor.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.prioridade = :prioridade AND" + APOS_CURSOR + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findFatiaAposByPrioridade(@Param("dataAbertura") LocalDateTime dataAbertura,
+                                                        @Param("id") UUID id,
+                                                        @Param("prioridade") Prioridade prioridade,
+                                                        Pageable pageable);
+
+    /**
+     * Retorna a fatia de Chamados com o {@code Status} e a {@code Prioridade} especificados
+     * posicionada após o cursor.
+     *
+     * @param dataAbertura A data de abertura do último Chamado da fatia anterior.
+     * @param id O ID do último Chamado da fatia anterior.
+     * @param status O {@code Status} pelo qual filtrar.
+     * @param prioridade A {@code Prioridade} pela qual filtrar.
+     * @param pageable Define o tamanho da fatia.
+     * @return Uma {@code Slice} de {@code ChamadoResponseDTO}s posteriores ao cursor.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.status = :status AND c.prioridade = :prioridade AND"
+            + APOS_CURSOR + ORDEM_PADRAO)
+    Slice<ChamadoResponseDTO> findFatiaAposByStatusAndPrioridade(@Param("dataAbertura") LocalDateTime dataAbertura,
+                                                                 @Param("id") UUID id,
+                                                                 @Param("status") Status status,
+                                                                 @Param("prioridade") Prioridade prioridade,
+                                                                 Pageable pageable);
+
+    /** Chamados com Cliente e Técnico carregados na mesma consulta, para a exportação. */
+    String SELECT_EXPORTACAO = """
+            SELECT c FROM Chamado c
+            JOIN FETCH c.cliente
+            LEFT JOIN FETCH c.tecnico
+            """;
+
+    /**
+     * Percorre todos os Chamados como um {@code Stream} apoiado em um cursor JDBC.
+     *
+     * As linhas são lidas do banco em lotes de {@value #TAMANHO_FETCH_EXPORTACAO}, sem materializar o
+     * resultado completo em memória. Cliente e Técnico são carregados na mesma consulta.
+     * Deve ser consumido dentro de uma transação aberta e fechado ao final (try-with-resources).
+     * Assim como nas fatias, há uma consulta por combinação de filtros, para que cada uma use o
+     * índice do seu filtro.
+     *
+     * @return Um {@code Stream} de {@code Chamado}s ordenado por {@code (dataAbertura, id)}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TAMANHO_FETCH_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORTACAO + ORDEM_PADRAO)
+    Stream<Chamado> streamParaExportacao();
+
+    /**
+     * Percorre os Chamados com o {@code Status} especificado, como em {@link #streamParaExportacao()}.
+     *
+     * @param status O {@code Status} pelo qual filtrar.
+     * @return Um {@code Stream} de {@code Chamado}s ordenado por {@code (dataAbertura, id)}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TAMANHO_FETCH_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORTACAO + " WHERE c.status = :status" + ORDEM_PADRAO)
+    Stream<Chamado> streamParaExportacaoByStatus(@Param("status") Status status);
+
+    /**
+     * Percorre os Chamados com a {@code Prioridade} especificada, como em {@link #streamParaExportacao()}.
+     *
+     * @param prioridade A {@code Prioridade} pela qual filtrar.
+     * @return Um {@code Stream} de {@code Chamado}s ordenado por {@code (dataAbertura, id)}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TAMANHO_FETCH_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORTACAO + " WHERE c.prioridade = :prioridade" + ORDEM_PADRAO)
+    Stream<Chamado> streamParaExportacaoByPrioridade(@Param("prioridade") Prioridade prioridade);
+
+    /**
+     * Percorre os Chamados com o {@code Status} e a {@code Prioridade} especificados, como em
+     * {@link #streamParaExportacao()}.
+     *
+     * @param status O {@code Status} pelo qual filtrar.
+     * @param prioridade A {@code Prioridade} pela qual filtrar.
+     * @return Um {@code Stream} de {@code Chamado}s ordenado por {@code (dataAbertura, id)}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TAMANHO_FETCH_EXPORTACAO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORTACAO + " WHERE c.status = :status AND c.prioridade = :prioridade" + ORDEM_PADRAO)
+    Stream<Chamado> streamParaExportacaoByStatusAndPrioridade(@Param("status") Status status,
+                                                             @Param("prioridade") Prioridade prioridade);
+
+    /**
+     * Percorre os campos textuais de todos os Chamados, para a reconstrução do índice de busca.
+     *
+     * Deve ser consumido dentro de uma transação aberta e fechado ao final (try-with-resources).
+     *
+     * @return Um {@code Stream} de {@code ChamadoDocumento}s.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TAMANHO_FETCH_EXPORTACAO))
+    @Query("SELECT new com.aethernet.helpdesk.search.ChamadoDocumento(c.id, c.titulo, c.observacoes) FROM Chamado c")
+    Stream<ChamadoDocumento> streamDocumentosBusca();
+
+    /**
+     * Conta os Chamados agrupados por Status, Prioridade e Técnico, para a reconciliação
+     * dos contadores do painel.
+     *
+     * @return Uma linha por combinação existente (Chamados sem técnico têm {@code tecnicoId} nulo).
+     */
+    @Query("""
+            SELECT new com.aethernet.helpdesk.stats.ChamadoContagem(c.status, c.prioridade, t.id, COUNT(c))
+            FROM Chamado c LEFT JOIN c.tecnico t
+            GROUP BY c.status, c.prioridade, t.id
+            """)
+    List<ChamadoContagem> contarPorStatusPrioridadeETecnico();
+
+    /**
+     * Busca os atributos usados no cálculo dos prazos de SLA dos Chamados fora dos Status informados,
+     * para a reconstrução da roda de temporização.
+     *
+     * @param status Os status a excluir (ex: ENCERRADO e CANCELADO).
+     * @return Uma linha por Chamado em aberto.
+     */
+    @Query("""
+            SELECT new com.aethernet.helpdesk.sla.ChamadoPrazo(c.id, c.status, c.prioridade, c.dataAbertura)
+            FROM Chamado c
+            WHERE c.status NOT IN :status
+            """)
+    List<ChamadoPrazo> findPrazosByStatusNotIn(@Param("status") Collection<Status> status);
+
+    /**
+     * Busca os Chamados com os IDs informados para alteração, com Cliente e Técnico
+     * carregados na mesma instrução, sem consultas adicionais por Chamado.
+     *
+     * @param ids Os IDs dos Chamados.
+     * @return Os Chamados encontrados (IDs inexistentes são ignorados).
+     */
+    @Query("""
+            SELECT c FROM Chamado c
+            JOIN FETCH c.cliente
+            LEFT JOIN FETCH c.tecnico
+            WHERE c.id IN :ids
+            """)
+    List<Chamado> findParaAtualizacaoByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Busca os IDs dos Chamados mais antigos com o {@code Status} e a {@code Prioridade} especificados,
+     * para a atribuição automática em lotes.
+     *
+     * @param status O status dos Chamados.
+     * @param prioridade A prioridade dos Chamados.
+     * @param pageable O tamanho do lote.
+     * @return Os IDs em ordem de abertura.
+     */
+    @Query("SELECT c.id FROM Chamado c WHERE c.status = :status AND c.prioridade = :prioridade" + ORDEM_PADRAO)
+    List<UUID> findIdsByStatusAndPrioridade(@Param("status") Status status,
+                                            @Param("prioridade") Prioridade prioridade,
+                                            Pageable pageable);
+
+    /**
+     * Busca os Chamados com os IDs informados, projetados em {@code ChamadoResponseDTO}.
+     *
+     * @param ids Os UUIDs dos Chamados.
+     * @return Os DTOs encontrados, sem ordem definida.
+     */
+    @Query(SELECT_RESPONSE_DTO + " WHERE c.id IN :ids")
+    List<ChamadoResponseDTO> findResponseByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Busca os Chamados cuja última alteração tem sequência no intervalo {@code (desde, ate]},
+     * em ordem de sequência (índice {@code idx_chamado_sequencia_alteracao}).
+     *
+     * @param desde A sequência já sincronizada pelo cliente (exclusiva).
+     * @param ate A maior sequência confirmada no início da consulta (inclusiva).
+     * @param pageable Define a quantidade máxima de Chamados.
+     * @return As posições dos Chamados alterados.
+     */
+    @Query("""
+            SELECT new com.aethernet.helpdesk.sync.PosicaoAlteracao(c.id, c.sequenciaAlteracao)
+            FROM Chamado c
+            WHERE c.sequenciaAlteracao > :desde AND c.sequenciaAlteracao <= :ate
+            ORDER BY c.sequenciaAlteracao
+            """)
+    List<PosicaoAlteracao> findAlteradosEntre(@Param("desde") long desde, @Param("ate") long ate, Pageable pageable);
+}
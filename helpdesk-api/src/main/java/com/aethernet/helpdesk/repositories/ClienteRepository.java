@@ -0,0 +1,122 @@
+package com.aethernet.helpdesk.repositories;
+
+import com.aethernet.helpdesk.domain.Cliente;
+import com.aethernet.helpdesk.importacao.PessoaCpf;
+import com.aethernet.helpdesk.services.VersaoRecurso;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface de repositório para a entidade {@code Cliente}.
+ *
+ * Estende {@code JpaRepository}, fornecendo automaticamente as operações CRUD básicas
+ * para Clientes, e define métodos de consulta personalizados focados na unicidade de
+ * CPF e Email.
+ */
+@Repository
+public interface ClienteRepository extends JpaRepository<Cliente, UUID> {
+
+    Optional<Cliente> findClienteByCpf(String cpf);
+
+    Optional<Cliente> findClienteByEmail(String email);
+
+    /**
+     * Verifica a existência de um Cliente no banco de dados com o CPF fornecido.
+     *
+     * @param cpf O CPF a ser verificado.
+     * @return {@code true} se um Cliente com este CPF existir, {@code false} caso contrário.
+     */
+    boolean existsByCpf(String cpf);
+
+    /**
+     * Verifica a existência de um Cliente no banco de dados com o Email fornecido.
+     *
+     * @param email O Email a ser verificado.
+     * @return {@code true} se um Cliente com este Email existir, {@code false} caso contrário.
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Verifica se um Cliente com o CPF fornecido já existe, excluindo o Cliente com o ID especificado.
+     *
+     * Usado para validação de unicidade durante operações de atualização (PUT),
+     * garantindo que o CPF não pertença a outro usuário.
+     *
+     * @param cpf O CPF a ser verificado.
+     * @param id O ID do Cliente a ser ignorado na busca.
+     * @return {@code true} se outro Cliente (com ID diferente de {@code id}) possuir o CPF.
+     */
+    boolean existsByCpfAndIdNot(String cpf, UUID id);
+
+    /**
+     * Verifica se um Cliente com o Email fornecido já existe, excluindo o Cliente com o ID especificado.
+     *
+     * Usado para validação de unicidade durante operações de atualização (PUT),
+     * garantindo que o Email não pertença a outro usuário.
+     *
+     * @param email O Email a ser verificado.
+     * @param id O ID do Cliente a ser ignorado na busca.
+     * @return {@code true} se outro Cliente (com ID diferente de {@code id}) possuir o Email.
+     */
+    boolean existsByEmailAndIdNot(String email, UUID id);
+
+    /**
+     * Lista o CPF e o ID de todos os Clientes, sem carregar as entidades.
+     * Usado para resolver os Clientes por CPF durante a importação de Chamados.
+     *
+     * @return Um par CPF/ID por Cliente.
+     */
+    @Query("SELECT new com.aethernet.helpdesk.importacao.PessoaCpf(p.cpf, p.id) FROM Cliente p")
+    List<PessoaCpf> findAllCpfs();
+
+    /**
+     * Lista os CPFs de todas as Pessoas (Clientes e Técnicos), que compartilham a restrição de unicidade.
+     * Usado para verificar a unicidade em memória no cadastro de Clientes em lote.
+     *
+     * @return Os CPFs cadastrados.
+     */
+    @Query("SELECT p.cpf FROM Pessoa p")
+    List<String> findAllCpfsDePessoas();
+
+    /**
+     * Lista os Emails de todas as Pessoas (Clientes e Técnicos), que compartilham a restrição de unicidade.
+     * Usado para verificar a unicidade em memória no cadastro de Clientes em lote.
+     *
+     * @return Os Emails cadastrados.
+     */
+    @Query("SELECT p.email FROM Pessoa p")
+    List<String> findAllEmailsDePessoas();
+
+    /**
+     * Verifica a existência de uma Pessoa (Cliente ou Técnico) com o CPF fornecido.
+     *
+     * @param cpf O CPF a ser verificado.
+     * @return {@code true} se alguma Pessoa possuir o CPF.
+     */
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM Pessoa p WHERE p.cpf = :cpf")
+    boolean existsPessoaByCpf(String cpf);
+
+    /**
+     * Verifica a existência de uma Pessoa (Cliente ou Técnico) com o Email fornecido.
+     *
+     * @param email O Email a ser verificado.
+     * @return {@code true} se alguma Pessoa possuir o Email.
+     */
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM Pessoa p WHERE p.email = :email")
+    boolean existsPessoaByEmail(String email);
+
+    /**
+     * Busca apenas a versão e a data da última gravação de um Cliente, pela chave primária,
+     * para responder às leituras condicionais sem carregar o Cliente.
+     *
+     * @param id O UUID do Cliente.
+     * @return Um {@code Optional} contendo os validadores, se o Cliente existir.
+     */
+    @Query("SELECT new com.aethernet.helpdesk.services.VersaoRecurso(c.versao, c.dataAtualizacao) FROM Cliente c WHERE c.id = :id")
+    Optional<VersaoRecurso> findVersaoById(UUID id);
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.aethernet.helpdesk.repositories;
+
+import com.aethernet.helpdesk.domain.OutboxEvento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface de repositório para os eventos de Chamado da outbox ({@code OutboxEvento}).
+ *
+ * Os eventos são inseridos em lote JDBC pelo {@code ChamadoOutboxWriter}; a leitura em lote e a marcação
+ * das entregas ficam no {@code ChamadoOutboxRelay}, em JDBC.
+ */
+@Repository
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, Long> {
+
+    /**
+     * Busca os eventos de um Chamado, na ordem em que foram gravados.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @return A lista de eventos do Chamado.
+     */
+    List<OutboxEvento> findByChamadoIdOrderByIdAsc(UUID chamadoId);
+
+    /**
+     * Conta os eventos ainda não entregues.
+     *
+     * @return A quantidade de eventos pendentes.
+     */
+    long countByDataPublicacaoIsNull();
+}
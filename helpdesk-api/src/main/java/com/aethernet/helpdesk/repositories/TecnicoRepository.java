@@ -1,9 +1,14 @@
 package com.aethernet.helpdesk.repositories;
 
 import com.aethernet.helpdesk.domain.Tecnico;
+import com.aethernet.helpdesk.importacao.PessoaCpf;
+import com.aethernet.helpdesk.services.VersaoRecurso;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +22,18 @@ import java.util.UUID;
 @Repository
 public interface TecnicoRepository extends JpaRepository<Tecnico, UUID> {
 
+    /**
+     * Resumo das versões de todos os Técnicos, que muda a cada inclusão, alteração ou exclusão.
+     */
+    interface ResumoVersoes {
+
+        long getQuantidade();
+
+        long getSomaVersoes();
+
+        LocalDateTime getUltimaModificacao();
+    }
+
     /**
      * Busca um Técnico pelo seu número de CPF.
      *
@@ -72,4 +89,43 @@ public interface TecnicoRepository extends JpaRepository<Tecnico, UUID> {
      * @return {@code true} se outro Técnico (com ID diferente de {@code id}) possuir o Email.
      */
     boolean existsByEmailAndIdNot(String email, UUID id);
-}
\ No newline at end of file
+
+    /**
+     * Busca os IDs de todos os Técnicos, sem carregar as entidades.
+     *
+     * @return Os IDs dos Técnicos cadastrados.
+     */
+    @Query("SELECT t.id FROM Tecnico t")
+    List<UUID> findAllIds();
+
+    /**
+     * Lista o CPF e o ID de todos os Técnicos, sem carregar as entidades.
+     * Usado para resolver os Técnicos por CPF durante a importação de Chamados.
+     *
+     * @return Um par CPF/ID por Técnico.
+     */
+    @Query("SELECT new com.aethernet.helpdesk.importacao.PessoaCpf(p.cpf, p.id) FROM Tecnico p")
+    List<PessoaCpf> findAllCpfs();
+
+    /**
+     * Busca apenas a versão e a data da última gravação de um Técnico, pela chave primária,
+     * para responder às leituras condicionais sem carregar o Técnico.
+     *
+     * @param id O UUID do Técnico.
+     * @return Um {@code Optional} contendo os validadores, se o Técnico existir.
+     */
+    @Query("SELECT new com.aethernet.helpdesk.services.VersaoRecurso(t.versao, t.dataAtualizacao) FROM Tecnico t WHERE t.id = :id")
+    Optional<VersaoRecurso> findVersaoById(UUID id);
+
+    /**
+     * Resume as versões de todos os Técnicos em uma única agregação, sem carregar as entidades.
+     *
+     * @return A quantidade de Técnicos, a soma das versões e a última gravação.
+     */
+    @Query("""
+            SELECT COUNT(t) AS quantidade, COALESCE(SUM(t.versao), 0) AS somaVersoes,
+                   MAX(t.dataAtualizacao) AS ultimaModificacao
+            FROM Tecnico t
+            """)
+    ResumoVersoes resumirVersoes();
+}
\ No newline at end of file
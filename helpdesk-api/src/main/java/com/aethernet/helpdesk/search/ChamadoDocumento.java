@@ -0,0 +1,16 @@
+package com.aethernet.helpdesk.search;
+
+import java.util.UUID;
+
+/**
+ * Projeção com os campos textuais de um Chamado, usada para (re)construir o índice de busca.
+ *
+ * @param id O identificador do Chamado.
+ * @param titulo O título do Chamado.
+ * @param observacoes As observações do Chamado.
+ */
+public record ChamadoDocumento(
+        UUID id,
+        String titulo,
+        String observacoes
+) {}
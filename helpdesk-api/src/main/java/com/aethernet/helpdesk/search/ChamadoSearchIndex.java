@@ -0,0 +1,241 @@
+package com.aethernet.helpdesk.search;
+
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.events.ChamadosImportadosEvent;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido em memória sobre o título e as observações dos Chamados.
+ *
+ * Os termos são produzidos pelo {@link PortugueseAnalyzer} e a relevância é calculada com BM25.
+ * Ocorrências no título valem {@value #PESO_TITULO} vezes uma ocorrência nas observações.
+ *
+ * O índice é reconstruído a partir do banco na inicialização da aplicação e atualizado
+ * incrementalmente a cada {@link ChamadoAlteradoEvent}, somente após o commit da transação.
+ */
+@Component
+public class ChamadoSearchIndex {
+
+    /** Saturação da frequência do termo no BM25. */
+    static final double K1 = 1.2;
+
+    /** Normalização pelo tamanho do documento no BM25. */
+    static final double B = 0.75;
+
+    /** Peso de uma ocorrência no título em relação às observações. */
+    static final int PESO_TITULO = 2;
+
+    private final ChamadoRepository chamadoRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** termo → (chamado → frequência ponderada do termo no chamado). */
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+
+    /** chamado → frequências dos seus termos, para permitir a reindexação. */
+    private final Map<UUID, Map<String, Integer>> documentos = new HashMap<>();
+
+    /** chamado → soma das frequências ponderadas dos seus termos (tamanho do documento no BM25). */
+    private final Map<UUID, Integer> tamanhos = new HashMap<>();
+
+    private long tamanhoTotal;
+
+    public ChamadoSearchIndex(ChamadoRepository chamadoRepository) {
+        this.chamadoRepository = chamadoRepository;
+    }
+
+    /**
+     * Resultado de uma busca: o Chamado e sua pontuação BM25.
+     *
+     * @param chamadoId O identificador do Chamado encontrado.
+     * @param pontuacao A pontuação de relevância (maior é mais relevante).
+     */
+    public record Resultado(UUID chamadoId, double pontuacao) {}
+
+    /**
+     * Reconstrói o índice a partir de todos os Chamados do banco.
+     * Executado quando a aplicação termina de inicializar e após cada importação em massa.
+     */
+    @EventListener({ApplicationReadyEvent.class, ChamadosImportadosEvent.class})
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentos.clear();
+            tamanhos.clear();
+            tamanhoTotal = 0;
+            try (Stream<ChamadoDocumento> todos = chamadoRepository.streamDocumentosBusca()) {
+                todos.forEach(this::indexarSemLock);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Atualiza o índice com o estado do Chamado após o commit da alteração.
+     *
+     * @param event O evento com o retrato do Chamado alterado.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarChamado(ChamadoAlteradoEvent event) {
+        indexar(new ChamadoDocumento(event.chamadoId(), event.titulo(), event.observacoes()));
+    }
+
+    /**
+     * Indexa (ou reindexa) um Chamado, substituindo os termos anteriores.
+     *
+     * @param documento Os campos textuais do Chamado.
+     */
+    public void indexar(ChamadoDocumento documento) {
+        lock.writeLock().lock();
+        try {
+            indexarSemLock(documento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um Chamado do índice.
+     *
+     * @param chamadoId O identificador do Chamado.
+     */
+    public void remover(UUID chamadoId) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(chamadoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca os Chamados mais relevantes para a consulta, ordenados por pontuação BM25.
+     *
+     * Um Chamado é retornado se contiver ao menos um dos termos da consulta.
+     *
+     * @param consulta O texto livre da consulta.
+     * @param limite A quantidade máxima de resultados.
+     * @return Os resultados em ordem decrescente de relevância.
+     */
+    public List<Resultado> buscar(String consulta, int limite) {
+        // Termos repetidos na consulta não alteram a pontuação
+        LinkedHashSet<String> termos = new LinkedHashSet<>(PortugueseAnalyzer.analisar(consulta));
+        if (termos.isEmpty() || limite < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int totalDocumentos = documentos.size();
+            if (totalDocumentos == 0) {
+                return List.of();
+            }
+            double tamanhoMedio = (double) tamanhoTotal / totalDocumentos;
+
+            Map<UUID, Double> pontuacoes = new HashMap<>();
+            for (String termo : termos) {
+                Map<UUID, Integer> ocorrencias = postings.get(termo);
+                if (ocorrencias == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (totalDocumentos - ocorrencias.size() + 0.5) / (ocorrencias.size() + 0.5));
+                for (Map.Entry<UUID, Integer> ocorrencia : ocorrencias.entrySet()) {
+                    int tf = ocorrencia.getValue();
+                    int tamanho = tamanhos.get(ocorrencia.getKey());
+                    double parcial = idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * tamanho / tamanhoMedio));
+                    pontuacoes.merge(ocorrencia.getKey(), parcial, Double::sum);
+                }
+            }
+            return melhores(pontuacoes, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna a quantidade de Chamados indexados.
+     *
+     * @return O total de documentos no índice.
+     */
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private void indexarSemLock(ChamadoDocumento documento) {
+        removerSemLock(documento.id());
+
+        Map<String, Integer> frequencias = new HashMap<>();
+        for (String termo : PortugueseAnalyzer.analisar(documento.titulo())) {
+            frequencias.merge(termo, PESO_TITULO, Integer::sum);
+        }
+        for (String termo : PortugueseAnalyzer.analisar(documento.observacoes())) {
+            frequencias.merge(termo, 1, Integer::sum);
+        }
+
+        int tamanho = 0;
+        for (Map.Entry<String, Integer> frequencia : frequencias.entrySet()) {
+            postings.computeIfAbsent(frequencia.getKey(), t -> new HashMap<>())
+                    .put(documento.id(), frequencia.getValue());
+            tamanho += frequencia.getValue();
+        }
+        documentos.put(documento.id(), frequencias);
+        tamanhos.put(documento.id(), tamanho);
+        tamanhoTotal += tamanho;
+    }
+
+    private void removerSemLock(UUID chamadoId) {
+        Map<String, Integer> anteriores = documentos.remove(chamadoId);
+        if (anteriores == null) {
+            return;
+        }
+        for (String termo : anteriores.keySet()) {
+            Map<UUID, Integer> ocorrencias = postings.get(termo);
+            ocorrencias.remove(chamadoId);
+            if (ocorrencias.isEmpty()) {
+                postings.remove(termo);
+            }
+        }
+        tamanhoTotal -= tamanhos.remove(chamadoId);
+    }
+
+    private static List<Resultado> melhores(Map<UUID, Double> pontuacoes, int limite) {
+        // Min-heap com os "limite" melhores: evita ordenar todos os candidatos
+        PriorityQueue<Resultado> heap = new PriorityQueue<>(Comparator.comparingDouble(Resultado::pontuacao));
+        for (Map.Entry<UUID, Double> pontuacao : pontuacoes.entrySet()) {
+            heap.offer(new Resultado(pontuacao.getKey(), pontuacao.getValue()));
+            if (heap.size() > limite) {
+                heap.poll();
+            }
+        }
+        List<Resultado> resultados = new ArrayList<>(heap);
+        resultados.sort(Comparator.comparingDouble(Resultado::pontuacao).reversed());
+        return resultados;
+    }
+}
@@ -0,0 +1,110 @@
+package com.aethernet.helpdesk.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Analisador de texto para o índice de busca de Chamados.
+ *
+ * Converte um texto livre em termos indexáveis: caixa baixa (sem depender do locale da JVM),
+ * remoção de acentos ("impressão" e "impressao" geram o mesmo termo), descarte de stopwords do
+ * português e redução leve de plurais ("impressoras" → "impressora", "conexões" → "conexao").
+ */
+public final class PortugueseAnalyzer {
+
+    private static final int TAMANHO_MINIMO_TERMO = 2;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "ao", "aos", "um", "uma", "uns", "umas",
+            "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+            "num", "numa", "por", "pela", "pelo", "pelas", "pelos", "para", "pra",
+            "com", "sem", "sob", "e", "ou", "mas", "que", "se", "nao", "sim",
+            "ja", "mais", "muito", "como", "quando", "onde", "esta", "este", "isso",
+            "isto", "essa", "esse", "foi", "ser", "sao", "tem", "ter", "estao", "eu",
+            "ele", "ela", "eles", "elas", "meu", "minha", "seu", "sua", "lhe"
+    );
+
+    private PortugueseAnalyzer() {
+    }
+
+    /**
+     * Extrai os termos normalizados de um texto, na ordem em que aparecem (com repetições).
+     *
+     * @param texto O texto a ser analisado (pode ser nulo).
+     * @return A lista de termos; vazia se o texto for nulo ou não contiver termos relevantes.
+     */
+    public static List<String> analisar(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (texto == null || texto.isBlank()) {
+            return termos;
+        }
+
+        String normalizado = removerAcentos(texto.toLowerCase(Locale.ROOT));
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean letraOuDigito = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (letraOuDigito && inicio < 0) {
+                inicio = i;
+            } else if (!letraOuDigito && inicio >= 0) {
+                adicionarTermo(termos, normalizado.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return termos;
+    }
+
+    private static void adicionarTermo(List<String> termos, String token) {
+        if (token.length() < TAMANHO_MINIMO_TERMO || STOPWORDS.contains(token)) {
+            return;
+        }
+        termos.add(reduzirPlural(token));
+    }
+
+    private static String removerAcentos(String texto) {
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Redução leve de plural do português, aplicada após a remoção de acentos.
+     * Não é um stemmer completo: apenas aproxima singular e plural do mesmo termo.
+     */
+    static String reduzirPlural(String termo) {
+        if (termo.length() <= 3 || !termo.endsWith("s") || Character.isDigit(termo.charAt(0))) {
+            return termo;
+        }
+        if (termo.endsWith("oes") || termo.endsWith("aes")) {
+            return termo.substring(0, termo.length() - 3) + "ao";
+        }
+        if (termo.endsWith("ais")) {
+            return termo.substring(0, termo.length() - 3) + "al";
+        }
+        if (termo.endsWith("eis")) {
+            return termo.substring(0, termo.length() - 3) + "el";
+        }
+        if (termo.endsWith("ns") && ehVogal(termo.charAt(termo.length() - 3))) {
+            return termo.substring(0, termo.length() - 2) + "m";
+        }
+        if (termo.endsWith("res") || termo.endsWith("zes") || termo.endsWith("ses")) {
+            return termo.substring(0, termo.length() - 2);
+        }
+        if (termo.endsWith("ss") || termo.endsWith("us") || termo.endsWith("is")) {
+            return termo;
+        }
+        return termo.substring(0, termo.length() - 1);
+    }
+
+    private static boolean ehVogal(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+}
@@ -0,0 +1,68 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor da paginação por chave (keyset) de Chamados.
+ *
+ * Representa a posição {@code (dataAbertura, id)} do último Chamado entregue ao cliente.
+ * É serializado como uma string Base64 URL-safe para que o cliente o trate como opaco.
+ *
+ * @param dataAbertura A data de abertura do último Chamado da fatia.
+ * @param id O ID do último Chamado da fatia.
+ */
+public record ChamadoCursor(LocalDateTime dataAbertura, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    /**
+     * Cria o cursor que aponta para a posição do Chamado informado.
+     *
+     * @param chamado O último Chamado da fatia.
+     * @return O cursor correspondente.
+     */
+    public static ChamadoCursor de(ChamadoResponseDTO chamado) {
+        return new ChamadoCursor(chamado.dataAbertura(), chamado.id());
+    }
+
+    /**
+     * Codifica o cursor no formato opaco exposto pela API.
+     *
+     * @return O cursor codificado em Base64 URL-safe.
+     */
+    public String codificar() {
+        String bruto = dataAbertura + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente da API.
+     *
+     * @param valor O cursor opaco.
+     * @return O cursor decodificado.
+     * @throws DomainRuleException Se o cursor estiver malformado.
+     */
+    public static ChamadoCursor decodificar(String valor) {
+        try {
+            String bruto = new String(Base64.getUrlDecoder().decode(valor), StandardCharsets.UTF_8);
+            int separador = bruto.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new DomainRuleException("Cursor inválido");
+            }
+            return new ChamadoCursor(
+                    LocalDateTime.parse(bruto.substring(0, separador)),
+                    UUID.fromString(bruto.substring(separador + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DomainRuleException("Cursor inválido");
+        }
+    }
+}
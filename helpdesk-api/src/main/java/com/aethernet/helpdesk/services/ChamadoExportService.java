@@ -0,0 +1,164 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serviço responsável pela exportação em massa de Chamados (NDJSON ou CSV).
+ *
+ * Os Chamados são lidos por um cursor JDBC e escritos na saída à medida que chegam,
+ * de modo que o consumo de memória é constante independentemente do volume exportado.
+ */
+@Service
+public class ChamadoExportService {
+
+    /** Quantidade de Chamados processados entre cada limpeza do contexto de persistência. */
+    static final int INTERVALO_LIMPEZA = 1_000;
+
+    private static final String CABECALHO_CSV =
+            "id,dataAbertura,dataFechamento,prioridade,status,titulo,observacoes,nomeCliente,nomeTecnico";
+
+    /**
+     * Formatos suportados pela exportação.
+     */
+    public enum Formato {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Formato(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private final ChamadoRepository chamadoRepository;
+    private final ChamadoService chamadoService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ChamadoExportService(ChamadoRepository chamadoRepository,
+                                ChamadoService chamadoService,
+                                EntityManager entityManager,
+                                ObjectMapper objectMapper) {
+        this.chamadoRepository = chamadoRepository;
+        this.chamadoService = chamadoService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Escreve todos os Chamados que atendem aos filtros na saída informada.
+     *
+     * A transação somente leitura permanece aberta durante toda a escrita, mantendo o cursor
+     * JDBC vivo. A cada {@value #INTERVALO_LIMPEZA} linhas o contexto de persistência é limpo
+     * para que as entidades já escritas possam ser coletadas.
+     *
+     * @param formato O formato de saída.
+     * @param status Filtro opcional por {@code Status}.
+     * @param prioridade Filtro opcional por {@code Prioridade}.
+     * @param saida O fluxo de saída da resposta HTTP.
+     * @return A quantidade de Chamados exportados.
+     * @throws IOException Se a escrita na saída falhar (ex: cliente desconectado).
+     */
+    @Transactional(readOnly = true)
+    public long exportar(Formato formato, Status status, Prioridade prioridade, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        // O writer é fechado pelo container; o gerador não deve fechá-lo ao escrever cada linha
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .setRootValueSeparator(null);
+
+        if (formato == Formato.CSV) {
+            writer.write(CABECALHO_CSV);
+            writer.write('\n');
+        }
+
+        long total = 0;
+        try (Stream<Chamado> chamados = percorrer(status, prioridade)) {
+            Iterator<Chamado> iterator = chamados.iterator();
+            while (iterator.hasNext()) {
+                ChamadoResponseDTO dto = chamadoService.toResponseDTO(iterator.next());
+                if (formato == Formato.CSV) {
+                    escreverCsv(writer, dto);
+                } else {
+                    objectMapper.writeValue(json, dto);
+                    json.flush();
+                    writer.write('\n');
+                }
+
+                if (++total % INTERVALO_LIMPEZA == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        return total;
+    }
+
+    private Stream<Chamado> percorrer(Status status, Prioridade prioridade) {
+        if (status != null && prioridade != null) {
+            return chamadoRepository.streamParaExportacaoByStatusAndPrioridade(status, prioridade);
+        } else if (status != null) {
+            return chamadoRepository.streamParaExportacaoByStatus(status);
+        } else if (prioridade != null) {
+            return chamadoRepository.streamParaExportacaoByPrioridade(prioridade);
+        }
+        return chamadoRepository.streamParaExportacao();
+    }
+
+    private void escreverCsv(Writer writer, ChamadoResponseDTO dto) throws IOException {
+        writer.write(String.join(",",
+                campoCsv(dto.id()),
+                campoCsv(dto.dataAbertura()),
+                campoCsv(dto.dataFechamento()),
+                campoCsv(dto.prioridade()),
+                campoCsv(dto.status()),
+                campoCsv(dto.titulo()),
+                campoCsv(dto.observacoes()),
+                campoCsv(dto.nomeCliente()),
+                campoCsv(dto.nomeTecnico())
+        ));
+        writer.write('\n');
+    }
+
+    /**
+     * Formata um valor como campo CSV (RFC 4180), aplicando aspas quando necessário.
+     * Também usado pela gravação via {@code COPY} da importação.
+     */
+    public static String campoCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0
+                && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,590 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.Cliente;
+import com.aethernet.helpdesk.domain.Tecnico;
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoSliceDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoStatusLoteDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
+import com.aethernet.helpdesk.exceptions.StaleVersionException;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import com.aethernet.helpdesk.search.ChamadoSearchIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ChamadoService {
+
+    /** Tamanho máximo de uma fatia na paginação por cursor. */
+    public static final int LIMITE_MAXIMO_FATIA = 500;
+
+    /** Quantidade máxima de resultados de uma busca textual. */
+    public static final int LIMITE_MAXIMO_BUSCA = 100;
+
+    /** Quantidade máxima de Chamados em uma alteração de status em lote. */
+    public static final int LIMITE_MAXIMO_LOTE = 1000;
+
+    /**
+     * Chamados carregados e gravados por vez na alteração em lote.
+     * Igual a {@code hibernate.jdbc.batch_size}, para que cada flush gere um único lote JDBC.
+     */
+    static final int TAMANHO_LOTE_JDBC = 50;
+
+    private final ChamadoRepository chamadoRepository;
+    private final ClienteRepository clienteRepository;
+    private final TecnicoRepository tecnicoRepository;
+    private final ChamadoSearchIndex chamadoSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RetentativaOtimista retentativaOtimista;
+    private final TransactionTemplate transacaoLote;
+
+    public ChamadoService(ChamadoRepository chamadoRepository,
+                          ClienteRepository clienteRepository,
+                          TecnicoRepository tecnicoRepository,
+                          ChamadoSearchIndex chamadoSearchIndex,
+                          ApplicationEventPublisher eventPublisher,
+                          RetentativaOtimista retentativaOtimista,
+                          PlatformTransactionManager transactionManager) {
+        this.chamadoRepository = chamadoRepository;
+        this.clienteRepository = clienteRepository;
+        this.tecnicoRepository = tecnicoRepository;
+        this.chamadoSearchIndex = chamadoSearchIndex;
+        this.eventPublisher = eventPublisher;
+        this.retentativaOtimista = retentativaOtimista;
+        // Cada bloco da alteração em lote é confirmado (ou desfeito) independentemente dos demais
+        this.transacaoLote = new TransactionTemplate(transactionManager);
+        this.transacaoLote.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // === MÉTODOS PÚBLICOS (ENDPOINTS) ===
+
+    /**
+     * Abre um Chamado.
+     *
+     * Cliente e Técnico entram como referências, sem consultá-los: a existência é garantida
+     * pelas chaves estrangeiras no INSERT. A resposta é lida em seguida com a mesma consulta
+     * de {@link #buscarPorId(UUID)}.
+     *
+     * @throws EntityNotFoundException Se o Cliente ou o Técnico não existir.
+     */
+    @Transactional
+    public ChamadoResponseDTO abrir(ChamadoRequestDTO dto) {
+        Cliente cliente = clienteRepository.getReferenceById(dto.clienteId());
+        Tecnico tecnico = dto.tecnicoId() != null ? tecnicoRepository.getReferenceById(dto.tecnicoId()) : null;
+
+        Chamado chamado = new Chamado();
+        chamado.setTitulo(dto.titulo());
+        chamado.setObservacoes(dto.observacoes());
+        chamado.setPrioridade(dto.prioridade());
+        chamado.setStatus(Status.ABERTO);
+        chamado.setDataAbertura(LocalDateTime.now());
+        chamado.setCliente(cliente);
+        chamado.setTecnico(tecnico);
+
+        // Transição para EM_ANDAMENTO se técnico for atribuído na abertura
+        if (tecnico != null && chamado.getStatus() == Status.ABERTO) {
+            chamado.setStatus(Status.EM_ANDAMENTO);
+        }
+
+        chamado = gravar(chamado, dto);
+        publicarAlteracao(chamado, ChamadoAlteradoEvent.Tipo.ABERTO, null, null);
+        return buscarPorId(chamado.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public ChamadoResponseDTO buscarPorId(UUID id) {
+        return chamadoRepository.findResponseById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Chamado", id));
+    }
+
+    /**
+     * Busca um Chamado junto com os validadores HTTP do mesmo estado, em uma única consulta.
+     *
+     * @param id O UUID do Chamado.
+     * @return O DTO de resposta e os validadores ({@code ETag}/{@code Last-Modified}) que o descrevem.
+     * @throws EntityNotFoundException Se o Chamado com o ID fornecido não existir.
+     */
+    @Transactional(readOnly = true)
+    public LeituraVersionada<ChamadoResponseDTO> buscarComVersao(UUID id) {
+        return chamadoRepository.findVersionadoById(id)
+                .map(ChamadoVersionado::leitura)
+                .orElseThrow(() -> new EntityNotFoundException("Chamado", id));
+    }
+
+    /**
+     * Lê os validadores HTTP ({@code ETag}/{@code Last-Modified}) de um Chamado sem carregá-lo.
+     *
+     * @param id O UUID do Chamado.
+     * @return As versões e a data da última gravação do Chamado, do seu Cliente e do seu Técnico.
+     * @throws EntityNotFoundException Se o Chamado com o ID fornecido não existir.
+     */
+    @Transactional(readOnly = true)
+    public VersaoRecurso versao(UUID id) {
+        return chamadoRepository.findVersaoById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Chamado", id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChamadoResponseDTO> listarTodos(Status status, Prioridade prioridade) {
+        if (status != null && prioridade != null) {
+            return chamadoRepository.findResponseByStatusAndPrioridade(status, prioridade);
+        } else if (status != null) {
+            return chamadoRepository.findResponseByStatus(status);
+        } else if (prioridade != null) {
+            return chamadoRepository.findResponseByPrioridade(prioridade);
+        }
+        return chamadoRepository.findAllResponse();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChamadoResponseDTO> listarPorCliente(UUID clienteId) {
+        List<ChamadoResponseDTO> chamados = chamadoRepository.findResponseByClienteId(clienteId);
+        // A existência só precisa ser confirmada quando a lista vem vazia
+        if (chamados.isEmpty() && !clienteRepository.existsById(clienteId)) {
+            throw new EntityNotFoundException("Cliente", clienteId);
+        }
+        return chamados;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChamadoResponseDTO> listarPorTecnico(UUID tecnicoId) {
+        List<ChamadoResponseDTO> chamados = chamadoRepository.findResponseByTecnicoId(tecnicoId);
+        // A existência só precisa ser confirmada quando a lista vem vazia
+        if (chamados.isEmpty() && !tecnicoRepository.existsById(tecnicoId)) {
+            throw new EntityNotFoundException("Técnico", tecnicoId);
+        }
+        return chamados;
+    }
+
+    @Transactional(readOnly = true)
+    public ChamadoSliceDTO listarFatia(Status status, Prioridade prioridade, String cursor, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_FATIA) {
+            throw new DomainRuleException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_FATIA);
+        }
+        PageRequest fatia = PageRequest.of(0, limite);
+
+        Slice<ChamadoResponseDTO> chamados = cursor == null || cursor.isBlank()
+                ? buscarPrimeiraFatia(status, prioridade, fatia)
+                : buscarFatiaApos(ChamadoCursor.decodificar(cursor), status, prioridade, fatia);
+
+        List<ChamadoResponseDTO> itens = chamados.getContent();
+        String proximoCursor = chamados.hasNext()
+                ? ChamadoCursor.de(itens.get(itens.size() - 1)).codificar()
+                : null;
+        return new ChamadoSliceDTO(itens, proximoCursor);
+    }
+
+    @Transactional
+    public ChamadoResponseDTO atualizar(UUID id, ChamadoRequestDTO dto) {
+        return atualizar(id, dto, null);
+    }
+
+    /**
+     * Atualiza os dados de um Chamado. Assim como em {@link #abrir(ChamadoRequestDTO)}, Cliente
+     * e Técnico entram como referências e a existência é garantida pelas chaves estrangeiras.
+     *
+     * @param versaoEsperada A versão lida pelo chamador ({@code If-Match}), ou {@code null} para não verificar.
+     * @throws EntityNotFoundException Se o Chamado, o Cliente ou o Técnico não existir.
+     * @throws StaleVersionException Se o Chamado não estiver mais na versão esperada.
+     */
+    @Transactional
+    public ChamadoResponseDTO atualizar(UUID id, ChamadoRequestDTO dto, Long versaoEsperada) {
+        Chamado chamado = buscarChamado(id);
+        verificarVersao(chamado, versaoEsperada);
+        validarNaoEncerrado(chamado);
+        ChamadoAlteradoEvent.Situacao anterior = ChamadoAlteradoEvent.Situacao.de(chamado);
+        Long versaoLida = chamado.getVersao();
+
+        Cliente cliente = clienteRepository.getReferenceById(dto.clienteId());
+        Tecnico tecnico = dto.tecnicoId() != null ? tecnicoRepository.getReferenceById(dto.tecnicoId()) : null;
+
+        chamado.setTitulo(dto.titulo());
+        chamado.setObservacoes(dto.observacoes());
+        chamado.setPrioridade(dto.prioridade());
+        chamado.setCliente(cliente);
+
+        // Atribuição de técnico pode mudar status conforme regras
+        chamado.setTecnico(tecnico);
+        if (tecnico != null && chamado.getStatus() == Status.ABERTO) {
+            chamado.setStatus(Status.EM_ANDAMENTO);
+        }
+
+        chamado = gravar(chamado, dto);
+        publicarAlteracao(chamado, ChamadoAlteradoEvent.Tipo.ATUALIZADO, anterior, versaoLida);
+        return buscarPorId(chamado.getId());
+    }
+
+    /**
+     * Busca textual nos títulos e observações dos Chamados, ordenada por relevância.
+     *
+     * Os IDs vêm do índice em memória; os dados são carregados em uma única consulta.
+     */
+    @Transactional(readOnly = true)
+    public List<ChamadoResponseDTO> pesquisar(String consulta, int limite) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new DomainRuleException("A consulta de busca é obrigatória");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO_BUSCA) {
+            throw new DomainRuleException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_BUSCA);
+        }
+
+        List<UUID> ids = chamadoSearchIndex.buscar(consulta, limite).stream()
+                .map(ChamadoSearchIndex.Resultado::chamadoId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, ChamadoResponseDTO> porId = chamadoRepository.findResponseByIdIn(ids).stream()
+                .collect(Collectors.toMap(ChamadoResponseDTO::id, Function.identity()));
+        // Mantém a ordem de relevância do índice
+        return ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+    }
+
+
+    // === OPERAÇÕES ESPECÍFICAS ===
+
+    @Transactional
+    public ChamadoResponseDTO alterarStatus(UUID id, Status novoStatus) {
+        return alterarStatus(id, novoStatus, null);
+    }
+
+    /**
+     * Altera o Status de um Chamado.
+     *
+     * A gravação é enviada imediatamente: se outra transação alterou o Chamado desde a leitura,
+     * a {@code OptimisticLockingFailureException} surge aqui, e a transição pode ser repetida
+     * sobre o estado atual (ver {@link RetentativaOtimista}).
+     *
+     * @param versaoEsperada A versão lida pelo chamador ({@code If-Match}), ou {@code null} para não verificar.
+     * @throws StaleVersionException Se o Chamado não estiver mais na versão esperada.
+     */
+    @Transactional
+    public ChamadoResponseDTO alterarStatus(UUID id, Status novoStatus, Long versaoEsperada) {
+        Chamado chamado = buscarChamado(id);
+        verificarVersao(chamado, versaoEsperada);
+        validarTransicaoStatus(chamado.getStatus(), novoStatus);
+        ChamadoAlteradoEvent.Situacao anterior = ChamadoAlteradoEvent.Situacao.de(chamado);
+        Long versaoLida = chamado.getVersao();
+
+        aplicarStatus(chamado, novoStatus);
+
+        Chamado chamadoAtualizado = chamadoRepository.saveAndFlush(chamado);
+        publicarAlteracao(chamadoAtualizado, tipoTransicao(novoStatus), anterior, versaoLida);
+        return toResponseDTO(chamadoAtualizado);
+    }
+
+    /**
+     * Altera o Status de vários Chamados.
+     *
+     * Os Chamados são processados em blocos de {@value #TAMANHO_LOTE_JDBC}, cada um na sua própria
+     * transação: uma consulta carrega o bloco e as atualizações são enviadas em um único lote JDBC.
+     * A transição é validada por Chamado: Chamados inexistentes ou com transição inválida são
+     * reportados como falha sem impedir a alteração dos demais.
+     *
+     * Se outra requisição alterar um Chamado do bloco entre a leitura e a gravação, o {@code @Version}
+     * desfaz o bloco inteiro; os Chamados do bloco são então repetidos um a um, cada um na sua
+     * transação e com as retentativas da {@link RetentativaOtimista}, e apenas aqueles que continuarem
+     * em conflito são reportados como falha. Os blocos já confirmados não são desfeitos.
+     *
+     * @param ids Os IDs dos Chamados (IDs repetidos são processados uma vez).
+     * @param novoStatus O novo Status.
+     * @return O resultado por Chamado.
+     * @throws DomainRuleException Se a lista estiver vazia ou exceder {@value #LIMITE_MAXIMO_LOTE} IDs.
+     */
+    public ChamadoStatusLoteDTO alterarStatusEmLote(List<UUID> ids, Status novoStatus) {
+        if (ids == null || ids.isEmpty() || ids.size() > LIMITE_MAXIMO_LOTE) {
+            throw new DomainRuleException("O lote deve ter entre 1 e " + LIMITE_MAXIMO_LOTE + " chamados");
+        }
+        List<UUID> distintos = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<ChamadoStatusLoteDTO.Resultado> resultados = new ArrayList<>(distintos.size());
+
+        for (int inicio = 0; inicio < distintos.size(); inicio += TAMANHO_LOTE_JDBC) {
+            List<UUID> bloco = distintos.subList(inicio, Math.min(inicio + TAMANHO_LOTE_JDBC, distintos.size()));
+            try {
+                resultados.addAll(transacaoLote.execute(transacao -> alterarStatusDoBloco(bloco, novoStatus)));
+            } catch (OptimisticLockingFailureException e) {
+                for (UUID id : bloco) {
+                    resultados.addAll(alterarStatusIsolado(id, novoStatus));
+                }
+            }
+        }
+        int sucessos = (int) resultados.stream().filter(ChamadoStatusLoteDTO.Resultado::sucesso).count();
+        return new ChamadoStatusLoteDTO(novoStatus, sucessos, resultados.size() - sucessos, resultados);
+    }
+
+    @Transactional
+    public ChamadoResponseDTO atribuirTecnico(UUID chamadoId, UUID tecnicoId) {
+        return atribuirTecnico(chamadoId, tecnicoId, null);
+    }
+
+    /**
+     * Atribui um técnico a um Chamado, gravando imediatamente como em {@link #alterarStatus(UUID, Status, Long)}.
+     *
+     * @param versaoEsperada A versão lida pelo chamador ({@code If-Match}), ou {@code null} para não verificar.
+     * @throws StaleVersionException Se o Chamado não estiver mais na versão esperada.
+     */
+    @Transactional
+    public ChamadoResponseDTO atribuirTecnico(UUID chamadoId, UUID tecnicoId, Long versaoEsperada) {
+        Chamado chamado = chamadoRepository.findById(chamadoId)
+                .orElseThrow(() -> new EntityNotFoundException("Chamado não encontrado: " + chamadoId));
+        verificarVersao(chamado, versaoEsperada);
+
+        Tecnico tecnico = tecnicoRepository.findById(tecnicoId)
+                .orElseThrow(() -> new EntityNotFoundException("Técnico não encontrado: " + tecnicoId));
+
+        if (chamado.getStatus() == Status.ENCERRADO) {
+            throw new DomainRuleException("Não é possível atribuir um técnico a um chamado encerrado");
+        }
+        ChamadoAlteradoEvent.Situacao anterior = ChamadoAlteradoEvent.Situacao.de(chamado);
+        Long versaoLida = chamado.getVersao();
+
+        chamado.setTecnico(tecnico);
+
+        // Se o chamado estava ABERTO, muda para EM_ANDAMENTO após atribuir técnico
+        if (chamado.getStatus() == Status.ABERTO) {
+            chamado.setStatus(Status.EM_ANDAMENTO);
+        }
+
+        Chamado chamadoAtualizado = chamadoRepository.saveAndFlush(chamado);
+        publicarAlteracao(chamadoAtualizado, ChamadoAlteradoEvent.Tipo.TECNICO_ATRIBUIDO, anterior, versaoLida);
+        return toResponseDTO(chamadoAtualizado);
+    }
+
+    /**
+     * Atribui um técnico a um Chamado que ainda está ABERTO.
+     *
+     * Usado pela atribuição automática: se o Chamado foi atribuído ou alterado manualmente
+     * depois de selecionado, a atribuição é recusada em vez de sobrescrever a escolha.
+     *
+     * @param chamadoId O ID do Chamado.
+     * @param tecnicoId O ID do Técnico escolhido.
+     * @return O DTO do Chamado atribuído.
+     * @throws DomainRuleException Se o Chamado não estiver mais ABERTO.
+     */
+    @Transactional
+    public ChamadoResponseDTO atribuirAutomaticamente(UUID chamadoId, UUID tecnicoId) {
+        Chamado chamado = buscarChamado(chamadoId);
+        if (chamado.getStatus() != Status.ABERTO) {
+            throw new DomainRuleException("O chamado não está mais ABERTO");
+        }
+        return atribuirTecnico(chamadoId, tecnicoId);
+    }
+
+    @Transactional
+    public ChamadoResponseDTO fechar(UUID id) {
+        return fechar(id, null);
+    }
+
+    @Transactional
+    public ChamadoResponseDTO fechar(UUID id, Long versaoEsperada) {
+        return alterarStatus(id, Status.ENCERRADO, versaoEsperada);
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    /**
+     * Altera o Status de um bloco de Chamados na transação corrente, com um único flush ao final.
+     *
+     * @throws OptimisticLockingFailureException Se algum Chamado do bloco foi alterado desde a leitura.
+     */
+    private List<ChamadoStatusLoteDTO.Resultado> alterarStatusDoBloco(List<UUID> bloco, Status novoStatus) {
+        Map<UUID, Chamado> porId = chamadoRepository.findParaAtualizacaoByIdIn(bloco).stream()
+                .collect(Collectors.toMap(Chamado::getId, Function.identity()));
+
+        List<ChamadoStatusLoteDTO.Resultado> resultados = new ArrayList<>(bloco.size());
+        List<Runnable> publicacoes = new ArrayList<>(bloco.size());
+        for (UUID id : bloco) {
+            Chamado chamado = porId.get(id);
+            if (chamado == null) {
+                resultados.add(ChamadoStatusLoteDTO.Resultado.falha(id,
+                        new EntityNotFoundException("Chamado", id).getMessage()));
+                continue;
+            }
+            try {
+                validarTransicaoStatus(chamado.getStatus(), novoStatus);
+            } catch (DomainRuleException e) {
+                resultados.add(ChamadoStatusLoteDTO.Resultado.falha(id, e.getMessage()));
+                continue;
+            }
+            ChamadoAlteradoEvent.Situacao anterior = ChamadoAlteradoEvent.Situacao.de(chamado);
+            Long versaoLida = chamado.getVersao();
+            aplicarStatus(chamado, novoStatus);
+            publicacoes.add(() -> publicarAlteracao(chamado, tipoTransicao(novoStatus), anterior, versaoLida));
+            resultados.add(ChamadoStatusLoteDTO.Resultado.ok(id));
+        }
+        // Entidades gerenciadas: o flush envia os UPDATEs do bloco como um lote JDBC
+        chamadoRepository.flush();
+        // Publica depois do flush, com a versão e a data de atualização já gravadas
+        publicacoes.forEach(Runnable::run);
+        return resultados;
+    }
+
+    /**
+     * Repete a alteração de um único Chamado de um bloco desfeito por conflito de versão,
+     * reportando-o como falha se o conflito persistir após as retentativas.
+     */
+    private List<ChamadoStatusLoteDTO.Resultado> alterarStatusIsolado(UUID id, Status novoStatus) {
+        try {
+            return retentativaOtimista.executar(
+                    () -> transacaoLote.execute(transacao -> alterarStatusDoBloco(List.of(id), novoStatus)));
+        } catch (OptimisticLockingFailureException e) {
+            return List.of(ChamadoStatusLoteDTO.Resultado.falha(id,
+                    "O chamado foi alterado por outra requisição durante o lote"));
+        }
+    }
+
+    private Slice<ChamadoResponseDTO> buscarPrimeiraFatia(Status status, Prioridade prioridade, PageRequest fatia) {
+        if (status != null && prioridade != null) {
+            return chamadoRepository.findPrimeiraFatiaByStatusAndPrioridade(status, prioridade, fatia);
+        } else if (status != null) {
+            return chamadoRepository.findPrimeiraFatiaByStatus(status, fatia);
+        } else if (prioridade != null) {
+            return chamadoRepository.findPrimeiraFatiaByPrioridade(prioridade, fatia);
+        }
+        return chamadoRepository.findPrimeiraFatia(fatia);
+    }
+
+    private Slice<ChamadoResponseDTO> buscarFatiaApos(ChamadoCursor posicao, Status status, Prioridade prioridade,
+                                                      PageRequest fatia) {
+        LocalDateTime dataAbertura = posicao.dataAbertura();
+        UUID id = posicao.id();
+        if (status != null && prioridade != null) {
+            return chamadoRepository.findFatiaAposByStatusAndPrioridade(dataAbertura, id, status, prioridade, fatia);
+        } else if (status != null) {
+            return chamadoRepository.findFatiaAposByStatus(dataAbertura, id, status, fatia);
+        } else if (prioridade != null) {
+            return chamadoRepository.findFatiaAposByPrioridade(dataAbertura, id, prioridade, fatia);
+        }
+        return chamadoRepository.findFatiaApos(dataAbertura, id, fatia);
+    }
+
+    /**
+     * Publica a alteração de um Chamado já gravado (após o flush). Uma gravação que não mudou
+     * nada, em que a versão não avançou, não é publicada: não há o que notificar, e o
+     * {@code ChamadoSequenciador} só deve anotar Chamados cuja linha a transação já bloqueou.
+     *
+     * @param versaoLida A versão do Chamado antes da alteração ({@code null} na abertura).
+     */
+    private void publicarAlteracao(Chamado chamado, ChamadoAlteradoEvent.Tipo tipo,
+                                   ChamadoAlteradoEvent.Situacao anterior, Long versaoLida) {
+        if (versaoLida != null && versaoLida.equals(chamado.getVersao())) {
+            return;
+        }
+        eventPublisher.publishEvent(new ChamadoAlteradoEvent(
+                chamado.getId(),
+                tipo,
+                chamado.getTitulo(),
+                chamado.getObservacoes(),
+                anterior,
+                ChamadoAlteradoEvent.Situacao.de(chamado),
+                chamado.getVersao(),
+                chamado.getDataAtualizacao()
+        ));
+    }
+
+    /**
+     * Grava o Chamado com flush imediato, traduzindo a violação de chave estrangeira de uma
+     * referência inexistente em {@link EntityNotFoundException}.
+     */
+    private Chamado gravar(Chamado chamado, ChamadoRequestDTO dto) {
+        try {
+            return chamadoRepository.saveAndFlush(chamado);
+        } catch (DataIntegrityViolationException e) {
+            if (RestricoesBanco.violou(e, RestricoesBanco.FK_CHAMADO_CLIENTE)) {
+                throw new EntityNotFoundException("Cliente", dto.clienteId());
+            }
+            if (RestricoesBanco.violou(e, RestricoesBanco.FK_CHAMADO_TECNICO)) {
+                throw new EntityNotFoundException("Técnico", dto.tecnicoId());
+            }
+            throw e;
+        }
+    }
+
+    private Chamado buscarChamado(UUID id) {
+        return chamadoRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Chamado", id));
+    }
+
+    /**
+     * Recusa a alteração se o chamador leu uma versão anterior do Chamado ({@code If-Match}).
+     * Sem versão informada, a proteção fica a cargo do {@code @Version} na gravação.
+     */
+    private void verificarVersao(Chamado chamado, Long versaoEsperada) {
+        if (versaoEsperada != null && !versaoEsperada.equals(chamado.getVersao())) {
+            throw new StaleVersionException("Chamado", chamado.getId(), versaoEsperada, chamado.getVersao());
+        }
+    }
+
+    private void validarNaoEncerrado(Chamado chamado) {
+        if (chamado.getStatus() == Status.ENCERRADO) {
+            throw new DomainRuleException("Não é possível alterar um chamado encerrado");
+        }
+    }
+
+    private static ChamadoAlteradoEvent.Tipo tipoTransicao(Status novoStatus) {
+        return novoStatus == Status.ENCERRADO
+                ? ChamadoAlteradoEvent.Tipo.FECHADO
+                : ChamadoAlteradoEvent.Tipo.STATUS_ALTERADO;
+    }
+
+    private static void aplicarStatus(Chamado chamado, Status novoStatus) {
+        chamado.setStatus(novoStatus);
+        if (novoStatus == Status.ENCERRADO) {
+            chamado.fechar();
+        }
+    }
+
+    void validarTransicaoStatus(Status atual, Status novo) {
+        if (atual == Status.ENCERRADO) {
+            throw new DomainRuleException("Não é possível alterar um chamado encerrado");
+        }
+        if (atual == Status.ABERTO && novo == Status.ENCERRADO) {
+            throw new DomainRuleException("Chamado ABERTO não pode ser encerrado diretamente");
+        }
+        if (atual == Status.PAUSADO && novo != Status.EM_ANDAMENTO) {
+            throw new DomainRuleException("Chamado PAUSADO só pode voltar para EM_ANDAMENTO");
+        }
+    }
+
+    ChamadoResponseDTO toResponseDTO(Chamado chamado) {
+        return new ChamadoResponseDTO(
+                chamado.getId(),
+                chamado.getDataAbertura(),
+                chamado.getDataFechamento(),
+                chamado.getPrioridade(),
+                chamado.getStatus(),
+                chamado.getTitulo(),
+                chamado.getObservacoes(),
+                chamado.getCliente() != null ? chamado.getCliente().getNome() : null,
+                chamado.getTecnico() != null ? chamado.getTecnico().getNome() : null,
+                chamado.getVersao()
+        );
+    }
+}
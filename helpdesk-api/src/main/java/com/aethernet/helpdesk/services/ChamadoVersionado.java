@@ -0,0 +1,40 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção JPQL de um Chamado com os seus validadores HTTP: as colunas de
+ * {@code ChamadoResponseDTO} e as versões e datas de gravação do Chamado, do Cliente e do
+ * Técnico, lidas na mesma instrução SQL.
+ *
+ * @param chamado O DTO de resposta do Chamado.
+ * @param versao Os validadores do estado lido em {@code chamado}.
+ */
+public record ChamadoVersionado(ChamadoResponseDTO chamado, VersaoRecurso versao) {
+
+    /**
+     * Construtor usado pela projeção JPQL ({@code SELECT new ...}).
+     */
+    public ChamadoVersionado(UUID id, LocalDateTime dataAbertura, LocalDateTime dataFechamento,
+                             Prioridade prioridade, Status status, String titulo, String observacoes,
+                             String nomeCliente, String nomeTecnico, Long versao, Long versaoCliente,
+                             Long versaoTecnico, LocalDateTime modificacao, LocalDateTime modificacaoCliente,
+                             LocalDateTime modificacaoTecnico) {
+        this(new ChamadoResponseDTO(id, dataAbertura, dataFechamento, prioridade, status, titulo,
+                        observacoes, nomeCliente, nomeTecnico, versao),
+                new VersaoRecurso(versao, versaoCliente, versaoTecnico, modificacao, modificacaoCliente,
+                        modificacaoTecnico));
+    }
+
+    /**
+     * @return O corpo e os validadores, na forma usada pelos controladores.
+     */
+    public LeituraVersionada<ChamadoResponseDTO> leitura() {
+        return new LeituraVersionada<>(chamado, versao);
+    }
+}
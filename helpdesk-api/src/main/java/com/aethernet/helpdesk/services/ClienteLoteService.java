@@ -0,0 +1,159 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ClienteLoteDTO;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço de cadastro de Clientes em lote (ex: integração de um novo cliente corporativo).
+ *
+ * A unicidade de CPF e Email é verificada em memória, contra conjuntos carregados com uma
+ * consulta de cada no início do lote e contra os Clientes anteriores do próprio lote; o banco
+ * só é consultado para confirmar um CPF ou Email encontrado no conjunto. Os Clientes aceitos
+ * são inseridos em blocos de {@value #TAMANHO_BLOCO}, cada um em sua própria transação pelo
+ * {@link ClienteLoteWriter}: uma falha não desfaz os blocos já gravados, e um bloco que falhar
+ * é regravado Cliente a Cliente para isolar o registro com problema.
+ */
+@Service
+public class ClienteLoteService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteLoteService.class);
+
+    /** Clientes por bloco/transação. */
+    static final int TAMANHO_BLOCO = 500;
+
+    private final ClienteRepository clienteRepository;
+    private final ClienteLoteWriter clienteLoteWriter;
+    private final Validator validator;
+
+    public ClienteLoteService(ClienteRepository clienteRepository,
+                              ClienteLoteWriter clienteLoteWriter,
+                              Validator validator) {
+        this.clienteRepository = clienteRepository;
+        this.clienteLoteWriter = clienteLoteWriter;
+        this.validator = validator;
+    }
+
+    /**
+     * Cadastra os Clientes do lote, reportando o resultado de cada um.
+     *
+     * @param clientes Os Clientes a cadastrar.
+     * @return O resultado por Cliente, na ordem recebida.
+     * @throws DomainRuleException Se o lote estiver vazio.
+     */
+    public ClienteLoteDTO criarEmLote(List<ClienteRequestDTO> clientes) {
+        if (clientes == null || clientes.isEmpty()) {
+            throw new DomainRuleException("Informe ao menos um cliente");
+        }
+
+        ClienteLoteDTO.Resultado[] resultados = new ClienteLoteDTO.Resultado[clientes.size()];
+        Set<String> cpfsExistentes = new HashSet<>(clienteRepository.findAllCpfsDePessoas());
+        Set<String> emailsExistentes = new HashSet<>(clienteRepository.findAllEmailsDePessoas());
+        Set<String> cpfsDoLote = new HashSet<>();
+        Set<String> emailsDoLote = new HashSet<>();
+
+        List<Integer> indices = new ArrayList<>(TAMANHO_BLOCO);
+        for (int i = 0; i < clientes.size(); i++) {
+            ClienteRequestDTO dto = clientes.get(i);
+            String erro = validar(dto);
+            if (erro == null) {
+                erro = verificarUnicidade(dto, cpfsExistentes, emailsExistentes, cpfsDoLote, emailsDoLote);
+            }
+            if (erro != null) {
+                resultados[i] = ClienteLoteDTO.Resultado.falha(i, erro);
+                continue;
+            }
+            cpfsDoLote.add(dto.cpf());
+            emailsDoLote.add(dto.email());
+            indices.add(i);
+            if (indices.size() == TAMANHO_BLOCO) {
+                gravar(clientes, indices, resultados);
+            }
+        }
+        gravar(clientes, indices, resultados);
+
+        int criados = (int) Arrays.stream(resultados).filter(ClienteLoteDTO.Resultado::sucesso).count();
+        log.info("Cadastro em lote: {} cliente(s) criado(s), {} rejeitado(s)", criados, resultados.length - criados);
+        return new ClienteLoteDTO(criados, resultados.length - criados, List.of(resultados));
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private String validar(ClienteRequestDTO dto) {
+        if (dto == null) {
+            return "Cliente ausente";
+        }
+        Set<ConstraintViolation<ClienteRequestDTO>> violacoes = validator.validate(dto);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Um CPF ou Email repetido dentro do lote é rejeitado sem consultar o banco; um encontrado
+     * no conjunto carregado é confirmado no banco, pois pode ter sido removido desde a carga.
+     */
+    private String verificarUnicidade(ClienteRequestDTO dto,
+                                      Set<String> cpfsExistentes, Set<String> emailsExistentes,
+                                      Set<String> cpfsDoLote, Set<String> emailsDoLote) {
+        if (cpfsDoLote.contains(dto.cpf())) {
+            return "CPF repetido no lote: " + dto.cpf();
+        }
+        if (emailsDoLote.contains(dto.email())) {
+            return "E-mail repetido no lote: " + dto.email();
+        }
+        if (cpfsExistentes.contains(dto.cpf()) && clienteRepository.existsPessoaByCpf(dto.cpf())) {
+            return "CPF já cadastrado: " + dto.cpf();
+        }
+        if (emailsExistentes.contains(dto.email()) && clienteRepository.existsPessoaByEmail(dto.email())) {
+            return "E-mail já cadastrado: " + dto.email();
+        }
+        return null;
+    }
+
+    private void gravar(List<ClienteRequestDTO> clientes, List<Integer> indices,
+                        ClienteLoteDTO.Resultado[] resultados) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        try {
+            List<UUID> ids = clienteLoteWriter.gravar(indices.stream().map(clientes::get).toList());
+            for (int j = 0; j < indices.size(); j++) {
+                resultados[indices.get(j)] = ClienteLoteDTO.Resultado.ok(indices.get(j), ids.get(j));
+            }
+        } catch (RuntimeException e) {
+            // Ex: CPF ou Email cadastrado por outra requisição depois da carga dos conjuntos
+            log.warn("Falha ao gravar bloco de {} cliente(s), regravando individualmente: {}",
+                    indices.size(), e.getMessage());
+            for (int indice : indices) {
+                try {
+                    UUID id = clienteLoteWriter.gravar(List.of(clientes.get(indice))).get(0);
+                    resultados[indice] = ClienteLoteDTO.Resultado.ok(indice, id);
+                } catch (RuntimeException falha) {
+                    resultados[indice] = ClienteLoteDTO.Resultado.falha(indice,
+                            "Falha ao gravar o cliente: " + NestedExceptionUtils.getMostSpecificCause(falha).getMessage());
+                }
+            }
+        }
+        indices.clear();
+    }
+}
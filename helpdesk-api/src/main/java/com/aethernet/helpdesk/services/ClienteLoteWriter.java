@@ -0,0 +1,50 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.Cliente;
+import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Grava um bloco do cadastro de Clientes em lote, em sua própria transação.
+ *
+ * Os INSERTs são agrupados nos lotes JDBC do Hibernate ({@code hibernate.jdbc.batch_size}),
+ * e o contexto de persistência é esvaziado ao fim do bloco.
+ */
+@Component
+public class ClienteLoteWriter {
+
+    private final EntityManager entityManager;
+
+    public ClienteLoteWriter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Insere os Clientes do bloco. Se qualquer INSERT falhar, nenhum Cliente do bloco é gravado.
+     *
+     * @param bloco Os Clientes a inserir, já validados.
+     * @return Os UUIDs gerados, na ordem do bloco.
+     */
+    @Transactional
+    public List<UUID> gravar(List<ClienteRequestDTO> bloco) {
+        List<UUID> ids = new ArrayList<>(bloco.size());
+        for (ClienteRequestDTO dto : bloco) {
+            Cliente cliente = new Cliente();
+            cliente.setNome(dto.nome());
+            cliente.setCpf(dto.cpf());
+            cliente.setEmail(dto.email());
+            cliente.setSenha(dto.senha()); // TODO: Criptografar senha
+            entityManager.persist(cliente);
+            ids.add(cliente.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
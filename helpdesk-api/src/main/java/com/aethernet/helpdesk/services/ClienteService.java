@@ -7,6 +7,7 @@ import com.aethernet.helpdesk.domain.enums.Perfil;
 import com.aethernet.helpdesk.exceptions.DuplicateEntityException;
 import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
 import com.aethernet.helpdesk.repositories.ClienteRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +41,8 @@ public class ClienteService {
     /**
      * Cria e persiste um novo Cliente no banco de dados.
      *
-     * Executa a validação de unicidade para CPF e Email antes de salvar.
+     * A unicidade de CPF e Email é garantida pelas restrições do banco, sem consultas
+     * prévias: o INSERT é enviado imediatamente e uma violação vira {@code DuplicateEntityException}.
      * O perfil padrão, se não for fornecido, é {@code CLIENTE}.
      *
      * @param dto O DTO de requisição contendo os dados do novo Cliente.
@@ -49,22 +51,13 @@ public class ClienteService {
      */
     @Transactional
     public ClienteResponseDTO criar(ClienteRequestDTO dto) {
-
-        // Validar Unicidade de CPF e Email
-        if (clienteRepository.existsByCpf(dto.cpf())) {
-            throw new DuplicateEntityException("CPF já cadastrado" + dto.cpf());
-        }
-        if (clienteRepository.existsByEmail(dto.email())) {
-            throw new DuplicateEntityException("E-mail já cadastrado" + dto.email());
-        }
-
         Cliente cliente = new Cliente();
         cliente.setNome(dto.nome());
         cliente.setCpf(dto.cpf());
         cliente.setEmail(dto.email());
         cliente.setSenha(dto.senha()); // TODO: Criptografar senha
 
-        cliente = clienteRepository.save(cliente);
+        cliente = gravar(cliente);
         return toResponseDTO(cliente);
     }
 
@@ -82,6 +75,34 @@ public class ClienteService {
         return toResponseDTO(cliente);
     }
 
+    /**
+     * Busca um Cliente junto com os validadores HTTP do mesmo estado, a partir da entidade carregada.
+     *
+     * @param id O UUID do Cliente.
+     * @return O DTO de resposta e os validadores ({@code ETag}/{@code Last-Modified}) que o descrevem.
+     * @throws EntityNotFoundException Se o Cliente com o ID fornecido não existir.
+     */
+    @Transactional(readOnly = true)
+    public LeituraVersionada<ClienteResponseDTO> buscarComVersao(UUID id) {
+        Cliente cliente = clienteRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Cliente", id));
+        return new LeituraVersionada<>(toResponseDTO(cliente),
+                new VersaoRecurso(cliente.getVersao(), cliente.getDataAtualizacao()));
+    }
+
+    /**
+     * Lê os validadores HTTP ({@code ETag}/{@code Last-Modified}) de um Cliente sem carregá-lo.
+     *
+     * @param id O UUID do Cliente.
+     * @return A versão e a data da última gravação do Cliente.
+     * @throws EntityNotFoundException Se o Cliente com o ID fornecido não existir.
+     */
+    @Transactional(readOnly = true)
+    public VersaoRecurso versao(UUID id) {
+        return clienteRepository.findVersaoById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Cliente", id));
+    }
+
     /**
      * Lista todos os Clientes registrados no sistema.
      *
@@ -98,7 +119,7 @@ public class ClienteService {
     /**
      * Atualiza os dados de um Cliente existente.
      *
-     * Inclui validação de unicidade para CPF e Email, ignorando o próprio Cliente.
+     * A unicidade de CPF e Email é validada pelas restrições do banco no UPDATE.
      *
      * @param id O UUID do Cliente a ser atualizado.
      * @param dto O DTO de requisição contendo os novos dados do Cliente.
@@ -111,14 +132,6 @@ public class ClienteService {
         Cliente cliente = clienteRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Cliente", id));
 
-        // Validar Unicidade apenas se CPF ou Email forem alterados
-        if (!cliente.getCpf().equals(dto.cpf()) && clienteRepository.existsByCpf(dto.cpf())) {
-            throw new DuplicateEntityException("CPF já cadastrado no sistema");
-        }
-        if (!cliente.getEmail().equals(dto.email()) && clienteRepository.existsByEmail(dto.email())) {
-            throw new DuplicateEntityException("E-mail já cadastrado no sistema");
-        }
-
         cliente.setNome(dto.nome());
         cliente.setCpf(dto.cpf());
         cliente.setEmail(dto.email());
@@ -131,7 +144,7 @@ public class ClienteService {
             cliente.addPerfil(Perfil.CLIENTE);
         }
 
-        cliente = clienteRepository.save(cliente);
+        cliente = gravar(cliente);
         return toResponseDTO(cliente);
     }
 
@@ -149,13 +162,29 @@ public class ClienteService {
         clienteRepository.deleteById(id);
     }
 
+    /**
+     * Grava o Cliente com flush imediato, para que uma violação de unicidade seja
+     * detectada (e traduzida) dentro do serviço, e não no commit.
+     *
+     * @param cliente O Cliente a ser gravado.
+     * @return O Cliente gravado.
+     * @throws DuplicateEntityException Se o CPF ou Email já pertencer a outra Pessoa.
+     */
+    private Cliente gravar(Cliente cliente) {
+        try {
+            return clienteRepository.saveAndFlush(cliente);
+        } catch (DataIntegrityViolationException e) {
+            throw RestricoesBanco.traduzirUnicidade(e);
+        }
+    }
+
     /**
      * Converte uma entidade {@code Cliente} para o seu respectivo DTO de resposta.
      *
      * @param cliente A entidade Cliente a ser convertida.
      * @return O {@code ClienteResponseDTO} resultante.
      */
-    private ClienteResponseDTO toResponseDTO(Cliente cliente) {
+    ClienteResponseDTO toResponseDTO(Cliente cliente) {
         return new ClienteResponseDTO(
                 cliente.getId(),
                 cliente.getNome(),
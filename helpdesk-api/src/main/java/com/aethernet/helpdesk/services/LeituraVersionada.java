@@ -0,0 +1,10 @@
+package com.aethernet.helpdesk.services;
+
+/**
+ * O corpo de um recurso com os validadores HTTP do mesmo estado, lidos na mesma consulta.
+ *
+ * @param corpo O DTO de resposta do recurso.
+ * @param versao Os validadores ({@code ETag}/{@code Last-Modified}) do estado lido em {@code corpo}.
+ */
+public record LeituraVersionada<T>(T corpo, VersaoRecurso versao) {
+}
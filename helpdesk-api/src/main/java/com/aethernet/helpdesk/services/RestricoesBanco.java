@@ -0,0 +1,65 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.exceptions.DuplicateEntityException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Nomes das restrições do banco usadas pelos serviços para validar escritas sem consultas
+ * prévias, e a identificação da restrição violada em uma {@link DataIntegrityViolationException}.
+ *
+ * Os nomes são os da migração {@code V1__schema_inicial.sql}, repetidos no mapeamento das
+ * entidades para que o schema gerado pelo Hibernate (perfil dev) use os mesmos.
+ */
+final class RestricoesBanco {
+
+    static final String UK_PESSOA_CPF = "uk_pessoa_cpf";
+    static final String UK_PESSOA_EMAIL = "uk_pessoa_email";
+    static final String FK_CHAMADO_CLIENTE = "fk_chamado_cliente";
+    static final String FK_CHAMADO_TECNICO = "fk_chamado_tecnico";
+
+    private RestricoesBanco() {
+    }
+
+    /**
+     * Verifica se a exceção foi causada pela violação da restrição informada.
+     *
+     * Usa o nome extraído pelo dialeto do Hibernate e também a mensagem do driver, pois a
+     * extração não é confiável em todos os bancos (no H2, o nome de uma chave estrangeira
+     * perde o primeiro caractere).
+     *
+     * @param ex A exceção lançada pelo flush.
+     * @param restricao O nome da restrição, em minúsculas.
+     * @return {@code true} se a restrição violada for a informada.
+     */
+    static boolean violou(DataIntegrityViolationException ex, String restricao) {
+        if (ex.getCause() instanceof ConstraintViolationException violacao
+                && contem(violacao.getConstraintName(), restricao)) {
+            return true;
+        }
+        return contem(NestedExceptionUtils.getMostSpecificCause(ex).getMessage(), restricao);
+    }
+
+    /**
+     * Converte a violação da unicidade de CPF ou Email de uma Pessoa em {@link DuplicateEntityException}.
+     *
+     * @param ex A exceção lançada pelo flush.
+     * @return A exceção a lançar: a de duplicidade, ou a própria {@code ex} se for outra restrição.
+     */
+    static RuntimeException traduzirUnicidade(DataIntegrityViolationException ex) {
+        if (violou(ex, UK_PESSOA_CPF)) {
+            return new DuplicateEntityException("CPF já cadastrado no sistema");
+        }
+        if (violou(ex, UK_PESSOA_EMAIL)) {
+            return new DuplicateEntityException("E-mail já cadastrado no sistema");
+        }
+        return ex;
+    }
+
+    private static boolean contem(String texto, String restricao) {
+        return texto != null && texto.toLowerCase(Locale.ROOT).contains(restricao);
+    }
+}
@@ -0,0 +1,72 @@
+package com.aethernet.helpdesk.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Reexecuta uma operação que falhou por conflito de concorrência otimista ({@code @Version}).
+ *
+ * Só deve envolver transições idempotentes decididas no servidor, que relêem o estado atual e
+ * revalidam as regras a cada tentativa (ex: alterar o status, atribuir um técnico). A operação
+ * deve abrir a sua própria transação (um método {@code @Transactional} de outro bean), para que
+ * cada tentativa leia o Chamado de novo. Entre as tentativas, a espera é aleatória entre zero e
+ * um teto que dobra a cada conflito ("full jitter"), para que as requisições concorrentes não
+ * colidam novamente no mesmo instante.
+ */
+@Component
+public class RetentativaOtimista {
+
+    private static final Logger log = LoggerFactory.getLogger(RetentativaOtimista.class);
+
+    private final int tentativas;
+    private final long esperaBaseMs;
+    private final long esperaMaximaMs;
+
+    public RetentativaOtimista(@Value("${helpdesk.concorrencia.tentativas:3}") int tentativas,
+                               @Value("${helpdesk.concorrencia.espera-base-ms:5}") long esperaBaseMs,
+                               @Value("${helpdesk.concorrencia.espera-maxima-ms:100}") long esperaMaximaMs) {
+        this.tentativas = Math.max(1, tentativas);
+        this.esperaBaseMs = esperaBaseMs;
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+
+    /**
+     * Executa a operação, repetindo-a enquanto houver conflito de versão, até o limite de tentativas.
+     *
+     * @param operacao A operação transacional a executar.
+     * @return O resultado da primeira tentativa sem conflito.
+     * @throws OptimisticLockingFailureException Se todas as tentativas entrarem em conflito.
+     */
+    public <T> T executar(Supplier<T> operacao) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return operacao.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= tentativas) {
+                    throw e;
+                }
+                log.debug("Conflito de versão na tentativa {} de {}; repetindo", tentativa, tentativas);
+                esperar(tentativa);
+            }
+        }
+    }
+
+    private void esperar(int tentativa) {
+        long teto = Math.min(esperaMaximaMs, esperaBaseMs << Math.min(tentativa - 1, 20));
+        if (teto <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(teto + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido durante a espera entre tentativas", e);
+        }
+    }
+}
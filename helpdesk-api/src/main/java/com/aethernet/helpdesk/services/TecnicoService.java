@@ -7,10 +7,12 @@ import com.aethernet.helpdesk.domain.enums.Perfil;
 import com.aethernet.helpdesk.exceptions.DuplicateEntityException;
 import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
 import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -39,8 +41,9 @@ public class TecnicoService {
     /**
      * Cria e persiste um novo Técnico no banco de dados.
      *
-     * Executa a validação de unicidade para CPF e Email antes de salvar. O perfil padrão,
-     * se não for fornecido, é {@code TECNICO}.
+     * A unicidade de CPF e Email é garantida pelas restrições do banco, sem consultas
+     * prévias: o INSERT é enviado imediatamente e uma violação vira {@code DuplicateEntityException}.
+     * O perfil padrão, se não for fornecido, é {@code TECNICO}.
      *
      * @param dto O DTO de requisição contendo os dados do novo Técnico.
      * @return O DTO de resposta do Técnico recém-criado.
@@ -48,15 +51,6 @@ public class TecnicoService {
      */
     @Transactional
     public TecnicoResponseDTO criar(TecnicoRequestDTO dto) {
-
-        // Validar Unicidade de CPF e Email
-        if (tecnicoRepository.existsByCpf(dto.cpf())) {
-            throw new DuplicateEntityException("CPF já cadastrado no sistema");
-        }
-        if (tecnicoRepository.existsByEmail(dto.email())) {
-            throw new DuplicateEntityException("E-mail já cadastrado no sistema");
-        }
-
         Tecnico tecnico = new Tecnico();
         tecnico.setNome(dto.nome());
         tecnico.setCpf(dto.cpf());
@@ -68,7 +62,7 @@ public class TecnicoService {
                 : Set.of(Perfil.TECNICO);
         perfis.forEach(tecnico::addPerfil);
 
-        tecnico = tecnicoRepository.save(tecnico);
+        tecnico = gravar(tecnico);
         return toResponseDTO(tecnico);
     }
 
@@ -127,10 +121,56 @@ public class TecnicoService {
                 .toList();
     }
 
+    /**
+     * Busca um Técnico junto com os validadores HTTP do mesmo estado, a partir da entidade carregada.
+     *
+     * @param id O UUID do Técnico.
+     * @return O DTO de resposta e os validadores ({@code ETag}/{@code Last-Modified}) que o descrevem.
+     * @throws EntityNotFoundException Se o Técnico com o ID fornecido não existir.
+     */
+    @Transactional(readOnly = true)
+    public LeituraVersionada<TecnicoResponseDTO> buscarComVersao(UUID id) {
+        Tecnico tecnico = tecnicoRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Técnico", id));
+        return new LeituraVersionada<>(toResponseDTO(tecnico),
+                new VersaoRecurso(tecnico.getVersao(), tecnico.getDataAtualizacao()));
+    }
+
+    /**
+     * Lê os validadores HTTP ({@code ETag}/{@code Last-Modified}) de um Técnico sem carregá-lo.
+     *
+     * @param id O UUID do Técnico.
+     * @return A versão e a data da última gravação do Técnico.
+     * @throws EntityNotFoundException Se o Técnico com o ID fornecido não existir.
+     */
+    @Transactional(readOnly = true)
+    public VersaoRecurso versao(UUID id) {
+        return tecnicoRepository.findVersaoById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Técnico", id));
+    }
+
+    /**
+     * Lê o {@code ETag} da lista de Técnicos com uma única agregação, sem carregar nenhum Técnico.
+     *
+     * O ETag combina a quantidade de Técnicos, a soma das versões e a última gravação: uma inclusão
+     * muda a quantidade e a última gravação, uma alteração muda a soma e uma exclusão muda a quantidade.
+     * A lista não tem {@code Last-Modified}, pois uma exclusão não altera a última gravação.
+     *
+     * @return O ETag da lista atual.
+     */
+    @Transactional(readOnly = true)
+    public VersaoRecurso versaoLista() {
+        TecnicoRepository.ResumoVersoes resumo = tecnicoRepository.resumirVersoes();
+        long ultimaModificacao = resumo.getUltimaModificacao() != null
+                ? resumo.getUltimaModificacao().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0;
+        return new VersaoRecurso(resumo.getQuantidade() + "-" + resumo.getSomaVersoes() + "-" + ultimaModificacao, null);
+    }
+
     /**
      * Atualiza os dados de um Técnico existente.
      *
-     * Inclui validação de unicidade para CPF e Email, garantindo que não pertençam a outro Técnico.
+     * A unicidade de CPF e Email é validada pelas restrições do banco no UPDATE.
      *
      * @param id O UUID do Técnico a ser atualizado.
      * @param dto O DTO de requisição contendo os novos dados.
@@ -143,14 +183,6 @@ public class TecnicoService {
         Tecnico tecnico = tecnicoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Técnico", id));
 
-        // Validar Unicidade apenas se CPF ou Email forem alterados
-        if (!tecnico.getCpf().equals(dto.cpf()) && tecnicoRepository.existsByCpf(dto.cpf())) {
-            throw new DuplicateEntityException("CPF já cadastrado no sistema");
-        }
-        if (!tecnico.getEmail().equals(dto.email()) && tecnicoRepository.existsByEmail(dto.email())) {
-            throw new DuplicateEntityException("E-mail já cadastrado no sistema");
-        }
-
         tecnico.setNome(dto.nome());
         tecnico.setCpf(dto.cpf());
         tecnico.setEmail(dto.email());
@@ -160,11 +192,10 @@ public class TecnicoService {
         }
 
         if (dto.perfis() != null && !dto.perfis().isEmpty()) {
-            tecnico.getPerfis().clear();
-            dto.perfis().forEach(tecnico::addPerfil);
+            tecnico.setPerfis(dto.perfis());
         }
 
-        tecnico = tecnicoRepository.save(tecnico);
+        tecnico = gravar(tecnico);
         return toResponseDTO(tecnico);
     }
 
@@ -182,13 +213,29 @@ public class TecnicoService {
         tecnicoRepository.deleteById(id);
     }
 
+    /**
+     * Grava o Técnico com flush imediato, para que uma violação de unicidade seja
+     * detectada (e traduzida) dentro do serviço, e não no commit.
+     *
+     * @param tecnico O Técnico a ser gravado.
+     * @return O Técnico gravado.
+     * @throws DuplicateEntityException Se o CPF ou Email já pertencer a outra Pessoa.
+     */
+    private Tecnico gravar(Tecnico tecnico) {
+        try {
+            return tecnicoRepository.saveAndFlush(tecnico);
+        } catch (DataIntegrityViolationException e) {
+            throw RestricoesBanco.traduzirUnicidade(e);
+        }
+    }
+
     /**
      * Converte uma entidade {@code Tecnico} para o seu respectivo DTO de resposta.
      *
      * @param tecnico A entidade Tecnico a ser convertida.
      * @return O {@code TecnicoResponseDTO} resultante.
      */
-    private TecnicoResponseDTO toResponseDTO(Tecnico tecnico) {
+    TecnicoResponseDTO toResponseDTO(Tecnico tecnico) {
         return new TecnicoResponseDTO(
                 tecnico.getId(),
                 tecnico.getNome(),
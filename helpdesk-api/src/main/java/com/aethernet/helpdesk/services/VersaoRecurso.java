@@ -0,0 +1,52 @@
+package com.aethernet.helpdesk.services;
+
+import java.time.LocalDateTime;
+
+/**
+ * Os validadores HTTP do estado atual de um recurso, lidos sem carregar o recurso.
+ *
+ * Atendem às leituras condicionais ({@code If-None-Match} / {@code If-Modified-Since}): se o
+ * cliente já tem este estado, a resposta é 304, sem carregar a entidade nem serializar o corpo.
+ *
+ * @param etag O valor do {@code ETag}, sem aspas (a versão, para uma única entidade; para um
+ *             Chamado, também as versões do Cliente e do Técnico, cujos nomes estão no corpo).
+ * @param ultimaModificacao A data da última gravação ({@code Last-Modified}), ou {@code null} se
+ *                          não for conhecida.
+ */
+public record VersaoRecurso(String etag, LocalDateTime ultimaModificacao) {
+
+    /**
+     * Validadores de uma única entidade, a partir da sua versão.
+     *
+     * @param versao A versão ({@code @Version}) da entidade.
+     * @param ultimaModificacao A data da última gravação da entidade.
+     */
+    public VersaoRecurso(Long versao, LocalDateTime ultimaModificacao) {
+        this(String.valueOf(versao), ultimaModificacao);
+    }
+
+    /**
+     * Validadores de um Chamado, cujo corpo também traz os nomes do Cliente e do Técnico: o
+     * {@code ETag} é {@code "versao.versaoCliente"} ou {@code "versao.versaoCliente.versaoTecnico"}
+     * e a última modificação é a mais recente das três gravações.
+     *
+     * @param versao A versão do Chamado.
+     * @param versaoCliente A versão do Cliente.
+     * @param versaoTecnico A versão do Técnico, ou {@code null} se não houver Técnico.
+     * @param modificacao A data da última gravação do Chamado.
+     * @param modificacaoCliente A data da última gravação do Cliente.
+     * @param modificacaoTecnico A data da última gravação do Técnico, ou {@code null}.
+     */
+    public VersaoRecurso(Long versao, Long versaoCliente, Long versaoTecnico, LocalDateTime modificacao,
+                         LocalDateTime modificacaoCliente, LocalDateTime modificacaoTecnico) {
+        this(versao + "." + versaoCliente + (versaoTecnico != null ? "." + versaoTecnico : ""),
+                maisRecente(maisRecente(modificacao, modificacaoCliente), modificacaoTecnico));
+    }
+
+    private static LocalDateTime maisRecente(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,18 @@
+package com.aethernet.helpdesk.sla;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Atributos de um Chamado em aberto necessários para armar seus prazos de SLA,
+ * usados na reconstrução da roda de temporização.
+ *
+ * @param chamadoId O identificador do Chamado.
+ * @param status O status atual do Chamado.
+ * @param prioridade A prioridade do Chamado.
+ * @param dataAbertura A data de abertura do Chamado.
+ */
+public record ChamadoPrazo(UUID chamadoId, Status status, Prioridade prioridade, LocalDateTime dataAbertura) {}
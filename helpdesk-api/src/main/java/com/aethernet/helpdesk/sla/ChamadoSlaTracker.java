@@ -0,0 +1,285 @@
+package com.aethernet.helpdesk.sla;
+
+import com.aethernet.helpdesk.domain.dto.response.SlaPrazoDTO;
+import com.aethernet.helpdesk.domain.dto.response.SlaResumoDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.enums.TipoPrazoSla;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.events.ChamadosImportadosEvent;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acompanhamento em memória dos prazos de SLA dos Chamados em aberto.
+ *
+ * Os prazos de resposta e de resolução de cada Chamado ficam em uma
+ * {@link HierarchicalTimingWheel} com resolução de um segundo, avançada por um agendamento
+ * local: uma violação é registrada no máximo um tick depois do prazo, sem consultar o banco.
+ * Os prazos são rearmados ou cancelados a cada {@link ChamadoAlteradoEvent}, após o commit
+ * da alteração: o tempo em PAUSADO não conta para a resolução, e ENCERRADO ou CANCELADO
+ * encerram o acompanhamento.
+ *
+ * A roda é reconstruída a partir dos Chamados em aberto quando a aplicação inicializa. O
+ * tempo pausado antes de um reinício não é persistido, de modo que um Chamado PAUSADO
+ * retoma o prazo de resolução a partir da abertura mais o tempo pausado depois do reinício.
+ *
+ * O estado é protegido por um {@link ReentrantLock}, e não por {@code synchronized}: a
+ * reconstrução consulta o banco com o bloqueio adquirido, e um monitor prenderia a virtual
+ * thread à thread portadora durante toda a consulta.
+ */
+@Component
+public class ChamadoSlaTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoSlaTracker.class);
+
+    /** Resolução da roda de temporização. */
+    static final long TICK_MS = 1000;
+
+    /** Quantidade máxima de prazos em cada lista do resumo. */
+    static final int LIMITE_LISTA = 100;
+
+    private static final Set<Status> STATUS_FINAIS = EnumSet.of(Status.ENCERRADO, Status.CANCELADO);
+
+    /**
+     * Chave de um prazo na roda.
+     */
+    record Prazo(UUID chamadoId, TipoPrazoSla tipo) {}
+
+    /**
+     * Estado de um Chamado em aberto. Todos os instantes em epoch (ms).
+     */
+    private static final class Acompanhamento {
+        final UUID chamadoId;
+        final long aberturaMs;
+        Status status;
+        Prioridade prioridade;
+        long pausadoMs;
+        long pausaInicioMs = -1;
+        final Set<TipoPrazoSla> violados = EnumSet.noneOf(TipoPrazoSla.class);
+
+        Acompanhamento(UUID chamadoId, long aberturaMs, Status status, Prioridade prioridade) {
+            this.chamadoId = chamadoId;
+            this.aberturaMs = aberturaMs;
+            this.status = status;
+            this.prioridade = prioridade;
+        }
+    }
+
+    private final ChamadoRepository chamadoRepository;
+    private final SlaPolicy slaPolicy;
+    private final Clock clock;
+    private final long janelaRiscoMs;
+
+    private final Map<UUID, Acompanhamento> acompanhamentos = new HashMap<>();
+    private final Map<TipoPrazoSla, Map<Prioridade, Long>> violacoes = new EnumMap<>(TipoPrazoSla.class);
+    private HierarchicalTimingWheel<Prazo> roda;
+
+    /** Protege os acompanhamentos, as violações e a roda. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public ChamadoSlaTracker(ChamadoRepository chamadoRepository,
+                             SlaPolicy slaPolicy,
+                             @Value("${helpdesk.sla.janela-risco-min:30}") long janelaRiscoMin) {
+        this(chamadoRepository, slaPolicy, Clock.systemDefaultZone(), Duration.ofMinutes(janelaRiscoMin));
+    }
+
+    ChamadoSlaTracker(ChamadoRepository chamadoRepository, SlaPolicy slaPolicy, Clock clock, Duration janelaRisco) {
+        this.chamadoRepository = chamadoRepository;
+        this.slaPolicy = slaPolicy;
+        this.clock = clock;
+        this.janelaRiscoMs = janelaRisco.toMillis();
+        this.roda = new HierarchicalTimingWheel<>(TICK_MS, clock.millis());
+        for (TipoPrazoSla tipo : TipoPrazoSla.values()) {
+            Map<Prioridade, Long> porPrioridade = new EnumMap<>(Prioridade.class);
+            for (Prioridade prioridade : Prioridade.values()) {
+                porPrioridade.put(prioridade, 0L);
+            }
+            violacoes.put(tipo, porPrioridade);
+        }
+    }
+
+    /**
+     * Reconstrói a roda a partir dos Chamados em aberto no banco.
+     * Executado quando a aplicação termina de inicializar e após cada importação em massa;
+     * prazos que já venceram são contabilizados como violações no próximo tick.
+     */
+    @EventListener({ApplicationReadyEvent.class, ChamadosImportadosEvent.class})
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        lock.lock();
+        try {
+            long agora = clock.millis();
+            acompanhamentos.clear();
+            roda = new HierarchicalTimingWheel<>(TICK_MS, agora);
+            for (ChamadoPrazo chamado : chamadoRepository.findPrazosByStatusNotIn(STATUS_FINAIS)) {
+                Acompanhamento acompanhamento = new Acompanhamento(chamado.chamadoId(),
+                        paraMillis(chamado.dataAbertura()), chamado.status(), chamado.prioridade());
+                if (chamado.status() == Status.PAUSADO) {
+                    acompanhamento.pausaInicioMs = agora;
+                }
+                acompanhamentos.put(chamado.chamadoId(), acompanhamento);
+                armar(acompanhamento);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Avança a roda até o instante atual e registra os prazos vencidos.
+     */
+    @Scheduled(fixedRate = TICK_MS)
+    public void avancar() {
+        lock.lock();
+        try {
+            for (Prazo prazo : roda.avancar(clock.millis())) {
+                Acompanhamento acompanhamento = acompanhamentos.get(prazo.chamadoId());
+                if (acompanhamento == null) {
+                    continue;
+                }
+                acompanhamento.violados.add(prazo.tipo());
+                violacoes.get(prazo.tipo()).merge(acompanhamento.prioridade, 1L, Long::sum);
+                log.warn("SLA de {} violado: chamado {} (prioridade {})",
+                        prazo.tipo(), prazo.chamadoId(), acompanhamento.prioridade);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rearma ou cancela os prazos de um Chamado após o commit de uma alteração.
+     *
+     * @param event O evento com a situação anterior e a atual do Chamado.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarChamado(ChamadoAlteradoEvent event) {
+        ChamadoAlteradoEvent.Situacao atual = event.atual();
+        lock.lock();
+        try {
+            if (STATUS_FINAIS.contains(atual.status())) {
+                acompanhamentos.remove(event.chamadoId());
+                for (TipoPrazoSla tipo : TipoPrazoSla.values()) {
+                    roda.cancelar(new Prazo(event.chamadoId(), tipo));
+                }
+                return;
+            }
+
+            long agora = clock.millis();
+            Acompanhamento acompanhamento = acompanhamentos.computeIfAbsent(event.chamadoId(),
+                    id -> new Acompanhamento(id, agora, atual.status(), atual.prioridade()));
+            if (acompanhamento.status == Status.PAUSADO && atual.status() != Status.PAUSADO) {
+                acompanhamento.pausadoMs += agora - acompanhamento.pausaInicioMs;
+                acompanhamento.pausaInicioMs = -1;
+            } else if (acompanhamento.status != Status.PAUSADO && atual.status() == Status.PAUSADO) {
+                acompanhamento.pausaInicioMs = agora;
+            }
+            acompanhamento.status = atual.status();
+            acompanhamento.prioridade = atual.prioridade();
+            armar(acompanhamento);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna as violações acumuladas e os prazos vencidos ou em risco dos Chamados em aberto.
+     *
+     * @return O DTO com o resumo dos prazos.
+     */
+    public SlaResumoDTO resumo() {
+        long agora = clock.millis();
+        List<SlaPrazoDTO> violados = new ArrayList<>();
+        List<SlaPrazoDTO> emRisco = new ArrayList<>();
+        Map<TipoPrazoSla, Map<Prioridade, Long>> copia = new EnumMap<>(TipoPrazoSla.class);
+        lock.lock();
+        try {
+            for (Acompanhamento acompanhamento : acompanhamentos.values()) {
+                for (TipoPrazoSla tipo : TipoPrazoSla.values()) {
+                    if (acompanhamento.violados.contains(tipo)) {
+                        violados.add(paraDTO(acompanhamento, tipo));
+                    } else if (armado(acompanhamento, tipo) && prazoMs(acompanhamento, tipo) <= agora + janelaRiscoMs) {
+                        emRisco.add(paraDTO(acompanhamento, tipo));
+                    }
+                }
+            }
+            violacoes.forEach((tipo, porPrioridade) -> copia.put(tipo, new EnumMap<>(porPrioridade)));
+        } finally {
+            lock.unlock();
+        }
+        Comparator<SlaPrazoDTO> porPrazo = Comparator.comparing(SlaPrazoDTO::prazo);
+        violados.sort(porPrazo);
+        emRisco.sort(porPrazo);
+        return new SlaResumoDTO(copia,
+                violados.size(), List.copyOf(violados.subList(0, Math.min(LIMITE_LISTA, violados.size()))),
+                emRisco.size(), List.copyOf(emRisco.subList(0, Math.min(LIMITE_LISTA, emRisco.size()))),
+                paraDataHora(agora));
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private void armar(Acompanhamento acompanhamento) {
+        for (TipoPrazoSla tipo : TipoPrazoSla.values()) {
+            Prazo prazo = new Prazo(acompanhamento.chamadoId, tipo);
+            if (armado(acompanhamento, tipo)) {
+                roda.agendar(prazo, prazoMs(acompanhamento, tipo));
+            } else {
+                roda.cancelar(prazo);
+            }
+        }
+    }
+
+    /** O prazo corre se ainda não foi violado e o Status do Chamado o mantém em contagem. */
+    private static boolean armado(Acompanhamento acompanhamento, TipoPrazoSla tipo) {
+        if (acompanhamento.violados.contains(tipo)) {
+            return false;
+        }
+        return tipo == TipoPrazoSla.RESPOSTA
+                ? acompanhamento.status == Status.ABERTO
+                : acompanhamento.status != Status.PAUSADO;
+    }
+
+    private long prazoMs(Acompanhamento acompanhamento, TipoPrazoSla tipo) {
+        long prazo = acompanhamento.aberturaMs + slaPolicy.meta(tipo, acompanhamento.prioridade).toMillis();
+        return tipo == TipoPrazoSla.RESOLUCAO ? prazo + acompanhamento.pausadoMs : prazo;
+    }
+
+    private SlaPrazoDTO paraDTO(Acompanhamento acompanhamento, TipoPrazoSla tipo) {
+        return new SlaPrazoDTO(acompanhamento.chamadoId, acompanhamento.status, acompanhamento.prioridade,
+                tipo, paraDataHora(prazoMs(acompanhamento, tipo)));
+    }
+
+    private long paraMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime paraDataHora(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone());
+    }
+}
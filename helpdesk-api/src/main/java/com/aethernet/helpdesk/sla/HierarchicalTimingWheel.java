@@ -0,0 +1,191 @@
+package com.aethernet.helpdesk.sla;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Roda de temporização hierárquica para prazos identificados por chave.
+ *
+ * São {@value #NIVEIS} níveis de {@value #SLOTS} posições: cada posição do nível {@code n}
+ * cobre {@code 64^n} ticks. Um prazo é guardado no nível mais baixo que alcança sua
+ * distância e desce de nível ("cascateia") quando o tempo chega ao início da sua posição,
+ * até vencer no nível 0. Agendar e cancelar custam O(1); cada prazo é movido no máximo
+ * uma vez por nível. Prazos além do último nível ficam em uma lista de excedentes,
+ * reexaminada a cada volta completa da roda.
+ *
+ * A classe não é thread-safe: o chamador deve serializar os acessos.
+ *
+ * @param <K> O tipo da chave que identifica cada prazo.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    static final int BITS = 6;
+    static final int SLOTS = 1 << BITS;
+    static final int NIVEIS = 4;
+
+    private static final long MASCARA = SLOTS - 1;
+
+    /**
+     * Um prazo agendado e a posição em que ele está guardado.
+     */
+    private static final class Entrada<K> {
+        final K chave;
+        final long prazoTick;
+        Set<Entrada<K>> balde;
+
+        Entrada(K chave, long prazoTick) {
+            this.chave = chave;
+            this.prazoTick = prazoTick;
+        }
+    }
+
+    private final long tickMs;
+    private final Set<Entrada<K>>[][] niveis;
+    private final Set<Entrada<K>> excedentes = new HashSet<>();
+    private final Set<Entrada<K>> vencidos = new HashSet<>();
+    private final Map<K, Entrada<K>> entradas = new HashMap<>();
+
+    private long tickAtual;
+
+    /**
+     * Cria uma roda vazia.
+     *
+     * @param tickMs A resolução da roda, em milissegundos.
+     * @param inicioMs O instante inicial (epoch em milissegundos).
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, long inicioMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("A resolução da roda deve ser positiva");
+        }
+        this.tickMs = tickMs;
+        this.tickAtual = Math.floorDiv(inicioMs, tickMs);
+        this.niveis = new Set[NIVEIS][SLOTS];
+        for (Set<Entrada<K>>[] nivel : niveis) {
+            for (int i = 0; i < SLOTS; i++) {
+                nivel[i] = new HashSet<>();
+            }
+        }
+    }
+
+    /**
+     * Agenda (ou reagenda) o prazo de uma chave.
+     *
+     * O prazo é arredondado para cima até o próximo tick; prazos já vencidos são
+     * devolvidos na próxima chamada a {@link #avancar(long)}.
+     *
+     * @param chave A chave do prazo.
+     * @param prazoMs O instante do prazo (epoch em milissegundos).
+     */
+    public void agendar(K chave, long prazoMs) {
+        cancelar(chave);
+        Entrada<K> entrada = new Entrada<>(chave, -Math.floorDiv(-prazoMs, tickMs));
+        entradas.put(chave, entrada);
+        inserir(entrada);
+    }
+
+    /**
+     * Cancela o prazo de uma chave.
+     *
+     * @param chave A chave do prazo.
+     * @return {@code true} se havia um prazo agendado para a chave.
+     */
+    public boolean cancelar(K chave) {
+        Entrada<K> entrada = entradas.remove(chave);
+        if (entrada == null) {
+            return false;
+        }
+        entrada.balde.remove(entrada);
+        return true;
+    }
+
+    /**
+     * Avança a roda até o instante informado e devolve as chaves cujos prazos venceram.
+     *
+     * @param agoraMs O instante atual (epoch em milissegundos).
+     * @return As chaves vencidas, na ordem dos prazos (a ordem dentro de um mesmo tick não é definida).
+     */
+    public List<K> avancar(long agoraMs) {
+        long alvo = Math.floorDiv(agoraMs, tickMs);
+        List<K> expirados = new ArrayList<>();
+        drenar(vencidos, expirados);
+
+        if (entradas.isEmpty()) {
+            // Nada a cascatear: salta direto para o alvo
+            tickAtual = Math.max(tickAtual, alvo);
+            return expirados;
+        }
+        while (tickAtual < alvo) {
+            tickAtual++;
+            if ((tickAtual & mascaraNivel(NIVEIS)) == 0) {
+                cascatear(excedentes);
+            }
+            for (int nivel = NIVEIS - 1; nivel >= 1; nivel--) {
+                if ((tickAtual & mascaraNivel(nivel)) == 0) {
+                    cascatear(niveis[nivel][posicao(tickAtual, nivel)]);
+                }
+            }
+            drenar(vencidos, expirados);
+            drenar(niveis[0][posicao(tickAtual, 0)], expirados);
+        }
+        return expirados;
+    }
+
+    /**
+     * Retorna a quantidade de prazos agendados.
+     *
+     * @return O total de prazos ainda não vencidos nem cancelados.
+     */
+    public int tamanho() {
+        return entradas.size();
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private void inserir(Entrada<K> entrada) {
+        long distancia = entrada.prazoTick - tickAtual;
+        Set<Entrada<K>> balde;
+        if (distancia <= 0) {
+            balde = vencidos;
+        } else {
+            balde = excedentes;
+            for (int nivel = 0; nivel < NIVEIS; nivel++) {
+                if (distancia < 1L << (BITS * (nivel + 1))) {
+                    balde = niveis[nivel][posicao(entrada.prazoTick, nivel)];
+                    break;
+                }
+            }
+        }
+        balde.add(entrada);
+        entrada.balde = balde;
+    }
+
+    private void cascatear(Set<Entrada<K>> balde) {
+        if (balde.isEmpty()) {
+            return;
+        }
+        List<Entrada<K>> pendentes = new ArrayList<>(balde);
+        balde.clear();
+        pendentes.forEach(this::inserir);
+    }
+
+    private void drenar(Set<Entrada<K>> balde, List<K> expirados) {
+        for (Entrada<K> entrada : balde) {
+            entradas.remove(entrada.chave);
+            expirados.add(entrada.chave);
+        }
+        balde.clear();
+    }
+
+    private static int posicao(long tick, int nivel) {
+        return (int) ((tick >>> (BITS * nivel)) & MASCARA);
+    }
+
+    private static long mascaraNivel(int nivel) {
+        return (1L << (BITS * nivel)) - 1;
+    }
+}
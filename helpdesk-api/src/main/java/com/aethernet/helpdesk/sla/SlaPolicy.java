@@ -0,0 +1,46 @@
+package com.aethernet.helpdesk.sla;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.TipoPrazoSla;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Metas de SLA por Prioridade, configuradas em {@code helpdesk.sla.<prioridade>.resposta-min}
+ * e {@code helpdesk.sla.<prioridade>.resolucao-min}.
+ */
+@Component
+public class SlaPolicy {
+
+    private final Map<Prioridade, Duration> resposta = new EnumMap<>(Prioridade.class);
+    private final Map<Prioridade, Duration> resolucao = new EnumMap<>(Prioridade.class);
+
+    public SlaPolicy(@Value("${helpdesk.sla.alta.resposta-min:30}") long altaRespostaMin,
+                     @Value("${helpdesk.sla.alta.resolucao-min:240}") long altaResolucaoMin,
+                     @Value("${helpdesk.sla.media.resposta-min:120}") long mediaRespostaMin,
+                     @Value("${helpdesk.sla.media.resolucao-min:1440}") long mediaResolucaoMin,
+                     @Value("${helpdesk.sla.baixa.resposta-min:480}") long baixaRespostaMin,
+                     @Value("${helpdesk.sla.baixa.resolucao-min:4320}") long baixaResolucaoMin) {
+        resposta.put(Prioridade.ALTA, Duration.ofMinutes(altaRespostaMin));
+        resposta.put(Prioridade.MEDIA, Duration.ofMinutes(mediaRespostaMin));
+        resposta.put(Prioridade.BAIXA, Duration.ofMinutes(baixaRespostaMin));
+        resolucao.put(Prioridade.ALTA, Duration.ofMinutes(altaResolucaoMin));
+        resolucao.put(Prioridade.MEDIA, Duration.ofMinutes(mediaResolucaoMin));
+        resolucao.put(Prioridade.BAIXA, Duration.ofMinutes(baixaResolucaoMin));
+    }
+
+    /**
+     * Retorna a meta de um prazo para a Prioridade informada.
+     *
+     * @param tipo O prazo (resposta ou resolução).
+     * @param prioridade A prioridade do Chamado.
+     * @return A duração permitida, contada da abertura do Chamado.
+     */
+    public Duration meta(TipoPrazoSla tipo, Prioridade prioridade) {
+        return tipo == TipoPrazoSla.RESPOSTA ? resposta.get(prioridade) : resolucao.get(prioridade);
+    }
+}
@@ -0,0 +1,17 @@
+package com.aethernet.helpdesk.stats;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+
+import java.util.UUID;
+
+/**
+ * Quantidade de Chamados em uma combinação de Status, Prioridade e Técnico,
+ * usada na reconciliação dos contadores com o banco.
+ *
+ * @param status O status dos Chamados.
+ * @param prioridade A prioridade dos Chamados.
+ * @param tecnicoId O ID do Técnico atribuído ({@code null} para Chamados sem técnico).
+ * @param total A quantidade de Chamados na combinação.
+ */
+public record ChamadoContagem(Status status, Prioridade prioridade, UUID tecnicoId, long total) {}
@@ -0,0 +1,183 @@
+package com.aethernet.helpdesk.stats;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoStatsDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.events.ChamadosImportadosEvent;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores em memória de Chamados por Status × Prioridade × Técnico.
+ *
+ * Cada combinação tem sua própria célula {@link LongAdder}, de modo que atualizações
+ * concorrentes em combinações diferentes não disputam o mesmo contador. As células são
+ * ajustadas a cada {@link ChamadoAlteradoEvent}, somente após o commit da transação, e
+ * reconciliadas periodicamente com o banco para corrigir qualquer divergência
+ * (ex: alterações feitas fora do {@code ChamadoService}).
+ *
+ * A leitura dos totais nunca consulta a tabela de Chamados.
+ */
+@Component
+public class ChamadoStatsCounters {
+
+    /**
+     * Combinação de atributos que identifica uma célula de contagem.
+     */
+    record Celula(Status status, Prioridade prioridade, UUID tecnicoId) {}
+
+    private final ChamadoRepository chamadoRepository;
+
+    private volatile Map<Celula, LongAdder> celulas = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime ultimaReconciliacao;
+
+    public ChamadoStatsCounters(ChamadoRepository chamadoRepository) {
+        this.chamadoRepository = chamadoRepository;
+    }
+
+    /**
+     * Recarrega todos os contadores a partir do banco.
+     * Executado na inicialização da aplicação, após cada importação em massa e periodicamente,
+     * no intervalo configurado em {@code helpdesk.stats.reconciliacao-ms}.
+     */
+    @EventListener({ApplicationReadyEvent.class, ChamadosImportadosEvent.class})
+    @Scheduled(initialDelayString = "${helpdesk.stats.reconciliacao-ms:60000}",
+            fixedDelayString = "${helpdesk.stats.reconciliacao-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reconciliar() {
+        List<ChamadoContagem> contagens = chamadoRepository.contarPorStatusPrioridadeETecnico();
+
+        Map<Celula, LongAdder> novas = new ConcurrentHashMap<>();
+        for (ChamadoContagem contagem : contagens) {
+            LongAdder celula = new LongAdder();
+            celula.add(contagem.total());
+            novas.put(new Celula(contagem.status(), contagem.prioridade(), contagem.tecnicoId()), celula);
+        }
+        // Troca atômica: leitores veem o conjunto antigo ou o novo, nunca um estado parcial
+        celulas = novas;
+        ultimaReconciliacao = LocalDateTime.now();
+    }
+
+    /**
+     * Ajusta os contadores após o commit de uma alteração de Chamado.
+     *
+     * @param event O evento com a situação anterior e a atual do Chamado.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarChamado(ChamadoAlteradoEvent event) {
+        if (Objects.equals(event.anterior(), event.atual())) {
+            return;
+        }
+        // Decremento e incremento vão para o mesmo conjunto, mesmo que uma reconciliação o troque no meio
+        Map<Celula, LongAdder> atuais = celulas;
+        if (event.anterior() != null) {
+            celula(atuais, event.anterior()).decrement();
+        }
+        celula(atuais, event.atual()).increment();
+    }
+
+    /**
+     * Retorna os totais atuais agregados por Status, Prioridade e Técnico.
+     *
+     * @return O DTO com os totais.
+     */
+    public ChamadoStatsDTO totais() {
+        Map<Status, Long> porStatus = new EnumMap<>(Status.class);
+        Map<Prioridade, Long> porPrioridade = new EnumMap<>(Prioridade.class);
+        Map<Status, Map<Prioridade, Long>> porStatusEPrioridade = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            porStatus.put(status, 0L);
+            Map<Prioridade, Long> prioridades = new EnumMap<>(Prioridade.class);
+            for (Prioridade prioridade : Prioridade.values()) {
+                prioridades.put(prioridade, 0L);
+            }
+            porStatusEPrioridade.put(status, prioridades);
+        }
+        for (Prioridade prioridade : Prioridade.values()) {
+            porPrioridade.put(prioridade, 0L);
+        }
+
+        Map<UUID, Long> porTecnico = new LinkedHashMap<>();
+        long semTecnico = 0;
+        long total = 0;
+        for (Map.Entry<Celula, LongAdder> entrada : celulas.entrySet()) {
+            long valor = entrada.getValue().sum();
+            if (valor == 0) {
+                continue;
+            }
+            Celula celula = entrada.getKey();
+            total += valor;
+            porStatus.merge(celula.status(), valor, Long::sum);
+            porPrioridade.merge(celula.prioridade(), valor, Long::sum);
+            porStatusEPrioridade.get(celula.status()).merge(celula.prioridade(), valor, Long::sum);
+            if (celula.tecnicoId() == null) {
+                semTecnico += valor;
+            } else {
+                porTecnico.merge(celula.tecnicoId(), valor, Long::sum);
+            }
+        }
+
+        return new ChamadoStatsDTO(total, porStatus, porPrioridade, porStatusEPrioridade,
+                porTecnico, semTecnico, ultimaReconciliacao);
+    }
+
+    /**
+     * Retorna a quantidade de Chamados com o Status informado.
+     *
+     * @param status O status.
+     * @return O total de Chamados nesse status.
+     */
+    public long contar(Status status) {
+        long total = 0;
+        for (Map.Entry<Celula, LongAdder> entrada : celulas.entrySet()) {
+            if (entrada.getKey().status() == status) {
+                total += entrada.getValue().sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Retorna, por Técnico, a quantidade de Chamados atribuídos em algum dos Status informados.
+     *
+     * @param status Os status considerados.
+     * @return O total por ID de Técnico (Técnicos sem Chamados nesses status não aparecem).
+     */
+    public Map<UUID, Long> contarPorTecnico(Set<Status> status) {
+        Map<UUID, Long> porTecnico = new HashMap<>();
+        for (Map.Entry<Celula, LongAdder> entrada : celulas.entrySet()) {
+            Celula celula = entrada.getKey();
+            if (celula.tecnicoId() != null && status.contains(celula.status())) {
+                porTecnico.merge(celula.tecnicoId(), entrada.getValue().sum(), Long::sum);
+            }
+        }
+        return porTecnico;
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    private static LongAdder celula(Map<Celula, LongAdder> atuais, ChamadoAlteradoEvent.Situacao situacao) {
+        return atuais.computeIfAbsent(
+                new Celula(situacao.status(), situacao.prioridade(), situacao.tecnicoId()),
+                c -> new LongAdder());
+    }
+}
@@ -0,0 +1,32 @@
+package com.aethernet.helpdesk.sync;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Ouvinte JPA de {@link Chamado} que anota cada exclusão no {@link ChamadoSequenciador}, para que a
+ * sincronização incremental devolva a marca do Chamado excluído.
+ *
+ * O Hibernate instancia o ouvinte pelo contêiner de beans do Spring ao criar a fábrica de
+ * {@code EntityManager}, antes do sequenciador, que depende dela: por isso ele é obtido só na
+ * primeira exclusão.
+ * Toda exclusão feita pelo {@code EntityManager} (inclusive pelo {@code ChamadoRepository}) passa
+ * por aqui, dentro da transação que exclui: se ela for desfeita, a marca também é.
+ */
+public class ChamadoRemocaoListener {
+
+    private final ObjectProvider<ChamadoSequenciador> sequenciador;
+
+    public ChamadoRemocaoListener(ObjectProvider<ChamadoSequenciador> sequenciador) {
+        this.sequenciador = sequenciador;
+    }
+
+    /**
+     * @param chamado O Chamado que está sendo excluído.
+     */
+    @PreRemove
+    void aoRemover(Chamado chamado) {
+        sequenciador.getObject().registrarRemocao(chamado.getId());
+    }
+}
@@ -0,0 +1,209 @@
+package com.aethernet.helpdesk.sync;
+
+import com.aethernet.helpdesk.domain.ChamadoSequencia;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Atribui a cada Chamado alterado a sua posição na sequência de alterações usada pela
+ * sincronização incremental ({@code GET /api/chamados/changes}).
+ *
+ * Durante a transação, apenas os IDs alterados são anotados. Imediatamente antes do commit, o
+ * contador ({@link ChamadoSequencia}) é incrementado de uma vez para todos eles, em uma única
+ * instrução que já devolve o novo valor, e as sequências são gravadas em um lote em
+ * {@code chamado.sequencia_alteracao} (ou em {@code chamado_remocao}, para as exclusões): duas idas
+ * ao banco por transação. O UPDATE do contador bloqueia a sua linha até o commit, então as
+ * transações recebem as sequências na ordem em que confirmam: um cliente que leu até a sequência N
+ * nunca verá, depois, uma alteração confirmada com sequência menor ou igual a N. O bloqueio dura
+ * apenas o trecho final da transação.
+ *
+ * Só são anotados Chamados que a própria transação já gravou (e cujas linhas, portanto, já estão
+ * bloqueadas por ela): gravar a sequência não espera por outra transação enquanto o contador está
+ * bloqueado, e duas transações não ficam esperando uma pela outra.
+ *
+ * As alterações do {@code ChamadoService} são anotadas pelo {@link ChamadoAlteradoEvent}, e as
+ * exclusões pelo {@link ChamadoRemocaoListener}; quem grava Chamados por outro caminho
+ * (importação, carga inicial) chama {@link #registrar(Collection)}.
+ */
+@Component
+public class ChamadoSequenciador {
+
+    private static final String INICIALIZAR_CONTADOR = """
+            INSERT INTO chamado_sequencia (id, valor)
+            SELECT :id, COALESCE(MAX(sequencia_alteracao), 0) FROM chamado
+            WHERE NOT EXISTS (SELECT 1 FROM chamado_sequencia WHERE id = :id)
+            """;
+
+    private static final String INCREMENTAR_CONTADOR_POSTGRES =
+            "UPDATE chamado_sequencia SET valor = valor + :quantidade WHERE id = :id RETURNING valor";
+
+    /** O H2 não aceita {@code RETURNING}; a tabela delta {@code FINAL TABLE} dá o mesmo resultado. */
+    private static final String INCREMENTAR_CONTADOR_H2 =
+            "SELECT valor FROM FINAL TABLE (UPDATE chamado_sequencia SET valor = valor + :quantidade WHERE id = :id)";
+
+    private static final String LER_CONTADOR = "SELECT valor FROM chamado_sequencia WHERE id = :id";
+
+    private static final String GRAVAR_SEQUENCIA =
+            "UPDATE chamado SET sequencia_alteracao = :sequencia WHERE id = :id";
+
+    private static final String GRAVAR_REMOCAO = """
+            INSERT INTO chamado_remocao (chamado_id, sequencia_alteracao, data_remocao)
+            VALUES (:id, :sequencia, :agora)
+            """;
+
+    /**
+     * Os Chamados alterados e excluídos na transação corrente, gravados antes do commit.
+     */
+    private final class Pendencias implements TransactionSynchronization {
+
+        final Set<UUID> alterados = new LinkedHashSet<>();
+        final Set<UUID> removidos = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!alterados.isEmpty() || !removidos.isEmpty()) {
+                // Os INSERTs/UPDATEs ainda pendentes no Hibernate precisam chegar antes das sequências
+                entityManager.flush();
+                alocar(this);
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            // Depois dos demais ouvintes de antes do commit, que ainda podem alterar Chamados
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private String incrementarContador;
+
+    public ChamadoSequenciador(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Cria a linha do contador, se ainda não existir (no PostgreSQL, a migração já a cria), e
+     * escolhe a forma do incremento para o banco em uso.
+     */
+    @PostConstruct
+    void inicializar() {
+        jdbcTemplate.update(INICIALIZAR_CONTADOR, new MapSqlParameterSource("id", ChamadoSequencia.ID));
+        String banco = jdbcTemplate.getJdbcTemplate().execute(
+                (Connection conexao) -> conexao.getMetaData().getDatabaseProductName());
+        incrementarContador = "H2".equals(banco) ? INCREMENTAR_CONTADOR_H2 : INCREMENTAR_CONTADOR_POSTGRES;
+    }
+
+    /**
+     * Anota o Chamado do evento para receber uma nova sequência no commit.
+     *
+     * @param event O evento publicado pelo {@code ChamadoService}, ainda dentro da transação.
+     */
+    @EventListener
+    public void aoAlterarChamado(ChamadoAlteradoEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendencias().alterados.add(event.chamadoId());
+        }
+    }
+
+    /**
+     * Anota Chamados criados ou alterados fora do {@code ChamadoService}, já gravados na
+     * transação corrente.
+     *
+     * @param ids Os IDs dos Chamados.
+     * @throws IllegalStateException Se não houver uma transação ativa.
+     */
+    public void registrar(Collection<UUID> ids) {
+        pendencias().alterados.addAll(ids);
+    }
+
+    /**
+     * Anota a exclusão de um Chamado: no commit, é gravada a sua marca em {@code chamado_remocao}.
+     *
+     * @param id O ID do Chamado excluído.
+     * @throws IllegalStateException Se não houver uma transação ativa.
+     */
+    void registrarRemocao(UUID id) {
+        Pendencias pendencias = pendencias();
+        pendencias.alterados.remove(id);
+        pendencias.removidos.add(id);
+    }
+
+    /**
+     * @return A maior sequência já confirmada. Toda alteração com sequência até este valor
+     *         já está visível para as consultas seguintes.
+     */
+    public long sequenciaAtual() {
+        Long valor = jdbcTemplate.queryForObject(LER_CONTADOR,
+                new MapSqlParameterSource("id", ChamadoSequencia.ID), Long.class);
+        return valor != null ? valor : 0L;
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    /**
+     * Devolve as pendências da transação corrente, registrando-as na primeira anotação.
+     *
+     * A busca é feita entre as sincronizações da transação corrente (e não em um recurso
+     * associado à thread) para que uma transação {@code REQUIRES_NEW} tenha as suas próprias.
+     */
+    private Pendencias pendencias() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("A sequência de alterações de Chamado exige uma transação ativa");
+        }
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sincronizacao instanceof Pendencias pendencias) {
+                return pendencias;
+            }
+        }
+        Pendencias pendencias = new Pendencias();
+        TransactionSynchronizationManager.registerSynchronization(pendencias);
+        return pendencias;
+    }
+
+    private void alocar(Pendencias pendencias) {
+        int quantidade = pendencias.alterados.size() + pendencias.removidos.size();
+        MapSqlParameterSource contador = new MapSqlParameterSource("id", ChamadoSequencia.ID)
+                .addValue("quantidade", quantidade);
+        Long fim = jdbcTemplate.queryForObject(incrementarContador, contador, Long.class);
+        long sequencia = fim - quantidade;
+
+        if (!pendencias.alterados.isEmpty()) {
+            List<SqlParameterSource> lote = new ArrayList<>(pendencias.alterados.size());
+            for (UUID id : pendencias.alterados) {
+                lote.add(new MapSqlParameterSource("id", id).addValue("sequencia", ++sequencia));
+            }
+            jdbcTemplate.batchUpdate(GRAVAR_SEQUENCIA, lote.toArray(SqlParameterSource[]::new));
+        }
+        if (!pendencias.removidos.isEmpty()) {
+            Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+            List<SqlParameterSource> lote = new ArrayList<>(pendencias.removidos.size());
+            for (UUID id : pendencias.removidos) {
+                lote.add(new MapSqlParameterSource("id", id).addValue("sequencia", ++sequencia)
+                        .addValue("agora", agora));
+            }
+            jdbcTemplate.batchUpdate(GRAVAR_REMOCAO, lote.toArray(SqlParameterSource[]::new));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.aethernet.helpdesk.sync;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoAlteracaoDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoAlteracoesDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.repositories.ChamadoRemocaoRepository;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sincronização incremental de Chamados: o que mudou desde o cursor do cliente.
+ *
+ * O cliente guarda o {@code cursor} da última resposta e o envia na chamada seguinte, recebendo
+ * apenas os Chamados alterados ou excluídos depois dele, no estado atual. A consulta é limitada à
+ * sequência confirmada no seu início ({@link ChamadoSequenciador#sequenciaAtual()}), de modo que
+ * as alterações e as exclusões lidas formam sempre um prefixo contínuo da sequência.
+ */
+@Service
+public class ChamadoSyncService {
+
+    /** Maior quantidade de alterações que a API aceita devolver de uma vez. */
+    public static final int LIMITE_MAXIMO = 1000;
+
+    private final ChamadoRepository chamadoRepository;
+    private final ChamadoRemocaoRepository remocaoRepository;
+    private final ChamadoSequenciador sequenciador;
+
+    public ChamadoSyncService(ChamadoRepository chamadoRepository,
+                              ChamadoRemocaoRepository remocaoRepository,
+                              ChamadoSequenciador sequenciador) {
+        this.chamadoRepository = chamadoRepository;
+        this.remocaoRepository = remocaoRepository;
+        this.sequenciador = sequenciador;
+    }
+
+    /**
+     * Lista as alterações posteriores ao cursor, em ordem de sequência.
+     *
+     * @param desde O cursor da última sincronização (0 para a primeira).
+     * @param limite A quantidade máxima de alterações.
+     * @return As alterações, o próximo cursor e se há mais alterações.
+     * @throws DomainRuleException Se o cursor for negativo ou o limite estiver fora da faixa.
+     */
+    @Transactional(readOnly = true)
+    public ChamadoAlteracoesDTO alteracoesDesde(long desde, int limite) {
+        if (desde < 0) {
+            throw new DomainRuleException("O cursor não pode ser negativo");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new DomainRuleException("O limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        long ate = sequenciador.sequenciaAtual();
+        if (desde >= ate) {
+            return new ChamadoAlteracoesDTO(List.of(), desde, false);
+        }
+
+        // Um item a mais em cada lista indica se há alterações além do limite
+        PageRequest fatia = PageRequest.of(0, limite + 1);
+        List<PosicaoAlteracao> alterados = chamadoRepository.findAlteradosEntre(desde, ate, fatia);
+        List<PosicaoAlteracao> removidos = remocaoRepository.findRemovidosEntre(desde, ate, fatia);
+
+        List<PosicaoAlteracao> posicoes = new ArrayList<>(Math.min(limite + 1, alterados.size() + removidos.size()));
+        List<UUID> idsAlterados = new ArrayList<>(alterados.size());
+        int a = 0;
+        int r = 0;
+        while (posicoes.size() <= limite && (a < alterados.size() || r < removidos.size())) {
+            if (r == removidos.size()
+                    || (a < alterados.size() && alterados.get(a).sequencia() < removidos.get(r).sequencia())) {
+                idsAlterados.add(alterados.get(a).id());
+                posicoes.add(alterados.get(a++));
+            } else {
+                posicoes.add(removidos.get(r++));
+            }
+        }
+        boolean temMais = posicoes.size() > limite;
+        if (temMais) {
+            PosicaoAlteracao excedente = posicoes.remove(limite);
+            idsAlterados.remove(excedente.id());
+        }
+
+        Map<UUID, ChamadoResponseDTO> chamados = new HashMap<>();
+        if (!idsAlterados.isEmpty()) {
+            for (ChamadoResponseDTO dto : chamadoRepository.findResponseByIdIn(idsAlterados)) {
+                chamados.put(dto.id(), dto);
+            }
+        }
+
+        List<ChamadoAlteracaoDTO> alteracoes = new ArrayList<>(posicoes.size());
+        for (PosicaoAlteracao posicao : posicoes) {
+            ChamadoResponseDTO chamado = chamados.get(posicao.id());
+            alteracoes.add(new ChamadoAlteracaoDTO(posicao.sequencia(), posicao.id(), chamado == null, chamado));
+        }
+        // Sem mais alterações, o cursor avança até o fim do intervalo lido: as sequências sem
+        // Chamado correspondente foram substituídas por alterações posteriores do mesmo Chamado
+        long cursor = temMais ? posicoes.get(posicoes.size() - 1).sequencia() : ate;
+        return new ChamadoAlteracoesDTO(alteracoes, cursor, temMais);
+    }
+}
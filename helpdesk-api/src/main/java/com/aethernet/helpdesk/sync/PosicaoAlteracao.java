@@ -0,0 +1,11 @@
+package com.aethernet.helpdesk.sync;
+
+import java.util.UUID;
+
+/**
+ * A posição de um Chamado na sequência de alterações.
+ *
+ * @param id O ID do Chamado.
+ * @param sequencia A sequência da última alteração (ou da exclusão).
+ */
+public record PosicaoAlteracao(UUID id, Long sequencia) {}
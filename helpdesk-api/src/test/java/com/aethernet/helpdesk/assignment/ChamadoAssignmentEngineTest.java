@@ -0,0 +1,144 @@
+package com.aethernet.helpdesk.assignment;
+
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import com.aethernet.helpdesk.services.RetentativaOtimista;
+import com.aethernet.helpdesk.stats.ChamadoStatsCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do ChamadoAssignmentEngine")
+class ChamadoAssignmentEngineTest {
+
+    private final UUID tecnicoLivre = UUID.randomUUID();
+    private final UUID tecnicoOcupado = UUID.randomUUID();
+
+    private ChamadoRepository chamadoRepository;
+    private TecnicoRepository tecnicoRepository;
+    private ChamadoService chamadoService;
+    private ChamadoStatsCounters chamadoStatsCounters;
+    private SimpleMeterRegistry meterRegistry;
+    private ChamadoAssignmentEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        chamadoRepository = mock(ChamadoRepository.class);
+        tecnicoRepository = mock(TecnicoRepository.class);
+        chamadoService = mock(ChamadoService.class);
+        chamadoStatsCounters = mock(ChamadoStatsCounters.class);
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new ChamadoAssignmentEngine(chamadoRepository, tecnicoRepository, chamadoService,
+                chamadoStatsCounters, new RetentativaOtimista(3, 0, 0), meterRegistry, true, 10);
+
+        when(tecnicoRepository.findAllIds()).thenReturn(List.of(tecnicoLivre, tecnicoOcupado));
+        when(chamadoStatsCounters.contarPorTecnico(ChamadoAssignmentEngine.STATUS_EM_CARGA))
+                .thenReturn(Map.of(tecnicoOcupado, 2L));
+        when(chamadoRepository.findIdsByStatusAndPrioridade(eq(Status.ABERTO), any(), any()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve atribuir ao técnico com menor carga e equilibrar a carga")
+    void deveAtribuirAoTecnicoComMenorCarga() {
+        // Arrange
+        UUID c1 = UUID.randomUUID();
+        UUID c2 = UUID.randomUUID();
+        UUID c3 = UUID.randomUUID();
+        UUID c4 = UUID.randomUUID();
+        when(chamadoRepository.findIdsByStatusAndPrioridade(eq(Status.ABERTO), eq(Prioridade.MEDIA), any()))
+                .thenReturn(List.of(c1, c2, c3, c4));
+
+        // Act
+        int atribuidos = engine.distribuir();
+
+        // Assert
+        assertThat(atribuidos).isEqualTo(4);
+        verify(chamadoService).atribuirAutomaticamente(c1, tecnicoLivre);
+        verify(chamadoService).atribuirAutomaticamente(c2, tecnicoLivre);
+        // Empatados em 2, os dois últimos chamados vão um para cada técnico
+        verify(chamadoService, times(3)).atribuirAutomaticamente(any(), eq(tecnicoLivre));
+        verify(chamadoService, times(1)).atribuirAutomaticamente(any(), eq(tecnicoOcupado));
+        assertThat(meterRegistry.get("helpdesk.atribuicao.atribuidos").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve drenar as prioridades da ALTA para a BAIXA")
+    void deveDrenarPorPrioridade() {
+        // Arrange
+        UUID alta = UUID.randomUUID();
+        UUID baixa = UUID.randomUUID();
+        when(chamadoRepository.findIdsByStatusAndPrioridade(eq(Status.ABERTO), eq(Prioridade.ALTA), any()))
+                .thenReturn(List.of(alta));
+        when(chamadoRepository.findIdsByStatusAndPrioridade(eq(Status.ABERTO), eq(Prioridade.BAIXA), any()))
+                .thenReturn(List.of(baixa));
+
+        // Act
+        engine.distribuir();
+
+        // Assert
+        InOrder ordem = inOrder(chamadoService);
+        ordem.verify(chamadoService).atribuirAutomaticamente(alta, tecnicoLivre);
+        ordem.verify(chamadoService).atribuirAutomaticamente(baixa, tecnicoLivre);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o técnico ao heap quando a atribuição for recusada")
+    void deveContarRecusaSemAlterarCarga() {
+        // Arrange
+        UUID recusado = UUID.randomUUID();
+        UUID aceito = UUID.randomUUID();
+        when(chamadoRepository.findIdsByStatusAndPrioridade(eq(Status.ABERTO), eq(Prioridade.ALTA), any()))
+                .thenReturn(List.of(recusado, aceito));
+        when(chamadoService.atribuirAutomaticamente(recusado, tecnicoLivre))
+                .thenThrow(new DomainRuleException("O chamado não está mais ABERTO"));
+
+        // Act
+        int atribuidos = engine.distribuir();
+
+        // Assert
+        assertThat(atribuidos).isEqualTo(1);
+        verify(chamadoService).atribuirAutomaticamente(aceito, tecnicoLivre);
+        assertThat(meterRegistry.get("helpdesk.atribuicao.recusados").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar chamados quando não houver técnicos")
+    void naoDeveAtribuirSemTecnicos() {
+        // Arrange
+        when(tecnicoRepository.findAllIds()).thenReturn(List.of());
+
+        // Act
+        int atribuidos = engine.distribuir();
+
+        // Assert
+        assertThat(atribuidos).isZero();
+        verifyNoInteractions(chamadoService);
+        verify(chamadoRepository, never()).findIdsByStatusAndPrioridade(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve expor a fila de chamados ABERTOS como gauge")
+    void deveExporFilaComoGauge() {
+        // Arrange
+        when(chamadoStatsCounters.contar(Status.ABERTO)).thenReturn(7L);
+
+        // Act / Assert
+        assertThat(meterRegistry.get("helpdesk.atribuicao.fila").gauge().value()).isEqualTo(7.0);
+    }
+}
@@ -0,0 +1,260 @@
+package com.aethernet.helpdesk.config;
+
+import com.aethernet.helpdesk.AetherNetHelpdeskApplication;
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara a vazão e a latência das leituras por HTTP com as requisições do Tomcat em threads de
+ * plataforma e em virtual threads ({@code spring.threads.virtual.enabled}).
+ *
+ * Não faz parte da suíte (o nome não segue o padrão do Surefire); execute com
+ * {@code mvn test -Dtest=ModoThreadsBenchmark}. A aplicação sobe duas vezes, uma em cada modo, com
+ * o mesmo pool do HikariCP, e recebe {@value #CLIENTES} clientes concorrentes fazendo GETs de
+ * Chamados e Técnicos. Como o H2 em memória responde em microssegundos, cada instrução JDBC espera
+ * {@value #LATENCIA_JDBC_MS} ms antes de executar, simulando a ida e volta até um banco remoto: é
+ * nesse tempo que uma thread de plataforma fica parada.
+ *
+ * No modo virtual, um {@link RecordingStream} do JFR acompanha os eventos
+ * {@code jdk.VirtualThreadPinned} (virtual thread presa à thread do sistema por um bloco
+ * {@code synchronized} ao bloquear) e os lista no log pelo ponto em que a thread bloqueou. Um método
+ * {@code synchronized} da aplicação na pilha de um desses eventos faz o benchmark falhar; as
+ * fixações dentro das bibliotecas (o H2, por exemplo) são apenas reportadas.
+ */
+@DisplayName("Benchmark de threads de plataforma x virtual threads")
+class ModoThreadsBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ModoThreadsBenchmark.class);
+
+    private static final int CLIENTES = 400;
+    private static final int AQUECIMENTO_POR_CLIENTE = 20;
+    private static final int MEDICOES_POR_CLIENTE = 100;
+    private static final long LATENCIA_JDBC_MS = 2;
+    private static final int THREADS_TOMCAT = 200;
+
+    private static final String PACOTE_APLICACAO = "com.aethernet.helpdesk.";
+
+    /**
+     * O resultado de uma rodada de carga.
+     *
+     * @param latencias As latências (ns) das requisições, ordenadas.
+     * @param vazao As requisições por segundo.
+     * @param erros As respostas diferentes de 200.
+     */
+    record Resultado(long[] latencias, double vazao, int erros) {}
+
+    @Test
+    @DisplayName("Deve comparar vazão e p99 dos dois modos")
+    void deveCompararModos() throws Exception {
+        // Act
+        Resultado plataforma = executar(false, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        Map<String, Integer> presas = new ConcurrentHashMap<>();
+        Map<String, Integer> sincronizadosDaAplicacao = new ConcurrentHashMap<>();
+        Resultado virtual;
+        try (RecordingStream jfr = new RecordingStream()) {
+            jfr.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            jfr.onEvent("jdk.VirtualThreadPinned", e -> {
+                presas.merge(origem(e), 1, Integer::sum);
+                sincronizadosDaAplicacao(e).forEach(m -> sincronizadosDaAplicacao.merge(m, 1, Integer::sum));
+            });
+            jfr.startAsync();
+            virtual = executar(true, presas, sincronizadosDaAplicacao);
+            jfr.stop();
+        }
+
+        // Assert
+        log.info("{} clientes x {} GETs, {} ms por instrução JDBC, Tomcat com {} threads no modo plataforma",
+                CLIENTES, MEDICOES_POR_CLIENTE, LATENCIA_JDBC_MS, THREADS_TOMCAT);
+        log.info("  threads de plataforma: {}", resumo(plataforma));
+        log.info("  virtual threads:       {}", resumo(virtual));
+        presas.forEach((origem, total) -> log.info("  virtual thread presa {}x em {}", total, origem));
+
+        assertThat(plataforma.erros()).isZero();
+        assertThat(virtual.erros()).isZero();
+        assertThat(sincronizadosDaAplicacao).as("métodos synchronized da aplicação que prendem virtual threads").isEmpty();
+    }
+
+    /** Sobe a aplicação no modo indicado, aplica a carga e a encerra. */
+    private Resultado executar(boolean virtual, Map<?, ?>... fixacoes) throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(AetherNetHelpdeskApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:modo-threads-" + (virtual ? "virtual" : "plataforma"),
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "server.tomcat.threads.max=" + THREADS_TOMCAT,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+                        "helpdesk.atribuicao.habilitada=false",
+                        "helpdesk.outbox.habilitado=false")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String nome) {
+                        return bean instanceof DataSource dataSource ? comLatencia(dataSource) : bean;
+                    }
+                }))
+                .run()) {
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            List<URI> alvos = new ArrayList<>();
+            for (Chamado chamado : contexto.getBean(ChamadoRepository.class).findAll()) {
+                alvos.add(URI.create("http://localhost:" + porta + "/api/chamados/" + chamado.getId()));
+                if (chamado.getTecnico() != null) {
+                    alvos.add(URI.create("http://localhost:" + porta + "/api/tecnicos/" + chamado.getTecnico().getId()));
+                }
+            }
+
+            carga(alvos, AQUECIMENTO_POR_CLIENTE);
+            // Descarta as fixações do aquecimento (carga de classes, caches preenchidos)
+            Arrays.stream(fixacoes).forEach(Map::clear);
+            return carga(alvos, MEDICOES_POR_CLIENTE);
+        }
+    }
+
+    /** Dispara as requisições de {@value #CLIENTES} clientes, cada um em uma virtual thread. */
+    private Resultado carga(List<URI> alvos, int porCliente) throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        AtomicInteger erros = new AtomicInteger();
+        AtomicLong proximo = new AtomicLong();
+
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> futuros = new ArrayList<>(CLIENTES);
+            for (int c = 0; c < CLIENTES; c++) {
+                futuros.add(executor.submit(() -> {
+                    long[] latencias = new long[porCliente];
+                    for (int i = 0; i < porCliente; i++) {
+                        URI alvo = alvos.get((int) (proximo.getAndIncrement() % alvos.size()));
+                        long antes = System.nanoTime();
+                        HttpResponse<Void> resposta = http.send(HttpRequest.newBuilder(alvo).build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        latencias[i] = System.nanoTime() - antes;
+                        if (resposta.statusCode() != 200) {
+                            erros.incrementAndGet();
+                        }
+                    }
+                    return latencias;
+                }));
+            }
+            long[] todas = new long[CLIENTES * porCliente];
+            for (int c = 0; c < CLIENTES; c++) {
+                System.arraycopy(futuros.get(c).get(), 0, todas, c * porCliente, porCliente);
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            Arrays.sort(todas);
+            return new Resultado(todas, todas.length / segundos, erros.get());
+        }
+    }
+
+    /** Envolve o DataSource para que cada instrução espere {@value #LATENCIA_JDBC_MS} ms antes de executar. */
+    private static DataSource comLatencia(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (metodo, resultado) ->
+                resultado instanceof Connection conexao ? proxy(Connection.class, conexao, ModoThreadsBenchmark::instrucao) : resultado);
+    }
+
+    private static Object instrucao(Method metodo, Object resultado) {
+        if (resultado instanceof Statement instrucao && metodo.getReturnType().isInterface()) {
+            @SuppressWarnings("unchecked")
+            Class<Statement> tipo = (Class<Statement>) metodo.getReturnType();
+            return Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (p, m, args) -> {
+                if (m.getName().startsWith("execute")) {
+                    Thread.sleep(LATENCIA_JDBC_MS);
+                }
+                return invocar(instrucao, m, args);
+            });
+        }
+        return resultado;
+    }
+
+    /** Proxy que delega ao alvo e passa cada retorno por {@code embrulhar}. */
+    private static <T> T proxy(Class<T> tipo, T alvo, BiFunction<Method, Object, Object> embrulhar) {
+        InvocationHandler handler = (p, metodo, args) -> embrulhar.apply(metodo, invocar(alvo, metodo, args));
+        return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, handler));
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** O ponto em que a virtual thread bloqueou: o primeiro frame fora do JDK. */
+    private static String origem(RecordedEvent evento) {
+        return frames(evento).stream()
+                .map(ModoThreadsBenchmark::nome)
+                .filter(nome -> !nome.startsWith("java.") && !nome.startsWith("jdk.") && !nome.startsWith("sun."))
+                .findFirst()
+                .orElse("(sem pilha)");
+    }
+
+    /** Os métodos {@code synchronized} da aplicação (fora deste benchmark) na pilha do evento. */
+    private static List<String> sincronizadosDaAplicacao(RecordedEvent evento) {
+        return frames(evento).stream()
+                .filter(f -> Modifier.isSynchronized(f.getMethod().getModifiers()))
+                .map(ModoThreadsBenchmark::nome)
+                .filter(nome -> nome.startsWith(PACOTE_APLICACAO) && !nome.startsWith(ModoThreadsBenchmark.class.getName()))
+                .toList();
+    }
+
+    private static List<RecordedFrame> frames(RecordedEvent evento) {
+        return evento.getStackTrace() == null ? List.of() : evento.getStackTrace().getFrames();
+    }
+
+    private static String nome(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static long percentil(long[] ordenadas, double p) {
+        return ordenadas[(int) Math.ceil(p * ordenadas.length) - 1];
+    }
+
+    private static String resumo(Resultado resultado) {
+        long[] ordenadas = resultado.latencias();
+        return String.format(Locale.ROOT, "%.0f req/s, p50 = %.3f ms, p99 = %.3f ms, máx = %.3f ms, erros = %d",
+                resultado.vazao(), percentil(ordenadas, 0.50) / 1e6, percentil(ordenadas, 0.99) / 1e6,
+                ordenadas[ordenadas.length - 1] / 1e6, resultado.erros());
+    }
+}
@@ -0,0 +1,107 @@
+package com.aethernet.helpdesk.config;
+
+import com.aethernet.helpdesk.domain.Cliente;
+import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.services.ClienteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica o cache de segundo nível de Pessoa contra o banco: acertos, invalidação e métricas.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:segundo-nivel-cache",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Cache de segundo nível de Pessoa")
+class SegundoNivelCacheTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve carregar o cliente e seus perfis do cache, sem consultar o banco")
+    void deveCarregarDoCache() {
+        // Arrange
+        UUID id = criarCliente("40000000001", "cache@email.com");
+        clienteRepository.findById(id);
+        statistics.clear();
+
+        // Act
+        Cliente cliente = clienteRepository.findById(id).orElseThrow();
+
+        // Assert
+        assertThat(cliente.getPerfis()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", SegundoNivelCacheConfig.REGIAO_PESSOA, "result", "hit")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("helpdesk.cache.taxa").tags("cache", SegundoNivelCacheConfig.REGIAO_PESSOA, "tipo", "acerto")
+                .gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve refletir a atualização do cliente no cache")
+    void deveAtualizarCache() {
+        // Arrange
+        UUID id = criarCliente("40000000002", "antes@email.com");
+        clienteRepository.findById(id);
+
+        // Act
+        clienteService.atualizar(id, new ClienteRequestDTO("Nome Novo", "40000000002", "depois@email.com", null));
+        statistics.clear();
+        Cliente cliente = clienteRepository.findById(id).orElseThrow();
+
+        // Assert
+        assertThat(cliente.getNome()).isEqualTo("Nome Novo");
+        assertThat(cliente.getEmail()).isEqualTo("depois@email.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve remover do cache o cliente excluído")
+    void deveRemoverDoCache() {
+        // Arrange
+        UUID id = criarCliente("40000000003", "excluido@email.com");
+        clienteRepository.findById(id);
+
+        // Act
+        clienteService.deletar(id);
+
+        // Assert
+        assertThat(clienteRepository.findById(id)).isEmpty();
+    }
+
+    private UUID criarCliente(String cpf, String email) {
+        return clienteService.criar(new ClienteRequestDTO("Cliente Cache", cpf, email, "senha123")).id();
+    }
+}
@@ -0,0 +1,131 @@
+package com.aethernet.helpdesk.controllers;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifica as gravações condicionais ({@code If-Match}) de Chamado e o {@code ETag} das respostas.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:escrita-condicional",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Gravações condicionais")
+class EscritaCondicionalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    private String url;
+
+    @BeforeEach
+    void setUp() {
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "If-Match", "", clienteId, null));
+        url = "/api/chamados/" + chamado.id();
+    }
+
+    @Test
+    @DisplayName("Deve responder à gravação com o mesmo ETag composto da busca por ID")
+    void deveResponderComEtagDaBusca() throws Exception {
+        // Arrange
+        String etag = etagAtual();
+
+        // Act
+        String etagGravacao = mockMvc.perform(patch(url + "/status")
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("\"EM_ANDAMENTO\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Assert: o ETag da gravação vale para a leitura e para a próxima gravação
+        assertThat(etagGravacao).isEqualTo(etagAtual()).isNotEqualTo(etag);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etagGravacao))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(patch(url + "/fechar").header(HttpHeaders.IF_MATCH, etagGravacao))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(Status.ENCERRADO.name()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 412 o ETag fraco no If-Match")
+    void deveRecusarEtagFraco() throws Exception {
+        // Arrange
+        String etag = etagAtual();
+
+        // Act + Assert
+        mockMvc.perform(patch(url + "/status")
+                        .header(HttpHeaders.IF_MATCH, "W/" + etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("\"EM_ANDAMENTO\""))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(etagAtual()).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar uma lista de ETags no If-Match quando um deles é o atual")
+    void deveAceitarListaDeEtags() throws Exception {
+        // Arrange
+        String etag = etagAtual();
+
+        // Act + Assert
+        mockMvc.perform(patch(url + "/status")
+                        .header(HttpHeaders.IF_MATCH, "\"99.1\", W/" + etag + ", " + etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("\"EM_ANDAMENTO\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(Status.EM_ANDAMENTO.name()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 412 o If-Match de uma versão anterior")
+    void deveRecusarVersaoAnterior() throws Exception {
+        // Arrange
+        String etag = etagAtual();
+        mockMvc.perform(patch(url + "/status")
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("\"EM_ANDAMENTO\""))
+                .andExpect(status().isOk());
+
+        // Act + Assert
+        mockMvc.perform(patch(url + "/fechar").header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private String etagAtual() throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
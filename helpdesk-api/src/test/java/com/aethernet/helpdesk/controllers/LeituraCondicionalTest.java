@@ -0,0 +1,180 @@
+package com.aethernet.helpdesk.controllers;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import com.aethernet.helpdesk.domain.dto.request.TecnicoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import com.aethernet.helpdesk.services.ClienteService;
+import com.aethernet.helpdesk.services.LeituraVersionada;
+import com.aethernet.helpdesk.services.TecnicoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifica as leituras condicionais (ETag / Last-Modified) de Chamado, Cliente e Técnico.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:leitura-condicional",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Leituras condicionais")
+class LeituraCondicionalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private TecnicoService tecnicoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    private UUID clienteId;
+
+    @BeforeEach
+    void setUp() {
+        clienteId = clienteRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 ao Chamado inalterado e 200 após uma alteração")
+    void deveValidarChamadoPelaVersao() throws Exception {
+        // Arrange
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "Condicional", "", clienteId, null));
+        String url = "/api/chamados/" + chamado.id();
+        MvcResult primeira = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = primeira.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"" + chamado.versao() + ".");
+
+        // Act + Assert: mesma versão, sem corpo
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // Act + Assert: após a alteração, o corpo volta com o novo ETag
+        chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + (chamado.versao() + 1) + ".")))
+                .andExpect(jsonPath("$.status").value("EM_ANDAMENTO"));
+    }
+
+    @Test
+    @DisplayName("Deve ler o Chamado e os validadores da resposta 200 na mesma consulta")
+    void deveLerCorpoEValidadoresJuntos() throws Exception {
+        // Arrange
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "Condicional", "", clienteId, null));
+        chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+
+        // Act
+        LeituraVersionada<ChamadoResponseDTO> leitura = chamadoService.buscarComVersao(chamado.id());
+
+        // Assert
+        assertThat(leitura.corpo().versao()).isEqualTo(chamado.versao() + 1);
+        assertThat(leitura.versao()).isEqualTo(chamadoService.versao(chamado.id()));
+        mockMvc.perform(get("/api/chamados/" + chamado.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + leitura.versao().etag() + "\""))
+                .andExpect(jsonPath("$.status").value("EM_ANDAMENTO"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 200 ao Chamado quando o nome do Cliente muda")
+    void deveValidarChamadoPeloCliente() throws Exception {
+        // Arrange
+        UUID cliente = clienteService.criar(
+                new ClienteRequestDTO("Carla Dias", "40000000001", "carla@email.com", "senha123")).id();
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "Condicional", "", cliente, null));
+        String url = "/api/chamados/" + chamado.id();
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act: o Chamado não muda, mas o nome do Cliente no corpo sim
+        clienteService.atualizar(cliente,
+                new ClienteRequestDTO("Carla Dias Souza", "40000000001", "carla@email.com", "senha123"));
+
+        // Assert
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.nomeCliente").value("Carla Dias Souza"));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar o ETag fraco e o If-Modified-Since do Cliente")
+    void deveValidarClientePorEtagFracoEData() throws Exception {
+        // Arrange
+        String url = "/api/clientes/" + clienteId;
+        MvcResult primeira = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+        String etag = primeira.getResponse().getHeader(HttpHeaders.ETAG);
+        String ultimaModificacao = primeira.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // Act + Assert
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(url).header(HttpHeaders.IF_MODIFIED_SINCE, ultimaModificacao))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"outra\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve mudar o ETag da lista de Técnicos quando um Técnico é incluído")
+    void deveValidarListaDeTecnicos() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/tecnicos"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/tecnicos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Act
+        tecnicoService.criar(new TecnicoRequestDTO("Novo Técnico", "99988877766", "novo@aethernet.com", "senha123", null));
+
+        // Assert
+        mockMvc.perform(get("/api/tecnicos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 ao Chamado inexistente mesmo com If-None-Match")
+    void deveResponderNaoEncontrado() throws Exception {
+        mockMvc.perform(get("/api/chamados/" + UUID.randomUUID()).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+    }
+}
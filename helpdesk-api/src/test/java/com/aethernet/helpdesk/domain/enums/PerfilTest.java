@@ -0,0 +1,35 @@
+package com.aethernet.helpdesk.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do Perfil")
+class PerfilTest {
+
+    @Test
+    @DisplayName("Deve converter cada código no Perfil correspondente")
+    void deveConverterCodigoValido() {
+        // Act / Assert
+        for (Perfil perfil : Perfil.values()) {
+            assertThat(Perfil.toEnum(perfil.getCodigo())).isSameAs(perfil);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve converter o código nulo em null")
+    void deveConverterCodigoNulo() {
+        // Act / Assert
+        assertThat(Perfil.toEnum(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para um código inexistente")
+    void deveLancarExcecaoParaCodigoInvalido() {
+        // Act / Assert
+        assertThatThrownBy(() -> Perfil.toEnum(99))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Perfil inválido");
+    }
+}
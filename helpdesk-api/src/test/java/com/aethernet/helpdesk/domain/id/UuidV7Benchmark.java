@@ -0,0 +1,74 @@
+package com.aethernet.helpdesk.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Mede a vazão de INSERT com chaves UUIDv4 aleatórias e UUIDv7 ordenadas pelo tempo, e apenas
+ * registra os números no log: o resultado depende da máquina e não é verificado.
+ *
+ * Não faz parte da suíte (o nome não segue o padrão do Surefire); execute com
+ * {@code mvn test -Dtest=UuidV7Benchmark}. O tamanho e a localidade do índice da chave primária
+ * não são medidos aqui, pois o armazenamento do H2 é estruturado em log e não reflete as divisões
+ * de páginas de uma B-tree; para isso, use {@code docs/benchmarks/uuid-chaves.sql} no PostgreSQL.
+ */
+@DisplayName("Benchmark de UUIDv4 x UUIDv7 como chave primária")
+class UuidV7Benchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidV7Benchmark.class);
+
+    private static final int LINHAS = 1_000_000;
+    private static final int LOTE = 1_000;
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve registrar a vazão de INSERT com UUIDv4 e UUIDv7")
+    void compararGeradores() throws SQLException {
+        double v4 = medir("v4", UUID::randomUUID);
+        double v7 = medir("v7", UuidV7::gerar);
+
+        log.info("INSERT de {} linhas em lotes de {}", LINHAS, LOTE);
+        log.info("  UUIDv4: {}", String.format(Locale.ROOT, "%.0f linhas/s", v4));
+        log.info("  UUIDv7: {}", String.format(Locale.ROOT, "%.0f linhas/s", v7));
+    }
+
+    /** Insere as linhas e retorna a vazão em linhas por segundo. */
+    private double medir(String nome, Supplier<UUID> gerador) throws SQLException {
+        String url = "jdbc:h2:file:" + diretorio.resolve(nome).toAbsolutePath();
+        try (Connection conexao = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement st = conexao.createStatement()) {
+                st.execute("CREATE TABLE chamado (id UUID PRIMARY KEY, titulo VARCHAR(255))");
+            }
+            conexao.setAutoCommit(false);
+            long inicio = System.nanoTime();
+            try (PreparedStatement ps = conexao.prepareStatement("INSERT INTO chamado VALUES (?, ?)")) {
+                for (int i = 1; i <= LINHAS; i++) {
+                    ps.setObject(1, gerador.get());
+                    ps.setString(2, "Chamado " + i);
+                    ps.addBatch();
+                    if (i % LOTE == 0) {
+                        ps.executeBatch();
+                        conexao.commit();
+                    }
+                }
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            return LINHAS / segundos;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.aethernet.helpdesk.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do UuidV7")
+class UuidV7Test {
+
+    private static final long INICIO = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7, variante RFC, com o timestamp do relógio")
+    void deveGerarVersao7() {
+        UUID uuid = new UuidV7(() -> INICIO).proximo();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestamp(uuid)).isEqualTo(INICIO);
+    }
+
+    @Test
+    @DisplayName("Deve crescer dentro do mesmo milissegundo e com o relógio voltando")
+    void deveSerMonotonico() {
+        // Arrange: relógio parado e, depois, atrasado
+        long[] agora = {INICIO};
+        UuidV7 gerador = new UuidV7(() -> agora[0]);
+
+        // Act
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(gerador.proximo());
+        }
+        agora[0] = INICIO - 5_000;
+        uuids.add(gerador.proximo());
+
+        // Assert
+        assertThat(uuids).isSorted().doesNotHaveDuplicates();
+        assertThat(uuids).allMatch(u -> u.version() == 7);
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs únicos e crescentes por thread sob concorrência")
+    void deveSerSeguroEntreThreads() throws Exception {
+        // Arrange
+        UuidV7 gerador = new UuidV7(System::currentTimeMillis);
+        int threads = 8;
+        int porThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        List<Future<List<UUID>>> futuros = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futuros.add(executor.submit(() -> {
+                List<UUID> uuids = new ArrayList<>(porThread);
+                for (int i = 0; i < porThread; i++) {
+                    uuids.add(gerador.proximo());
+                }
+                return uuids;
+            }));
+        }
+
+        // Assert
+        Set<UUID> todos = new HashSet<>();
+        for (Future<List<UUID>> futuro : futuros) {
+            List<UUID> uuids = futuro.get();
+            assertThat(uuids).isSorted();
+            todos.addAll(uuids);
+        }
+        executor.shutdown();
+        assertThat(todos).hasSize(threads * porThread);
+    }
+}
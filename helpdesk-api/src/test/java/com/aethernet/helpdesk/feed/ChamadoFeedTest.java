@@ -0,0 +1,220 @@
+package com.aethernet.helpdesk.feed;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica o feed SSE de ponta a ponta, com um cliente HTTP real.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-feed",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Feed ao vivo de Chamados")
+class ChamadoFeedTest {
+
+    private static final Duration ESPERA = Duration.ofSeconds(10);
+
+    /**
+     * Um evento SSE recebido.
+     */
+    record Evento(String id, String nome, String dados) {}
+
+    /**
+     * Lê uma conexão SSE em uma thread própria e entrega os eventos completos.
+     */
+    static final class LeitorSse implements AutoCloseable {
+
+        private final Stream<String> linhas;
+        private final BlockingQueue<Evento> eventos = new LinkedBlockingQueue<>();
+        private final CountDownLatch fim = new CountDownLatch(1);
+
+        LeitorSse(HttpResponse<Stream<String>> resposta) {
+            this.linhas = resposta.body();
+            Thread.ofVirtual().start(this::ler);
+        }
+
+        private void ler() {
+            String id = null;
+            String nome = null;
+            StringBuilder dados = new StringBuilder();
+            try {
+                Iterator<String> it = linhas.iterator();
+                while (it.hasNext()) {
+                    String linha = it.next();
+                    if (linha.isEmpty()) {
+                        if (nome != null) {
+                            eventos.add(new Evento(id, nome, dados.toString()));
+                        }
+                        id = null;
+                        nome = null;
+                        dados.setLength(0);
+                    } else if (linha.startsWith("id:")) {
+                        id = linha.substring(3);
+                    } else if (linha.startsWith("event:")) {
+                        nome = linha.substring(6);
+                    } else if (linha.startsWith("data:")) {
+                        dados.append(linha.substring(5));
+                    }
+                }
+            } catch (RuntimeException e) {
+                // Conexão encerrada pelo teste
+            } finally {
+                fim.countDown();
+            }
+        }
+
+        /** Indica se o servidor encerrou a conexão dentro da espera. */
+        boolean encerrada() throws InterruptedException {
+            return fim.await(ESPERA.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        Evento proximo() throws InterruptedException {
+            Evento evento = eventos.poll(ESPERA.toMillis(), TimeUnit.MILLISECONDS);
+            assertThat(evento).as("evento SSE dentro de %s", ESPERA).isNotNull();
+            return evento;
+        }
+
+        /** Próximo evento que menciona o Chamado, ignorando os de outros Chamados. */
+        Evento proximoDe(UUID chamadoId) throws InterruptedException {
+            Evento evento;
+            do {
+                evento = proximo();
+            } while (!evento.dados().contains(chamadoId.toString()) && !evento.nome().equals(ChamadoFeed.EVENTO_REINICIO));
+            return evento;
+        }
+
+        @Override
+        public void close() {
+            linhas.close();
+        }
+    }
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ChamadoFeed chamadoFeed;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    private UUID clienteId;
+
+    @BeforeEach
+    void setUp() {
+        clienteId = clienteRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    @DisplayName("Deve notificar apenas as alterações que atendem ao filtro")
+    void deveNotificarConformeFiltro() throws Exception {
+        try (LeitorSse feed = conectar("?prioridade=ALTA", null)) {
+            // Act
+            abrir(Prioridade.BAIXA, "Fora do filtro");
+            ChamadoResponseDTO alta = abrir(Prioridade.ALTA, "No filtro");
+
+            // Assert: o primeiro evento recebido já é o do Chamado de prioridade ALTA
+            Evento evento = feed.proximo();
+            assertThat(evento.nome()).isEqualTo(ChamadoFeed.EVENTO_CHAMADO);
+            assertThat(evento.dados()).contains(alta.id().toString(), "\"tipo\":\"ABERTO\"", "\"prioridade\":\"ALTA\"");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reenviar as alterações perdidas ao reconectar com Last-Event-ID")
+    void deveRetomarComLastEventId() throws Exception {
+        // Arrange: recebe a primeira alteração e desconecta
+        String ultimoId;
+        try (LeitorSse feed = conectar("", null)) {
+            ChamadoResponseDTO primeiro = abrir(Prioridade.MEDIA, "Antes da queda");
+            ultimoId = feed.proximoDe(primeiro.id()).id();
+        }
+        ChamadoResponseDTO segundo = abrir(Prioridade.MEDIA, "Durante a queda 1");
+        ChamadoResponseDTO terceiro = abrir(Prioridade.MEDIA, "Durante a queda 2");
+
+        // Act
+        try (LeitorSse feed = conectar("", ultimoId)) {
+            // Assert
+            Evento a = feed.proximoDe(segundo.id());
+            Evento b = feed.proximoDe(terceiro.id());
+            assertThat(a.nome()).isEqualTo(ChamadoFeed.EVENTO_CHAMADO);
+            assertThat(Long.parseLong(a.id())).isGreaterThan(Long.parseLong(ultimoId));
+            assertThat(Long.parseLong(b.id())).isGreaterThan(Long.parseLong(a.id()));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve pedir o reinício quando o Last-Event-ID não está mais disponível")
+    void devePedirReinicio() throws Exception {
+        try (LeitorSse feed = conectar("", "1")) {
+            Evento evento = feed.proximo();
+            assertThat(evento.nome()).isEqualTo(ChamadoFeed.EVENTO_REINICIO);
+            assertThat(evento.id()).isNotBlank();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve concluir as conexões abertas ao parar, antes do encerramento do servidor")
+    void deveConcluirConexoesAoParar() throws Exception {
+        try (LeitorSse feed = conectar("", null)) {
+            // Arrange: a conexão está registrada
+            ChamadoResponseDTO aberto = abrir(Prioridade.MEDIA, "Antes do encerramento");
+            feed.proximoDe(aberto.id());
+
+            // Act
+            chamadoFeed.stop();
+
+            // Assert
+            assertThat(feed.encerrada()).isTrue();
+            assertThat(chamadoFeed.totalAssinantes()).isZero();
+        } finally {
+            chamadoFeed.start();
+        }
+    }
+
+    private LeitorSse conectar(String filtros, String ultimoId) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + porta + "/api/chamados/stream" + filtros))
+                .header("Accept", "text/event-stream");
+        if (ultimoId != null) {
+            requisicao.header("Last-Event-ID", ultimoId);
+        }
+        HttpResponse<Stream<String>> resposta = http.send(requisicao.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(resposta.statusCode()).isEqualTo(200);
+        return new LeitorSse(resposta);
+    }
+
+    private ChamadoResponseDTO abrir(Prioridade prioridade, String titulo) {
+        return chamadoService.abrir(new ChamadoRequestDTO(prioridade, titulo, "", clienteId, null));
+    }
+}
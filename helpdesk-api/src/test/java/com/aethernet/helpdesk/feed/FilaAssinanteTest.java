@@ -0,0 +1,64 @@
+package com.aethernet.helpdesk.feed;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoNotificacaoDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Situacao;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Tipo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Fila de um assinante do feed")
+class FilaAssinanteTest {
+
+    private final FilaAssinante fila = new FilaAssinante(3);
+
+    @Test
+    @DisplayName("Deve combinar as notificações do mesmo Chamado mantendo a ordem das sequências")
+    void deveCombinarMesmoChamado() {
+        // Arrange
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        // Act
+        assertThat(fila.oferecer(notificacao(1, a, Status.ABERTO))).isEqualTo(FilaAssinante.Resultado.ENFILEIRADA);
+        assertThat(fila.oferecer(notificacao(2, b, Status.ABERTO))).isEqualTo(FilaAssinante.Resultado.ENFILEIRADA);
+        assertThat(fila.oferecer(notificacao(3, a, Status.EM_ANDAMENTO))).isEqualTo(FilaAssinante.Resultado.COMBINADA);
+        List<FilaAssinante.Envio> envios = fila.retirar();
+
+        // Assert
+        assertThat(envios).extracting(FilaAssinante.Envio::sequencia).containsExactly(2L, 3L);
+        assertThat(envios.get(1).dados().status()).isEqualTo(Status.EM_ANDAMENTO);
+        assertThat(fila.vazia()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve trocar a fila por um aviso de reinício ao exceder a capacidade")
+    void deveReiniciarAoTransbordar() {
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            fila.oferecer(notificacao(i, UUID.randomUUID(), Status.ABERTO));
+        }
+        FilaAssinante.Resultado resultado = fila.oferecer(notificacao(4, UUID.randomUUID(), Status.ABERTO));
+        fila.oferecer(notificacao(5, UUID.randomUUID(), Status.ABERTO));
+        List<FilaAssinante.Envio> envios = fila.retirar();
+
+        // Assert: o reinício aponta para a última descartada, e o que chegou depois segue normalmente
+        assertThat(resultado).isEqualTo(FilaAssinante.Resultado.TRANSBORDOU);
+        assertThat(envios).hasSize(2);
+        assertThat(envios.get(0).reinicio()).isTrue();
+        assertThat(envios.get(0).sequencia()).isEqualTo(4L);
+        assertThat(envios.get(1).sequencia()).isEqualTo(5L);
+    }
+
+    private static Notificacao notificacao(long sequencia, UUID chamadoId, Status status) {
+        Situacao atual = new Situacao(status, Prioridade.MEDIA, null);
+        return new Notificacao(sequencia, null, atual,
+                new ChamadoNotificacaoDTO(chamadoId, Tipo.STATUS_ALTERADO, "t", status, Prioridade.MEDIA, null));
+    }
+}
@@ -0,0 +1,151 @@
+package com.aethernet.helpdesk.historico;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoHistoricoDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoHistoricoSliceDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoTempoStatusDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a gravação em segundo plano do histórico de Chamados e as consultas sobre ele.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-historico",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Histórico de Chamados")
+class ChamadoHistoricoTest {
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ChamadoHistoricoService historicoService;
+
+    @Autowired
+    private ChamadoHistoricoWriter historicoWriter;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TecnicoRepository tecnicoRepository;
+
+    @Test
+    @DisplayName("Deve registrar as mudanças de status e técnico em ordem cronológica")
+    void deveRegistrarMudancas() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.ALTA, "Histórico", "", clienteId, null));
+
+        // Act
+        chamadoService.atualizar(chamado.id(),
+                new ChamadoRequestDTO(Prioridade.BAIXA, "Histórico", "só a prioridade", clienteId, null));
+        chamadoService.atribuirTecnico(chamado.id(), tecnicoId);
+        chamadoService.alterarStatus(chamado.id(), Status.PAUSADO);
+        chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+        chamadoService.fechar(chamado.id());
+        historicoWriter.descarregar();
+
+        // Assert: a alteração só de prioridade não gera registro
+        List<ChamadoHistoricoDTO> itens = historicoService.listar(chamado.id(), null, 50).itens();
+        assertThat(itens).extracting(ChamadoHistoricoDTO::statusNovo).containsExactly(
+                Status.ABERTO, Status.EM_ANDAMENTO, Status.PAUSADO, Status.EM_ANDAMENTO, Status.ENCERRADO);
+        assertThat(itens.get(0).statusAnterior()).isNull();
+        assertThat(itens.get(0).duracaoAnteriorMs()).isNull();
+        assertThat(itens.get(1).tecnicoAnteriorId()).isNull();
+        assertThat(itens.get(1).tecnicoNovoId()).isEqualTo(tecnicoId);
+        assertThat(itens.subList(1, itens.size()))
+                .allSatisfy(item -> assertThat(item.duracaoAnteriorMs()).isNotNull().isNotNegative());
+    }
+
+    @Test
+    @DisplayName("Deve paginar o histórico por cursor sem repetir nem pular registros")
+    void devePaginarPorCursor() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "Paginação", "", clienteId, null));
+        chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+        for (int i = 0; i < 3; i++) {
+            chamadoService.alterarStatus(chamado.id(), Status.PAUSADO);
+            chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+        }
+        historicoWriter.descarregar();
+
+        // Act
+        List<ChamadoHistoricoDTO> todos = new ArrayList<>();
+        String cursor = null;
+        int fatias = 0;
+        do {
+            ChamadoHistoricoSliceDTO fatia = historicoService.listar(chamado.id(), cursor, 3);
+            todos.addAll(fatia.itens());
+            cursor = fatia.proximoCursor();
+            fatias++;
+        } while (cursor != null);
+
+        // Assert: abertura + 7 transições, em fatias de 3
+        assertThat(todos).hasSize(8);
+        assertThat(todos).extracting(ChamadoHistoricoDTO::versaoChamado).doesNotHaveDuplicates().isSorted();
+        assertThat(fatias).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve somar o tempo em cada status, incluindo o status atual")
+    void deveSomarTempoPorStatus() throws InterruptedException {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.BAIXA, "Tempo", "", clienteId, null));
+        Thread.sleep(20);
+        chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+        Thread.sleep(20);
+        chamadoService.alterarStatus(chamado.id(), Status.PAUSADO);
+        historicoWriter.descarregar();
+
+        // Act
+        ChamadoTempoStatusDTO tempo = historicoService.tempoPorStatus(chamado.id());
+
+        // Assert
+        assertThat(tempo.statusAtual()).isEqualTo(Status.PAUSADO);
+        assertThat(tempo.tempoMs()).containsOnlyKeys(Status.ABERTO, Status.EM_ANDAMENTO, Status.PAUSADO);
+        assertThat(tempo.tempoMs().get(Status.ABERTO)).isGreaterThanOrEqualTo(20);
+        assertThat(tempo.tempoMs().get(Status.EM_ANDAMENTO)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Deve recusar cursor inválido e Chamado inexistente")
+    void deveRecusarConsultasInvalidas() {
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.BAIXA, "Inválido", "", clienteId, null));
+
+        assertThatThrownBy(() -> historicoService.listar(chamado.id(), "nao-e-uma-versao", 10))
+                .isInstanceOf(DomainRuleException.class);
+        assertThatThrownBy(() -> historicoService.listar(chamado.id(), null, 0))
+                .isInstanceOf(DomainRuleException.class);
+        assertThatThrownBy(() -> historicoService.listar(UUID.randomUUID(), null, 10))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> historicoService.tempoPorStatus(UUID.randomUUID()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -0,0 +1,211 @@
+package com.aethernet.helpdesk.historico;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoHistoricoDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Situacao;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a fila do escritor do histórico: o encerramento que a drena, a gravação direta com
+ * a fila cheia e o encaixe de registros que chegam fora da ordem das versões.
+ *
+ * Cada teste usa um escritor próprio, alimentado diretamente com eventos das versões 1 em
+ * diante; a versão 0 (abertura) é gravada pelo escritor da aplicação.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-historico-writer",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Escritor do histórico de Chamados")
+class ChamadoHistoricoWriterTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ChamadoHistoricoWriter historicoWriter;
+
+    @Autowired
+    private ChamadoHistoricoService historicoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** Liberado pelo teste para que a thread de fundo grave o lote em que está parada. */
+    private final CountDownLatch liberar = new CountDownLatch(1);
+
+    /** Sinaliza que a thread de fundo parou no seu primeiro lote. */
+    private final CountDownLatch bloqueado = new CountDownLatch(1);
+
+    private UUID chamadoId;
+
+    @BeforeEach
+    void abrirChamado() {
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        chamadoId = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "Escritor do histórico", null, clienteId, null)).id();
+        historicoWriter.descarregar();
+    }
+
+    @Test
+    @DisplayName("Deve gravar toda a fila ao parar, antes de retornar")
+    void deveDrenarFilaAoParar() throws Exception {
+        // Arrange: o primeiro lote fica parado na thread de fundo e os demais, na fila
+        ChamadoHistoricoWriter escritor = novoEscritor(100);
+        escritor.start();
+        escritor.aoAlterarChamado(evento(1));
+        assertThat(bloqueado.await(10, TimeUnit.SECONDS)).isTrue();
+        for (long versao = 2; versao <= 20; versao++) {
+            escritor.aoAlterarChamado(evento(versao));
+        }
+
+        // Act
+        CompletableFuture<Void> parada = CompletableFuture.runAsync(escritor::stop);
+        Thread.sleep(100);
+        assertThat(parada).isNotDone();
+        liberar.countDown();
+        parada.get(30, TimeUnit.SECONDS);
+
+        // Assert: nada ficou para trás e nada foi gravado fora da fila
+        assertThat(versoesGravadas()).containsExactlyElementsOf(LongStream.rangeClosed(1, 20).boxed().toList());
+        assertThat(meterRegistry.counter("helpdesk.historico.diretos").count()).isZero();
+        assertThat(duracao(20)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("Deve gravar diretamente na thread da requisição quando a fila está cheia")
+    void deveGravarDiretamenteComFilaCheia() throws Exception {
+        // Arrange: o lote da versão 1 fica parado na thread de fundo e a versão 2 ocupa a fila
+        ChamadoHistoricoWriter escritor = novoEscritor(1);
+        escritor.start();
+        try {
+            escritor.aoAlterarChamado(evento(1));
+            assertThat(bloqueado.await(10, TimeUnit.SECONDS)).isTrue();
+            escritor.aoAlterarChamado(evento(2));
+
+            // Act: a versão 3 não cabe na fila e é gravada pela própria thread, após o lote em andamento
+            CompletableFuture<Void> direto = CompletableFuture.runAsync(() -> escritor.aoAlterarChamado(evento(3)));
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (meterRegistry.counter("helpdesk.historico.diretos").count() < 1 && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+            liberar.countDown();
+            direto.get(30, TimeUnit.SECONDS);
+        } finally {
+            liberar.countDown();
+            escritor.stop();
+        }
+
+        // Assert: as três versões gravadas e encadeadas, qualquer que tenha sido a ordem de chegada
+        assertThat(meterRegistry.counter("helpdesk.historico.diretos").count()).isEqualTo(1);
+        assertThat(versoesGravadas()).containsExactly(1L, 2L, 3L);
+        assertThat(duracao(2)).isEqualTo(1000L);
+        assertThat(duracao(3)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("Deve encaixar um registro atrasado e corrigir a duração do seguinte")
+    void deveEncaixarRegistroAtrasado() {
+        // Arrange: sem iniciar, o escritor grava na thread chamadora, na ordem de chegada
+        ChamadoHistoricoWriter escritor = novoEscritor(10);
+        escritor.aoAlterarChamado(evento(1));
+        escritor.aoAlterarChamado(evento(3));
+
+        // Act: a versão 2 chega depois da 3
+        escritor.aoAlterarChamado(evento(2));
+
+        // Assert
+        assertThat(versoesGravadas()).containsExactly(1L, 2L, 3L);
+        assertThat(duracao(2)).isEqualTo(1000L);
+        assertThat(duracao(3)).isEqualTo(1000L);
+        assertThat(historicoService.listar(chamadoId, null, 10).itens())
+                .extracting(ChamadoHistoricoDTO::versaoChamado)
+                .containsExactly(0L, 1L, 2L, 3L);
+    }
+
+    // === MÉTODOS AUXILIARES ===
+
+    /**
+     * Um escritor cuja thread de fundo para no primeiro lote até o teste liberá-la.
+     */
+    private ChamadoHistoricoWriter novoEscritor(int capacidade) {
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, SqlParameterSource[] batchArgs) {
+                if (Thread.currentThread().getName().equals("historico-writer") && bloqueado.getCount() > 0) {
+                    bloqueado.countDown();
+                    try {
+                        liberar.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        return new ChamadoHistoricoWriter(jdbc, transactionManager, meterRegistry, capacidade, 200, 20);
+    }
+
+    /** Alterna entre EM_ANDAMENTO e PAUSADO, um segundo depois da versão anterior. */
+    private ChamadoAlteradoEvent evento(long versao) {
+        Status anterior = versao % 2 == 0 ? Status.PAUSADO : Status.EM_ANDAMENTO;
+        Status atual = versao % 2 == 0 ? Status.EM_ANDAMENTO : Status.PAUSADO;
+        return new ChamadoAlteradoEvent(chamadoId, ChamadoAlteradoEvent.Tipo.STATUS_ALTERADO,
+                "Escritor do histórico", null,
+                new Situacao(anterior, Prioridade.MEDIA, null), new Situacao(atual, Prioridade.MEDIA, null),
+                versao, INICIO.plusSeconds(versao));
+    }
+
+    private List<Long> versoesGravadas() {
+        return jdbcTemplate.queryForList("""
+                SELECT versao_chamado FROM chamado_historico
+                WHERE chamado_id = ? AND versao_chamado > 0
+                ORDER BY versao_chamado
+                """, Long.class, chamadoId);
+    }
+
+    private Long duracao(long versao) {
+        return jdbcTemplate.queryForObject("""
+                SELECT duracao_anterior_ms FROM chamado_historico
+                WHERE chamado_id = ? AND versao_chamado = ?
+                """, Long.class, chamadoId, versao);
+    }
+}
@@ -0,0 +1,81 @@
+package com.aethernet.helpdesk.importacao;
+
+import com.aethernet.helpdesk.domain.dto.response.ImportacaoRelatorioDTO;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import com.aethernet.helpdesk.stats.ChamadoStatsCounters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Importa CSVs contra o banco H2, usando os Clientes e Técnicos carregados pelo {@code DataLoader}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-importacao",
+        "helpdesk.importacao.bloco=2",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Importação de Chamados em massa")
+class ChamadoImportServiceTest {
+
+    @Autowired
+    private ChamadoImportService chamadoImportService;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ChamadoStatsCounters chamadoStatsCounters;
+
+    @Test
+    @DisplayName("Deve importar as linhas válidas em blocos e rejeitar as inválidas")
+    void deveImportarERejeitar() throws IOException {
+        // Arrange
+        long antes = chamadoRepository.count();
+        long encerradosAntes = chamadoStatsCounters.contar(Status.ENCERRADO);
+        String csv = """
+                titulo,prioridade,status,dataAbertura,dataFechamento,cpfCliente,cpfTecnico,observacoes
+                Impressora travada,ALTA,ENCERRADO,2019-03-01T10:00,2019-03-02T11:00,123.456.789-01,111.222.333-44,"Troca do fusor, ok"
+                Sem rede,media,,2019-03-03T08:00,,12345678901,,
+                Cliente desconhecido,BAIXA,,,,00000000000,,
+                Prioridade errada,URGENTE,,,,12345678901,,
+                VPN caiu,BAIXA,EM_ANDAMENTO,2019-04-01T09:30,,98765432100,55566677788,
+                """;
+
+        // Act
+        ImportacaoRelatorioDTO relatorio = chamadoImportService.importar(entrada(csv));
+
+        // Assert
+        assertThat(relatorio.modo()).isEqualTo("JDBC_BATCH");
+        assertThat(relatorio.registrosLidos()).isEqualTo(5);
+        assertThat(relatorio.importados()).isEqualTo(3);
+        assertThat(relatorio.rejeitados()).isEqualTo(2);
+        assertThat(relatorio.rejeicoes()).extracting(ImportacaoRelatorioDTO.Rejeicao::linha).containsExactly(4L, 5L);
+        assertThat(relatorio.rejeicoes().get(0).motivo()).contains("00000000000");
+        assertThat(chamadoRepository.count()).isEqualTo(antes + 3);
+        // Os contadores em memória são reconciliados ao fim da importação
+        assertThat(chamadoStatsCounters.contar(Status.ENCERRADO)).isEqualTo(encerradosAntes + 1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar arquivo sem coluna obrigatória")
+    void deveRecusarCabecalhoIncompleto() {
+        assertThatThrownBy(() -> chamadoImportService.importar(entrada("titulo,prioridade\nX,ALTA\n")))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining("cpfCliente");
+    }
+
+    private static InputStream entrada(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package com.aethernet.helpdesk.importacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do CsvReader")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Deve ler campos simples, vazios e com CRLF")
+    void deveLerCamposSimples() throws IOException {
+        // Arrange
+        CsvReader csv = new CsvReader(new StringReader("a,b,c\r\n1,,3\r\n"));
+
+        // Act / Assert
+        assertThat(csv.proximoRegistro()).containsExactly("a", "b", "c");
+        assertThat(csv.proximoRegistro()).containsExactly("1", "", "3");
+        assertThat(csv.proximoRegistro()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve ler campos entre aspas com vírgulas, aspas e quebras de linha")
+    void deveLerCamposEntreAspas() throws IOException {
+        // Arrange
+        CsvReader csv = new CsvReader(new StringReader("\"x, y\",\"diz \"\"oi\"\"\",\"linha1\nlinha2\"\nfim"));
+
+        // Act / Assert
+        assertThat(csv.proximoRegistro()).containsExactly("x, y", "diz \"oi\"", "linha1\nlinha2");
+        assertThat(csv.linha()).isEqualTo(1);
+        assertThat(csv.proximoRegistro()).containsExactly("fim");
+        assertThat(csv.linha()).isEqualTo(3);
+        assertThat(csv.proximoRegistro()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve recusar campo maior que o limite")
+    void deveRecusarCampoGigante() {
+        // Arrange
+        CsvReader csv = new CsvReader(new StringReader("\"" + "a".repeat(CsvReader.TAMANHO_MAXIMO_CAMPO + 1)));
+
+        // Act / Assert
+        assertThatThrownBy(csv::proximoRegistro).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,206 @@
+package com.aethernet.helpdesk.outbox;
+
+import com.aethernet.helpdesk.domain.OutboxEvento;
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Tipo;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.repositories.OutboxEventoRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a gravação dos eventos de Chamado na outbox e a entrega ordenada pelo relay.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-outbox",
+        "helpdesk.atribuicao.habilitada=false",
+        "helpdesk.outbox.habilitado=false",
+        "helpdesk.outbox.lote=7",
+        "helpdesk.outbox.paralelismo=3"
+})
+@DisplayName("Outbox de eventos de Chamado")
+class ChamadoOutboxTest {
+
+    /**
+     * Consumidor adicional que recusa os eventos dos Chamados indicados.
+     */
+    static class Recusador implements ChamadoEventoConsumidor {
+
+        final Set<UUID> recusar = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void receber(ChamadoEventoMensagem mensagem) {
+            if (recusar.contains(mensagem.chamadoId())) {
+                throw new IllegalStateException("indisponível");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        Recusador recusador() {
+            return new Recusador();
+        }
+    }
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ChamadoOutboxRelay relay;
+
+    @Autowired
+    private ChamadoEventoMemoria memoria;
+
+    @Autowired
+    private Recusador recusador;
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TecnicoRepository tecnicoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID clienteId;
+
+    @BeforeEach
+    void setUp() {
+        clienteId = clienteRepository.findAll().get(0).getId();
+        recusador.recusar.clear();
+        relay.drenar();
+        memoria.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve gravar um evento por operação, na ordem das operações")
+    void deveGravarUmEventoPorOperacao() {
+        // Arrange
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+
+        // Act
+        UUID id = ciclo(tecnicoId);
+
+        // Assert
+        List<OutboxEvento> eventos = outboxEventoRepository.findByChamadoIdOrderByIdAsc(id);
+        assertThat(eventos).extracting(OutboxEvento::getTipo).containsExactly(
+                Tipo.ABERTO, Tipo.ATUALIZADO, Tipo.TECNICO_ATRIBUIDO,
+                Tipo.STATUS_ALTERADO, Tipo.STATUS_ALTERADO, Tipo.FECHADO);
+        assertThat(eventos).allSatisfy(e -> {
+            assertThat(e.getPayload()).contains(id.toString());
+            assertThat(e.getDataPublicacao()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Não deve gravar evento de uma alteração desfeita")
+    void naoDeveGravarEventoDesfeito() {
+        // Act
+        UUID id = transactionTemplate.execute(status -> {
+            ChamadoResponseDTO aberto = chamadoService.abrir(
+                    new ChamadoRequestDTO(Prioridade.BAIXA, "Desfeito", "", clienteId, null));
+            status.setRollbackOnly();
+            return aberto.id();
+        });
+
+        // Assert
+        assertThat(outboxEventoRepository.findByChamadoIdOrderByIdAsc(id)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve entregar os eventos de cada Chamado em ordem e marcá-los como publicados")
+    void deveEntregarEmOrdem() {
+        // Arrange: lotes de 7 e 3 faixas, com eventos de vários Chamados intercalados
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+        List<UUID> chamados = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            chamados.add(ciclo(tecnicoId));
+        }
+
+        // Act
+        int entregues = relay.drenar();
+
+        // Assert
+        assertThat(entregues).isEqualTo(30);
+        assertThat(outboxEventoRepository.countByDataPublicacaoIsNull()).isZero();
+        for (UUID id : chamados) {
+            assertThat(recebidosDe(id)).extracting(ChamadoEventoMensagem::sequencia)
+                    .hasSize(6)
+                    .isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reter os eventos de um Chamado recusado sem atrasar os demais")
+    void deveReterChamadoRecusado() {
+        // Arrange
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+        UUID recusado = ciclo(tecnicoId);
+        UUID aceito = ciclo(tecnicoId);
+        recusador.recusar.add(recusado);
+
+        // Act
+        relay.drenar();
+
+        // Assert: o Chamado aceito é entregue e o recusado fica pendente
+        assertThat(recebidosDe(aceito)).hasSize(6);
+        assertThat(outboxEventoRepository.findByChamadoIdOrderByIdAsc(recusado))
+                .allSatisfy(e -> assertThat(e.getDataPublicacao()).isNull());
+
+        // Act: o consumidor volta a aceitar
+        recusador.recusar.clear();
+        memoria.limpar();
+        relay.drenar();
+
+        // Assert: os eventos retidos chegam, em ordem, e uma única vez
+        assertThat(recebidosDe(recusado)).extracting(ChamadoEventoMensagem::tipo).containsExactly(
+                Tipo.ABERTO, Tipo.ATUALIZADO, Tipo.TECNICO_ATRIBUIDO,
+                Tipo.STATUS_ALTERADO, Tipo.STATUS_ALTERADO, Tipo.FECHADO);
+        assertThat(recebidosDe(aceito)).isEmpty();
+    }
+
+    /** Abre, atualiza, atribui, pausa, retoma e fecha um Chamado: seis eventos. */
+    private UUID ciclo(UUID tecnicoId) {
+        ChamadoResponseDTO chamado = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "Outbox", "", clienteId, null));
+        chamadoService.atualizar(chamado.id(),
+                new ChamadoRequestDTO(Prioridade.ALTA, "Outbox", "urgente", clienteId, null));
+        chamadoService.atribuirTecnico(chamado.id(), tecnicoId);
+        chamadoService.alterarStatus(chamado.id(), Status.PAUSADO);
+        chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+        chamadoService.fechar(chamado.id());
+        return chamado.id();
+    }
+
+    private List<ChamadoEventoMensagem> recebidosDe(UUID chamadoId) {
+        return memoria.recebidos().stream()
+                .filter(m -> m.chamadoId().equals(chamadoId))
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.aethernet.helpdesk.search;
+
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Testes do ChamadoSearchIndex")
+class ChamadoSearchIndexTest {
+
+    private final UUID vpn = UUID.randomUUID();
+    private final UUID impressora = UUID.randomUUID();
+    private final UUID conexao = UUID.randomUUID();
+
+    private ChamadoSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ChamadoSearchIndex(mock(ChamadoRepository.class));
+        index.indexar(new ChamadoDocumento(vpn, "Problema de conexão VPN", "Cliente não consegue conectar à VPN corporativa."));
+        index.indexar(new ChamadoDocumento(impressora, "Impressoras do 2º andar", "Nenhuma impressora imprime em cores."));
+        index.indexar(new ChamadoDocumento(conexao, "Lentidão na rede", "Conexões caindo após atualização do roteador."));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar chamados ignorando acentos, maiúsculas e plural")
+    void deveIgnorarAcentosMaiusculasEPlural() {
+        assertThat(ids(index.buscar("IMPRESSORA", 10))).containsExactly(impressora);
+        assertThat(ids(index.buscar("conexao", 10))).containsExactlyInAnyOrder(vpn, conexao);
+        assertThat(ids(index.buscar("lentidao", 10))).containsExactly(conexao);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar chamados em maiúsculas independentemente do locale padrão")
+    void deveIgnorarLocalePadrao() {
+        Locale original = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Em turco, "I".toLowerCase() é o "ı" sem ponto
+            index.indexar(new ChamadoDocumento(impressora, "IMPRESSORA SEM TINTA", null));
+
+            assertThat(ids(index.buscar("impressora", 10))).containsExactly(impressora);
+            assertThat(ids(index.buscar("TINTA", 10))).containsExactly(impressora);
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pela relevância, priorizando ocorrências no título")
+    void deveOrdenarPorRelevancia() {
+        List<ChamadoSearchIndex.Resultado> resultados = index.buscar("vpn conexão", 10);
+
+        assertThat(resultados).extracting(ChamadoSearchIndex.Resultado::chamadoId).startsWith(vpn);
+        assertThat(resultados.get(0).pontuacao()).isGreaterThan(resultados.get(1).pontuacao());
+    }
+
+    @Test
+    @DisplayName("Deve substituir os termos ao reindexar um chamado")
+    void deveSubstituirTermosAoReindexar() {
+        index.indexar(new ChamadoDocumento(vpn, "Troca de mouse", null));
+
+        assertThat(index.buscar("vpn", 10)).isEmpty();
+        assertThat(ids(index.buscar("mouse", 10))).containsExactly(vpn);
+        assertThat(index.tamanho()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar consultas compostas apenas por stopwords")
+    void deveIgnorarConsultaSomenteComStopwords() {
+        assertThat(index.buscar("de para com", 10)).isEmpty();
+    }
+
+    private static List<UUID> ids(List<ChamadoSearchIndex.Resultado> resultados) {
+        return resultados.stream().map(ChamadoSearchIndex.Resultado::chamadoId).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.exceptions.StaleVersionException;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica o controle de concorrência otimista de Chamado contra o banco, sob alta contenção.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-concorrencia",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Concorrência otimista de Chamado")
+class ChamadoConcorrenciaTest {
+
+    private static final int THREADS = 8;
+    private static final int ALTERACOES_POR_THREAD = 10;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Test
+    @DisplayName("Não deve perder nenhuma atualização concorrente com If-Match")
+    void naoDevePerderAtualizacoes() throws Exception {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        ChamadoResponseDTO inicial = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.MEDIA, "Contenção", "", clienteId, null));
+        AtomicInteger conflitos = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act: cada thread acrescenta as suas marcas às observações, relendo a cada conflito
+        List<Future<?>> futuros = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futuros.add(executor.submit(() -> {
+                largada.await();
+                for (int i = 0; i < ALTERACOES_POR_THREAD; i++) {
+                    String marca = " " + thread + "-" + i;
+                    while (true) {
+                        ChamadoResponseDTO atual = chamadoService.buscarPorId(inicial.id());
+                        ChamadoRequestDTO dto = new ChamadoRequestDTO(atual.prioridade(), atual.titulo(),
+                                atual.observacoes() + marca, clienteId, null);
+                        try {
+                            chamadoService.atualizar(inicial.id(), dto, atual.versao());
+                            break;
+                        } catch (StaleVersionException | OptimisticLockingFailureException e) {
+                            conflitos.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> futuro : futuros) {
+            futuro.get();
+        }
+        executor.shutdown();
+
+        // Assert: todas as marcas gravadas e uma versão por atualização
+        ChamadoResponseDTO fim = chamadoService.buscarPorId(inicial.id());
+        List<String> esperadas = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < ALTERACOES_POR_THREAD; i++) {
+                esperadas.add(t + "-" + i);
+            }
+        }
+        assertThat(fim.observacoes().trim().split(" ")).containsExactlyInAnyOrderElementsOf(esperadas);
+        assertThat(fim.versao()).isEqualTo(inicial.versao() + THREADS * ALTERACOES_POR_THREAD);
+        assertThat(conflitos.get()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve recusar a gravação a partir de uma versão já superada")
+    void deveRecusarVersaoSuperada() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        ChamadoResponseDTO lido = chamadoService.abrir(
+                new ChamadoRequestDTO(Prioridade.BAIXA, "Versão", "a", clienteId, null));
+        chamadoService.atualizar(lido.id(),
+                new ChamadoRequestDTO(Prioridade.ALTA, "Versão", "b", clienteId, null), lido.versao());
+
+        // Act & Assert
+        assertThatThrownBy(() -> chamadoService.atualizar(lido.id(),
+                new ChamadoRequestDTO(Prioridade.BAIXA, "Versão", "c", clienteId, null), lido.versao()))
+                .isInstanceOf(StaleVersionException.class);
+        assertThat(chamadoService.buscarPorId(lido.id()).observacoes()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("Deve repetir a operação em conflito de versão até o limite de tentativas")
+    void deveRepetirAteOLimite() {
+        RetentativaOtimista retentativa = new RetentativaOtimista(3, 1, 2);
+        AtomicInteger chamadas = new AtomicInteger();
+
+        String resultado = retentativa.executar(() -> {
+            if (chamadas.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflito");
+            }
+            return "ok";
+        });
+        assertThat(resultado).isEqualTo("ok");
+
+        chamadas.set(0);
+        assertThatThrownBy(() -> retentativa.executar(() -> {
+            chamadas.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflito");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(chamadas.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,147 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.importacao.CsvReader;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a exportação de Chamados em NDJSON e CSV contra o banco.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-exportacao",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Exportação de Chamados")
+class ChamadoExportServiceTest {
+
+    private static final String TITULO_ESPECIAL = "Falha, \"urgente\" no painel";
+    private static final String OBSERVACOES_ESPECIAIS = "Primeira linha\nSegunda linha";
+
+    @Autowired
+    private ChamadoExportService exportService;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID especial;
+
+    @BeforeEach
+    void setUp() {
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        for (int i = 0; i < 3; i++) {
+            chamadoService.abrir(new ChamadoRequestDTO(Prioridade.MEDIA, "Exportação " + i, null, clienteId, null));
+        }
+        especial = chamadoService.abrir(new ChamadoRequestDTO(
+                Prioridade.ALTA, TITULO_ESPECIAL, OBSERVACOES_ESPECIAIS, clienteId, null)).id();
+    }
+
+    @Test
+    @DisplayName("Deve exportar um Chamado por linha em NDJSON")
+    void deveExportarNdjson() throws Exception {
+        // Arrange
+        List<ChamadoResponseDTO> esperados = chamadoService.listarTodos(null, null);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long total = exportService.exportar(ChamadoExportService.Formato.NDJSON, null, null, saida);
+
+        // Assert
+        List<String> linhas = saida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(total).isEqualTo(esperados.size());
+        assertThat(linhas).hasSize(esperados.size());
+        List<String> ids = new ArrayList<>();
+        for (String linha : linhas) {
+            JsonNode chamado = objectMapper.readTree(linha);
+            ids.add(chamado.get("id").asText());
+            if (chamado.get("id").asText().equals(especial.toString())) {
+                assertThat(chamado.get("titulo").asText()).isEqualTo(TITULO_ESPECIAL);
+                assertThat(chamado.get("observacoes").asText()).isEqualTo(OBSERVACOES_ESPECIAIS);
+            }
+        }
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(
+                esperados.stream().map(chamado -> chamado.id().toString()).toList());
+    }
+
+    @Test
+    @DisplayName("Deve exportar apenas os Chamados que atendem aos filtros")
+    void deveExportarComFiltros() throws Exception {
+        // Arrange
+        List<ChamadoResponseDTO> esperados = chamadoService.listarTodos(Status.ABERTO, Prioridade.ALTA);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long total = exportService.exportar(ChamadoExportService.Formato.NDJSON, Status.ABERTO, Prioridade.ALTA, saida);
+
+        // Assert
+        List<JsonNode> chamados = new ArrayList<>();
+        for (String linha : saida.toString(StandardCharsets.UTF_8).lines().toList()) {
+            chamados.add(objectMapper.readTree(linha));
+        }
+        assertThat(total).isEqualTo(esperados.size());
+        assertThat(chamados).extracting(chamado -> chamado.get("id").asText())
+                .contains(especial.toString())
+                .containsExactlyElementsOf(esperados.stream().map(chamado -> chamado.id().toString()).toList());
+        assertThat(chamados).allSatisfy(chamado -> {
+            assertThat(chamado.get("status").asText()).isEqualTo("ABERTO");
+            assertThat(chamado.get("prioridade").asText()).isEqualTo("ALTA");
+        });
+    }
+
+    @Test
+    @DisplayName("Deve exportar em CSV com cabeçalho e campos especiais entre aspas")
+    void deveExportarCsv() throws Exception {
+        // Arrange
+        List<ChamadoResponseDTO> esperados = chamadoService.listarTodos(null, null);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long total = exportService.exportar(ChamadoExportService.Formato.CSV, null, null, saida);
+
+        // Assert
+        String csv = saida.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith(
+                "id,dataAbertura,dataFechamento,prioridade,status,titulo,observacoes,nomeCliente,nomeTecnico\n");
+        assertThat(csv).contains(",\"Falha, \"\"urgente\"\" no painel\",\"Primeira linha\nSegunda linha\",");
+
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        reader.proximoRegistro();
+        List<List<String>> registros = new ArrayList<>();
+        List<String> registro;
+        while ((registro = reader.proximoRegistro()) != null) {
+            registros.add(registro);
+        }
+        assertThat(total).isEqualTo(esperados.size());
+        assertThat(registros).hasSize(esperados.size()).allSatisfy(campos -> assertThat(campos).hasSize(9));
+        assertThat(registros).filteredOn(campos -> campos.get(0).equals(especial.toString()))
+                .singleElement()
+                .satisfies(campos -> {
+                    assertThat(campos.get(5)).isEqualTo(TITULO_ESPECIAL);
+                    assertThat(campos.get(6)).isEqualTo(OBSERVACOES_ESPECIAIS);
+                });
+    }
+}
@@ -0,0 +1,228 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.OutboxEvento;
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoStatusLoteDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.repositories.OutboxEventoRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Interceptor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a alteração de status em lote contra o banco, incluindo a quantidade de instruções SQL
+ * e o isolamento de um Chamado alterado concorrentemente.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-lote",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Alteração de status de Chamados em lote")
+class ChamadoServiceLoteTest {
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TecnicoRepository tecnicoRepository;
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AlteracaoConcorrente alteracaoConcorrente;
+
+    @Test
+    @DisplayName("Deve encerrar o lote com uma consulta e um lote JDBC de UPDATEs")
+    void deveEncerrarLoteComUmLoteJdbc() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(chamadoService.abrir(new ChamadoRequestDTO(
+                    Prioridade.ALTA, "Indisponibilidade " + i, null, clienteId, tecnicoId)).id());
+        }
+        UUID aberto = chamadoService.abrir(new ChamadoRequestDTO(
+                Prioridade.BAIXA, "Ainda sem técnico", null, clienteId, null)).id();
+        UUID inexistente = UUID.randomUUID();
+        ids.add(aberto);
+        ids.add(inexistente);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ChamadoStatusLoteDTO resultado = chamadoService.alterarStatusEmLote(ids, Status.ENCERRADO);
+
+        // Assert
+        assertThat(resultado.sucessos()).isEqualTo(5);
+        assertThat(resultado.falhas()).isEqualTo(2);
+        assertThat(resultado.resultados()).extracting(ChamadoStatusLoteDTO.Resultado::id).containsExactlyElementsOf(ids);
+        assertThat(resultado.resultados()).filteredOn(r -> r.id().equals(aberto))
+                .extracting(ChamadoStatusLoteDTO.Resultado::erro)
+                .containsExactly("Chamado ABERTO não pode ser encerrado diretamente");
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(5);
+        // Os cinco eventos da outbox são inseridos em um lote JDBC antes do commit, fora das instruções do Hibernate
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        for (UUID id : ids.subList(0, 5)) {
+            assertThat(outboxEventoRepository.findByChamadoIdOrderByIdAsc(id))
+                    .extracting(OutboxEvento::getTipo)
+                    .endsWith(ChamadoAlteradoEvent.Tipo.FECHADO);
+        }
+        assertThat(chamadoService.buscarPorId(ids.get(0)).status()).isEqualTo(Status.ENCERRADO);
+        assertThat(chamadoService.buscarPorId(ids.get(0)).dataFechamento()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve reportar como falha apenas o Chamado alterado concorrentemente, encerrando os demais")
+    void deveIsolarChamadoAlteradoConcorrentemente() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(chamadoService.abrir(new ChamadoRequestDTO(
+                    Prioridade.MEDIA, "Queda do link " + i, null, clienteId, tecnicoId)).id());
+        }
+        UUID disputado = ids.get(1);
+        alteracaoConcorrente.disputar(disputado, clienteId, tecnicoId, Integer.MAX_VALUE);
+
+        // Act
+        ChamadoStatusLoteDTO resultado;
+        try {
+            resultado = chamadoService.alterarStatusEmLote(ids, Status.ENCERRADO);
+        } finally {
+            alteracaoConcorrente.disputar(null, null, null, 0);
+        }
+
+        // Assert
+        assertThat(resultado.sucessos()).isEqualTo(2);
+        assertThat(resultado.falhas()).isEqualTo(1);
+        assertThat(resultado.resultados()).extracting(ChamadoStatusLoteDTO.Resultado::id).containsExactlyElementsOf(ids);
+        assertThat(resultado.resultados()).filteredOn(r -> !r.sucesso())
+                .extracting(ChamadoStatusLoteDTO.Resultado::id)
+                .containsExactly(disputado);
+        assertThat(chamadoService.buscarPorId(ids.get(0)).status()).isEqualTo(Status.ENCERRADO);
+        assertThat(chamadoService.buscarPorId(ids.get(2)).status()).isEqualTo(Status.ENCERRADO);
+        assertThat(chamadoService.buscarPorId(disputado).status()).isEqualTo(Status.EM_ANDAMENTO);
+        assertThat(chamadoService.buscarPorId(disputado).titulo()).startsWith("Queda do link (edição ");
+    }
+
+    @Test
+    @DisplayName("Deve repetir o Chamado alterado concorrentemente uma única vez e encerrá-lo")
+    void deveRepetirChamadoAlteradoUmaVez() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(chamadoService.abrir(new ChamadoRequestDTO(
+                    Prioridade.MEDIA, "Lentidão no ERP " + i, null, clienteId, tecnicoId)).id());
+        }
+        UUID disputado = ids.get(1);
+        alteracaoConcorrente.disputar(disputado, clienteId, tecnicoId, 1);
+
+        // Act
+        ChamadoStatusLoteDTO resultado;
+        try {
+            resultado = chamadoService.alterarStatusEmLote(ids, Status.ENCERRADO);
+        } finally {
+            alteracaoConcorrente.disputar(null, null, null, 0);
+        }
+
+        // Assert: a edição concorrente é preservada e o encerramento, repetido sobre ela
+        assertThat(resultado.sucessos()).isEqualTo(3);
+        assertThat(resultado.falhas()).isZero();
+        assertThat(chamadoService.buscarPorId(disputado).status()).isEqualTo(Status.ENCERRADO);
+        assertThat(chamadoService.buscarPorId(disputado).titulo()).isEqualTo("Queda do link (edição 1)");
+    }
+
+    @TestConfiguration
+    static class Configuracao {
+
+        @Bean
+        AlteracaoConcorrente alteracaoConcorrente(ObjectProvider<ChamadoService> chamadoService) {
+            return new AlteracaoConcorrente(chamadoService);
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer interceptadorAlteracaoConcorrente(AlteracaoConcorrente alteracaoConcorrente) {
+            return propriedades -> propriedades.put(AvailableSettings.INTERCEPTOR, alteracaoConcorrente);
+        }
+    }
+
+    /**
+     * Simula outra requisição que grava o Chamado disputado quando o lote tenta encerrá-lo, durante
+     * o flush do lote e antes do seu UPDATE, nas primeiras {@code vezes} tentativas. Cada gravação
+     * muda o título, para que nenhuma seja descartada por não alterar o Chamado.
+     */
+    static class AlteracaoConcorrente implements Interceptor {
+
+        private final ObjectProvider<ChamadoService> chamadoService;
+        private final AtomicInteger edicoes = new AtomicInteger();
+        private volatile UUID disputado;
+        private volatile UUID clienteId;
+        private volatile UUID tecnicoId;
+        private volatile int vezes;
+
+        AlteracaoConcorrente(ObjectProvider<ChamadoService> chamadoService) {
+            this.chamadoService = chamadoService;
+        }
+
+        void disputar(UUID disputado, UUID clienteId, UUID tecnicoId, int vezes) {
+            this.clienteId = clienteId;
+            this.tecnicoId = tecnicoId;
+            this.vezes = vezes;
+            edicoes.set(0);
+            this.disputado = disputado;
+        }
+
+        @Override
+        public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+                                    String[] propertyNames, Type[] types) {
+            if (!(entity instanceof Chamado chamado) || chamado.getStatus() != Status.ENCERRADO
+                    || !chamado.getId().equals(disputado)) {
+                return false;
+            }
+            int edicao = edicoes.incrementAndGet();
+            if (edicao <= vezes) {
+                ChamadoRequestDTO dto = new ChamadoRequestDTO(
+                        Prioridade.ALTA, "Queda do link (edição " + edicao + ")", null, clienteId, tecnicoId);
+                CompletableFuture.runAsync(() -> chamadoService.getObject().atualizar(chamado.getId(), dto)).join();
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Status;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a quantidade de instruções SQL emitidas pelas leituras de Chamado,
+ * usando os dados carregados pelo {@code DataLoader}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-query-count",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Contagem de instruções SQL das leituras de Chamado")
+class ChamadoServiceQueryCountTest {
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar todos os chamados com uma única instrução")
+    void deveListarTodosComUmaInstrucao() {
+        List<ChamadoResponseDTO> chamados = chamadoService.listarTodos(null, null);
+
+        assertThat(chamados).isNotEmpty();
+        assertThat(chamados).anyMatch(c -> c.nomeTecnico() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve listar chamados filtrados por status com uma única instrução")
+    void deveListarPorStatusComUmaInstrucao() {
+        chamadoService.listarTodos(Status.EM_ANDAMENTO, null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve buscar chamado por ID com uma única instrução")
+    void deveBuscarPorIdComUmaInstrucao() {
+        ChamadoResponseDTO qualquer = chamadoService.listarTodos(null, null).get(0);
+        statistics.clear();
+
+        ChamadoResponseDTO chamado = chamadoService.buscarPorId(qualquer.id());
+
+        assertThat(chamado.nomeCliente()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor com uma única instrução por fatia")
+    void devePaginarComUmaInstrucaoPorFatia() {
+        chamadoService.listarFatia(null, null, null, 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
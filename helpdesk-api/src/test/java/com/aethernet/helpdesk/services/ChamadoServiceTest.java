@@ -0,0 +1,232 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.Cliente;
+import com.aethernet.helpdesk.domain.Tecnico;
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoSliceDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
+import com.aethernet.helpdesk.exceptions.StaleVersionException;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import com.aethernet.helpdesk.search.ChamadoSearchIndex;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ChamadoService")
+class ChamadoServiceTest {
+
+    @Mock
+    private ChamadoRepository chamadoRepository;
+    @Mock
+    private ClienteRepository clienteRepository;
+    @Mock
+    private TecnicoRepository tecnicoRepository;
+    @Mock
+    private ChamadoSearchIndex chamadoSearchIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ChamadoService chamadoService;
+
+    @Test
+    @DisplayName("Deve abrir chamado com sucesso")
+    void deveAbrirChamadoComSucesso() {
+        // Arrange
+        UUID clienteId = UUID.randomUUID();
+        Cliente cliente = new Cliente();
+        cliente.setId(clienteId);
+        cliente.setNome("João Silva");
+
+        ChamadoRequestDTO dto = new ChamadoRequestDTO(
+                Prioridade.ALTA,
+                "Impressora não está imprimindo",
+                "Impressora modelo XYZ",
+                clienteId,
+                null
+        );
+
+        Chamado chamadoSalvo = new Chamado();
+        chamadoSalvo.setId(UUID.randomUUID());
+        chamadoSalvo.setTitulo(dto.titulo());
+        chamadoSalvo.setObservacoes(dto.observacoes());
+        chamadoSalvo.setPrioridade(dto.prioridade());
+        chamadoSalvo.setStatus(Status.ABERTO);
+        chamadoSalvo.setCliente(cliente);
+
+        when(clienteRepository.getReferenceById(clienteId)).thenReturn(cliente);
+        when(chamadoRepository.saveAndFlush(any(Chamado.class))).thenReturn(chamadoSalvo);
+        when(chamadoRepository.findResponseById(chamadoSalvo.getId()))
+                .thenReturn(Optional.of(chamadoService.toResponseDTO(chamadoSalvo)));
+
+        // Act
+        ChamadoResponseDTO resultado = chamadoService.abrir(dto);
+
+        // Assert
+        assertThat(resultado).isNotNull();
+        assertThat(resultado.status()).isEqualTo(Status.ABERTO);
+        assertThat(resultado.nomeCliente()).isEqualTo("João Silva");
+        verify(chamadoRepository, times(1)).saveAndFlush(any(Chamado.class));
+        verify(clienteRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao abrir chamado para cliente inexistente")
+    void deveLancarExcecaoAoAbrirChamadoParaClienteInexistente() {
+        // Arrange
+        UUID clienteId = UUID.randomUUID();
+        ChamadoRequestDTO dto = new ChamadoRequestDTO(Prioridade.BAIXA, "Sem acesso", null, clienteId, null);
+
+        when(clienteRepository.getReferenceById(clienteId)).thenReturn(new Cliente());
+        when(chamadoRepository.saveAndFlush(any(Chamado.class))).thenThrow(new DataIntegrityViolationException(
+                "FK", new ConstraintViolationException("FK", null, "FK_CHAMADO_CLIENTE")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> chamadoService.abrir(dto))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining(clienteId.toString());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao tentar fechar chamado ABERTO diretamente")
+    void deveLancarExcecaoAoFecharChamadoAbertoDiretamente() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Chamado chamado = new Chamado();
+        chamado.setId(id);
+        chamado.setStatus(Status.ABERTO);
+
+        when(chamadoRepository.findById(id)).thenReturn(Optional.of(chamado));
+
+        // Act & Assert
+        assertThatThrownBy(() -> chamadoService.fechar(id))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining("apenas chamados EM_ANDAMENTO");
+    }
+
+    @Test
+    @DisplayName("Deve recusar alteração de status a partir de uma versão desatualizada")
+    void deveRecusarAlteracaoComVersaoDesatualizada() {
+        // Arrange: o Chamado em memória não tem a versão informada no If-Match
+        UUID id = UUID.randomUUID();
+        Chamado chamado = new Chamado();
+        chamado.setId(id);
+        chamado.setStatus(Status.EM_ANDAMENTO);
+
+        when(chamadoRepository.findById(id)).thenReturn(Optional.of(chamado));
+
+        // Act & Assert
+        assertThatThrownBy(() -> chamadoService.alterarStatus(id, Status.PAUSADO, 3L))
+                .isInstanceOf(StaleVersionException.class)
+                .hasMessageContaining("versão esperada 3");
+        assertThat(chamado.getStatus()).isEqualTo(Status.EM_ANDAMENTO);
+        verify(chamadoRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve atribuir técnico e mudar status para EM_ANDAMENTO automaticamente")
+    void deveAtribuirTecnicoEMudarStatusAutomaticamente() {
+        // Arrange
+        UUID chamadoId = UUID.randomUUID();
+        UUID tecnicoId = UUID.randomUUID();
+
+        Chamado chamado = new Chamado();
+        chamado.setId(chamadoId);
+        chamado.setStatus(Status.ABERTO);
+
+        Tecnico tecnico = new Tecnico();
+        tecnico.setId(tecnicoId);
+        tecnico.setNome("Carlos Tech");
+
+        when(chamadoRepository.findById(chamadoId)).thenReturn(Optional.of(chamado));
+        when(tecnicoRepository.findById(tecnicoId)).thenReturn(Optional.of(tecnico));
+        when(chamadoRepository.saveAndFlush(any(Chamado.class))).thenReturn(chamado);
+
+        // Act
+        ChamadoResponseDTO resultado = chamadoService.atribuirTecnico(chamadoId, tecnicoId);
+
+        // Assert
+        assertThat(resultado.status()).isEqualTo(Status.EM_ANDAMENTO);
+        assertThat(resultado.nomeTecnico()).isEqualTo("Carlos Tech");
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor da próxima fatia e continuar a partir dele")
+    void deveRetornarCursorDaProximaFatia() {
+        // Arrange
+        ChamadoResponseDTO ultimo = new ChamadoResponseDTO(
+                UUID.randomUUID(), LocalDateTime.of(2025, 1, 10, 8, 30), null,
+                Prioridade.ALTA, Status.ABERTO, "Impressora não imprime", null, "João Silva", null, 0L);
+
+        when(chamadoRepository.findPrimeiraFatia(PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(ultimo), PageRequest.of(0, 1), true));
+        when(chamadoRepository.findFatiaApos(ultimo.dataAbertura(), ultimo.id(), PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        // Act
+        ChamadoSliceDTO primeira = chamadoService.listarFatia(null, null, null, 1);
+        ChamadoSliceDTO segunda = chamadoService.listarFatia(null, null, primeira.proximoCursor(), 1);
+
+        // Assert
+        assertThat(primeira.itens()).hasSize(1);
+        assertThat(primeira.proximoCursor()).isNotNull();
+        assertThat(segunda.itens()).isEmpty();
+        assertThat(segunda.proximoCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve usar a consulta específica do filtro informado em cada fatia")
+    void deveUsarConsultaDoFiltroInformado() {
+        // Arrange
+        ChamadoResponseDTO ultimo = new ChamadoResponseDTO(
+                UUID.randomUUID(), LocalDateTime.of(2025, 1, 10, 8, 30), null,
+                Prioridade.ALTA, Status.ABERTO, "Impressora não imprime", null, "João Silva", null, 0L);
+
+        when(chamadoRepository.findPrimeiraFatiaByStatus(Status.ABERTO, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(ultimo), PageRequest.of(0, 1), true));
+        when(chamadoRepository.findFatiaAposByStatus(ultimo.dataAbertura(), ultimo.id(), Status.ABERTO, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        // Act
+        ChamadoSliceDTO primeira = chamadoService.listarFatia(Status.ABERTO, null, null, 1);
+        chamadoService.listarFatia(Status.ABERTO, null, primeira.proximoCursor(), 1);
+
+        // Assert
+        verify(chamadoRepository, never()).findPrimeiraFatia(any());
+        verify(chamadoRepository, never()).findFatiaApos(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor malformado")
+    void deveRejeitarCursorMalformado() {
+        assertThatThrownBy(() -> chamadoService.listarFatia(null, null, "não-é-um-cursor", 10))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining("Cursor inválido");
+    }
+}
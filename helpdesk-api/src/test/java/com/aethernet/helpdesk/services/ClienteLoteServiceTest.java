@@ -0,0 +1,75 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ClienteLoteDTO;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica o cadastro de Clientes em lote contra o banco, incluindo as consultas de unicidade.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cliente-lote",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Cadastro de Clientes em lote")
+class ClienteLoteServiceTest {
+
+    @Autowired
+    private ClienteLoteService clienteLoteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Deve cadastrar os clientes válidos e reportar as falhas por posição")
+    void deveCadastrarValidosEReportarFalhas() {
+        // Arrange
+        List<ClienteRequestDTO> lote = List.of(
+                new ClienteRequestDTO("Empresa Um", "20000000001", "um@empresa.com", "senha123"),
+                new ClienteRequestDTO("João Duplicado", "12345678901", "novo@empresa.com", "senha123"),
+                new ClienteRequestDTO("Empresa Dois", "20000000002", "dois@empresa.com", "senha123"),
+                new ClienteRequestDTO("Repetido no Lote", "20000000001", "tres@empresa.com", "senha123"),
+                new ClienteRequestDTO("Email do Técnico", "20000000004", "carlos@aethernet.com", "senha123"),
+                new ClienteRequestDTO("Email Inválido", "20000000005", "nao-e-email", "senha123")
+        );
+        long clientesAntes = clienteRepository.count();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ClienteLoteDTO resultado = clienteLoteService.criarEmLote(lote);
+
+        // Assert
+        assertThat(resultado.criados()).isEqualTo(2);
+        assertThat(resultado.rejeitados()).isEqualTo(4);
+        assertThat(resultado.resultados()).extracting(ClienteLoteDTO.Resultado::erro).containsExactly(
+                null,
+                "CPF já cadastrado: 12345678901",
+                null,
+                "CPF repetido no lote: 20000000001",
+                "E-mail já cadastrado: carlos@aethernet.com",
+                "Email inválido");
+        assertThat(resultado.resultados().get(0).id()).isNotNull();
+        // Duas cargas dos conjuntos e apenas uma confirmação por CPF/Email encontrado
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(4);
+        assertThat(clienteRepository.count()).isEqualTo(clientesAntes + 2);
+        assertThat(clienteRepository.findById(resultado.resultados().get(2).id()))
+                .get().extracting(c -> c.getEmail()).isEqualTo("dois@empresa.com");
+    }
+}
@@ -6,12 +6,14 @@ import com.aethernet.helpdesk.domain.dto.response.ClienteResponseDTO;
 import com.aethernet.helpdesk.exceptions.DuplicateEntityException;
 import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
 import com.aethernet.helpdesk.repositories.ClienteRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -47,9 +49,7 @@ class ClienteServiceTest {
         clienteSalvo.setCpf(dto.cpf());
         clienteSalvo.setEmail(dto.email());
 
-        when(clienteRepository.existsByCpf(dto.cpf())).thenReturn(false);
-        when(clienteRepository.existsByEmail(dto.email())).thenReturn(false);
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(clienteSalvo);
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenReturn(clienteSalvo);
 
         // Act
         ClienteResponseDTO resultado = clienteService.criar(dto);
@@ -58,7 +58,9 @@ class ClienteServiceTest {
         assertThat(resultado).isNotNull();
         assertThat(resultado.nome()).isEqualTo("João Silva");
         assertThat(resultado.cpf()).isEqualTo("123.456.789-00");
-        verify(clienteRepository, times(1)).save(any(Cliente.class));
+        verify(clienteRepository, times(1)).saveAndFlush(any(Cliente.class));
+        verify(clienteRepository, never()).existsByCpf(any());
+        verify(clienteRepository, never()).existsByEmail(any());
     }
 
     @Test
@@ -72,14 +74,13 @@ class ClienteServiceTest {
                 "senha123"
         );
 
-        when(clienteRepository.existsByCpf(dto.cpf())).thenReturn(true);
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenThrow(new DataIntegrityViolationException(
+                "CPF", new ConstraintViolationException("CPF", null, "PUBLIC.UK_PESSOA_CPF_INDEX_8")));
 
         // Act & Assert
         assertThatThrownBy(() -> clienteService.criar(dto))
                 .isInstanceOf(DuplicateEntityException.class)
                 .hasMessageContaining("CPF já cadastrado");
-
-        verify(clienteRepository, never()).save(any(Cliente.class));
     }
 
     @Test
@@ -0,0 +1,125 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara a latência da criação de Clientes com e sem as consultas de unicidade prévias,
+ * sob carga concorrente.
+ *
+ * Não faz parte da suíte (o nome não segue o padrão do Surefire); execute com
+ * {@code mvn test -Dtest=EscritaLatenciaBenchmark}. O modo "com consultas" reproduz o
+ * caminho anterior: {@code existsByCpf} e {@code existsByEmail} seguidos do INSERT, na mesma
+ * transação. Contra o H2 em memória a diferença mede apenas o custo das instruções; com um
+ * banco remoto cada consulta evitada economiza também uma ida e volta na rede.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:escrita-latencia",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Benchmark de latência da criação de Clientes")
+class EscritaLatenciaBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(EscritaLatenciaBenchmark.class);
+
+    private static final int THREADS = 8;
+    private static final int AQUECIMENTO_POR_THREAD = 200;
+    private static final int MEDICOES_POR_THREAD = 1000;
+
+    private final AtomicLong sequencia = new AtomicLong(40_000_000_000L);
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve reduzir o p99 da criação de clientes sem as consultas prévias")
+    void compararLatencia() throws Exception {
+        Consumer<ClienteRequestDTO> comConsultas = dto -> transactionTemplate.executeWithoutResult(status -> {
+            if (clienteRepository.existsByCpf(dto.cpf()) || clienteRepository.existsByEmail(dto.email())) {
+                throw new IllegalStateException("Duplicado");
+            }
+            clienteService.criar(dto);
+        });
+        Consumer<ClienteRequestDTO> semConsultas = clienteService::criar;
+
+        // Aquecimento (JIT, pool de conexões, planos do H2)
+        medir(comConsultas, AQUECIMENTO_POR_THREAD);
+        medir(semConsultas, AQUECIMENTO_POR_THREAD);
+
+        long[] antes = medir(comConsultas, MEDICOES_POR_THREAD);
+        long[] depois = medir(semConsultas, MEDICOES_POR_THREAD);
+
+        log.info("Criação de clientes, {} threads x {} operações", THREADS, MEDICOES_POR_THREAD);
+        log.info("  com consultas prévias: {}", resumo(antes));
+        log.info("  sem consultas prévias: {}", resumo(depois));
+        assertThat(percentil(depois, 0.99)).isLessThan(percentil(antes, 0.99));
+    }
+
+    /** Executa as operações em {@value #THREADS} threads e devolve as latências (ns) ordenadas. */
+    private long[] medir(Consumer<ClienteRequestDTO> operacao, int porThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futuros = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futuros.add(executor.submit(() -> {
+                    long[] latencias = new long[porThread];
+                    for (int i = 0; i < porThread; i++) {
+                        long n = sequencia.incrementAndGet();
+                        ClienteRequestDTO dto = new ClienteRequestDTO(
+                                "Cliente " + n, String.valueOf(n), "cliente" + n + "@bench.com", "senha123");
+                        long inicio = System.nanoTime();
+                        operacao.accept(dto);
+                        latencias[i] = System.nanoTime() - inicio;
+                    }
+                    return latencias;
+                }));
+            }
+            long[] todas = new long[THREADS * porThread];
+            for (int t = 0; t < THREADS; t++) {
+                System.arraycopy(futuros.get(t).get(), 0, todas, t * porThread, porThread);
+            }
+            Arrays.sort(todas);
+            return todas;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long percentil(long[] ordenadas, double p) {
+        return ordenadas[(int) Math.ceil(p * ordenadas.length) - 1];
+    }
+
+    private static String resumo(long[] ordenadas) {
+        return String.format(Locale.ROOT, "p50 = %.3f ms, p99 = %.3f ms, máx = %.3f ms",
+                percentil(ordenadas, 0.50) / 1e6, percentil(ordenadas, 0.99) / 1e6,
+                ordenadas[ordenadas.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,150 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.OutboxEvento;
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.request.ClienteRequestDTO;
+import com.aethernet.helpdesk.domain.dto.request.TecnicoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.exceptions.DuplicateEntityException;
+import com.aethernet.helpdesk.exceptions.EntityNotFoundException;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.repositories.OutboxEventoRepository;
+import com.aethernet.helpdesk.repositories.TecnicoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica, contra o banco, as escritas validadas pelas restrições (sem consultas prévias).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:escrita-restricoes",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Escritas validadas pelas restrições do banco")
+class EscritaRestricoesTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private TecnicoService tecnicoService;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TecnicoRepository tecnicoRepository;
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Deve criar cliente sem nenhuma consulta prévia")
+    void deveCriarClienteSemConsultas() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        clienteService.criar(new ClienteRequestDTO("Paula Souza", "30000000001", "paula@email.com", "senha123"));
+
+        // Assert: um único INSERT em pessoa, sem SELECTs
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve traduzir CPF e email duplicados em DuplicateEntityException")
+    void deveTraduzirDuplicidade() {
+        // CPF de um técnico do DataLoader: a restrição vale para todas as Pessoas
+        assertThatThrownBy(() -> clienteService.criar(
+                new ClienteRequestDTO("Outro Carlos", "11122233344", "outro@email.com", "senha123")))
+                .isInstanceOf(DuplicateEntityException.class)
+                .hasMessage("CPF já cadastrado no sistema");
+
+        assertThatThrownBy(() -> tecnicoService.criar(
+                new TecnicoRequestDTO("Outra Maria", "30000000002", "maria@email.com", "senha123", null)))
+                .isInstanceOf(DuplicateEntityException.class)
+                .hasMessage("E-mail já cadastrado no sistema");
+    }
+
+    @Test
+    @DisplayName("Deve abrir chamado com um INSERT e uma leitura da resposta")
+    void deveAbrirChamadoComDuasInstrucoes() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ChamadoResponseDTO chamado = chamadoService.abrir(new ChamadoRequestDTO(
+                Prioridade.MEDIA, "Monitor piscando", null, clienteId, tecnicoId));
+
+        // Assert
+        assertThat(chamado.status()).isEqualTo(Status.EM_ANDAMENTO);
+        assertThat(chamado.nomeCliente()).isNotNull();
+        assertThat(chamado.nomeTecnico()).isNotNull();
+        // O evento da outbox é inserido em lote JDBC antes do commit, fora das instruções do Hibernate
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(outboxEventoRepository.findByChamadoIdOrderByIdAsc(chamado.id()))
+                .extracting(OutboxEvento::getTipo)
+                .containsExactly(ChamadoAlteradoEvent.Tipo.ABERTO);
+    }
+
+    @Test
+    @DisplayName("Deve traduzir referência inexistente em EntityNotFoundException")
+    void deveTraduzirReferenciaInexistente() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        UUID inexistente = UUID.randomUUID();
+
+        // Act & Assert
+        assertThatThrownBy(() -> chamadoService.abrir(new ChamadoRequestDTO(
+                Prioridade.BAIXA, "Teclado", null, inexistente, null)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Cliente");
+        assertThatThrownBy(() -> chamadoService.abrir(new ChamadoRequestDTO(
+                Prioridade.BAIXA, "Teclado", null, clienteId, inexistente)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Técnico");
+    }
+
+    @Test
+    @DisplayName("Deve recusar uma Pessoa do tipo errado como Cliente ou Técnico do Chamado")
+    void deveRecusarPessoaDoTipoErrado() {
+        // Arrange
+        UUID clienteId = clienteRepository.findAll().get(0).getId();
+        UUID tecnicoId = tecnicoRepository.findAll().get(0).getId();
+
+        // Act & Assert
+        assertThatThrownBy(() -> chamadoService.abrir(new ChamadoRequestDTO(
+                Prioridade.BAIXA, "Teclado", null, clienteId, clienteId)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Técnico");
+        assertThatThrownBy(() -> chamadoService.abrir(new ChamadoRequestDTO(
+                Prioridade.BAIXA, "Teclado", null, tecnicoId, null)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Cliente");
+    }
+}
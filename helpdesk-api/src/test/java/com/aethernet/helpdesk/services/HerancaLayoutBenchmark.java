@@ -0,0 +1,257 @@
+package com.aethernet.helpdesk.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara a vazão de leitura e escrita das Pessoas nos dois layouts de herança:
+ * JOINED (pessoa + cliente/tecnico) e SINGLE_TABLE (pessoa com a coluna tipo).
+ *
+ * Não faz parte da suíte (o nome não segue o padrão do Surefire); execute com
+ * {@code mvn test -Dtest=HerancaLayoutBenchmark}. Os dois schemas são criados lado a lado
+ * no mesmo H2 em memória, com a mesma massa de dados, e medidos com as instruções que o
+ * Hibernate emite em cada layout: a listagem de Chamados com os nomes de Cliente e Técnico,
+ * a busca de Cliente por ID e o cadastro de Clientes.
+ */
+@DisplayName("Benchmark dos layouts de herança de Pessoa")
+class HerancaLayoutBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(HerancaLayoutBenchmark.class);
+
+    private static final int CLIENTES = 5_000;
+    private static final int TECNICOS = 100;
+    private static final int CHAMADOS = 50_000;
+    private static final int AQUECIMENTO = 200;
+    private static final int MEDICOES = 2_000;
+    private static final int CADASTROS = 5_000;
+
+    private static final String LISTAGEM_JOINED = """
+            SELECT c.id, c.titulo, pc.nome, pt.nome
+            FROM j_chamado c
+            JOIN j_cliente cl ON cl.id = c.cliente_id JOIN j_pessoa pc ON pc.id = cl.id
+            LEFT JOIN j_tecnico t ON t.id = c.tecnico_id LEFT JOIN j_pessoa pt ON pt.id = t.id
+            WHERE c.status = ?
+            ORDER BY c.data_abertura, c.id
+            LIMIT 50
+            """;
+
+    private static final String LISTAGEM_SINGLE = """
+            SELECT c.id, c.titulo, pc.nome, pt.nome
+            FROM s_chamado c
+            JOIN s_pessoa pc ON pc.id = c.cliente_id AND pc.tipo = 'CLIENTE'
+            LEFT JOIN s_pessoa pt ON pt.id = c.tecnico_id AND pt.tipo = 'TECNICO'
+            WHERE c.status = ?
+            ORDER BY c.data_abertura, c.id
+            LIMIT 50
+            """;
+
+    private static final String BUSCA_JOINED = """
+            SELECT p.id, p.nome, p.cpf, p.email, p.perfis
+            FROM j_cliente cl JOIN j_pessoa p ON p.id = cl.id
+            WHERE cl.id = ?
+            """;
+
+    private static final String BUSCA_SINGLE = """
+            SELECT p.id, p.nome, p.cpf, p.email, p.perfis
+            FROM s_pessoa p
+            WHERE p.id = ? AND p.tipo = 'CLIENTE'
+            """;
+
+    private static final String[] STATUS = {"ABERTO", "EM_ANDAMENTO", "PAUSADO", "ENCERRADO", "CANCELADO"};
+
+    private Connection conexao;
+    private UUID[] clientes;
+    private long sequencia = 90_000_000_000L;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        conexao = DriverManager.getConnection("jdbc:h2:mem:heranca-layout;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement st = conexao.createStatement()) {
+            st.execute("CREATE TABLE j_pessoa (id UUID PRIMARY KEY, nome VARCHAR(255), cpf VARCHAR(11) UNIQUE, "
+                    + "email VARCHAR(255) UNIQUE, perfis INTEGER NOT NULL)");
+            st.execute("CREATE TABLE j_cliente (id UUID PRIMARY KEY REFERENCES j_pessoa (id))");
+            st.execute("CREATE TABLE j_tecnico (id UUID PRIMARY KEY REFERENCES j_pessoa (id))");
+            st.execute("CREATE TABLE j_chamado (id UUID PRIMARY KEY, titulo VARCHAR(255), status VARCHAR(20), "
+                    + "data_abertura TIMESTAMP(6), cliente_id UUID NOT NULL REFERENCES j_cliente (id), "
+                    + "tecnico_id UUID REFERENCES j_tecnico (id))");
+            st.execute("CREATE INDEX j_idx_chamado_status ON j_chamado (status, data_abertura, id)");
+
+            st.execute("CREATE TABLE s_pessoa (id UUID PRIMARY KEY, tipo VARCHAR(20) NOT NULL, nome VARCHAR(255), "
+                    + "cpf VARCHAR(11) UNIQUE, email VARCHAR(255) UNIQUE, perfis INTEGER NOT NULL)");
+            st.execute("CREATE TABLE s_chamado (id UUID PRIMARY KEY, titulo VARCHAR(255), status VARCHAR(20), "
+                    + "data_abertura TIMESTAMP(6), cliente_id UUID NOT NULL REFERENCES s_pessoa (id), "
+                    + "tecnico_id UUID REFERENCES s_pessoa (id))");
+            st.execute("CREATE INDEX s_idx_chamado_status ON s_chamado (status, data_abertura, id)");
+        }
+        popular();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement st = conexao.createStatement()) {
+            st.execute("DROP ALL OBJECTS");
+        }
+        conexao.close();
+    }
+
+    @Test
+    @DisplayName("Deve ler e gravar Pessoas mais rápido em tabela única")
+    void compararLayouts() throws SQLException {
+        // Aquecimento (JIT e planos do H2)
+        listar(LISTAGEM_JOINED, AQUECIMENTO);
+        listar(LISTAGEM_SINGLE, AQUECIMENTO);
+        buscar(BUSCA_JOINED, AQUECIMENTO);
+        buscar(BUSCA_SINGLE, AQUECIMENTO);
+
+        double listagemJoined = listar(LISTAGEM_JOINED, MEDICOES);
+        double listagemSingle = listar(LISTAGEM_SINGLE, MEDICOES);
+        double buscaJoined = buscar(BUSCA_JOINED, MEDICOES * 10);
+        double buscaSingle = buscar(BUSCA_SINGLE, MEDICOES * 10);
+        double cadastroJoined = cadastrar(true, CADASTROS);
+        double cadastroSingle = cadastrar(false, CADASTROS);
+
+        log.info("Layouts de herança: {} clientes, {} técnicos, {} chamados", CLIENTES, TECNICOS, CHAMADOS);
+        log.info("  listagem de chamados (50 por página): {}", resumo(listagemJoined, listagemSingle));
+        log.info("  busca de cliente por ID:               {}", resumo(buscaJoined, buscaSingle));
+        log.info("  cadastro de cliente:                   {}", resumo(cadastroJoined, cadastroSingle));
+        assertThat(listagemSingle).isGreaterThan(listagemJoined);
+        assertThat(cadastroSingle).isGreaterThan(cadastroJoined);
+    }
+
+    // === MEDIÇÕES (operações por segundo) ===
+
+    private double listar(String sql, int vezes) throws SQLException {
+        long inicio = System.nanoTime();
+        try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+            for (int i = 0; i < vezes; i++) {
+                ps.setString(1, STATUS[i % STATUS.length]);
+                consumir(ps);
+            }
+        }
+        return vezes / ((System.nanoTime() - inicio) / 1e9);
+    }
+
+    private double buscar(String sql, int vezes) throws SQLException {
+        long inicio = System.nanoTime();
+        try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+            for (int i = 0; i < vezes; i++) {
+                ps.setObject(1, clientes[(i * 7919) % clientes.length]);
+                consumir(ps);
+            }
+        }
+        return vezes / ((System.nanoTime() - inicio) / 1e9);
+    }
+
+    /** Cada cadastro é uma transação, como em {@code ClienteService.criar}. */
+    private double cadastrar(boolean joined, int vezes) throws SQLException {
+        conexao.setAutoCommit(false);
+        long inicio = System.nanoTime();
+        try {
+            for (int i = 0; i < vezes; i++) {
+                inserirPessoa(joined, "CLIENTE", UUID.randomUUID(), 2);
+                conexao.commit();
+            }
+        } finally {
+            conexao.setAutoCommit(true);
+        }
+        return vezes / ((System.nanoTime() - inicio) / 1e9);
+    }
+
+    // === MASSA DE DADOS ===
+
+    private void popular() throws SQLException {
+        conexao.setAutoCommit(false);
+        clientes = new UUID[CLIENTES];
+        UUID[] tecnicos = new UUID[TECNICOS];
+        for (int i = 0; i < CLIENTES; i++) {
+            clientes[i] = UUID.randomUUID();
+            inserirPessoa(true, "CLIENTE", clientes[i], 2);
+            inserirPessoa(false, "CLIENTE", clientes[i], 2);
+        }
+        for (int i = 0; i < TECNICOS; i++) {
+            tecnicos[i] = UUID.randomUUID();
+            inserirPessoa(true, "TECNICO", tecnicos[i], 4);
+            inserirPessoa(false, "TECNICO", tecnicos[i], 4);
+        }
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        try (PreparedStatement j = conexao.prepareStatement("INSERT INTO j_chamado VALUES (?, ?, ?, ?, ?, ?)");
+             PreparedStatement s = conexao.prepareStatement("INSERT INTO s_chamado VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < CHAMADOS; i++) {
+                UUID tecnico = i % 3 == 0 ? null : tecnicos[i % TECNICOS];
+                for (PreparedStatement ps : new PreparedStatement[]{j, s}) {
+                    ps.setObject(1, UUID.randomUUID());
+                    ps.setString(2, "Chamado " + i);
+                    ps.setString(3, STATUS[i % STATUS.length]);
+                    ps.setTimestamp(4, Timestamp.valueOf(base.plusMinutes(i)));
+                    ps.setObject(5, clientes[i % CLIENTES]);
+                    ps.setObject(6, tecnico);
+                    ps.addBatch();
+                }
+                if (i % 1000 == 999) {
+                    j.executeBatch();
+                    s.executeBatch();
+                }
+            }
+            j.executeBatch();
+            s.executeBatch();
+        }
+        conexao.commit();
+        conexao.setAutoCommit(true);
+    }
+
+    /** Insere a Pessoa com as instruções de cada layout: JOINED grava duas linhas, SINGLE_TABLE uma. */
+    private void inserirPessoa(boolean joined, String tipo, UUID id, int perfis) throws SQLException {
+        long n = sequencia++;
+        String sql = joined
+                ? "INSERT INTO j_pessoa (id, nome, cpf, email, perfis) VALUES (?, ?, ?, ?, ?)"
+                : "INSERT INTO s_pessoa (id, nome, cpf, email, perfis, tipo) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+            ps.setObject(1, id);
+            ps.setString(2, "Pessoa " + n);
+            ps.setString(3, String.valueOf(n));
+            ps.setString(4, "pessoa" + n + "@bench.com");
+            ps.setInt(5, perfis);
+            if (!joined) {
+                ps.setString(6, tipo);
+            }
+            ps.executeUpdate();
+        }
+        if (joined) {
+            String subclasse = tipo.equals("CLIENTE") ? "j_cliente" : "j_tecnico";
+            try (PreparedStatement ps = conexao.prepareStatement("INSERT INTO " + subclasse + " (id) VALUES (?)")) {
+                ps.setObject(1, id);
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    private static void consumir(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rs.getString(3);
+            }
+        }
+    }
+
+    private static String resumo(double joined, double single) {
+        return String.format(Locale.ROOT, "JOINED = %.0f op/s, SINGLE_TABLE = %.0f op/s (%.2fx)",
+                joined, single, single / joined);
+    }
+}
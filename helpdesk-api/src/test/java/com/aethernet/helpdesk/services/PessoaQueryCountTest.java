@@ -0,0 +1,85 @@
+package com.aethernet.helpdesk.services;
+
+import com.aethernet.helpdesk.domain.dto.request.TecnicoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ClienteResponseDTO;
+import com.aethernet.helpdesk.domain.dto.response.TecnicoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Perfil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica que as listagens de Clientes e Técnicos leem os perfis da própria linha da Pessoa,
+ * usando os dados carregados pelo {@code DataLoader}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pessoa-query-count",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Contagem de instruções SQL das leituras de Pessoa")
+class PessoaQueryCountTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private TecnicoService tecnicoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar todos os clientes, com seus perfis, em uma única instrução")
+    void deveListarClientesComUmaInstrucao() {
+        List<ClienteResponseDTO> clientes = clienteService.listarTodos();
+
+        assertThat(clientes).isNotEmpty();
+        assertThat(clientes).allMatch(c -> c.perfis().contains(Perfil.CLIENTE));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve listar todos os técnicos, com seus perfis, em uma única instrução")
+    void deveListarTecnicosComUmaInstrucao() {
+        List<TecnicoResponseDTO> tecnicos = tecnicoService.listarTodos();
+
+        assertThat(tecnicos).isNotEmpty();
+        assertThat(tecnicos).allMatch(t -> t.perfis().contains(Perfil.TECNICO));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve gravar a substituição dos perfis do técnico")
+    void deveGravarSubstituicaoDePerfis() {
+        // Arrange
+        UUID id = tecnicoService.criar(new TecnicoRequestDTO(
+                "Técnico Perfis", "50000000001", "perfis@email.com", "senha123", null)).id();
+
+        // Act
+        tecnicoService.atualizar(id, new TecnicoRequestDTO(
+                "Técnico Perfis", "50000000001", "perfis@email.com", null, Set.of(Perfil.TECNICO, Perfil.ADMIN)));
+
+        // Assert
+        assertThat(tecnicoService.buscarPorId(id).perfis()).containsExactlyInAnyOrder(Perfil.TECNICO, Perfil.ADMIN);
+    }
+}
@@ -0,0 +1,171 @@
+package com.aethernet.helpdesk.sla;
+
+import com.aethernet.helpdesk.domain.dto.response.SlaPrazoDTO;
+import com.aethernet.helpdesk.domain.dto.response.SlaResumoDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.enums.TipoPrazoSla;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Situacao;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do ChamadoSlaTracker")
+class ChamadoSlaTrackerTest {
+
+    private static final ZoneId ZONA = ZoneOffset.UTC;
+
+    private final UUID chamadoId = UUID.randomUUID();
+
+    private ChamadoRepository chamadoRepository;
+    private MutableClock clock;
+    private ChamadoSlaTracker tracker;
+    private long versao;
+
+    /** Relógio controlado pelo teste. */
+    private static final class MutableClock extends Clock {
+        private Instant agora = Instant.parse("2026-01-05T09:00:00Z");
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONA;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        chamadoRepository = mock(ChamadoRepository.class);
+        clock = new MutableClock();
+        // ALTA: resposta em 30 min, resolução em 240 min
+        SlaPolicy policy = new SlaPolicy(30, 240, 120, 1440, 480, 4320);
+        tracker = new ChamadoSlaTracker(chamadoRepository, policy, clock, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Deve registrar violação de resposta de chamado que continua ABERTO")
+    void deveRegistrarViolacaoDeResposta() {
+        // Arrange
+        alterar(null, Status.ABERTO);
+
+        // Act
+        clock.avancar(Duration.ofMinutes(30));
+        tracker.avancar();
+        SlaResumoDTO resumo = tracker.resumo();
+
+        // Assert
+        assertThat(resumo.violacoes().get(TipoPrazoSla.RESPOSTA)).containsEntry(Prioridade.ALTA, 1L);
+        assertThat(resumo.violados()).extracting(SlaPrazoDTO::tipo).containsExactly(TipoPrazoSla.RESPOSTA);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar o prazo de resposta quando o chamado entra EM_ANDAMENTO")
+    void deveCancelarRespostaAoIniciarAtendimento() {
+        // Arrange
+        alterar(null, Status.ABERTO);
+        clock.avancar(Duration.ofMinutes(10));
+        alterar(Status.ABERTO, Status.EM_ANDAMENTO);
+
+        // Act
+        clock.avancar(Duration.ofMinutes(60));
+        tracker.avancar();
+
+        // Assert
+        assertThat(tracker.resumo().totalViolados()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descontar o tempo PAUSADO do prazo de resolução")
+    void deveDescontarTempoPausado() {
+        // Arrange
+        alterar(null, Status.EM_ANDAMENTO);
+        clock.avancar(Duration.ofMinutes(60));
+        alterar(Status.EM_ANDAMENTO, Status.PAUSADO);
+        clock.avancar(Duration.ofMinutes(300));
+        tracker.avancar();
+        alterar(Status.PAUSADO, Status.EM_ANDAMENTO);
+
+        // Act / Assert: faltavam 180 min quando pausou
+        clock.avancar(Duration.ofMinutes(179));
+        tracker.avancar();
+        assertThat(tracker.resumo().totalViolados()).isZero();
+        assertThat(tracker.resumo().emRisco()).extracting(SlaPrazoDTO::prazo)
+                .containsExactly(LocalDateTime.ofInstant(clock.instant().plus(Duration.ofMinutes(1)), ZONA));
+
+        clock.avancar(Duration.ofMinutes(1));
+        tracker.avancar();
+        assertThat(tracker.resumo().violacoes().get(TipoPrazoSla.RESOLUCAO)).containsEntry(Prioridade.ALTA, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o acompanhamento quando o chamado é ENCERRADO")
+    void deveEncerrarAcompanhamento() {
+        // Arrange
+        alterar(null, Status.EM_ANDAMENTO);
+        alterar(Status.EM_ANDAMENTO, Status.ENCERRADO);
+
+        // Act
+        clock.avancar(Duration.ofDays(1));
+        tracker.avancar();
+
+        // Assert
+        SlaResumoDTO resumo = tracker.resumo();
+        assertThat(resumo.totalViolados()).isZero();
+        assertThat(resumo.violacoes().get(TipoPrazoSla.RESOLUCAO)).containsEntry(Prioridade.ALTA, 0L);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir os prazos a partir da data de abertura dos chamados em aberto")
+    void deveReconstruirAPartirDoBanco() {
+        // Arrange: aberto há 40 min, já passou do prazo de resposta
+        LocalDateTime abertura = LocalDateTime.ofInstant(clock.instant().minus(Duration.ofMinutes(40)), ZONA);
+        when(chamadoRepository.findPrazosByStatusNotIn(any())).thenReturn(List.of(
+                new ChamadoPrazo(chamadoId, Status.ABERTO, Prioridade.ALTA, abertura)));
+
+        // Act
+        tracker.reconstruir();
+        tracker.avancar();
+
+        // Assert
+        SlaResumoDTO resumo = tracker.resumo();
+        assertThat(resumo.violacoes().get(TipoPrazoSla.RESPOSTA)).containsEntry(Prioridade.ALTA, 1L);
+        assertThat(resumo.totalEmRisco()).isZero();
+    }
+
+    private void alterar(Status anterior, Status atual) {
+        tracker.aoAlterarChamado(new ChamadoAlteradoEvent(chamadoId,
+                anterior != null ? ChamadoAlteradoEvent.Tipo.STATUS_ALTERADO : ChamadoAlteradoEvent.Tipo.ABERTO,
+                "VPN", null,
+                anterior != null ? new Situacao(anterior, Prioridade.ALTA, null) : null,
+                new Situacao(atual, Prioridade.ALTA, null),
+                versao++, LocalDateTime.now(clock)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.aethernet.helpdesk.sla;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do HierarchicalTimingWheel")
+class HierarchicalTimingWheelTest {
+
+    private static final long INICIO = 1_700_000_000_000L;
+
+    private HierarchicalTimingWheel<String> roda;
+
+    @BeforeEach
+    void setUp() {
+        roda = new HierarchicalTimingWheel<>(1000, INICIO);
+    }
+
+    @Test
+    @DisplayName("Deve vencer cada prazo no tick do prazo, em todos os níveis")
+    void deveVencerNoTickDoPrazo() {
+        // Arrange: distâncias no nível 0, no limite entre níveis e nos níveis superiores
+        long[] segundos = {1, 63, 64, 65, 4095, 4096, 300_000, 20_000_000};
+        for (long s : segundos) {
+            roda.agendar("p" + s, INICIO + s * 1000);
+        }
+
+        // Act / Assert
+        for (long s : segundos) {
+            assertThat(roda.avancar(INICIO + s * 1000 - 1)).isEmpty();
+            assertThat(roda.avancar(INICIO + s * 1000)).containsExactly("p" + s);
+        }
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve devolver os prazos em ordem ao avançar vários ticks de uma vez")
+    void deveDevolverEmOrdemAoSaltar() {
+        // Arrange
+        roda.agendar("c", INICIO + 5_000_000);
+        roda.agendar("a", INICIO + 70_000);
+        roda.agendar("b", INICIO + 70_000 * 64);
+
+        // Act
+        List<String> vencidos = roda.avancar(INICIO + 10_000_000);
+
+        // Assert
+        assertThat(vencidos).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("Não deve vencer prazos cancelados ou reagendados")
+    void naoDeveVencerCancelados() {
+        // Arrange
+        roda.agendar("cancelado", INICIO + 10_000);
+        roda.agendar("reagendado", INICIO + 10_000);
+        roda.cancelar("cancelado");
+        roda.agendar("reagendado", INICIO + 200_000);
+
+        // Act / Assert
+        assertThat(roda.avancar(INICIO + 100_000)).isEmpty();
+        assertThat(roda.avancar(INICIO + 200_000)).containsExactly("reagendado");
+    }
+
+    @Test
+    @DisplayName("Deve vencer na próxima chamada prazos já passados")
+    void deveVencerPrazosPassados() {
+        // Arrange
+        roda.agendar("passado", INICIO - 60_000);
+
+        // Act / Assert
+        assertThat(roda.avancar(INICIO)).containsExactly("passado");
+    }
+
+    @Test
+    @DisplayName("Deve manter prazos além do último nível até alcançá-los")
+    void deveManterExcedentes() {
+        // Arrange: 64^4 ticks é o alcance dos níveis
+        long alcance = 1L << (HierarchicalTimingWheel.BITS * HierarchicalTimingWheel.NIVEIS);
+        long prazo = INICIO + (alcance + 100) * 1000;
+        roda.agendar("distante", prazo);
+
+        // Act
+        List<String> vencidos = new ArrayList<>(roda.avancar(prazo - 1000));
+        vencidos.addAll(roda.avancar(prazo));
+
+        // Assert
+        assertThat(vencidos).containsExactly("distante");
+    }
+}
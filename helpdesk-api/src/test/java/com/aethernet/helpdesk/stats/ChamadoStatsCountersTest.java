@@ -0,0 +1,85 @@
+package com.aethernet.helpdesk.stats;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoStatsDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent;
+import com.aethernet.helpdesk.domain.events.ChamadoAlteradoEvent.Situacao;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do ChamadoStatsCounters")
+class ChamadoStatsCountersTest {
+
+    private final UUID tecnicoId = UUID.randomUUID();
+
+    private ChamadoRepository chamadoRepository;
+    private ChamadoStatsCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        chamadoRepository = mock(ChamadoRepository.class);
+        counters = new ChamadoStatsCounters(chamadoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os totais do banco na reconciliação")
+    void deveCarregarTotaisNaReconciliacao() {
+        // Arrange
+        when(chamadoRepository.contarPorStatusPrioridadeETecnico()).thenReturn(List.of(
+                new ChamadoContagem(Status.ABERTO, Prioridade.ALTA, null, 3),
+                new ChamadoContagem(Status.EM_ANDAMENTO, Prioridade.ALTA, tecnicoId, 2)
+        ));
+
+        // Act
+        counters.reconciliar();
+        ChamadoStatsDTO stats = counters.totais();
+
+        // Assert
+        assertThat(stats.total()).isEqualTo(5);
+        assertThat(stats.porStatus()).containsEntry(Status.ABERTO, 3L).containsEntry(Status.ENCERRADO, 0L);
+        assertThat(stats.porPrioridade()).containsEntry(Prioridade.ALTA, 5L).containsEntry(Prioridade.BAIXA, 0L);
+        assertThat(stats.porStatusEPrioridade().get(Status.EM_ANDAMENTO)).containsEntry(Prioridade.ALTA, 2L);
+        assertThat(stats.porTecnico()).containsExactlyEntriesOf(Map.of(tecnicoId, 2L));
+        assertThat(stats.semTecnico()).isEqualTo(3);
+        assertThat(stats.ultimaReconciliacao()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve mover a contagem entre células a cada alteração")
+    void deveMoverContagemEntreCelulas() {
+        // Arrange
+        UUID chamadoId = UUID.randomUUID();
+        Situacao aberto = new Situacao(Status.ABERTO, Prioridade.MEDIA, null);
+        Situacao atribuido = new Situacao(Status.EM_ANDAMENTO, Prioridade.MEDIA, tecnicoId);
+        Situacao encerrado = new Situacao(Status.ENCERRADO, Prioridade.MEDIA, tecnicoId);
+
+        // Act
+        counters.aoAlterarChamado(new ChamadoAlteradoEvent(chamadoId, ChamadoAlteradoEvent.Tipo.ABERTO, "t", null, null, aberto, 0L, LocalDateTime.now()));
+        counters.aoAlterarChamado(new ChamadoAlteradoEvent(chamadoId, ChamadoAlteradoEvent.Tipo.TECNICO_ATRIBUIDO, "t", null, aberto, atribuido, 1L, LocalDateTime.now()));
+        counters.aoAlterarChamado(new ChamadoAlteradoEvent(chamadoId, ChamadoAlteradoEvent.Tipo.FECHADO, "t", null, atribuido, encerrado, 2L, LocalDateTime.now()));
+        // Alteração apenas textual não mexe nos contadores
+        counters.aoAlterarChamado(new ChamadoAlteradoEvent(chamadoId, ChamadoAlteradoEvent.Tipo.ATUALIZADO, "novo", null, encerrado, encerrado, 3L, LocalDateTime.now()));
+
+        // Assert
+        ChamadoStatsDTO stats = counters.totais();
+        assertThat(stats.total()).isEqualTo(1);
+        assertThat(stats.porStatus())
+                .containsEntry(Status.ABERTO, 0L)
+                .containsEntry(Status.EM_ANDAMENTO, 0L)
+                .containsEntry(Status.ENCERRADO, 1L);
+        assertThat(stats.porTecnico()).containsEntry(tecnicoId, 1L);
+        assertThat(stats.semTecnico()).isZero();
+        verifyNoInteractions(chamadoRepository);
+    }
+}
@@ -0,0 +1,275 @@
+package com.aethernet.helpdesk.sync;
+
+import com.aethernet.helpdesk.domain.Chamado;
+import com.aethernet.helpdesk.domain.dto.request.ChamadoRequestDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoAlteracaoDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoAlteracoesDTO;
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import com.aethernet.helpdesk.exceptions.DomainRuleException;
+import com.aethernet.helpdesk.repositories.ChamadoRepository;
+import com.aethernet.helpdesk.repositories.ClienteRepository;
+import com.aethernet.helpdesk.services.ChamadoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.Ordered;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a sequência de alterações de Chamado e a sincronização incremental por cursor.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chamado-alteracoes",
+        "helpdesk.atribuicao.habilitada=false"
+})
+@DisplayName("Sincronização incremental de Chamados")
+class ChamadoSyncTest {
+
+    @Autowired
+    private ChamadoSyncService syncService;
+
+    @Autowired
+    private ChamadoSequenciador sequenciador;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID clienteId;
+
+    @BeforeEach
+    void setUp() {
+        clienteId = clienteRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    @DisplayName("Deve incluir os Chamados da carga inicial na primeira sincronização")
+    void deveIncluirCargaInicial() {
+        // Act
+        ChamadoAlteracoesDTO alteracoes = syncService.alteracoesDesde(0, ChamadoSyncService.LIMITE_MAXIMO);
+
+        // Assert
+        assertThat(alteracoes.alteracoes()).hasSizeGreaterThanOrEqualTo(4);
+        assertThat(alteracoes.alteracoes()).extracting(ChamadoAlteracaoDTO::sequencia).isSorted();
+        assertThat(alteracoes.temMais()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve devolver cada Chamado alterado uma única vez, no estado atual")
+    void deveDevolverEstadoAtual() {
+        // Arrange
+        long cursor = sequenciador.sequenciaAtual();
+        ChamadoResponseDTO chamado = abrir("Sincronização");
+        chamadoService.alterarStatus(chamado.id(), Status.EM_ANDAMENTO);
+        chamadoService.alterarStatus(chamado.id(), Status.PAUSADO);
+
+        // Act
+        ChamadoAlteracoesDTO alteracoes = syncService.alteracoesDesde(cursor, 100);
+
+        // Assert
+        assertThat(alteracoes.alteracoes()).singleElement().satisfies(a -> {
+            assertThat(a.id()).isEqualTo(chamado.id());
+            assertThat(a.removido()).isFalse();
+            assertThat(a.chamado().status()).isEqualTo(Status.PAUSADO);
+        });
+        assertThat(alteracoes.cursor()).isEqualTo(sequenciador.sequenciaAtual());
+        assertThat(syncService.alteracoesDesde(alteracoes.cursor(), 100).alteracoes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve paginar pelo cursor sem perder nem repetir alterações")
+    void devePaginarPeloCursor() {
+        // Arrange
+        long cursor = sequenciador.sequenciaAtual();
+        List<UUID> abertos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            abertos.add(abrir("Página " + i).id());
+        }
+
+        // Act
+        List<UUID> recebidos = new ArrayList<>();
+        ChamadoAlteracoesDTO pagina;
+        int paginas = 0;
+        do {
+            pagina = syncService.alteracoesDesde(cursor, 2);
+            pagina.alteracoes().forEach(a -> recebidos.add(a.id()));
+            cursor = pagina.cursor();
+            paginas++;
+        } while (pagina.temMais());
+
+        // Assert
+        assertThat(recebidos).containsExactlyElementsOf(abertos);
+        assertThat(paginas).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Não deve consumir sequência em uma alteração desfeita")
+    void naoDeveSequenciarAlteracaoDesfeita() {
+        // Arrange
+        long cursor = sequenciador.sequenciaAtual();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            abrir("Desfeito");
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertThat(sequenciador.sequenciaAtual()).isEqualTo(cursor);
+        assertThat(syncService.alteracoesDesde(cursor, 100).alteracoes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a marca de um Chamado excluído")
+    void deveDevolverMarcaDeExclusao() {
+        // Arrange: Chamado gravado fora do ChamadoService, sem histórico
+        UUID id = transactionTemplate.execute(status -> {
+            Chamado chamado = new Chamado();
+            chamado.setPrioridade(Prioridade.BAIXA);
+            chamado.setStatus(Status.ABERTO);
+            chamado.setTitulo("Excluído");
+            chamado.setCliente(clienteRepository.getReferenceById(clienteId));
+            UUID novo = chamadoRepository.save(chamado).getId();
+            sequenciador.registrar(List.of(novo));
+            return novo;
+        });
+        long cursor = sequenciador.sequenciaAtual();
+
+        // Act: a exclusão pelo repositório é anotada pelo ouvinte JPA de Chamado
+        transactionTemplate.executeWithoutResult(status -> chamadoRepository.deleteById(id));
+
+        // Assert
+        assertThat(syncService.alteracoesDesde(cursor, 100).alteracoes()).singleElement().satisfies(a -> {
+            assertThat(a.id()).isEqualTo(id);
+            assertThat(a.removido()).isTrue();
+            assertThat(a.chamado()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar, depois de um cursor devolvido, alteração com sequência até ele")
+    void naoDeveConfirmarAlteracaoAntesDoCursor() throws Exception {
+        // Arrange
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(abrir("Concorrente " + i).id());
+        }
+        long cursor = sequenciador.sequenciaAtual();
+        Map<UUID, Long> versoesLidas = new HashMap<>();
+        ExecutorService escritores = Executors.newFixedThreadPool(4);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int escritor = t;
+            tarefas.add(escritores.submit(() -> {
+                for (int i = 0; i < 25; i++) {
+                    UUID id = ids.get((escritor + i) % ids.size());
+                    ChamadoRequestDTO dto = new ChamadoRequestDTO(
+                            Prioridade.MEDIA, "Concorrente " + escritor + "-" + i, "", clienteId, null);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> {
+                            chamadoService.atualizar(id, dto);
+                            TransactionSynchronizationManager.registerSynchronization(new CommitLento());
+                        });
+                    } catch (OptimisticLockingFailureException e) {
+                        // Outro escritor gravou o mesmo Chamado antes: apenas segue
+                    }
+                }
+            }));
+        }
+
+        // Act: o cliente sincroniza sem parar enquanto as transações confirmam e, por fim, uma última vez
+        try {
+            while (!tarefas.stream().allMatch(Future::isDone)) {
+                cursor = sincronizar(cursor, versoesLidas);
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            escritores.shutdownNow();
+        }
+        sincronizar(cursor, versoesLidas);
+
+        // Assert: uma confirmação com sequência até um cursor já devolvido nunca chegaria ao
+        // cliente, que ficaria com uma versão antiga do Chamado
+        for (UUID id : ids) {
+            assertThat(versoesLidas.get(id)).as("versão sincronizada de %s", id)
+                    .isEqualTo(chamadoService.buscarPorId(id).versao());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite fora da faixa")
+    void deveRejeitarLimiteInvalido() {
+        assertThatThrownBy(() -> syncService.alteracoesDesde(0, ChamadoSyncService.LIMITE_MAXIMO + 1))
+                .isInstanceOf(DomainRuleException.class);
+    }
+
+    /**
+     * Alonga o trecho entre a alocação da sequência (a última sincronização de antes do commit
+     * registrada antes desta) e o commit: uma sequência visível antes de confirmada seria lida,
+     * e ultrapassada, pelo cliente nesse intervalo.
+     */
+    private static final class CommitLento implements TransactionSynchronization {
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    /** Lê todas as alterações posteriores ao cursor, em fatias pequenas, e devolve o novo cursor. */
+    private long sincronizar(long cursor, Map<UUID, Long> versoesLidas) {
+        ChamadoAlteracoesDTO pagina;
+        do {
+            pagina = syncService.alteracoesDesde(cursor, 3);
+            for (ChamadoAlteracaoDTO alteracao : pagina.alteracoes()) {
+                assertThat(alteracao.sequencia()).isGreaterThan(cursor);
+                versoesLidas.put(alteracao.id(), alteracao.chamado().versao());
+            }
+            assertThat(pagina.cursor()).isGreaterThanOrEqualTo(cursor);
+            cursor = pagina.cursor();
+        } while (pagina.temMais());
+        return cursor;
+    }
+
+    private ChamadoResponseDTO abrir(String titulo) {
+        return chamadoService.abrir(new ChamadoRequestDTO(Prioridade.MEDIA, titulo, "", clienteId, null));
+    }
+}
@@ -0,0 +1,21 @@
+package com.aethernet.helpdesk.rx;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Aplicação das leituras reativas de Chamados (WebFlux + R2DBC), executada ao lado da API principal.
+ *
+ * Atende aos consumidores de alto fan-out (painéis, integrações), que mantêm muitas conexões
+ * abertas e leem devagar: cada conexão ocupa apenas memória, e não uma thread ou uma conexão do
+ * banco. Lê as mesmas tabelas que a API principal, que continua responsável pelas escritas e
+ * pelas migrações.
+ */
+@SpringBootApplication
+public class AetherNetHelpdeskRxApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(AetherNetHelpdeskRxApplication.class, args);
+    }
+
+}
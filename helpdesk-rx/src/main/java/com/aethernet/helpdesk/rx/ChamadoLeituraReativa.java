@@ -0,0 +1,128 @@
+package com.aethernet.helpdesk.rx;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leituras de Chamados pelo R2DBC, projetadas no mesmo {@code ChamadoResponseDTO} da API principal.
+ *
+ * A listagem é entregue sob demanda: as fatias da paginação por chave ({@code (data_abertura, id)},
+ * a mesma ordem da listagem da API principal) só são buscadas quando o assinante consome a fatia
+ * anterior, com no máximo uma fatia à frente. Cada fatia é lida por inteiro em uma consulta curta,
+ * de modo que um leitor lento não segura uma conexão do pool (nem um cursor no banco) entre uma
+ * fatia e outra.
+ */
+@Service
+public class ChamadoLeituraReativa {
+
+    /** Tamanho máximo de uma fatia, o mesmo da listagem paginada da API principal. */
+    static final int LIMITE_MAXIMO_FATIA = 500;
+
+    private static final String SELECT = """
+            SELECT c.id, c.data_abertura, c.data_fechamento, c.prioridade, c.status, c.titulo,
+                   c.observacoes, cl.nome AS nome_cliente, t.nome AS nome_tecnico, c.versao
+            FROM chamado c
+            JOIN pessoa cl ON cl.id = c.cliente_id
+            LEFT JOIN pessoa t ON t.id = c.tecnico_id
+            """;
+
+    private static final String APOS_ULTIMO =
+            "(c.data_abertura > :dataAbertura OR (c.data_abertura = :dataAbertura AND c.id > :id))";
+
+    private static final String ORDEM = " ORDER BY c.data_abertura ASC, c.id ASC LIMIT :limite";
+
+    private final DatabaseClient databaseClient;
+    private final int tamanhoFatia;
+
+    public ChamadoLeituraReativa(DatabaseClient databaseClient,
+                                 @Value("${helpdesk.rx.fatia:200}") int tamanhoFatia) {
+        this.databaseClient = databaseClient;
+        this.tamanhoFatia = Math.min(Math.max(1, tamanhoFatia), LIMITE_MAXIMO_FATIA);
+    }
+
+    /**
+     * Percorre os Chamados que atendem aos filtros, em ordem de abertura.
+     *
+     * @param status Filtro opcional por {@code Status}.
+     * @param prioridade Filtro opcional por {@code Prioridade}.
+     * @return Um {@code Flux} frio: cada assinatura percorre os Chamados desde o início.
+     */
+    public Flux<ChamadoResponseDTO> listar(Status status, Prioridade prioridade) {
+        // Uma fatia incompleta é a última; a seguinte parte do último Chamado da anterior
+        return buscarFatia(status, prioridade, null)
+                .expand(fatia -> fatia.size() < tamanhoFatia
+                        ? Mono.empty()
+                        : buscarFatia(status, prioridade, fatia.get(fatia.size() - 1)))
+                .concatMapIterable(fatia -> fatia, 1);
+    }
+
+    /**
+     * Busca um Chamado pelo ID.
+     *
+     * @param id O UUID do Chamado.
+     * @return Um {@code Mono} com o Chamado, ou vazio se ele não existir.
+     */
+    public Mono<ChamadoResponseDTO> buscarPorId(UUID id) {
+        return databaseClient.sql(SELECT + " WHERE c.id = :id")
+                .bind("id", id)
+                .map(ChamadoLeituraReativa::toResponseDTO)
+                .one();
+    }
+
+    // === MÉTODOS PRIVADOS ===
+
+    /** Lê a fatia seguinte a {@code ultimo} (a primeira, se {@code null}). */
+    private Mono<List<ChamadoResponseDTO>> buscarFatia(Status status, Prioridade prioridade, ChamadoResponseDTO ultimo) {
+        List<String> condicoes = new ArrayList<>();
+        if (status != null) {
+            condicoes.add("c.status = :status");
+        }
+        if (prioridade != null) {
+            condicoes.add("c.prioridade = :prioridade");
+        }
+        if (ultimo != null) {
+            condicoes.add(APOS_ULTIMO);
+        }
+        String sql = SELECT + (condicoes.isEmpty() ? "" : " WHERE " + String.join(" AND ", condicoes)) + ORDEM;
+
+        DatabaseClient.GenericExecuteSpec consulta = databaseClient.sql(sql).bind("limite", tamanhoFatia);
+        if (status != null) {
+            consulta = consulta.bind("status", status.name());
+        }
+        if (prioridade != null) {
+            consulta = consulta.bind("prioridade", prioridade.name());
+        }
+        if (ultimo != null) {
+            consulta = consulta.bind("dataAbertura", ultimo.dataAbertura()).bind("id", ultimo.id());
+        }
+        return consulta.map(ChamadoLeituraReativa::toResponseDTO).all().collectList();
+    }
+
+    private static ChamadoResponseDTO toResponseDTO(Readable linha) {
+        String prioridade = linha.get("prioridade", String.class);
+        String status = linha.get("status", String.class);
+        return new ChamadoResponseDTO(
+                linha.get("id", UUID.class),
+                linha.get("data_abertura", LocalDateTime.class),
+                linha.get("data_fechamento", LocalDateTime.class),
+                prioridade != null ? Prioridade.valueOf(prioridade) : null,
+                status != null ? Status.valueOf(status) : null,
+                linha.get("titulo", String.class),
+                linha.get("observacoes", String.class),
+                linha.get("nome_cliente", String.class),
+                linha.get("nome_tecnico", String.class),
+                linha.get("versao", Long.class));
+    }
+}
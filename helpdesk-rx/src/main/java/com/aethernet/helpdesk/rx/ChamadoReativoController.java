@@ -0,0 +1,67 @@
+package com.aethernet.helpdesk.rx;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import com.aethernet.helpdesk.domain.enums.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST das leituras reativas de Chamados.
+ * A URL base para todos os endpoints deste controlador é "/rx/chamados".
+ *
+ * A listagem é transmitida item a item, em NDJSON ou Server-Sent Events, com contrapressão: a
+ * escrita na conexão só pede mais Chamados quando o cliente consome os anteriores.
+ */
+@RestController
+@RequestMapping("/rx/chamados")
+public class ChamadoReativoController {
+
+    private final ChamadoLeituraReativa chamadoLeituraReativa;
+
+    /**
+     * Construtor para injeção de dependência.
+     * @param chamadoLeituraReativa Leituras de Chamados sob demanda.
+     */
+    public ChamadoReativoController(ChamadoLeituraReativa chamadoLeituraReativa) {
+        this.chamadoLeituraReativa = chamadoLeituraReativa;
+    }
+
+    // === ENDPOINTS PÚBLICOS ===
+
+    /**
+     * Transmite os Chamados que atendem aos filtros, em ordem de abertura.
+     *
+     * @param status Filtro opcional por {@code Status}.
+     * @param prioridade Filtro opcional por {@code Prioridade}.
+     * @return Um {@code Flux} com um {@code ChamadoResponseDTO} por linha (NDJSON) ou por evento (SSE).
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ChamadoResponseDTO> listar(@RequestParam(required = false) Status status,
+                                           @RequestParam(required = false) Prioridade prioridade) {
+        return chamadoLeituraReativa.listar(status, prioridade);
+    }
+
+    /**
+     * Busca um Chamado específico pelo seu identificador único.
+     *
+     * @param id O UUID do Chamado a ser buscado.
+     * @return Um {@code Mono} com o DTO do Chamado, ou erro 404 se ele não existir.
+     */
+    @GetMapping("/{id}")
+    public Mono<ChamadoResponseDTO> buscarPorId(@PathVariable UUID id) {
+        return chamadoLeituraReativa.buscarPorId(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        String.format("Chamado não encontrado(a) com id: %s", id))));
+    }
+}
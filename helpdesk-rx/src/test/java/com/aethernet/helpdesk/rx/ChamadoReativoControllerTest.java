@@ -0,0 +1,107 @@
+package com.aethernet.helpdesk.rx;
+
+import com.aethernet.helpdesk.domain.dto.response.ChamadoResponseDTO;
+import com.aethernet.helpdesk.domain.enums.Prioridade;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica as leituras reativas de Chamados sobre um PostgreSQL migrado pelo Flyway com o schema
+ * da API principal (ver {@code TestcontainersConfiguration}), com fatias de dois Chamados para que
+ * a listagem atravesse várias fatias.
+ */
+@SpringBootTest(properties = "helpdesk.rx.fatia=2")
+@Import(TestcontainersConfiguration.class)
+@AutoConfigureWebTestClient
+@DisplayName("Leituras reativas de Chamados")
+class ChamadoReativoControllerTest {
+
+    private static final UUID VPN = UUID.fromString("0190a000-0000-7000-8000-000000000011");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ChamadoLeituraReativa chamadoLeituraReativa;
+
+    @Test
+    @DisplayName("Deve transmitir todos os Chamados em NDJSON, na ordem de abertura, atravessando as fatias")
+    void deveTransmitirTodosEmOrdem() {
+        // Act
+        List<ChamadoResponseDTO> chamados = webTestClient.get().uri("/rx/chamados")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ChamadoResponseDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert: os dois Chamados abertos no mesmo instante ficam em fatias diferentes
+        assertThat(chamados).extracting(chamado -> chamado.id().toString().substring(34)).containsExactly(
+                "11", "12", "13", "14", "15");
+        assertThat(chamados.get(0).nomeCliente()).isEqualTo("Maria Souza");
+        assertThat(chamados.get(0).nomeTecnico()).isEqualTo("João Lima");
+        assertThat(chamados.get(1).nomeTecnico()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros de status e prioridade")
+    void deveAplicarFiltros() {
+        // Act
+        List<ChamadoResponseDTO> chamados = webTestClient.get().uri("/rx/chamados?prioridade=ALTA&status=ENCERRADO")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ChamadoResponseDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertThat(chamados).singleElement().satisfies(chamado -> {
+            assertThat(chamado.prioridade()).isEqualTo(Prioridade.ALTA);
+            assertThat(chamado.dataFechamento()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve entregar os Chamados conforme a demanda do assinante")
+    void deveEntregarSobDemanda() {
+        // Act & Assert: pede um Chamado de cada vez, e cancela antes do fim
+        StepVerifier.create(chamadoLeituraReativa.listar(null, null), 1)
+                .assertNext(chamado -> assertThat(chamado.id()).isEqualTo(VPN))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Deve buscar um Chamado por ID e responder 404 ao inexistente")
+    void deveBuscarPorId() {
+        // Act & Assert
+        webTestClient.get().uri("/rx/chamados/{id}", VPN)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.titulo").isEqualTo("Problema de conexão VPN")
+                .jsonPath("$.prioridade").isEqualTo("ALTA");
+        webTestClient.get().uri("/rx/chamados/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,17 @@
+package com.aethernet.helpdesk.rx;
+
+import org.springframework.boot.SpringApplication;
+
+/**
+ * Executa as leituras reativas localmente sobre um PostgreSQL em contêiner, migrado e com os dados
+ * de exemplo: {@code mvn -pl helpdesk-rx spring-boot:test-run}.
+ */
+public class TestAetherNetHelpdeskRxApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.from(AetherNetHelpdeskRxApplication::main)
+                .with(TestcontainersConfiguration.class)
+                .run(args);
+    }
+
+}
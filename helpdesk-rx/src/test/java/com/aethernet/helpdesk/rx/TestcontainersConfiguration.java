@@ -0,0 +1,31 @@
+package com.aethernet.helpdesk.rx;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostgreSQL em contêiner para os testes e a execução local deste módulo.
+ *
+ * O {@code @ServiceConnection} fornece ao R2DBC e ao Flyway os dados de conexão do contêiner. O
+ * Flyway aplica as migrações da API principal ({@code db/migration}, em helpdesk-shared), de modo
+ * que as consultas são verificadas contra o schema real, e em seguida os dados de exemplo
+ * ({@code db/exemplo/afterMigrate.sql}).
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+    }
+
+    @Bean
+    FlywayConfigurationCustomizer dadosDeExemplo() {
+        return configuracao -> configuracao.locations("classpath:db/migration", "classpath:db/exemplo");
+    }
+}
@@ -0,0 +1,27 @@
+-- Dados de exemplo dos testes e da execução local (TestcontainersConfiguration), aplicados pelo
+-- Flyway depois das migrações da API principal. Perfis: CLIENTE = 2, TECNICO = 4 (ver V3).
+
+INSERT INTO pessoa (id, tipo, nome, cpf, email, perfis, data_criacao) VALUES
+    ('0190a000-0000-7000-8000-000000000001', 'CLIENTE', 'Maria Souza', '52998224725', 'maria.souza@aethernet.local', 2,
+     TIMESTAMP '2025-01-06 07:00:00'),
+    ('0190a000-0000-7000-8000-000000000002', 'TECNICO', 'João Lima', '11144477735', 'joao.lima@aethernet.local', 4,
+     TIMESTAMP '2025-01-06 07:00:00')
+ON CONFLICT (id) DO NOTHING;
+
+INSERT INTO chamado (id, data_abertura, data_fechamento, prioridade, status, titulo, observacoes, cliente_id, tecnico_id) VALUES
+    ('0190a000-0000-7000-8000-000000000011', TIMESTAMP '2025-01-06 08:00:00', NULL, 'ALTA', 'EM_ANDAMENTO',
+     'Problema de conexão VPN', 'Cliente não consegue conectar à VPN corporativa.',
+     '0190a000-0000-7000-8000-000000000001', '0190a000-0000-7000-8000-000000000002'),
+    ('0190a000-0000-7000-8000-000000000012', TIMESTAMP '2025-01-06 09:30:00', NULL, 'BAIXA', 'ABERTO',
+     'Troca de mouse', NULL,
+     '0190a000-0000-7000-8000-000000000001', NULL),
+    ('0190a000-0000-7000-8000-000000000013', TIMESTAMP '2025-01-06 09:30:00', NULL, 'MEDIA', 'PAUSADO',
+     'Impressora sem toner', 'Aguardando entrega do toner.',
+     '0190a000-0000-7000-8000-000000000001', '0190a000-0000-7000-8000-000000000002'),
+    ('0190a000-0000-7000-8000-000000000014', TIMESTAMP '2025-01-07 10:00:00', TIMESTAMP '2025-01-07 15:00:00', 'ALTA', 'ENCERRADO',
+     'Servidor de e-mail fora do ar', 'Serviço reiniciado.',
+     '0190a000-0000-7000-8000-000000000001', '0190a000-0000-7000-8000-000000000002'),
+    ('0190a000-0000-7000-8000-000000000015', TIMESTAMP '2025-01-08 11:15:00', NULL, 'MEDIA', 'ABERTO',
+     'Acesso ao sistema financeiro', NULL,
+     '0190a000-0000-7000-8000-000000000001', NULL)
+ON CONFLICT (id) DO NOTHING;
@@ -23,6 +23,8 @@ import java.util.UUID;
  * @param observacoes As observações e descrição detalhada do Chamado.
  * @param nomeCliente O nome do Cliente que abriu o Chamado.
  * @param nomeTecnico O nome do Técnico atualmente atribuído ao Chamado (pode ser nulo).
+ * @param versao A versão do Chamado, devolvida também no cabeçalho {@code ETag} e esperada no
+ *               {@code If-Match} das alterações.
  */
 public record ChamadoResponseDTO(
         UUID id,
@@ -33,5 +35,6 @@ public record ChamadoResponseDTO(
         String titulo,
         String observacoes,
         String nomeCliente,
-        String nomeTecnico
+        String nomeTecnico,
+        Long versao
 ) {}
\ No newline at end of file
@@ -31,13 +31,11 @@ public enum Prioridade {
     @SuppressWarnings("unused")
     public static Prioridade toEnum(Integer codigo) {
         if (codigo == null) {
-            if (codigo == null) {
-                return null;
-            }
-            for (Prioridade p : Prioridade.values()) {
-                if (codigo.equals(p.getCodigo())) {
-                    return p;
-                }
+            return null;
+        }
+        for (Prioridade p : Prioridade.values()) {
+            if (codigo.equals(p.getCodigo())) {
+                return p;
             }
         }
         throw new IllegalArgumentException("Prioridade inválida");
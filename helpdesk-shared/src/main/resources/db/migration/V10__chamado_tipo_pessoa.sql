@@ -0,0 +1,18 @@
+-- O tipo da Pessoa referenciada por um Chamado passa a ser garantido pelo banco: cliente_id só
+-- aceita uma Pessoa do tipo CLIENTE e tecnico_id uma do tipo TECNICO. Cada chave estrangeira
+-- inclui uma coluna de valor fixo com o tipo esperado e referencia o par (id, tipo) de pessoa.
+-- As chaves mantêm os nomes usados por RestricoesBanco.
+
+ALTER TABLE pessoa ADD CONSTRAINT uk_pessoa_id_tipo UNIQUE (id, tipo);
+
+ALTER TABLE chamado ADD COLUMN cliente_tipo VARCHAR(20) NOT NULL DEFAULT 'CLIENTE'
+    CONSTRAINT ck_chamado_cliente_tipo CHECK (cliente_tipo = 'CLIENTE');
+ALTER TABLE chamado ADD COLUMN tecnico_tipo VARCHAR(20) NOT NULL DEFAULT 'TECNICO'
+    CONSTRAINT ck_chamado_tecnico_tipo CHECK (tecnico_tipo = 'TECNICO');
+
+ALTER TABLE chamado DROP CONSTRAINT fk_chamado_cliente;
+ALTER TABLE chamado DROP CONSTRAINT fk_chamado_tecnico;
+ALTER TABLE chamado ADD CONSTRAINT fk_chamado_cliente
+    FOREIGN KEY (cliente_id, cliente_tipo) REFERENCES pessoa (id, tipo);
+ALTER TABLE chamado ADD CONSTRAINT fk_chamado_tecnico
+    FOREIGN KEY (tecnico_id, tecnico_tipo) REFERENCES pessoa (id, tipo);
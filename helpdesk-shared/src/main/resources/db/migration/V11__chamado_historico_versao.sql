@@ -0,0 +1,21 @@
+-- O histórico passa a ser ordenado pela versão do Chamado gravada por cada alteração, e não pelo
+-- id (UUIDv7) nem pela data, atribuídos depois do commit e sujeitos à ordem de entrega dos eventos.
+-- Os registros anteriores recebem versões negativas na ordem dos seus ids, antes de qualquer
+-- versão real (que começa em 0).
+
+ALTER TABLE chamado_historico ADD COLUMN versao_chamado BIGINT;
+
+UPDATE chamado_historico h
+SET versao_chamado = o.ordem
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY chamado_id ORDER BY id)
+               - COUNT(*) OVER (PARTITION BY chamado_id) - 1 AS ordem
+    FROM chamado_historico
+) o
+WHERE o.id = h.id;
+
+ALTER TABLE chamado_historico ALTER COLUMN versao_chamado SET NOT NULL;
+
+-- Listagem paginada por Chamado (cursor = versão) e busca do último registro de cada Chamado
+DROP INDEX idx_chamado_historico_chamado;
+CREATE INDEX idx_chamado_historico_chamado ON chamado_historico (chamado_id, versao_chamado);
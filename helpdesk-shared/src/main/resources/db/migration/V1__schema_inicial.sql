@@ -0,0 +1,50 @@
+-- Schema inicial, equivalente ao gerado pelo Hibernate (ddl-auto=update) até esta versão.
+-- Aplicado sobre um banco vazio; as restrições recebem os nomes usados pelas migrações seguintes.
+
+CREATE TABLE pessoa (
+    id           UUID         NOT NULL,
+    nome         VARCHAR(255),
+    cpf          VARCHAR(11)  NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    senha        VARCHAR(255),
+    data_criacao TIMESTAMP(6),
+    CONSTRAINT pk_pessoa PRIMARY KEY (id),
+    CONSTRAINT uk_pessoa_cpf UNIQUE (cpf),
+    CONSTRAINT uk_pessoa_email UNIQUE (email)
+);
+
+CREATE TABLE pessoa_perfis (
+    pessoa_id UUID NOT NULL,
+    perfis    VARCHAR(255),
+    CONSTRAINT fk_pessoa_perfis_pessoa FOREIGN KEY (pessoa_id) REFERENCES pessoa (id),
+    CONSTRAINT ck_pessoa_perfis_perfis CHECK (perfis IN ('ADMIN', 'CLIENTE', 'TECNICO'))
+);
+
+CREATE TABLE cliente (
+    id UUID NOT NULL,
+    CONSTRAINT pk_cliente PRIMARY KEY (id),
+    CONSTRAINT fk_cliente_pessoa FOREIGN KEY (id) REFERENCES pessoa (id)
+);
+
+CREATE TABLE tecnico (
+    id UUID NOT NULL,
+    CONSTRAINT pk_tecnico PRIMARY KEY (id),
+    CONSTRAINT fk_tecnico_pessoa FOREIGN KEY (id) REFERENCES pessoa (id)
+);
+
+CREATE TABLE chamado (
+    id              UUID          NOT NULL,
+    data_abertura   TIMESTAMP(6),
+    data_fechamento TIMESTAMP(6),
+    prioridade      VARCHAR(255),
+    status          VARCHAR(255),
+    titulo          VARCHAR(255),
+    observacoes     VARCHAR(2000),
+    cliente_id      UUID          NOT NULL,
+    tecnico_id      UUID,
+    CONSTRAINT pk_chamado PRIMARY KEY (id),
+    CONSTRAINT fk_chamado_cliente FOREIGN KEY (cliente_id) REFERENCES cliente (id),
+    CONSTRAINT fk_chamado_tecnico FOREIGN KEY (tecnico_id) REFERENCES tecnico (id),
+    CONSTRAINT ck_chamado_prioridade CHECK (prioridade IN ('BAIXA', 'MEDIA', 'ALTA')),
+    CONSTRAINT ck_chamado_status CHECK (status IN ('ABERTO', 'EM_ANDAMENTO', 'PAUSADO', 'ENCERRADO', 'CANCELADO'))
+);
@@ -0,0 +1,19 @@
+-- Índices compostos para as consultas de ChamadoRepository.
+-- Todos terminam em (data_abertura, id), a ordenação das listagens e da paginação por cursor,
+-- de modo que filtro e ordenação são resolvidos pelo mesmo índice, sem etapa de sort.
+
+-- findAllResponse / findPrimeiraFatia / findFatiaApos (sem filtros) e streamParaExportacao
+CREATE INDEX idx_chamado_abertura ON chamado (data_abertura, id);
+
+-- findResponseByStatus e findResponseByStatusAndPrioridade (prefixo status)
+CREATE INDEX idx_chamado_status_prioridade_abertura ON chamado (status, prioridade, data_abertura, id);
+CREATE INDEX idx_chamado_status_abertura ON chamado (status, data_abertura, id);
+
+-- findResponseByPrioridade
+CREATE INDEX idx_chamado_prioridade_abertura ON chamado (prioridade, data_abertura, id);
+
+-- findResponseByClienteId / findByClienteId (também atende a FK cliente_id)
+CREATE INDEX idx_chamado_cliente_abertura ON chamado (cliente_id, data_abertura, id);
+
+-- findResponseByTecnicoId / findByTecnicoId (também atende a FK tecnico_id)
+CREATE INDEX idx_chamado_tecnico_abertura ON chamado (tecnico_id, data_abertura, id);
@@ -0,0 +1,20 @@
+-- Perfis da Pessoa como máscara de bits na própria tabela pessoa (ver PerfisConverter),
+-- eliminando a tabela auxiliar pessoa_perfis e a consulta extra a cada Pessoa carregada.
+-- Bit de cada perfil: 1 << Perfil.codigo (ADMIN = 1, CLIENTE = 2, TECNICO = 4).
+
+ALTER TABLE pessoa ADD COLUMN perfis INTEGER NOT NULL DEFAULT 0;
+
+UPDATE pessoa p
+SET perfis = COALESCE((
+    SELECT SUM(DISTINCT CASE pp.perfis
+                            WHEN 'ADMIN' THEN 1
+                            WHEN 'CLIENTE' THEN 2
+                            WHEN 'TECNICO' THEN 4
+                        END)
+    FROM pessoa_perfis pp
+    WHERE pp.pessoa_id = p.id
+), 0);
+
+ALTER TABLE pessoa ADD CONSTRAINT ck_pessoa_perfis CHECK (perfis BETWEEN 0 AND 7);
+
+DROP TABLE pessoa_perfis;
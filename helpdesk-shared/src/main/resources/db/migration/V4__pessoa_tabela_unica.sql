@@ -0,0 +1,24 @@
+-- Herança de Pessoa em tabela única (SINGLE_TABLE): a coluna tipo substitui as tabelas
+-- cliente e tecnico, que tinham apenas o id. As leituras de Pessoa e as listagens de Chamado
+-- deixam de unir pessoa com a tabela da subclasse.
+
+ALTER TABLE pessoa ADD COLUMN tipo VARCHAR(20);
+
+UPDATE pessoa SET tipo = 'CLIENTE' WHERE id IN (SELECT id FROM cliente);
+UPDATE pessoa SET tipo = 'TECNICO' WHERE id IN (SELECT id FROM tecnico);
+
+ALTER TABLE pessoa ALTER COLUMN tipo SET NOT NULL;
+ALTER TABLE pessoa ADD CONSTRAINT ck_pessoa_tipo CHECK (tipo IN ('CLIENTE', 'TECNICO'));
+
+-- As chaves estrangeiras de chamado mantêm os nomes (usados por RestricoesBanco) e passam a
+-- referenciar pessoa. O tipo da Pessoa referenciada passa a ser verificado na V10.
+ALTER TABLE chamado DROP CONSTRAINT fk_chamado_cliente;
+ALTER TABLE chamado DROP CONSTRAINT fk_chamado_tecnico;
+ALTER TABLE chamado ADD CONSTRAINT fk_chamado_cliente FOREIGN KEY (cliente_id) REFERENCES pessoa (id);
+ALTER TABLE chamado ADD CONSTRAINT fk_chamado_tecnico FOREIGN KEY (tecnico_id) REFERENCES pessoa (id);
+
+DROP TABLE cliente;
+DROP TABLE tecnico;
+
+-- findAll de Cliente e Técnico filtram pelo discriminador
+CREATE INDEX idx_pessoa_tipo ON pessoa (tipo);
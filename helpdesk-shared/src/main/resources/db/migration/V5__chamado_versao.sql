@@ -0,0 +1,4 @@
+-- Versão do Chamado para o controle de concorrência otimista (@Version em Chamado).
+-- Cada UPDATE da aplicação incrementa a coluna e falha se ela mudou desde a leitura.
+
+ALTER TABLE chamado ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
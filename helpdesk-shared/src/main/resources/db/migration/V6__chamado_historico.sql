@@ -0,0 +1,25 @@
+-- Histórico apenas acrescido das mudanças de Status e de Técnico dos Chamados.
+-- Gravado em lotes pelo ChamadoHistoricoWriter, após o commit de cada alteração.
+
+CREATE TABLE chamado_historico (
+    id                   UUID        NOT NULL,
+    chamado_id           UUID        NOT NULL,
+    data_registro        TIMESTAMP(6) NOT NULL,
+    status_anterior      VARCHAR(255),
+    status_novo          VARCHAR(255) NOT NULL,
+    tecnico_anterior_id  UUID,
+    tecnico_novo_id      UUID,
+    duracao_anterior_ms  BIGINT,
+    CONSTRAINT pk_chamado_historico PRIMARY KEY (id),
+    CONSTRAINT fk_chamado_historico_chamado FOREIGN KEY (chamado_id) REFERENCES chamado (id),
+    CONSTRAINT ck_chamado_historico_status_anterior
+        CHECK (status_anterior IN ('ABERTO', 'EM_ANDAMENTO', 'PAUSADO', 'ENCERRADO', 'CANCELADO')),
+    CONSTRAINT ck_chamado_historico_status_novo
+        CHECK (status_novo IN ('ABERTO', 'EM_ANDAMENTO', 'PAUSADO', 'ENCERRADO', 'CANCELADO'))
+);
+
+-- Listagem paginada por Chamado (cursor = id) e busca do último registro de cada Chamado
+CREATE INDEX idx_chamado_historico_chamado ON chamado_historico (chamado_id, id);
+
+-- Tempo por Status agregado entre Chamados
+CREATE INDEX idx_chamado_historico_status ON chamado_historico (status_anterior);
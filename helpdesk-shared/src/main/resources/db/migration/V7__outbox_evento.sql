@@ -0,0 +1,20 @@
+-- Outbox dos eventos de domínio de Chamado, gravados na mesma transação da alteração
+-- pelo ChamadoOutboxWriter e entregues aos sistemas externos pelo ChamadoOutboxRelay.
+
+CREATE TABLE outbox_evento (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    chamado_id       UUID         NOT NULL,
+    tipo             VARCHAR(30)  NOT NULL,
+    payload          VARCHAR(4000) NOT NULL,
+    data_criacao     TIMESTAMP(6) NOT NULL,
+    data_publicacao  TIMESTAMP(6),
+    CONSTRAINT pk_outbox_evento PRIMARY KEY (id),
+    CONSTRAINT ck_outbox_evento_tipo
+        CHECK (tipo IN ('ABERTO', 'ATUALIZADO', 'STATUS_ALTERADO', 'TECNICO_ATRIBUIDO', 'FECHADO'))
+);
+
+-- Leitura dos pendentes em ordem de gravação: o índice só contém as linhas ainda não entregues
+CREATE INDEX idx_outbox_evento_pendente ON outbox_evento (id) WHERE data_publicacao IS NULL;
+
+-- Remoção dos eventos entregues há mais tempo que a retenção
+CREATE INDEX idx_outbox_evento_publicacao ON outbox_evento (data_publicacao);
@@ -0,0 +1,34 @@
+-- Sequência de alterações de Chamado para a sincronização incremental (GET /api/chamados/changes).
+-- O ChamadoSequenciador incrementa o contador no commit de cada transação que altera Chamados e
+-- grava a sequência em chamado.sequencia_alteracao (ou em chamado_remocao, para as exclusões).
+
+ALTER TABLE chamado ADD COLUMN sequencia_alteracao BIGINT;
+
+-- Os Chamados existentes entram na sequência pela ordem de abertura
+UPDATE chamado c
+SET sequencia_alteracao = o.sequencia
+FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY data_abertura, id) AS sequencia FROM chamado) o
+WHERE c.id = o.id;
+
+-- Leitura "alterados depois do cursor", em ordem de sequência
+CREATE UNIQUE INDEX idx_chamado_sequencia_alteracao ON chamado (sequencia_alteracao);
+
+-- Contador de linha única: o bloqueio da linha até o commit ordena as sequências pelo commit
+CREATE TABLE chamado_sequencia (
+    id     INTEGER NOT NULL,
+    valor  BIGINT  NOT NULL,
+    CONSTRAINT pk_chamado_sequencia PRIMARY KEY (id)
+);
+
+INSERT INTO chamado_sequencia (id, valor)
+SELECT 1, COALESCE(MAX(sequencia_alteracao), 0) FROM chamado;
+
+-- Marcas dos Chamados excluídos, na mesma sequência das alterações
+CREATE TABLE chamado_remocao (
+    chamado_id           UUID         NOT NULL,
+    sequencia_alteracao  BIGINT       NOT NULL,
+    data_remocao         TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_chamado_remocao PRIMARY KEY (chamado_id)
+);
+
+CREATE UNIQUE INDEX idx_chamado_remocao_sequencia ON chamado_remocao (sequencia_alteracao);
@@ -0,0 +1,10 @@
+-- Validadores das leituras condicionais (ETag / Last-Modified) de Chamado, Cliente e Técnico.
+-- Pessoa passa a ter versão (@Version) como Chamado; os dois ganham a data da última gravação,
+-- preenchida pelo Hibernate. O padrão LOCALTIMESTAMP cobre as linhas gravadas por COPY/JDBC.
+
+ALTER TABLE pessoa ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE pessoa ADD COLUMN data_atualizacao TIMESTAMP(6) DEFAULT LOCALTIMESTAMP;
+UPDATE pessoa SET data_atualizacao = data_criacao WHERE data_criacao IS NOT NULL;
+
+ALTER TABLE chamado ADD COLUMN data_atualizacao TIMESTAMP(6) DEFAULT LOCALTIMESTAMP;
+UPDATE chamado SET data_atualizacao = COALESCE(data_fechamento, data_abertura) WHERE data_abertura IS NOT NULL;
@@ -0,0 +1,35 @@
+package com.aethernet.helpdesk.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes da Prioridade")
+class PrioridadeTest {
+
+    @Test
+    @DisplayName("Deve converter cada código na Prioridade correspondente")
+    void deveConverterCodigoValido() {
+        // Act / Assert
+        for (Prioridade prioridade : Prioridade.values()) {
+            assertThat(Prioridade.toEnum(prioridade.getCodigo())).isSameAs(prioridade);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve converter o código nulo em null")
+    void deveConverterCodigoNulo() {
+        // Act / Assert
+        assertThat(Prioridade.toEnum(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para um código inexistente")
+    void deveLancarExcecaoParaCodigoInvalido() {
+        // Act / Assert
+        assertThatThrownBy(() -> Prioridade.toEnum(99))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Prioridade inválida");
+    }
+}